@@ -0,0 +1,251 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+
+/**
+ * A precomputed index answering "is <em>melacha</em> (work) prohibited at this moment" for any number of locations. For each
+ * location added, the periods of <em>Shabbos</em> and <em>Yom Tov</em> in a range of Gregorian years are calculated once, from
+ * sunset (or candle lighting) on the day before to <em>tzais</em> at the end, with consecutive days of <em>Shabbos</em> and
+ * <em>Yom Tov</em> merged into one period. These are kept as sorted arrays of epoch milliseconds, so a query is a binary search
+ * that does not allocate any objects. This is intended for applications that poll very frequently, where calling
+ * {@link ZmanimCalendar#isAssurBemelacha(Instant, Instant, boolean)} (that creates a {@link JewishCalendar} and calculates
+ * sunset on every call) would be too expensive.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * AssurBemelachaIndex&lt;ZmanimCalendar&gt; index = new AssurBemelachaIndex&lt;&gt;(2026, 2027);
+ * int lakewood = index.addLocation(new ZmanimCalendar(lakewoodLocation), false);
+ * int jerusalem = index.addLocation(new ZmanimCalendar(jerusalemLocation), true);
+ * boolean assur = index.isAssurBemelacha(lakewood, System.currentTimeMillis());
+ * </pre>
+ * <p>
+ * The periods match {@link ZmanimCalendar#isAssurBemelacha(Instant, Instant, boolean)}: a moment is prohibited if it is on a day
+ * that {@link JewishCalendar#hasCandleLighting() has candle lighting} at or after {@link
+ * ZmanimCalendar#getSunsetBasedOnElevationSetting() sunset}, or on a day that {@link JewishCalendar#isAssurBemelacha() is
+ * assur bemelacha} at or before <em>tzais</em>. The <em>tzais</em> defaults to {@link
+ * ZmanimCalendar#getTzaisGeonim8Point5Degrees()} and can be changed with {@link #setTzais(Function)}, and the start can be
+ * moved to candle lighting with {@link #setStartAtCandleLighting(boolean)}. Both settings apply to locations added after the
+ * change. If a time can't be calculated, such as in the Arctic Circle, the period is extended to cover that whole day: a
+ * missing start is replaced by the start of the day and a missing end by the end of the day.
+ * <p>
+ * Adding locations is thread safe, and queries can run concurrently with it without any locking.
+ *
+ * @param <T> the type of calendar used to calculate the times.
+ * @author © Eliyahu Hershfeld 2026
+ */
+public class AssurBemelachaIndex<T extends ZmanimCalendar> {
+	/** The first Gregorian year covered. */
+	private final int firstYear;
+
+	/** The last Gregorian year covered. */
+	private final int lastYear;
+
+	/** The <em>tzais</em> used for the end of the periods. */
+	private Function<? super T, Instant> tzais = ZmanimCalendar::getTzaisGeonim8Point5Degrees;
+
+	/** Whether periods start at candle lighting rather than sunset. */
+	private boolean startAtCandleLighting;
+
+	/** The start of each period in epoch milliseconds, indexed by location id. Replaced, never modified, when adding. */
+	private volatile long[][] starts = new long[0][];
+
+	/** The end of each period in epoch milliseconds (inclusive), indexed by location id. */
+	private volatile long[][] ends = new long[0][];
+
+	/** The first epoch millisecond covered by each location. */
+	private volatile long[] coverageStarts = new long[0];
+
+	/** The first epoch millisecond after the coverage of each location. */
+	private volatile long[] coverageEnds = new long[0];
+
+	/**
+	 * Constructor for an index covering a range of Gregorian years.
+	 *
+	 * @param firstYear the first Gregorian year covered.
+	 * @param lastYear the last Gregorian year covered.
+	 * @throws IllegalArgumentException if the last year is before the first year.
+	 */
+	public AssurBemelachaIndex(int firstYear, int lastYear) {
+		if (lastYear < firstYear) {
+			throw new IllegalArgumentException("The last year can't be before the first year");
+		}
+		this.firstYear = firstYear;
+		this.lastYear = lastYear;
+	}
+
+	/**
+	 * Sets the <em>tzais</em> used for the end of <em>Shabbos</em> and <em>Yom Tov</em> for locations added after this call.
+	 * The default is {@link ZmanimCalendar#getTzaisGeonim8Point5Degrees()}.
+	 *
+	 * @param tzais the function returning <em>tzais</em> for the calendar set to a given date, such as
+	 *            {@code ZmanimCalendar::getTzais72Minutes}.
+	 * @throws IllegalArgumentException if the parameter is null.
+	 */
+	public synchronized void setTzais(Function<? super T, Instant> tzais) {
+		if (tzais == null) {
+			throw new IllegalArgumentException("The tzais function can't be null");
+		}
+		this.tzais = tzais;
+	}
+
+	/**
+	 * Sets whether the periods of locations added after this call start at {@link ZmanimCalendar#getCandleLighting() candle
+	 * lighting} rather than at sunset. The default is <code>false</code>.
+	 *
+	 * @param startAtCandleLighting whether to start at candle lighting.
+	 */
+	public synchronized void setStartAtCandleLighting(boolean startAtCandleLighting) {
+		this.startAtCandleLighting = startAtCandleLighting;
+	}
+
+	/**
+	 * Calculates the periods of a location and adds it to the index.
+	 *
+	 * @param calendar the calendar whose location and settings (such as the elevation setting and candle lighting offset) are
+	 *            used. It is not modified.
+	 * @param inIsrael whether to use the Israel holiday scheme.
+	 * @return the id of the location, used in the queries. Ids are assigned consecutively from 0.
+	 * @throws IllegalArgumentException if the calendar is null.
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized int addLocation(T calendar, boolean inIsrael) {
+		if (calendar == null) {
+			throw new IllegalArgumentException("The calendar can't be null");
+		}
+		T dayCalendar = (T) calendar.clone();
+		ZoneId zoneId = dayCalendar.getGeoLocation().getZoneId();
+		LocalDate firstDate = LocalDate.of(firstYear, 1, 1);
+		LocalDate endDate = LocalDate.of(lastYear + 1, 1, 1);
+		long[] periodStarts = new long[64];
+		long[] periodEnds = new long[64];
+		int count = 0;
+		long openStart = Long.MIN_VALUE;
+		JewishCalendar jewishCalendar = new JewishCalendar();
+		jewishCalendar.setInIsrael(inIsrael);
+		// a period in progress at the start can have started up to 3 days earlier (2 days of Yom Tov followed by Shabbos)
+		for (LocalDate date : CandleLightingScheduler.getCandidateDates(firstDate.minusDays(3), endDate.plusDays(3))) {
+			jewishCalendar.setGregorianDate(date);
+			boolean opens = openStart == Long.MIN_VALUE && jewishCalendar.hasCandleLighting();
+			boolean closes = jewishCalendar.isTonightMutarBemelacha();
+			if (!opens && !closes) {
+				continue;
+			}
+			dayCalendar.setLocalDate(date);
+			long endOfDay = date.plusDays(1).atStartOfDay(zoneId).toInstant().toEpochMilli();
+			if (opens) {
+				Instant start = startAtCandleLighting ? dayCalendar.getCandleLighting()
+						: dayCalendar.getSunsetBasedOnElevationSetting();
+				openStart = start == null ? date.atStartOfDay(zoneId).toInstant().toEpochMilli() : start.toEpochMilli();
+			}
+			if (closes && openStart != Long.MIN_VALUE) {
+				Instant end = tzais.apply(dayCalendar);
+				if (count == periodStarts.length) {
+					periodStarts = Arrays.copyOf(periodStarts, count * 2);
+					periodEnds = Arrays.copyOf(periodEnds, count * 2);
+				}
+				periodStarts[count] = openStart;
+				periodEnds[count] = end == null ? endOfDay : end.toEpochMilli();
+				count++;
+				openStart = Long.MIN_VALUE;
+			}
+		}
+		int id = starts.length;
+		long[][] newStarts = Arrays.copyOf(starts, id + 1);
+		long[][] newEnds = Arrays.copyOf(ends, id + 1);
+		long[] newCoverageStarts = Arrays.copyOf(coverageStarts, id + 1);
+		long[] newCoverageEnds = Arrays.copyOf(coverageEnds, id + 1);
+		newStarts[id] = Arrays.copyOf(periodStarts, count);
+		newEnds[id] = Arrays.copyOf(periodEnds, count);
+		newCoverageStarts[id] = firstDate.atStartOfDay(zoneId).toInstant().toEpochMilli();
+		newCoverageEnds[id] = endDate.atStartOfDay(zoneId).toInstant().toEpochMilli();
+		// publish the ends before the starts that are read first, so a reader that sees the new id sees all of its data
+		coverageEnds = newCoverageEnds;
+		coverageStarts = newCoverageStarts;
+		ends = newEnds;
+		starts = newStarts;
+		return id;
+	}
+
+	/**
+	 * Returns the number of locations in the index.
+	 * @return the number of locations.
+	 */
+	public int getLocationCount() {
+		return starts.length;
+	}
+
+	/**
+	 * Returns if <em>melacha</em> is prohibited at a location at a given moment. This does not allocate any objects.
+	 *
+	 * @param locationId the id returned by {@link #addLocation(ZmanimCalendar, boolean)}.
+	 * @param epochMillis the moment in milliseconds since the epoch.
+	 * @return true if <em>melacha</em> is prohibited.
+	 * @throws IllegalArgumentException if the location id is unknown or the moment is outside the years covered.
+	 */
+	public boolean isAssurBemelacha(int locationId, long epochMillis) {
+		long[][] locationStarts = starts;
+		if (locationId < 0 || locationId >= locationStarts.length) {
+			throw new IllegalArgumentException("Unknown location id " + locationId);
+		}
+		if (epochMillis < coverageStarts[locationId] || epochMillis >= coverageEnds[locationId]) {
+			throw new IllegalArgumentException("The time " + epochMillis + " is outside the years " + firstYear + " - "
+					+ lastYear);
+		}
+		long[] periodStarts = locationStarts[locationId];
+		int index = Arrays.binarySearch(periodStarts, epochMillis);
+		if (index >= 0) {
+			return true;
+		}
+		index = -index - 2; // the last period starting before the moment
+		return index >= 0 && epochMillis <= ends[locationId][index];
+	}
+
+	/**
+	 * Returns if <em>melacha</em> is prohibited at a location at a given moment.
+	 *
+	 * @param locationId the id returned by {@link #addLocation(ZmanimCalendar, boolean)}.
+	 * @param instant the moment.
+	 * @return true if <em>melacha</em> is prohibited.
+	 * @throws IllegalArgumentException if the location id is unknown or the moment is outside the years covered.
+	 */
+	public boolean isAssurBemelacha(int locationId, Instant instant) {
+		return isAssurBemelacha(locationId, instant.toEpochMilli());
+	}
+
+	/**
+	 * Answers a batch of queries. The result at each index is the answer for the location id and moment at that index. This
+	 * does not allocate any objects.
+	 *
+	 * @param locationIds the ids returned by {@link #addLocation(ZmanimCalendar, boolean)}.
+	 * @param epochMillis the moments in milliseconds since the epoch.
+	 * @param results the array the results are written to.
+	 * @throws IllegalArgumentException if the arrays are not the same length, or any location id is unknown or moment is
+	 *             outside the years covered.
+	 */
+	public void isAssurBemelacha(int[] locationIds, long[] epochMillis, boolean[] results) {
+		if (locationIds.length != epochMillis.length || locationIds.length != results.length) {
+			throw new IllegalArgumentException("The arrays must be the same length");
+		}
+		for (int i = 0; i < locationIds.length; i++) {
+			results[i] = isAssurBemelacha(locationIds[i], epochMillis[i]);
+		}
+	}
+}
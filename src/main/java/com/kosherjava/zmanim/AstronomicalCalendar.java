@@ -25,6 +25,7 @@ import java.util.Objects;
 
 import com.kosherjava.zmanim.util.AstronomicalCalculator;
 import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.PolarSeasonMap;
 import com.kosherjava.zmanim.util.ZmanimFormatter;
 
 /**
@@ -107,6 +108,11 @@ public class AstronomicalCalendar implements Cloneable {
 	 */
 	private AstronomicalCalculator astronomicalCalculator;
 
+	/**
+	 * the optional {@link PolarSeasonMap} used to skip calculations that can't succeed.
+	 */
+	private PolarSeasonMap polarSeasonMap;
+
 	/**
 	 * The getSunrise method returns a {@code Instant} representing the {@link AstronomicalCalculator
 	 * #getElevationAdjustment(double) elevation adjusted} sunrise time. The zenith used for the calculation uses {@link
@@ -351,7 +357,11 @@ public class AstronomicalCalendar implements Cloneable {
 	 *         not set, {@link Double#NaN} will be returned. See detailed explanation on top of the page.
 	 */
 	public double getUTCSunrise(double zenith) {
-		return getAstronomicalCalculator().getUTCSunrise(getAdjustedLocalDate(), getGeoLocation(), zenith, true);
+		LocalDate date = getAdjustedLocalDate();
+		if (isZenithNeverReached(date, zenith, true)) {
+			return Double.NaN;
+		}
+		return getAstronomicalCalculator().getUTCSunrise(date, getGeoLocation(), zenith, true);
 	}
 
 	/**
@@ -368,7 +378,11 @@ public class AstronomicalCalendar implements Cloneable {
 	 * @see #getUTCSeaLevelSunset(double)
 	 */
 	public double getUTCSeaLevelSunrise(double zenith) {
-		return getAstronomicalCalculator().getUTCSunrise(getAdjustedLocalDate(), getGeoLocation(), zenith, false);
+		LocalDate date = getAdjustedLocalDate();
+		if (isZenithNeverReached(date, zenith, false)) {
+			return Double.NaN;
+		}
+		return getAstronomicalCalculator().getUTCSunrise(date, getGeoLocation(), zenith, false);
 	}
 
 	/**
@@ -382,7 +396,11 @@ public class AstronomicalCalendar implements Cloneable {
 	 * @see #getUTCSeaLevelSunset(double)
 	 */
 	public double getUTCSunset(double zenith) {
-		return getAstronomicalCalculator().getUTCSunset(getAdjustedLocalDate(), getGeoLocation(), zenith, true);
+		LocalDate date = getAdjustedLocalDate();
+		if (isZenithNeverReached(date, zenith, true)) {
+			return Double.NaN;
+		}
+		return getAstronomicalCalculator().getUTCSunset(date, getGeoLocation(), zenith, true);
 	}
 
 	/**
@@ -399,7 +417,26 @@ public class AstronomicalCalendar implements Cloneable {
 	 * @see #getUTCSeaLevelSunrise(double)
 	 */
 	public double getUTCSeaLevelSunset(double zenith) {
-		return getAstronomicalCalculator().getUTCSunset(getAdjustedLocalDate(), getGeoLocation(), zenith, false);
+		LocalDate date = getAdjustedLocalDate();
+		if (isZenithNeverReached(date, zenith, false)) {
+			return Double.NaN;
+		}
+		return getAstronomicalCalculator().getUTCSunset(date, getGeoLocation(), zenith, false);
+	}
+
+	/**
+	 * Returns if the {@link #getPolarSeasonMap() polar season map} shows that the sun never reaches a zenith on a date, so that
+	 * the calculation can be skipped.
+	 * 
+	 * @param date the date.
+	 * @param zenith the zenith.
+	 * @param adjustForElevation whether sunrise and sunset are adjusted for the elevation of the location.
+	 * @return true if a map that applies to the current location and calculator is set and the zenith is never reached.
+	 */
+	private boolean isZenithNeverReached(LocalDate date, double zenith, boolean adjustForElevation) {
+		PolarSeasonMap map = polarSeasonMap;
+		return map != null && map.appliesTo(getGeoLocation(), getAstronomicalCalculator())
+				&& map.isZenithNeverReached(date, zenith, adjustForElevation ? getGeoLocation().getElevation() : 0);
 	}
 
 	/**
@@ -836,6 +873,30 @@ public class AstronomicalCalendar implements Cloneable {
 		this.astronomicalCalculator = astronomicalCalculator;
 	}
 	
+	/**
+	 * Returns the {@link PolarSeasonMap} used to skip calculations on days that the sun never reaches the zenith requested.
+	 * 
+	 * @return the map, or <code>null</code> if none is set (the default).
+	 * @see #setPolarSeasonMap(PolarSeasonMap)
+	 */
+	public PolarSeasonMap getPolarSeasonMap() {
+		return this.polarSeasonMap;
+	}
+
+	/**
+	 * Sets a {@link PolarSeasonMap} that is consulted before every sunrise and sunset calculation. On days that the map shows
+	 * the zenith can't be reached, {@link Double#NaN} is returned without calling the {@link AstronomicalCalculator}, so
+	 * <em>zmanim</em> that can't be calculated (and the polar fallbacks that depend on them) are found without running the
+	 * calculation. The map is only used while the {@link GeoLocation} and calculator set on this calendar are the ones it was
+	 * {@link PolarSeasonMap#appliesTo(GeoLocation, AstronomicalCalculator) calculated for}, and only for the dates it covers, so
+	 * the times returned are the same with or without it. The map is immutable and shared by clones of this calendar.
+	 * 
+	 * @param polarSeasonMap the map, or <code>null</code> to calculate every time.
+	 */
+	public void setPolarSeasonMap(PolarSeasonMap polarSeasonMap) {
+		this.polarSeasonMap = polarSeasonMap;
+	}
+
 	/**
 	 * returns the {@code LocalDate} object encapsulated in this class.
 	 * 
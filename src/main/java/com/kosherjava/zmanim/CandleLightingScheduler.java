@@ -0,0 +1,210 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+import com.kosherjava.zmanim.hebrewcalendar.JewishDate;
+import com.kosherjava.zmanim.util.Zman;
+
+/**
+ * Calculates the candle lighting and <em>havdalah</em> times for a location over a range of time. Instead of calculating a
+ * calendar for every day in the range and filtering with {@link JewishCalendar#hasCandleLighting()} and
+ * {@link JewishCalendar#isAssurBemelacha()}, only the days that can possibly have either event are examined: Fridays,
+ * <em>Shabbos</em> and the handful of fixed dates around <em>Rosh Hashana</em>, <em>Yom Kippur</em>, <em>Succos</em>,
+ * <em>Pesach</em> and <em>Shavuos</em>. Only the time that is actually needed on each of those days is calculated, so the cost
+ * tracks the number of events rather than the number of days in the range.
+ * <p>
+ * The rules used are:
+ * <ul>
+ * <li>On a day that {@link JewishCalendar#hasCandleLighting() has candle lighting} and that is not itself <em>assur
+ * bemelacha</em>, or that is a <em>Yom Tov</em> falling on Friday, candle lighting is {@link ZmanimCalendar#getCandleLighting()},
+ * using the {@link ZmanimCalendar#getCandleLightingOffset() candle lighting offset} of the calendar.</li>
+ * <li>On a day that is <em>assur bemelacha</em> and followed by a second day of <em>Yom Tov</em> (or <em>Shabbos</em> followed
+ * by <em>Yom Tov</em>), candles may only be lit after <em>tzais</em>, and the candle lighting event is at <em>tzais</em>.</li>
+ * <li>On a day after which {@link JewishCalendar#isTonightMutarBemelacha() <em>melacha</em> is permitted}, a
+ * <em>havdalah</em> event is at <em>tzais</em>.</li>
+ * </ul>
+ * The <em>tzais</em> used defaults to {@link ZmanimCalendar#getTzaisGeonim8Point5Degrees()} and can be changed with
+ * {@link #setTzais(Function)} to any other opinion, such as {@link ZmanimCalendar#getTzais72Minutes()}.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanimCalendar zc = new ZmanimCalendar(location);
+ * zc.setCandleLightingOffset(40);
+ * CandleLightingScheduler&lt;ZmanimCalendar&gt; scheduler = new CandleLightingScheduler&lt;&gt;(zc, true);
+ * List&lt;Zman&gt; events = scheduler.getEvents(Instant.now(), Instant.now().plus(Duration.ofDays(30)));
+ * </pre>
+ *
+ * @param <T> the type of calendar used to calculate the times.
+ * @author © Eliyahu Hershfeld 2026
+ */
+public class CandleLightingScheduler<T extends ZmanimCalendar> {
+	/** The label of candle lighting events. */
+	public static final String CANDLE_LIGHTING = "Candle Lighting";
+
+	/** The label of <em>havdalah</em> events. */
+	public static final String HAVDALAH = "Havdalah";
+
+	/**
+	 * The Jewish month and day of every date that can have candle lighting or be <em>assur bemelacha</em> when it is not a
+	 * Friday or <em>Shabbos</em>.
+	 */
+	private static final int[][] YOM_TOV_DATES = {
+			{ JewishDate.ELUL, 29 },
+			{ JewishDate.TISHREI, 1 }, { JewishDate.TISHREI, 2 }, { JewishDate.TISHREI, 9 }, { JewishDate.TISHREI, 10 },
+			{ JewishDate.TISHREI, 14 }, { JewishDate.TISHREI, 15 }, { JewishDate.TISHREI, 16 },
+			{ JewishDate.TISHREI, 21 }, { JewishDate.TISHREI, 22 }, { JewishDate.TISHREI, 23 },
+			{ JewishDate.NISSAN, 14 }, { JewishDate.NISSAN, 15 }, { JewishDate.NISSAN, 16 },
+			{ JewishDate.NISSAN, 20 }, { JewishDate.NISSAN, 21 }, { JewishDate.NISSAN, 22 },
+			{ JewishDate.SIVAN, 5 }, { JewishDate.SIVAN, 6 }, { JewishDate.SIVAN, 7 } };
+
+	/** The calendar used to calculate the times. It is a private clone of the calendar passed to the constructor. */
+	private final T calendar;
+
+	/** Whether the Israel holiday scheme is used. */
+	private final boolean inIsrael;
+
+	/** The <em>tzais</em> used for <em>havdalah</em> and for candle lighting on the second night of <em>Yom Tov</em>. */
+	private Function<? super T, Instant> tzais = ZmanimCalendar::getTzaisGeonim8Point5Degrees;
+
+	/**
+	 * Constructor for the scheduler.
+	 *
+	 * @param calendar the calendar whose location, candle lighting offset and elevation settings are used. It is cloned, and
+	 *            later changes to it do not affect this scheduler.
+	 * @param inIsrael whether to use the Israel holiday scheme.
+	 * @throws IllegalArgumentException if the calendar is null.
+	 */
+	@SuppressWarnings("unchecked")
+	public CandleLightingScheduler(T calendar, boolean inIsrael) {
+		if (calendar == null) {
+			throw new IllegalArgumentException("The calendar can't be null");
+		}
+		this.calendar = (T) calendar.clone();
+		this.inIsrael = inIsrael;
+	}
+
+	/**
+	 * Sets the <em>tzais</em> used for <em>havdalah</em> and for candle lighting after a day that is <em>assur
+	 * bemelacha</em>. The default is {@link ZmanimCalendar#getTzaisGeonim8Point5Degrees()}.
+	 *
+	 * @param tzais the function returning <em>tzais</em> for the calendar set to a given date, typically a method reference
+	 *            such as {@code ComprehensiveZmanimCalendar::getTzaisAteretTorah}.
+	 * @throws IllegalArgumentException if the parameter is null.
+	 */
+	public void setTzais(Function<? super T, Instant> tzais) {
+		if (tzais == null) {
+			throw new IllegalArgumentException("The tzais function can't be null");
+		}
+		this.tzais = tzais;
+	}
+
+	/**
+	 * Returns if the Israel holiday scheme is used.
+	 * @return if the Israel holiday scheme is used.
+	 */
+	public boolean getInIsrael() {
+		return inIsrael;
+	}
+
+	/**
+	 * Returns the candle lighting and <em>havdalah</em> events from (inclusive) and to (exclusive) the given instants in
+	 * chronological order. The events are labeled {@link #CANDLE_LIGHTING} and {@link #HAVDALAH}. An event whose time can't be
+	 * calculated, such as in the Arctic Circle where there are days that the sun does not set, is omitted.
+	 *
+	 * @param from the start of the range (inclusive).
+	 * @param to the end of the range (exclusive).
+	 * @return the list of events in the range. It is empty if there are none.
+	 * @throws IllegalArgumentException if either parameter is null or if from is after to.
+	 */
+	public synchronized List<Zman> getEvents(Instant from, Instant to) {
+		if (from == null || to == null || from.isAfter(to)) {
+			throw new IllegalArgumentException("The range must be non null and from can't be after to");
+		}
+		ZoneId zoneId = calendar.getGeoLocation().getZoneId();
+		List<Zman> events = new ArrayList<>();
+		JewishCalendar jewishCalendar = new JewishCalendar();
+		jewishCalendar.setInIsrael(inIsrael);
+		for (LocalDate date : getCandidateDates(from.atZone(zoneId).toLocalDate(), to.atZone(zoneId).toLocalDate())) {
+			jewishCalendar.setGregorianDate(date);
+			boolean candleLighting = jewishCalendar.hasCandleLighting();
+			boolean havdalah = jewishCalendar.isTonightMutarBemelacha();
+			if (!candleLighting && !havdalah) {
+				continue;
+			}
+			calendar.setLocalDate(date);
+			if (candleLighting) {
+				Instant instant;
+				if (jewishCalendar.isAssurBemelacha() && jewishCalendar.getDayOfWeek() != Calendar.FRIDAY) {
+					instant = tzais.apply(calendar); // second night of Yom Tov or Yom Tov on motzai Shabbos
+				} else {
+					instant = calendar.getCandleLighting();
+				}
+				addEvent(events, instant, CANDLE_LIGHTING, from, to);
+			}
+			if (havdalah) {
+				addEvent(events, tzais.apply(calendar), HAVDALAH, from, to);
+			}
+		}
+		events.sort(Zman.DATE_ORDER);
+		return events;
+	}
+
+	/**
+	 * Adds an event to the list if it could be calculated and is within the range.
+	 */
+	private void addEvent(List<Zman> events, Instant instant, String label, Instant from, Instant to) {
+		if (instant != null && !instant.isBefore(from) && instant.isBefore(to)) {
+			events.add(new Zman(instant, calendar.getGeoLocation(), label));
+		}
+	}
+
+	/**
+	 * Returns the dates between the two dates (inclusive) that are a Friday, <em>Shabbos</em> or one of the
+	 * {@link #YOM_TOV_DATES}, in order. These are the only dates that can have candle lighting or be <em>assur
+	 * bemelacha</em>.
+	 */
+	static TreeSet<LocalDate> getCandidateDates(LocalDate start, LocalDate end) {
+		TreeSet<LocalDate> dates = new TreeSet<>();
+		int daysToFriday = (5 - start.getDayOfWeek().getValue() + 7) % 7; // java.time weeks start on Monday (1), Friday is 5
+		for (LocalDate friday = start.plusDays(daysToFriday - 7); !friday.isAfter(end); friday = friday.plusDays(7)) {
+			if (!friday.isBefore(start)) {
+				dates.add(friday);
+			}
+			LocalDate shabbos = friday.plusDays(1);
+			if (!shabbos.isBefore(start) && !shabbos.isAfter(end)) {
+				dates.add(shabbos);
+			}
+		}
+		int firstYear = new JewishDate(start).getJewishYear();
+		int lastYear = new JewishDate(end).getJewishYear();
+		for (int year = firstYear; year <= lastYear; year++) {
+			for (int[] monthAndDay : YOM_TOV_DATES) {
+				LocalDate date = new JewishDate(year, monthAndDay[0], monthAndDay[1]).getLocalDate();
+				if (!date.isBefore(start) && !date.isAfter(end)) {
+					dates.add(date);
+				}
+			}
+		}
+		return dates;
+	}
+}
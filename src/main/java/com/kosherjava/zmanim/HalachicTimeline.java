@@ -0,0 +1,422 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+import com.kosherjava.zmanim.hebrewcalendar.JewishDate;
+
+/**
+ * An immutable index of the halachic periods of a location over a range of Jewish years, answering questions such as "what
+ * periods is this moment in" without assembling them from {@link JewishCalendar}, {@link ZmanimCalendar} and the
+ * <em>molad</em> methods on every request. Each {@link Interval} has an {@link IntervalType}, a start (inclusive) and end
+ * (exclusive), and a type specific value such as the day of the <em>omer</em>. The intervals are sorted by start with a running
+ * maximum of the ends, so a stabbing query is a binary search followed by a short backward scan, O(log n + k + m) where k is
+ * the number of results and m is bounded by the intervals starting during the longest interval (a <em>Kiddush Levana</em>
+ * window of about 12 days). A timeline is {@link Serializable}, so it can be built once per location and cached.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * HalachicTimeline timeline = new HalachicTimeline.Builder&lt;&gt;(new ZmanimCalendar(location), false).build(5786, 5787);
+ * for (HalachicTimeline.Interval interval : timeline.getIntervals(Instant.now())) {
+ *     System.out.println(interval.getType() + " " + interval.getValue());
+ * }
+ * </pre>
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+public final class HalachicTimeline implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The types of intervals in a timeline.
+	 */
+	public enum IntervalType {
+		/** <em>Shabbos</em>, from sunset on Friday to <em>tzais</em>. The value is 0. */
+		SHABBOS,
+		/**
+		 * A <em>Yom Tov</em> day that is {@link JewishCalendar#isYomTovAssurBemelacha() <em>assur bemelacha</em>}, from sunset
+		 * on the day before to <em>tzais</em>. The value is the {@link JewishCalendar#getYomTovIndex() Yom Tov index}.
+		 */
+		YOM_TOV,
+		/**
+		 * A {@link JewishCalendar#isTaanis() fast day}, from <em>alos</em> to <em>tzais</em>, or from sunset on the day before
+		 * for <em>Yom Kippur</em> and <em>Tisha B'Av</em>. The value is the {@link JewishCalendar#getYomTovIndex() Yom Tov
+		 * index}.
+		 */
+		FAST,
+		/**
+		 * A day of <em>sefiras haomer</em>, from <em>tzais</em> on the day before (when it is counted) to <em>tzais</em>. The
+		 * value is the {@link JewishCalendar#getDayOfOmer() day of the omer}.
+		 */
+		SEFIRA,
+		/**
+		 * A night of <em>Chanukah</em> candle lighting, from sunset (candle lighting on Friday and <em>tzais</em> on <em>motzai
+		 * Shabbos</em>) to <em>alos</em>. The value is the night of <em>Chanukah</em> (1 - 8).
+		 */
+		CHANUKAH,
+		/**
+		 * The <em>Kiddush Levana</em> window of a month, from {@link JewishCalendar#getTchilasZmanKidushLevana3Days() 3 days}
+		 * after the <em>molad</em> to {@link JewishCalendar#getSofZmanKidushLevanaBetweenMoldos() halfway between
+		 * <em>moldos</em>}. The value is the Jewish month. This is not adjusted for day and night.
+		 */
+		KIDDUSH_LEVANA
+	}
+
+	/**
+	 * An immutable typed interval of time.
+	 */
+	public static final class Interval implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final IntervalType type;
+		private final Instant start;
+		private final Instant end;
+		private final int value;
+
+		/**
+		 * Constructor.
+		 * @param type the type.
+		 * @param start the start (inclusive).
+		 * @param end the end (exclusive).
+		 * @param value the type specific value.
+		 */
+		public Interval(IntervalType type, Instant start, Instant end, int value) {
+			this.type = Objects.requireNonNull(type);
+			this.start = Objects.requireNonNull(start);
+			this.end = Objects.requireNonNull(end);
+			this.value = value;
+		}
+
+		/**
+		 * Returns the type.
+		 * @return the type.
+		 */
+		public IntervalType getType() {
+			return type;
+		}
+
+		/**
+		 * Returns the start (inclusive).
+		 * @return the start.
+		 */
+		public Instant getStart() {
+			return start;
+		}
+
+		/**
+		 * Returns the end (exclusive).
+		 * @return the end.
+		 */
+		public Instant getEnd() {
+			return end;
+		}
+
+		/**
+		 * Returns the type specific value described in {@link IntervalType}.
+		 * @return the value.
+		 */
+		public int getValue() {
+			return value;
+		}
+
+		/**
+		 * Returns if the interval contains the instant.
+		 * @param instant the instant.
+		 * @return true if the start is not after the instant and the end is after it.
+		 */
+		public boolean contains(Instant instant) {
+			return !start.isAfter(instant) && end.isAfter(instant);
+		}
+
+		/**
+		 * @see Object#equals(Object)
+		 */
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Interval)) {
+				return false;
+			}
+			Interval interval = (Interval) object;
+			return type == interval.type && value == interval.value && start.equals(interval.start)
+					&& end.equals(interval.end);
+		}
+
+		/**
+		 * @see Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, start, end, value);
+		}
+
+		/**
+		 * @see Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return type + "(" + value + ") [" + start + ", " + end + ")";
+		}
+	}
+
+	/** Orders intervals by start, then end. */
+	private static final Comparator<Interval> START_ORDER = Comparator.comparing(Interval::getStart)
+			.thenComparing(Interval::getEnd);
+
+	/** The intervals sorted by {@link #START_ORDER}. */
+	private final Interval[] intervals;
+
+	/** The latest end of the intervals up to and including each index. */
+	private final Instant[] maxEnds;
+
+	/**
+	 * Constructor for a timeline of the given intervals.
+	 *
+	 * @param intervals the intervals, in any order.
+	 */
+	public HalachicTimeline(List<Interval> intervals) {
+		this.intervals = intervals.toArray(new Interval[0]);
+		Arrays.sort(this.intervals, START_ORDER);
+		this.maxEnds = new Instant[this.intervals.length];
+		Instant maxEnd = Instant.MIN;
+		for (int i = 0; i < this.intervals.length; i++) {
+			if (this.intervals[i].getEnd().isAfter(maxEnd)) {
+				maxEnd = this.intervals[i].getEnd();
+			}
+			maxEnds[i] = maxEnd;
+		}
+	}
+
+	/**
+	 * Returns the number of intervals.
+	 * @return the number of intervals.
+	 */
+	public int size() {
+		return intervals.length;
+	}
+
+	/**
+	 * Returns all the intervals sorted by start.
+	 * @return an unmodifiable list of the intervals.
+	 */
+	public List<Interval> getIntervals() {
+		return Collections.unmodifiableList(Arrays.asList(intervals));
+	}
+
+	/**
+	 * Returns the intervals that contain the instant (a stabbing query), sorted by start.
+	 *
+	 * @param instant the instant.
+	 * @return the intervals whose start is not after the instant and whose end is after it.
+	 */
+	public List<Interval> getIntervals(Instant instant) {
+		return getIntervals(instant, instant.plusNanos(1));
+	}
+
+	/**
+	 * Returns the intervals of a given type that contain the instant.
+	 *
+	 * @param instant the instant.
+	 * @param type the type.
+	 * @return the intervals of the type containing the instant, sorted by start.
+	 */
+	public List<Interval> getIntervals(Instant instant, IntervalType type) {
+		List<Interval> result = getIntervals(instant);
+		result.removeIf(interval -> interval.getType() != type);
+		return result;
+	}
+
+	/**
+	 * Returns the intervals that overlap a range, sorted by start.
+	 *
+	 * @param from the start of the range (inclusive).
+	 * @param to the end of the range (exclusive).
+	 * @return the intervals that start before the end of the range and end after its start.
+	 * @throws IllegalArgumentException if from is not before to.
+	 */
+	public List<Interval> getIntervals(Instant from, Instant to) {
+		if (!from.isBefore(to)) {
+			throw new IllegalArgumentException("from must be before to");
+		}
+		// the index of the last interval that starts before to
+		int low = 0;
+		int high = intervals.length - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (intervals[middle].getStart().isBefore(to)) {
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		List<Interval> result = new ArrayList<>();
+		for (int i = high; i >= 0 && maxEnds[i].isAfter(from); i--) {
+			if (intervals[i].getEnd().isAfter(from)) {
+				result.add(intervals[i]);
+			}
+		}
+		Collections.reverse(result);
+		return result;
+	}
+
+	/**
+	 * Builds a {@link HalachicTimeline} for a location from its calendar.
+	 *
+	 * @param <T> the type of calendar used to calculate the times.
+	 */
+	public static class Builder<T extends ZmanimCalendar> {
+		private final T calendar;
+		private final boolean inIsrael;
+		private Function<? super T, Instant> alos = ZmanimCalendar::getAlos16Point1Degrees;
+		private Function<? super T, Instant> tzais = ZmanimCalendar::getTzaisGeonim8Point5Degrees;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param calendar the calendar whose location and settings are used. It is cloned.
+		 * @param inIsrael whether to use the Israel holiday scheme.
+		 */
+		@SuppressWarnings("unchecked")
+		public Builder(T calendar, boolean inIsrael) {
+			if (calendar == null) {
+				throw new IllegalArgumentException("The calendar can't be null");
+			}
+			this.calendar = (T) calendar.clone();
+			this.inIsrael = inIsrael;
+		}
+
+		/**
+		 * Sets the <em>alos</em> used. The default is {@link ZmanimCalendar#getAlos16Point1Degrees()}.
+		 * @param alos the function returning <em>alos</em> for the calendar set to a given date.
+		 * @return this builder.
+		 */
+		public Builder<T> setAlos(Function<? super T, Instant> alos) {
+			this.alos = Objects.requireNonNull(alos);
+			return this;
+		}
+
+		/**
+		 * Sets the <em>tzais</em> used. The default is {@link ZmanimCalendar#getTzaisGeonim8Point5Degrees()}.
+		 * @param tzais the function returning <em>tzais</em> for the calendar set to a given date.
+		 * @return this builder.
+		 */
+		public Builder<T> setTzais(Function<? super T, Instant> tzais) {
+			this.tzais = Objects.requireNonNull(tzais);
+			return this;
+		}
+
+		/**
+		 * Builds the timeline of the Jewish years (inclusive). An interval whose start or end can't be calculated, such as
+		 * in the Arctic Circle, is omitted.
+		 *
+		 * @param firstJewishYear the first Jewish year.
+		 * @param lastJewishYear the last Jewish year.
+		 * @return the timeline.
+		 * @throws IllegalArgumentException if the last year is before the first year.
+		 */
+		public synchronized HalachicTimeline build(int firstJewishYear, int lastJewishYear) {
+			if (lastJewishYear < firstJewishYear) {
+				throw new IllegalArgumentException("The last year can't be before the first year");
+			}
+			List<Interval> intervals = new ArrayList<>();
+			JewishCalendar jewishCalendar = new JewishCalendar(firstJewishYear, JewishDate.TISHREI, 1, inIsrael);
+			int days = 0;
+			for (int year = firstJewishYear; year <= lastJewishYear; year++) {
+				days += JewishDate.getDaysInJewishYear(year);
+			}
+			for (int i = 0; i < days; i++) {
+				if (i > 0) {
+					jewishCalendar.plusDays(1);
+				}
+				addIntervals(jewishCalendar, jewishCalendar.getLocalDate(), intervals);
+			}
+			return new HalachicTimeline(intervals);
+		}
+
+		/**
+		 * Adds the intervals that end on the day (or, for <em>Kiddush Levana</em>, the month that starts on the day).
+		 */
+		private void addIntervals(JewishCalendar jewishCalendar, LocalDate date, List<Interval> intervals) {
+			int dayOfWeek = jewishCalendar.getDayOfWeek();
+			int yomTovIndex = jewishCalendar.getYomTovIndex();
+			if (dayOfWeek == Calendar.SATURDAY) {
+				add(intervals, IntervalType.SHABBOS, sunset(date.minusDays(1)), tzais(date), 0);
+			}
+			if (jewishCalendar.isYomTovAssurBemelacha()) {
+				add(intervals, IntervalType.YOM_TOV, sunset(date.minusDays(1)), tzais(date), yomTovIndex);
+			}
+			if (jewishCalendar.isTaanis()) {
+				Instant start = yomTovIndex == JewishCalendar.YOM_KIPPUR || yomTovIndex == JewishCalendar.TISHA_BEAV
+						? sunset(date.minusDays(1)) : alos(date);
+				add(intervals, IntervalType.FAST, start, tzais(date), yomTovIndex);
+			}
+			int dayOfOmer = jewishCalendar.getDayOfOmer();
+			if (dayOfOmer > 0) {
+				add(intervals, IntervalType.SEFIRA, tzais(date.minusDays(1)), tzais(date), dayOfOmer);
+			}
+			int dayOfChanukah = jewishCalendar.getDayOfChanukah();
+			if (dayOfChanukah > 0) {
+				LocalDate eve = date.minusDays(1);
+				Instant start;
+				if (dayOfWeek == Calendar.SATURDAY) {
+					calendar.setLocalDate(eve);
+					start = calendar.getCandleLighting();
+				} else if (dayOfWeek == Calendar.SUNDAY) {
+					start = tzais(eve);
+				} else {
+					start = sunset(eve);
+				}
+				add(intervals, IntervalType.CHANUKAH, start, alos(date), dayOfChanukah);
+			}
+			if (jewishCalendar.getJewishDayOfMonth() == 1) {
+				add(intervals, IntervalType.KIDDUSH_LEVANA, jewishCalendar.getTchilasZmanKidushLevana3Days(),
+						jewishCalendar.getSofZmanKidushLevanaBetweenMoldos(), jewishCalendar.getJewishMonth());
+			}
+		}
+
+		private Instant sunset(LocalDate date) {
+			calendar.setLocalDate(date);
+			return calendar.getSunsetBasedOnElevationSetting();
+		}
+
+		private Instant alos(LocalDate date) {
+			calendar.setLocalDate(date);
+			return alos.apply(calendar);
+		}
+
+		private Instant tzais(LocalDate date) {
+			calendar.setLocalDate(date);
+			return tzais.apply(calendar);
+		}
+
+		private static void add(List<Interval> intervals, IntervalType type, Instant start, Instant end, int value) {
+			if (start != null && end != null && start.isBefore(end)) {
+				intervals.add(new Interval(type, start, end, value));
+			}
+		}
+	}
+}
@@ -0,0 +1,455 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.kosherjava.zmanim.hebrewcalendar.HebrewDateFormatter;
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+
+/**
+ * Generates an <a href="https://datatracker.ietf.org/doc/html/rfc5545">RFC 5545</a> iCalendar feed of <em>zmanim</em>,
+ * <em>Yomim Tovim</em>, <em>Rosh Chodesh</em> and the weekly <em>parsha</em> for a location, that calendar applications can
+ * subscribe to. Each <em>zman</em> is an event at its time in UTC, and each holiday and <em>parsha</em> is an all day event.
+ * All events are marked as transparent so that they do not show the user as busy.
+ * <p>
+ * The events of a Gregorian year are generated once into a segment of UTF-8 bytes with the lines already folded, and kept in
+ * a cache, so regenerating a feed only copies the cached bytes to the stream. Changing the settings of the feed clears the
+ * cache, and a single year can be regenerated with {@link #invalidate(int)}. Times and dates are written digit by digit
+ * without a {@link java.time.format.DateTimeFormatter}, and the UID of each event only depends on the location, date and
+ * label (percent-encoded, so that every label has its own UID, whatever its script), so events keep their identity when a
+ * feed is regenerated.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ICalendarFeed&lt;ComprehensiveZmanimCalendar&gt; feed = new ICalendarFeed&lt;&gt;(new ComprehensiveZmanimCalendar(location), false);
+ * feed.addZman("Alos 72", ComprehensiveZmanimCalendar::getAlos72Minutes);
+ * feed.addZman("Sunset", ComprehensiveZmanimCalendar::getSunset);
+ * feed.write(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), outputStream);
+ * </pre>
+ * Times are truncated to the second. Instances are thread safe.
+ *
+ * @param <T> the type of calendar used to calculate the <em>zmanim</em>.
+ * @author © Eliyahu Hershfeld 2026
+ */
+public class ICalendarFeed<T extends ZmanimCalendar> {
+	/** The product identifier written in the PRODID property of the feed. */
+	public static final String PRODUCT_ID = "-//KosherJava//Zmanim API//EN";
+
+	/** The maximum length of a content line in octets, not counting the line break. */
+	private static final int MAX_LINE_LENGTH = 75;
+
+	/** The line break of iCalendar content lines. */
+	private static final byte[] CRLF = { '\r', '\n' };
+
+	/** The calendar used to calculate the <em>zmanim</em>. It is a private clone of the calendar passed to the constructor. */
+	private final T calendar;
+
+	/** The calendar used for the holidays and <em>parsha</em>. */
+	private final JewishCalendar jewishCalendar = new JewishCalendar();
+
+	/** The labels of the <em>zmanim</em> added. */
+	private final List<String> labels = new ArrayList<>();
+
+	/** The part of the UID of each <em>zman</em> after the date, the percent-encoded label. */
+	private final List<String> uidLabels = new ArrayList<>();
+
+	/** The functions calculating the <em>zmanim</em> added. */
+	private final List<Function<? super T, Instant>> zmanim = new ArrayList<>();
+
+	/** The cached events of each Gregorian year, folded and encoded as UTF-8. */
+	private final Map<Integer, byte[]> segments = new HashMap<>();
+
+	/** The formatter used for the names of holidays and <em>parshiyos</em>. */
+	private HebrewDateFormatter hebrewDateFormatter = new HebrewDateFormatter();
+
+	/** Whether <em>Yomim Tovim</em>, fasts and <em>Rosh Chodesh</em> are included. */
+	private boolean includeHolidays = true;
+
+	/** Whether the weekly <em>parsha</em> is included. */
+	private boolean includeParsha = true;
+
+	/** The DTSTAMP of the events, in seconds since the epoch. */
+	private long timestamp = Instant.now().getEpochSecond();
+
+	/**
+	 * Constructor for the feed.
+	 *
+	 * @param calendar the calendar whose location and settings are used for the <em>zmanim</em>. It is cloned, and later
+	 *            changes to it do not affect this feed.
+	 * @param inIsrael whether to use the Israel holiday scheme.
+	 * @throws IllegalArgumentException if the calendar is null.
+	 */
+	@SuppressWarnings("unchecked")
+	public ICalendarFeed(T calendar, boolean inIsrael) {
+		if (calendar == null) {
+			throw new IllegalArgumentException("The calendar can't be null");
+		}
+		this.calendar = (T) calendar.clone();
+		jewishCalendar.setInIsrael(inIsrael);
+	}
+
+	/**
+	 * Adds a <em>zman</em> to the feed. Days where it can't be calculated, such as in the Arctic Circle where there are days that
+	 * the sun does not set, have no event for it.
+	 *
+	 * @param label the summary of the events.
+	 * @param zman the function returning the <em>zman</em> for the calendar set to a given date, typically a method reference
+	 *            such as {@code ComprehensiveZmanimCalendar::getAlos72Minutes}.
+	 * @throws IllegalArgumentException if a parameter is null or a <em>zman</em> with the label was already added.
+	 */
+	public synchronized void addZman(String label, Function<? super T, Instant> zman) {
+		if (label == null || zman == null) {
+			throw new IllegalArgumentException("The label and zman can't be null");
+		}
+		if (labels.contains(label)) {
+			throw new IllegalArgumentException("A zman labeled " + label + " was already added");
+		}
+		labels.add(label);
+		uidLabels.add("zman-" + encodeUID(label));
+		zmanim.add(zman);
+		segments.clear();
+	}
+
+	/**
+	 * Sets the formatter used for the names of holidays and <em>parshiyos</em>, such as one set to {@link
+	 * HebrewDateFormatter#setHebrewFormat(boolean) Hebrew format}. The formatter should not be changed after it is set.
+	 *
+	 * @param hebrewDateFormatter the formatter.
+	 * @throws IllegalArgumentException if the parameter is null.
+	 */
+	public synchronized void setHebrewDateFormatter(HebrewDateFormatter hebrewDateFormatter) {
+		if (hebrewDateFormatter == null) {
+			throw new IllegalArgumentException("The HebrewDateFormatter can't be null");
+		}
+		this.hebrewDateFormatter = hebrewDateFormatter;
+		segments.clear();
+	}
+
+	/**
+	 * Sets whether <em>Yomim Tovim</em>, fasts and <em>Rosh Chodesh</em> are included. The default is true.
+	 * @param includeHolidays whether holidays are included.
+	 */
+	public synchronized void setIncludeHolidays(boolean includeHolidays) {
+		this.includeHolidays = includeHolidays;
+		segments.clear();
+	}
+
+	/**
+	 * Sets whether the weekly <em>parsha</em> is included as an event on <em>Shabbos</em>. The default is true.
+	 * @param includeParsha whether the <em>parsha</em> is included.
+	 */
+	public synchronized void setIncludeParsha(boolean includeParsha) {
+		this.includeParsha = includeParsha;
+		segments.clear();
+	}
+
+	/**
+	 * Sets the DTSTAMP written in every event, the time the feed was last revised. The default is the time the feed was created.
+	 * @param timestamp the timestamp. It is truncated to the second.
+	 * @throws IllegalArgumentException if the parameter is null.
+	 */
+	public synchronized void setTimestamp(Instant timestamp) {
+		if (timestamp == null) {
+			throw new IllegalArgumentException("The timestamp can't be null");
+		}
+		this.timestamp = timestamp.getEpochSecond();
+		segments.clear();
+	}
+
+	/**
+	 * Discards the cached events of a year, so that they are generated again the next time they are written.
+	 * @param year the Gregorian year.
+	 */
+	public synchronized void invalidate(int year) {
+		segments.remove(year);
+	}
+
+	/**
+	 * Discards the cached events of all years.
+	 */
+	public synchronized void clearCache() {
+		segments.clear();
+	}
+
+	/**
+	 * Writes a complete VCALENDAR with the events of every day in a range of dates to a stream encoded as UTF-8. The years
+	 * that are entirely in the range are written from the cache (and generated and cached if needed), and the days of a
+	 * partial year at either end of the range are generated without being cached. The stream is flushed but not closed.
+	 *
+	 * @param startDate the first date (inclusive).
+	 * @param endDate the last date (inclusive).
+	 * @param out the stream written to.
+	 * @throws IOException if writing fails.
+	 * @throws IllegalArgumentException if the end date is before the start date.
+	 */
+	public synchronized void write(LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
+		if (endDate.isBefore(startDate)) {
+			throw new IllegalArgumentException("The end date " + endDate + " can't be before the start date " + startDate);
+		}
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		writeLine(header, "BEGIN:VCALENDAR");
+		writeLine(header, "VERSION:2.0");
+		writeLine(header, "PRODID:" + PRODUCT_ID);
+		writeLine(header, "CALSCALE:GREGORIAN");
+		writeLine(header, "METHOD:PUBLISH");
+		String name = calendar.getGeoLocation().getLocationName();
+		if (name != null) {
+			writeLine(header, "X-WR-CALNAME:" + escapeText(name));
+		}
+		header.writeTo(out);
+		for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+			LocalDate first = LocalDate.of(year, 1, 1);
+			LocalDate last = LocalDate.of(year, 12, 31);
+			if (first.isBefore(startDate) || last.isAfter(endDate)) {
+				generate(first.isBefore(startDate) ? startDate : first, last.isAfter(endDate) ? endDate : last).writeTo(out);
+			} else {
+				out.write(getSegment(year));
+			}
+		}
+		out.write("END:VCALENDAR".getBytes(StandardCharsets.US_ASCII));
+		out.write(CRLF);
+		out.flush();
+	}
+
+	/**
+	 * Returns the cached events of a Gregorian year, generating them if needed.
+	 */
+	private byte[] getSegment(int year) {
+		byte[] segment = segments.get(year);
+		if (segment == null) {
+			segment = generate(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)).toByteArray();
+			segments.put(year, segment);
+		}
+		return segment;
+	}
+
+	/**
+	 * Generates the events of a range of dates.
+	 */
+	private ByteArrayOutputStream generate(LocalDate startDate, LocalDate endDate) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(16_384);
+		StringBuilder sb = new StringBuilder(128);
+		String uidSuffix = "@" + calendar.getGeoLocation().getLatitude() + "," + calendar.getGeoLocation().getLongitude();
+		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+			if (includeHolidays || includeParsha) {
+				jewishCalendar.setGregorianDate(date);
+			}
+			if (includeHolidays) {
+				String roshChodesh = hebrewDateFormatter.formatRoshChodesh(jewishCalendar);
+				if (!roshChodesh.isEmpty()) {
+					writeDayEvent(out, sb, date, roshChodesh, "day-roshchodesh", uidSuffix);
+				}
+				String yomTov = hebrewDateFormatter.formatYomTov(jewishCalendar);
+				if (!yomTov.isEmpty()) {
+					writeDayEvent(out, sb, date, yomTov, "day-yomtov", uidSuffix);
+				}
+			}
+			if (includeParsha && date.getDayOfWeek() == DayOfWeek.SATURDAY) {
+				String parsha = hebrewDateFormatter.formatParsha(jewishCalendar);
+				String specialParsha = hebrewDateFormatter.formatSpecialParsha(jewishCalendar);
+				if (parsha != null && !parsha.isEmpty()) {
+					if (specialParsha != null && !specialParsha.isEmpty()) {
+						parsha += " - " + specialParsha;
+					}
+					writeDayEvent(out, sb, date, parsha, "day-parsha", uidSuffix);
+				} else if (specialParsha != null && !specialParsha.isEmpty()) {
+					writeDayEvent(out, sb, date, specialParsha, "day-parsha", uidSuffix);
+				}
+			}
+			if (!zmanim.isEmpty()) {
+				calendar.setLocalDate(date);
+				for (int i = 0; i < zmanim.size(); i++) {
+					Instant zman = zmanim.get(i).apply(calendar);
+					if (zman == null) {
+						continue;
+					}
+					writeLine(out, "BEGIN:VEVENT");
+					writeUID(out, sb, date, uidLabels.get(i), uidSuffix);
+					writeDateTime(out, sb, "DTSTAMP:", timestamp);
+					writeDateTime(out, sb, "DTSTART:", zman.getEpochSecond());
+					writeLine(out, "SUMMARY:" + escapeText(labels.get(i)));
+					writeLine(out, "TRANSP:TRANSPARENT");
+					writeLine(out, "END:VEVENT");
+				}
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Writes an all day event.
+	 */
+	private void writeDayEvent(ByteArrayOutputStream out, StringBuilder sb, LocalDate date, String summary, String kind,
+			String uidSuffix) {
+		writeLine(out, "BEGIN:VEVENT");
+		writeUID(out, sb, date, kind, uidSuffix);
+		writeDateTime(out, sb, "DTSTAMP:", timestamp);
+		sb.setLength(0);
+		appendDate(sb.append("DTSTART;VALUE=DATE:"), date);
+		writeLine(out, sb);
+		sb.setLength(0);
+		appendDate(sb.append("DTEND;VALUE=DATE:"), date.plusDays(1));
+		writeLine(out, sb);
+		writeLine(out, "SUMMARY:" + escapeText(summary));
+		writeLine(out, "TRANSP:TRANSPARENT");
+		writeLine(out, "END:VEVENT");
+	}
+
+	/**
+	 * Writes the UID of an event, made of the date, the kind of event ({@code zman-} and the encoded label, or {@code day-}
+	 * and the kind of all day event) and the coordinates of the location.
+	 */
+	private static void writeUID(ByteArrayOutputStream out, StringBuilder sb, LocalDate date, String id, String uidSuffix) {
+		sb.setLength(0);
+		appendDate(sb.append("UID:"), date);
+		writeLine(out, sb.append('-').append(id).append(uidSuffix));
+	}
+
+	/**
+	 * Percent-encodes a label for a UID. ASCII letters and digits are kept and every other character is encoded as the
+	 * <code>%XX</code> of each of its UTF-8 bytes, so that different labels always have different UIDs.
+	 */
+	private static String encodeUID(String label) {
+		StringBuilder sb = new StringBuilder(label.length() * 3);
+		for (byte b : label.getBytes(StandardCharsets.UTF_8)) {
+			if ((b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9')) {
+				sb.append((char) b);
+			} else {
+				sb.append('%').append(Character.toUpperCase(Character.forDigit((b >> 4) & 0xF, 16)))
+						.append(Character.toUpperCase(Character.forDigit(b & 0xF, 16)));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes a property with a UTC date-time value in the form {@code 20260101T120000Z}.
+	 */
+	private static void writeDateTime(ByteArrayOutputStream out, StringBuilder sb, String property, long epochSecond) {
+		sb.setLength(0);
+		sb.append(property);
+		appendDate(sb, LocalDate.ofEpochDay(Math.floorDiv(epochSecond, 86_400)));
+		int secondOfDay = Math.floorMod(epochSecond, 86_400);
+		sb.append('T');
+		appendDigits(sb, secondOfDay / 3600, 2);
+		appendDigits(sb, secondOfDay / 60 % 60, 2);
+		appendDigits(sb, secondOfDay % 60, 2);
+		writeLine(out, sb.append('Z'));
+	}
+
+	/**
+	 * Appends a date in the form {@code 20260101}.
+	 */
+	private static void appendDate(StringBuilder sb, LocalDate date) {
+		appendDigits(sb, date.getYear(), 4);
+		appendDigits(sb, date.getMonthValue(), 2);
+		appendDigits(sb, date.getDayOfMonth(), 2);
+	}
+
+	/**
+	 * Appends a non-negative value with at least the given number of digits, padded with leading zeros.
+	 */
+	private static void appendDigits(StringBuilder sb, int value, int digits) {
+		for (int limit = 10; digits > 1; digits--, limit *= 10) {
+			if (value < limit) {
+				sb.append('0');
+			}
+		}
+		sb.append(value);
+	}
+
+	/**
+	 * Escapes a TEXT value as required by section 3.3.11 of RFC 5545.
+	 *
+	 * @param text the text.
+	 * @return the escaped text.
+	 */
+	static String escapeText(String text) {
+		StringBuilder sb = null;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			String replacement = c == '\\' ? "\\\\" : c == ';' ? "\\;" : c == ',' ? "\\," : c == '\n' ? "\\n"
+					: c == '\r' ? "" : null;
+			if (replacement != null && sb == null) {
+				sb = new StringBuilder(text.length() + 8).append(text, 0, i);
+			}
+			if (sb != null) {
+				if (replacement != null) {
+					sb.append(replacement);
+				} else {
+					sb.append(c);
+				}
+			}
+		}
+		return sb == null ? text : sb.toString();
+	}
+
+	/**
+	 * Writes a content line encoded as UTF-8 and terminated by CRLF, folded as required by section 3.1 of RFC 5545 so that no
+	 * line is longer than 75 octets. Lines are only folded between characters, never inside the UTF-8 encoding of a character,
+	 * and each continuation line starts with a space.
+	 *
+	 * @param out the stream written to.
+	 * @param line the unfolded content line.
+	 */
+	static void writeLine(ByteArrayOutputStream out, CharSequence line) {
+		byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+		int lineLength = 0;
+		for (int i = 0; i < bytes.length;) {
+			int charLength = utf8Length(bytes[i]);
+			if (lineLength + charLength > MAX_LINE_LENGTH) {
+				out.write(CRLF, 0, 2);
+				out.write(' ');
+				lineLength = 1;
+			}
+			out.write(bytes, i, charLength);
+			lineLength += charLength;
+			i += charLength;
+		}
+		out.write(CRLF, 0, 2);
+	}
+
+	/**
+	 * Returns the number of bytes of the UTF-8 encoding of a character from its lead byte.
+	 */
+	private static int utf8Length(byte lead) {
+		if ((lead & 0x80) == 0) {
+			return 1;
+		} else if ((lead & 0xE0) == 0xC0) {
+			return 2;
+		} else if ((lead & 0xF0) == 0xE0) {
+			return 3;
+		}
+		return 4;
+	}
+
+	/**
+	 * Returns the number of years whose events are cached.
+	 * @return the number of cached years.
+	 */
+	synchronized int getCachedYearCount() {
+		return segments.size();
+	}
+}
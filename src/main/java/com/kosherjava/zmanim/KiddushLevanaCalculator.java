@@ -0,0 +1,300 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.function.Function;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+
+/**
+ * Calculates the times of <em>Kiddush Levana</em> of a Jewish month for a location in one call. The per day methods of the
+ * {@link ComprehensiveZmanimCalendar} such as {@link ComprehensiveZmanimCalendar#getTchilasZmanKidushLevana3Days(Instant,
+ * Instant)} only return a time on the day that it occurs, so finding the times of a month with them means trying every day
+ * of the month. This class calculates the <em>molad</em> based times of the month directly, and only calculates
+ * <em>alos</em> and <em>tzais</em> for the days that these times fall on (usually three days) to find the times adjusted
+ * to the night, when <em>Kiddush Levana</em> can be said. As with the per day methods, a <em>tchilas zman</em> during the
+ * day (between <em>alos</em> and <em>tzais</em>) is moved to that day's <em>tzais</em>, and a <em>sof zman</em> during the
+ * day is moved back to that day's <em>alos</em>. If <em>alos</em> or <em>tzais</em> can't be calculated for the day, such as
+ * in the Arctic Circle, the time is not adjusted.
+ * <p>
+ * The <em>alos</em> and <em>tzais</em> used default to {@link ZmanimCalendar#getAlos72Minutes()} and {@link
+ * ZmanimCalendar#getTzais72Minutes()} and can be changed with {@link #setAlos(Function)} and {@link #setTzais(Function)}.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * KiddushLevanaCalculator&lt;ComprehensiveZmanimCalendar&gt; calculator = new KiddushLevanaCalculator&lt;&gt;(czc);
+ * calculator.setTzais(ComprehensiveZmanimCalendar::getTzaisGeonim8Point5Degrees);
+ * KiddushLevanaCalculator.Window window = calculator.getWindow(5787, JewishDate.CHESHVAN);
+ * Instant from = window.getTchilasZmanKidushLevana3DaysAtNight();
+ * Instant to = window.getSofZmanKidushLevana15DaysAtNight();
+ * </pre>
+ *
+ * @param <T> the type of calendar used to calculate <em>alos</em> and <em>tzais</em>.
+ * @author © Eliyahu Hershfeld 2026
+ */
+public class KiddushLevanaCalculator<T extends ZmanimCalendar> {
+	/** The calendar used to calculate the times. It is a private clone of the calendar passed to the constructor. */
+	private final T calendar;
+
+	/** The <em>alos</em> that a <em>sof zman Kiddush Levana</em> during the day is moved back to. */
+	private Function<? super T, Instant> alos = ZmanimCalendar::getAlos72Minutes;
+
+	/** The <em>tzais</em> that a <em>tchilas zman Kiddush Levana</em> during the day is moved to. */
+	private Function<? super T, Instant> tzais = ZmanimCalendar::getTzais72Minutes;
+
+	/**
+	 * Constructor for the calculator.
+	 *
+	 * @param calendar the calendar whose location and elevation settings are used. It is cloned, and later changes to it do
+	 *            not affect this calculator.
+	 * @throws IllegalArgumentException if the calendar is null.
+	 */
+	@SuppressWarnings("unchecked")
+	public KiddushLevanaCalculator(T calendar) {
+		if (calendar == null) {
+			throw new IllegalArgumentException("The calendar can't be null");
+		}
+		this.calendar = (T) calendar.clone();
+	}
+
+	/**
+	 * Sets the <em>alos</em> used to end the night before a <em>sof zman Kiddush Levana</em> that is during the day. The
+	 * default is {@link ZmanimCalendar#getAlos72Minutes()}.
+	 *
+	 * @param alos the function returning <em>alos</em> for the calendar set to a given date, typically a method reference
+	 *            such as {@code ComprehensiveZmanimCalendar::getAlos16Point1Degrees}.
+	 * @throws IllegalArgumentException if the parameter is null.
+	 */
+	public synchronized void setAlos(Function<? super T, Instant> alos) {
+		if (alos == null) {
+			throw new IllegalArgumentException("The alos function can't be null");
+		}
+		this.alos = alos;
+	}
+
+	/**
+	 * Sets the <em>tzais</em> used to start the night after a <em>tchilas zman Kiddush Levana</em> that is during the day.
+	 * The default is {@link ZmanimCalendar#getTzais72Minutes()}.
+	 *
+	 * @param tzais the function returning <em>tzais</em> for the calendar set to a given date, typically a method reference
+	 *            such as {@code ComprehensiveZmanimCalendar::getTzaisGeonim8Point5Degrees}.
+	 * @throws IllegalArgumentException if the parameter is null.
+	 */
+	public synchronized void setTzais(Function<? super T, Instant> tzais) {
+		if (tzais == null) {
+			throw new IllegalArgumentException("The tzais function can't be null");
+		}
+		this.tzais = tzais;
+	}
+
+	/**
+	 * Returns the times of <em>Kiddush Levana</em> of a Jewish month.
+	 *
+	 * @param jewishYear the Jewish year
+	 * @param jewishMonth the Jewish month, using the {@link com.kosherjava.zmanim.hebrewcalendar.JewishDate} month constants
+	 *            such as {@link com.kosherjava.zmanim.hebrewcalendar.JewishDate#TISHREI}
+	 * @return the times of the month
+	 * @throws IllegalArgumentException if the month is not a valid month of the year
+	 */
+	public synchronized Window getWindow(int jewishYear, int jewishMonth) {
+		JewishCalendar jewishCalendar = new JewishCalendar(jewishYear, jewishMonth, 1);
+		// in order of time, the earliest times first
+		Instant[] times = { jewishCalendar.getTchilasZmanKidushLevana3Days(), jewishCalendar.getTchilasZmanKidushLevana7Days(),
+				jewishCalendar.getSofZmanKidushLevanaBetweenMoldos(), jewishCalendar.getSofZmanKidushLevana15Days() };
+		Instant[] atNight = new Instant[times.length];
+		ZoneId zoneId = calendar.getGeoLocation().getZoneId();
+		LocalDate date = null;
+		Instant dayStart = null;
+		Instant dayEnd = null;
+		for (int i = 0; i < times.length; i++) {
+			LocalDate timeDate = times[i].atZone(zoneId).toLocalDate();
+			if (!timeDate.equals(date)) { // the sof zman times are often on the same day
+				date = timeDate;
+				calendar.setLocalDate(date);
+				dayStart = alos.apply(calendar);
+				dayEnd = tzais.apply(calendar);
+			}
+			atNight[i] = times[i];
+			if (dayStart != null && dayEnd != null && times[i].isAfter(dayStart) && times[i].isBefore(dayEnd)) {
+				atNight[i] = i < 2 ? dayEnd : dayStart;
+			}
+		}
+		return new Window(jewishYear, jewishMonth, jewishCalendar.getMoladAsInstant(), times, atNight);
+	}
+
+	/**
+	 * The times of <em>Kiddush Levana</em> of a Jewish month, returned by {@link KiddushLevanaCalculator#getWindow(int, int)}.
+	 * Each time is available as calculated from the <em>molad</em>, even if it is during the day, and adjusted to the night.
+	 */
+	public static final class Window {
+		/** The Jewish year. */
+		private final int jewishYear;
+
+		/** The Jewish month. */
+		private final int jewishMonth;
+
+		/** The <em>molad</em> of the month. */
+		private final Instant molad;
+
+		/** The times 3 and 7 days after the <em>molad</em>, between the <em>moldos</em> and 15 days after it. */
+		private final Instant[] times;
+
+		/** The times adjusted to the night. */
+		private final Instant[] atNight;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param jewishYear the Jewish year
+		 * @param jewishMonth the Jewish month
+		 * @param molad the <em>molad</em>
+		 * @param times the times 3 and 7 days after the <em>molad</em>, between the <em>moldos</em> and 15 days after it
+		 * @param atNight the times adjusted to the night
+		 */
+		Window(int jewishYear, int jewishMonth, Instant molad, Instant[] times, Instant[] atNight) {
+			this.jewishYear = jewishYear;
+			this.jewishMonth = jewishMonth;
+			this.molad = molad;
+			this.times = times;
+			this.atNight = atNight;
+		}
+
+		/**
+		 * Returns the Jewish year.
+		 *
+		 * @return the Jewish year
+		 */
+		public int getJewishYear() {
+			return jewishYear;
+		}
+
+		/**
+		 * Returns the Jewish month.
+		 *
+		 * @return the Jewish month
+		 */
+		public int getJewishMonth() {
+			return jewishMonth;
+		}
+
+		/**
+		 * Returns the <em>molad</em> of the month.
+		 *
+		 * @return the <em>molad</em>
+		 * @see JewishCalendar#getMoladAsInstant()
+		 */
+		public Instant getMolad() {
+			return molad;
+		}
+
+		/**
+		 * Returns the earliest time of <em>Kiddush Levana</em> according to <em>Rabbeinu Yonah</em>, 3 days after the
+		 * <em>molad</em>, even if it is during the day.
+		 *
+		 * @return the time 3 days after the <em>molad</em>
+		 * @see JewishCalendar#getTchilasZmanKidushLevana3Days()
+		 */
+		public Instant getTchilasZmanKidushLevana3Days() {
+			return times[0];
+		}
+
+		/**
+		 * Returns the earliest time of <em>Kiddush Levana</em> 3 days after the <em>molad</em>, or <em>tzais</em> if it is
+		 * during the day.
+		 *
+		 * @return the time 3 days after the <em>molad</em> adjusted to the night
+		 * @see ComprehensiveZmanimCalendar#getTchilasZmanKidushLevana3Days(Instant, Instant)
+		 */
+		public Instant getTchilasZmanKidushLevana3DaysAtNight() {
+			return atNight[0];
+		}
+
+		/**
+		 * Returns the earliest time of <em>Kiddush Levana</em> according to the opinions that it should not be said until 7
+		 * days after the <em>molad</em>, even if it is during the day.
+		 *
+		 * @return the time 7 days after the <em>molad</em>
+		 * @see JewishCalendar#getTchilasZmanKidushLevana7Days()
+		 */
+		public Instant getTchilasZmanKidushLevana7Days() {
+			return times[1];
+		}
+
+		/**
+		 * Returns the earliest time of <em>Kiddush Levana</em> 7 days after the <em>molad</em>, or <em>tzais</em> if it is
+		 * during the day.
+		 *
+		 * @return the time 7 days after the <em>molad</em> adjusted to the night
+		 * @see ComprehensiveZmanimCalendar#getTchilasZmanKidushLevana7Days(Instant, Instant)
+		 */
+		public Instant getTchilasZmanKidushLevana7DaysAtNight() {
+			return atNight[1];
+		}
+
+		/**
+		 * Returns the latest time of <em>Kiddush Levana</em> according to the Maharil, halfway between <em>molad</em> and
+		 * <em>molad</em>, even if it is during the day.
+		 *
+		 * @return the time halfway between <em>molad</em> and <em>molad</em>
+		 * @see JewishCalendar#getSofZmanKidushLevanaBetweenMoldos()
+		 */
+		public Instant getSofZmanKidushLevanaBetweenMoldos() {
+			return times[2];
+		}
+
+		/**
+		 * Returns the latest time of <em>Kiddush Levana</em> halfway between <em>molad</em> and <em>molad</em>, or
+		 * <em>alos</em> if it is during the day.
+		 *
+		 * @return the time halfway between <em>molad</em> and <em>molad</em> adjusted to the night
+		 * @see ComprehensiveZmanimCalendar#getSofZmanKidushLevanaBetweenMoldos(Instant, Instant)
+		 */
+		public Instant getSofZmanKidushLevanaBetweenMoldosAtNight() {
+			return atNight[2];
+		}
+
+		/**
+		 * Returns the latest time of <em>Kiddush Levana</em> according to the Shulchan Aruch, 15 days after the
+		 * <em>molad</em>, even if it is during the day.
+		 *
+		 * @return the time 15 days after the <em>molad</em>
+		 * @see JewishCalendar#getSofZmanKidushLevana15Days()
+		 */
+		public Instant getSofZmanKidushLevana15Days() {
+			return times[3];
+		}
+
+		/**
+		 * Returns the latest time of <em>Kiddush Levana</em> 15 days after the <em>molad</em>, or <em>alos</em> if it is
+		 * during the day.
+		 *
+		 * @return the time 15 days after the <em>molad</em> adjusted to the night
+		 * @see ComprehensiveZmanimCalendar#getSofZmanKidushLevana15Days(Instant, Instant)
+		 */
+		public Instant getSofZmanKidushLevana15DaysAtNight() {
+			return atNight[3];
+		}
+
+		/**
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "Kiddush Levana " + jewishYear + "/" + jewishMonth + " from " + atNight[0] + " (" + atNight[1] + ") to "
+					+ atNight[2] + " (" + atNight[3] + ")";
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel used by the {@link ZmanimNotificationScheduler}. The lowest level has buckets one tick wide;
+ * each higher level has buckets as wide as the whole level below it, and is created only when an entry is too far in the
+ * future for the existing levels. Adding an entry is O(1). Rather than ticking through every empty bucket, the non-empty
+ * buckets are kept in a {@link PriorityQueue} by expiration, so advancing the wheel (even by days at a time with a
+ * simulated clock) costs O(log n) per non-empty bucket. When a bucket of a higher level expires, its entries are cascaded
+ * into the lower levels. Entries are delivered in order of their tick, but entries within the same tick are in no
+ * particular order.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <E> the type of entry
+ * @author © Eliyahu Hershfeld 2026
+ */
+final class TimingWheel<E extends TimingWheel.Entry> {
+	/**
+	 * An entry in the wheel that expires at a given time.
+	 */
+	abstract static class Entry {
+		/** The time the entry expires, in milliseconds since the epoch. */
+		final long expiration;
+
+		/**
+		 * Constructor.
+		 * @param expiration the time the entry expires, in milliseconds since the epoch.
+		 */
+		Entry(long expiration) {
+			this.expiration = expiration;
+		}
+	}
+
+	/**
+	 * A bucket of entries. The expiration is the start of the tick range it currently holds, or -1 when it is empty and
+	 * not in the queue.
+	 */
+	private static final class Bucket<E> {
+		private final List<E> entries = new ArrayList<>();
+		private long expiration = -1;
+	}
+
+	/**
+	 * A level of the wheel.
+	 */
+	private final class Level {
+		private final long tick;
+		private final long interval;
+		private final Bucket<E>[] buckets;
+		private long currentTime;
+		private Level overflow;
+
+		private Level(long tick, long startTime) {
+			this.tick = tick;
+			this.interval = tick * wheelSize;
+			@SuppressWarnings("unchecked")
+			Bucket<E>[] buckets = (Bucket<E>[]) new Bucket<?>[wheelSize];
+			this.buckets = buckets;
+			for (int i = 0; i < wheelSize; i++) {
+				buckets[i] = new Bucket<>();
+			}
+			this.currentTime = startTime - Math.floorMod(startTime, tick);
+		}
+
+		private boolean add(E entry) {
+			if (entry.expiration < currentTime + tick) {
+				return false;
+			} else if (entry.expiration < currentTime + interval) {
+				long virtualId = Math.floorDiv(entry.expiration, tick);
+				Bucket<E> bucket = buckets[(int) Math.floorMod(virtualId, (long) wheelSize)];
+				bucket.entries.add(entry);
+				long bucketExpiration = virtualId * tick;
+				if (bucket.expiration != bucketExpiration) {
+					bucket.expiration = bucketExpiration;
+					queue.offer(bucket);
+				}
+				return true;
+			} else {
+				if (overflow == null) {
+					overflow = new Level(interval, currentTime);
+				}
+				return overflow.add(entry);
+			}
+		}
+
+		private void advanceClock(long time) {
+			if (time >= currentTime + tick) {
+				currentTime = time - Math.floorMod(time, tick);
+				if (overflow != null) {
+					overflow.advanceClock(currentTime);
+				}
+			}
+		}
+	}
+
+	/** The number of buckets in each level. */
+	private final int wheelSize;
+
+	/** The lowest level. */
+	private final Level lowest;
+
+	/** The non-empty buckets of all levels, by expiration. */
+	private final PriorityQueue<Bucket<E>> queue = new PriorityQueue<>((b1, b2) -> Long.compare(b1.expiration, b2.expiration));
+
+	/** The number of entries in the wheel. */
+	private int size;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param tick the width of a bucket of the lowest level, in milliseconds.
+	 * @param wheelSize the number of buckets in each level.
+	 * @param startTime the current time, in milliseconds since the epoch.
+	 * @throws IllegalArgumentException if the tick or wheel size are not positive.
+	 */
+	TimingWheel(long tick, int wheelSize, long startTime) {
+		if (tick <= 0 || wheelSize <= 0) {
+			throw new IllegalArgumentException("The tick and wheel size must be positive");
+		}
+		this.wheelSize = wheelSize;
+		this.lowest = new Level(tick, startTime);
+	}
+
+	/**
+	 * Adds an entry to the wheel.
+	 *
+	 * @param entry the entry
+	 * @return false if the entry has already expired (it is earlier than the end of the current tick) and was not added, in
+	 *         which case the caller should handle it immediately.
+	 */
+	boolean add(E entry) {
+		boolean added = lowest.add(entry);
+		if (added) {
+			size++;
+		}
+		return added;
+	}
+
+	/**
+	 * Advances the wheel to the given time, passing every entry that expired to the consumer in order of tick. The consumer
+	 * may {@link #add(Entry) add} entries.
+	 *
+	 * @param time the time to advance to, in milliseconds since the epoch.
+	 * @param expired the consumer of the expired entries.
+	 */
+	void advance(long time, Consumer<? super E> expired) {
+		while (!queue.isEmpty() && queue.peek().expiration <= time) {
+			Bucket<E> bucket = queue.poll();
+			lowest.advanceClock(bucket.expiration);
+			List<E> entries = new ArrayList<>(bucket.entries);
+			bucket.entries.clear();
+			bucket.expiration = -1;
+			size -= entries.size();
+			for (E entry : entries) {
+				if (!add(entry)) {
+					expired.accept(entry);
+				}
+			}
+		}
+		lowest.advanceClock(time);
+	}
+
+	/**
+	 * Returns the number of entries in the wheel.
+	 * @return the number of entries.
+	 */
+	int size() {
+		return size;
+	}
+}
@@ -0,0 +1,311 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.kosherjava.zmanim.util.Zman;
+
+/**
+ * A lazy, chronologically ordered stream of <em>zmanim</em> for a single location that crosses day boundaries. This answers
+ * the question "what is the next <em>zman</em>, and the one after that" without having to create calendars for today and
+ * tomorrow, sort them with {@link Zman#DATE_ORDER} and merge them by hand. The <em>zmanim</em> to include are registered
+ * by label with {@link #addZman(String, Function)}, and each event is emitted as a {@link Zman} carrying its label, its
+ * {@link Instant} and the {@link com.kosherjava.zmanim.util.GeoLocation} of the calendar. Days are only calculated as the
+ * consumer advances, so the cost tracks the number of events consumed rather than any fixed window.
+ * <p>
+ * The stream can be consumed as a plain {@link Iterator} (via {@link #iterator()}) for bounded lookahead, or as a
+ * {@link Flow.Publisher} that honors back-pressure: a {@link Flow.Subscriber} only receives as many events as it has
+ * {@link Flow.Subscription#request(long) requested}, and no day is calculated before an event from it is needed. Events are
+ * delivered on the thread that calls {@code request}.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanimCalendar zc = new ZmanimCalendar(location);
+ * ZmanimEventStream&lt;ZmanimCalendar&gt; stream = new ZmanimEventStream&lt;&gt;(zc, Instant.now())
+ *     .addZman("Alos", ZmanimCalendar::getAlos72Minutes)
+ *     .addZman("Sunrise", ZmanimCalendar::getSunrise)
+ *     .addZman("Sof Zman Shma GRA", ZmanimCalendar::getSofZmanShmaGRA)
+ *     .addZman("Sunset", ZmanimCalendar::getSunset);
+ * Iterator&lt;Zman&gt; upcoming = stream.iterator();
+ * Zman next = upcoming.next(); // the next zman, even if it is tomorrow morning
+ * </pre>
+ * <p>
+ * <em>Zmanim</em> that can't be calculated on a given day (for example sunrise in the Arctic winter) and return {@code null}
+ * are simply skipped. Ordering across days relies on the fact that every <em>zman</em> of a given date occurs no earlier than
+ * the start of the previous day, so that a single day of lookahead is enough to guarantee order. If none of the registered
+ * <em>zmanim</em> can be calculated for {@link #MAX_EMPTY_DAYS} consecutive days, the stream is considered exhausted.
+ * <p>
+ * The calendar passed in is cloned, and each iterator or subscription works on its own clone, so a single
+ * {@code ZmanimEventStream} can be shared and consumed concurrently.
+ *
+ * @param <T> the type of calendar used to calculate the <em>zmanim</em>, such as {@link ZmanimCalendar} or
+ *            {@link ComprehensiveZmanimCalendar}.
+ * @author © Eliyahu Hershfeld 2026
+ */
+public class ZmanimEventStream<T extends AstronomicalCalendar> implements Flow.Publisher<Zman>, Iterable<Zman> {
+	/**
+	 * The number of consecutive days without a single calculable <em>zman</em> after which the stream ends. A year covers
+	 * the longest polar night or polar day, so a stream that goes this long without an event will never produce one.
+	 */
+	public static final int MAX_EMPTY_DAYS = 366;
+
+	/** The calendar used as a template for the clones that calculate each day. */
+	private final T calendar;
+
+	/** The <em>Instant</em> from which (inclusive) events are emitted. */
+	private final Instant start;
+
+	/** The <em>zmanim</em> included in the stream, keyed by label in the order they were added. */
+	private final Map<String, Function<? super T, Instant>> zmanim = new LinkedHashMap<>();
+
+	/**
+	 * Constructor for a stream of the <em>zmanim</em> at the location of the calendar, starting at the given {@code Instant}.
+	 * The {@link AstronomicalCalendar#getLocalDate() date} of the calendar is ignored.
+	 *
+	 * @param calendar the calendar used to calculate the <em>zmanim</em>. It is cloned, and later changes to it do not affect
+	 *            this stream.
+	 * @param start the <code>Instant</code> from which events are emitted. <em>Zmanim</em> at exactly this instant are
+	 *            included.
+	 * @throws IllegalArgumentException if either parameter is null.
+	 */
+	@SuppressWarnings("unchecked")
+	public ZmanimEventStream(T calendar, Instant start) {
+		if (calendar == null || start == null) {
+			throw new IllegalArgumentException("The calendar and start Instant can't be null");
+		}
+		this.calendar = (T) calendar.clone();
+		this.start = start;
+	}
+
+	/**
+	 * Adds a <em>zman</em> to the stream. Any method of the calendar that returns an {@code Instant} can be used, typically as
+	 * a method reference such as {@code ZmanimCalendar::getSunset}. Adding a label that was already added replaces it.
+	 *
+	 * @param label the label of the <em>zman</em>, used as the {@link Zman#getLabel() label} of the emitted events.
+	 * @param zman the function calculating the <em>zman</em> for the calendar set to a given date. It may return null if the
+	 *            <em>zman</em> can't be calculated on that date.
+	 * @return this stream, to allow chaining.
+	 * @throws IllegalArgumentException if either parameter is null.
+	 */
+	public ZmanimEventStream<T> addZman(String label, Function<? super T, Instant> zman) {
+		if (label == null || zman == null) {
+			throw new IllegalArgumentException("The label and zman function can't be null");
+		}
+		synchronized (zmanim) {
+			zmanim.put(label, zman);
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the <code>Instant</code> from which events are emitted.
+	 * @return the start <code>Instant</code>.
+	 */
+	public Instant getStart() {
+		return start;
+	}
+
+	/**
+	 * Returns a new iterator over the events of this stream in chronological order, starting at {@link #getStart()}. The
+	 * iterator calculates a day only when needed to determine the next event. It reflects the <em>zmanim</em> added up to the
+	 * time it was created.
+	 *
+	 * @return a new iterator of the events of this stream. It is not thread safe, but separate iterators are independent.
+	 */
+	@Override
+	public Iterator<Zman> iterator() {
+		return new EventIterator();
+	}
+
+	/**
+	 * Subscribes a {@link Flow.Subscriber} to this stream. Each subscriber receives its own independent sequence of events
+	 * beginning at {@link #getStart()}. Events are delivered synchronously on the thread calling
+	 * {@link Flow.Subscription#request(long)}, and only up to the requested demand. If the stream is exhausted,
+	 * {@link Flow.Subscriber#onComplete()} is called, and any exception thrown while calculating is passed to
+	 * {@link Flow.Subscriber#onError(Throwable)}.
+	 *
+	 * @param subscriber the subscriber
+	 * @throws NullPointerException if the subscriber is null, as required by the {@link Flow} specification.
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super Zman> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("The subscriber can't be null");
+		}
+		EventSubscription subscription = new EventSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * A pending event. The sequence number keeps events with the same <code>Instant</code> in the order the <em>zmanim</em>
+	 * were added.
+	 */
+	private static final class Event implements Comparable<Event> {
+		private final Zman zman;
+		private final long sequence;
+
+		private Event(Zman zman, long sequence) {
+			this.zman = zman;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public int compareTo(Event other) {
+			int result = zman.getZman().compareTo(other.zman.getZman());
+			return result != 0 ? result : Long.compare(sequence, other.sequence);
+		}
+	}
+
+	/**
+	 * The lazy iterator. It keeps a queue of calculated events and calculates the following day only once the earliest queued
+	 * event is not guaranteed to precede every event of the days not yet calculated.
+	 */
+	private final class EventIterator implements Iterator<Zman> {
+		private final T dayCalendar;
+		private final ZoneId zoneId;
+		private final Map<String, Function<? super T, Instant>> zmanimSnapshot;
+		private final PriorityQueue<Event> queue = new PriorityQueue<>();
+		/** The last day calculated. */
+		private LocalDate lastDate;
+		private long sequence;
+		private int emptyDays;
+
+		@SuppressWarnings("unchecked")
+		private EventIterator() {
+			dayCalendar = (T) calendar.clone();
+			zoneId = dayCalendar.getGeoLocation().getZoneId();
+			synchronized (zmanim) {
+				zmanimSnapshot = new LinkedHashMap<>(zmanim);
+			}
+			// zmanim of the day before the start date (such as chatzos halayla) may still be after the start
+			lastDate = start.atZone(zoneId).toLocalDate().minusDays(2);
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (zmanimSnapshot.isEmpty()) {
+				return false;
+			}
+			// every zman of a date after lastDate occurs no earlier than the start of lastDate
+			while ((queue.isEmpty() || !queue.peek().zman.getZman().isBefore(lastDate.atStartOfDay(zoneId).toInstant()))
+					&& emptyDays < MAX_EMPTY_DAYS) {
+				calculateNextDay();
+			}
+			return !queue.isEmpty();
+		}
+
+		@Override
+		public Zman next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return queue.poll().zman;
+		}
+
+		private void calculateNextDay() {
+			lastDate = lastDate.plusDays(1);
+			dayCalendar.setLocalDate(lastDate);
+			boolean found = false;
+			for (Map.Entry<String, Function<? super T, Instant>> entry : zmanimSnapshot.entrySet()) {
+				Instant instant = entry.getValue().apply(dayCalendar);
+				if (instant != null) {
+					found = true;
+					if (!instant.isBefore(start)) {
+						queue.add(new Event(new Zman(instant, dayCalendar.getGeoLocation(), entry.getKey()), sequence++));
+					}
+				}
+			}
+			emptyDays = found ? 0 : emptyDays + 1;
+		}
+	}
+
+	/**
+	 * A subscription that drains the iterator up to the outstanding demand. The demand counter doubles as the guard against
+	 * re-entrant or concurrent delivery: only the caller that raises it from zero delivers events.
+	 */
+	private final class EventSubscription implements Flow.Subscription {
+		private final Flow.Subscriber<? super Zman> subscriber;
+		private final Iterator<Zman> events = iterator();
+		private final AtomicLong demand = new AtomicLong();
+		private volatile boolean cancelled;
+
+		private EventSubscription(Flow.Subscriber<? super Zman> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (cancelled) {
+				return;
+			}
+			if (n <= 0) {
+				cancelled = true;
+				subscriber.onError(new IllegalArgumentException("The number of requested events must be positive: " + n));
+				return;
+			}
+			long previous;
+			long updated;
+			do {
+				previous = demand.get();
+				updated = previous + n < 0 ? Long.MAX_VALUE : previous + n; // cap overflow as unbounded
+			} while (!demand.compareAndSet(previous, updated));
+			if (previous == 0) {
+				drain(updated);
+			}
+		}
+
+		private void drain(long requested) {
+			while (true) {
+				long emitted = 0;
+				try {
+					while (emitted < requested && !cancelled) {
+						if (!events.hasNext()) {
+							cancelled = true;
+							subscriber.onComplete();
+							return;
+						}
+						subscriber.onNext(events.next());
+						emitted++;
+					}
+				} catch (RuntimeException e) {
+					cancelled = true;
+					subscriber.onError(e);
+					return;
+				}
+				if (cancelled) {
+					return;
+				}
+				requested = demand.addAndGet(-emitted);
+				if (requested == 0) {
+					return;
+				}
+			}
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+	}
+}
@@ -0,0 +1,542 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.Zman;
+
+/**
+ * A reminder engine for large numbers of subscriptions of the form (location, <em>zman</em>, lead time), such as "notify me
+ * 15 minutes before <em>sof zman krias shema</em> in Lakewood". Subscribers are grouped by location, quantized to a grid of
+ * {@link #getLocationPrecision()} degrees in the same time zone, and within a group by <em>zman</em> and lead time. Each
+ * group's <em>zmanim</em> are calculated once per day, a day ahead, using a clone of the calendar passed to the constructor,
+ * and the resulting fire times are placed in a hierarchical timing wheel. The calculation cost therefore scales with the
+ * number of distinct locations rather than the number of subscribers, and the memory used per subscription is a single
+ * {@link Subscription} object.
+ * <p>
+ * The scheduler does not create any threads. It is driven by calling {@link #advance()}, which reads the {@link Clock}
+ * passed to the constructor and dispatches every notification that came due to the {@link Executor}. In production this is
+ * typically done once a second:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanimNotificationScheduler&lt;ZmanimCalendar&gt; scheduler = new ZmanimNotificationScheduler&lt;&gt;(new ZmanimCalendar(),
+ *     Clock.systemUTC(), executor);
+ * scheduler.registerZman("Sof Zman Shma GRA", ZmanimCalendar::getSofZmanShmaGRA);
+ * scheduler.subscribe(location, "Sof Zman Shma GRA", Duration.ofMinutes(15), zman -&gt; push(user, zman));
+ * scheduledExecutorService.scheduleAtFixedRate(scheduler::advance, 0, 1, TimeUnit.SECONDS);
+ * </pre>
+ * while tests can pass a simulated clock and advance it by hours or days at a time. Notifications that come due during a
+ * single call to {@link #advance()} are dispatched in chronological order (to the resolution of a second), and a large jump
+ * of the clock dispatches exactly what advancing it in small steps would have.
+ * <p>
+ * The listener receives a {@link Zman} with the label, the time of the <em>zman</em> itself (not the time of the
+ * notification) and the quantized {@link GeoLocation} of the group. The same <code>Zman</code> instance is passed to all the
+ * subscribers of a group, <em>zman</em> and lead time, and should not be modified. <em>Zmanim</em> that can't be calculated
+ * on a given day, such as in the Arctic Circle, are skipped. A notification whose time was already past when the day was
+ * calculated, such as today's earlier <em>zmanim</em> of a new subscription, is not sent.
+ * <p>
+ * All the methods of this class are thread safe.
+ *
+ * @param <T> the type of calendar used to calculate the <em>zmanim</em>.
+ * @author © Eliyahu Hershfeld 2026
+ */
+public class ZmanimNotificationScheduler<T extends ZmanimCalendar> {
+	/** The default precision that locations are quantized to, in degrees. This is roughly a kilometer. */
+	public static final double DEFAULT_LOCATION_PRECISION = 0.01;
+
+	/** The maximum lead time of a subscription. Longer lead times would precede the day ahead calculation. */
+	public static final Duration MAX_LEAD_TIME = Duration.ofHours(12);
+
+	/** The width of a bucket of the lowest level of the timing wheel, in milliseconds. */
+	private static final long TICK_MILLIS = 1000;
+
+	/** The number of buckets in each level of the timing wheel. */
+	private static final int WHEEL_SIZE = 64;
+
+	/** The calendar used as a template for the calendar of each group. */
+	private final T calendar;
+
+	/** The clock. */
+	private final Clock clock;
+
+	/** The executor that notifications are dispatched to. */
+	private final Executor executor;
+
+	/** The precision that locations are quantized to, in degrees. */
+	private final double locationPrecision;
+
+	/** The registered <em>zmanim</em>, keyed by label. */
+	private final Map<String, Function<? super T, Instant>> zmanim = new LinkedHashMap<>();
+
+	/** The location groups. */
+	private final Map<GroupKey, Group> groups = new HashMap<>();
+
+	/** The timing wheel holding the pending notifications and daily calculations. */
+	private final TimingWheel<Task> wheel;
+
+	/** The number of active subscriptions. */
+	private int subscriptionCount;
+
+	/**
+	 * Constructor using the {@link #DEFAULT_LOCATION_PRECISION default location precision}.
+	 *
+	 * @param calendar the calendar whose settings (such as the {@link ZmanimCalendar#isUseElevation() elevation setting} and
+	 *            the {@link AstronomicalCalendar#getAstronomicalCalculator() calculator}) are used for the calculations. Its
+	 *            location and date are ignored.
+	 * @param clock the clock used by {@link #advance()} and to determine the current day of new subscriptions.
+	 * @param executor the executor that notifications are dispatched to.
+	 */
+	public ZmanimNotificationScheduler(T calendar, Clock clock, Executor executor) {
+		this(calendar, clock, executor, DEFAULT_LOCATION_PRECISION);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param calendar the calendar whose settings are used for the calculations. Its location and date are ignored.
+	 * @param clock the clock used by {@link #advance()} and to determine the current day of new subscriptions.
+	 * @param executor the executor that notifications are dispatched to.
+	 * @param locationPrecision the precision in degrees that the latitude and longitude of subscriptions are rounded to in
+	 *            order to group them. A value of 0.01 is roughly a kilometer, and changes the <em>zmanim</em> by a few
+	 *            seconds.
+	 * @throws IllegalArgumentException if any of the objects is null or the precision is not positive.
+	 */
+	@SuppressWarnings("unchecked")
+	public ZmanimNotificationScheduler(T calendar, Clock clock, Executor executor, double locationPrecision) {
+		if (calendar == null || clock == null || executor == null) {
+			throw new IllegalArgumentException("The calendar, clock and executor can't be null");
+		}
+		if (!(locationPrecision > 0)) {
+			throw new IllegalArgumentException("The location precision must be positive");
+		}
+		this.calendar = (T) calendar.clone();
+		this.clock = clock;
+		this.executor = executor;
+		this.locationPrecision = locationPrecision;
+		this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, clock.millis());
+	}
+
+	/**
+	 * Returns the precision that the locations of subscriptions are quantized to.
+	 * @return the precision in degrees.
+	 */
+	public double getLocationPrecision() {
+		return locationPrecision;
+	}
+
+	/**
+	 * Registers a <em>zman</em> that can be subscribed to. Registering a label that is already registered replaces it for
+	 * days that have not been calculated yet.
+	 *
+	 * @param label the label of the <em>zman</em> used in {@link #subscribe(GeoLocation, String, Duration, Consumer)}.
+	 * @param zman the function calculating the <em>zman</em> for the calendar set to a given date and location, typically a
+	 *            method reference such as {@code ZmanimCalendar::getSunset}.
+	 * @throws IllegalArgumentException if either parameter is null.
+	 */
+	public synchronized void registerZman(String label, Function<? super T, Instant> zman) {
+		if (label == null || zman == null) {
+			throw new IllegalArgumentException("The label and zman function can't be null");
+		}
+		zmanim.put(label, zman);
+	}
+
+	/**
+	 * Subscribes to notifications of a <em>zman</em> at a location. The first notification is the next one for today or
+	 * tomorrow (in the time zone of the location) that is not already past.
+	 *
+	 * @param location the location. It is grouped with other subscriptions in the same time zone whose latitude and
+	 *            longitude round to the same values.
+	 * @param label the label of a {@link #registerZman(String, Function) registered} <em>zman</em>.
+	 * @param leadTime how long before the <em>zman</em> to notify. It must not be negative or more than
+	 *            {@link #MAX_LEAD_TIME}.
+	 * @param listener the listener called on the executor with the <em>zman</em>.
+	 * @return the subscription, that can be used to {@link Subscription#cancel() cancel} it.
+	 * @throws IllegalArgumentException if any parameter is null, the <em>zman</em> is not registered or the lead time is out
+	 *             of range.
+	 */
+	public synchronized Subscription subscribe(GeoLocation location, String label, Duration leadTime,
+			Consumer<? super Zman> listener) {
+		if (location == null || label == null || leadTime == null || listener == null) {
+			throw new IllegalArgumentException("The location, label, lead time and listener can't be null");
+		}
+		if (!zmanim.containsKey(label)) {
+			throw new IllegalArgumentException("The zman " + label + " is not registered");
+		}
+		if (leadTime.isNegative() || leadTime.compareTo(MAX_LEAD_TIME) > 0) {
+			throw new IllegalArgumentException("The lead time must be between 0 and " + MAX_LEAD_TIME);
+		}
+		long now = clock.millis();
+		GroupKey key = new GroupKey(Math.round(location.getLatitude() / locationPrecision),
+				Math.round(location.getLongitude() / locationPrecision), location.getZoneId());
+		Group group = groups.get(key);
+		boolean newGroup = group == null;
+		if (newGroup) {
+			group = new Group(key, location.getElevation());
+			groups.put(key, group);
+		}
+		TriggerKey triggerKey = new TriggerKey(label, leadTime);
+		Trigger trigger = group.triggers.get(triggerKey);
+		boolean newTrigger = trigger == null;
+		if (newTrigger) {
+			trigger = new Trigger(group, label, leadTime);
+			group.triggers.put(triggerKey, trigger);
+		}
+		Subscription subscription = new Subscription(trigger, listener);
+		subscription.index = trigger.subscriptions.size();
+		trigger.subscriptions.add(subscription);
+		subscriptionCount++;
+
+		ArrayDeque<Task> expired = new ArrayDeque<>();
+		if (newGroup) {
+			LocalDate today = Instant.ofEpochMilli(now).atZone(key.zoneId).toLocalDate();
+			schedule(group, today, List.of(trigger), now, expired);
+			group.calculatedThrough = today;
+			schedule(new PlanTask(today.atStartOfDay(key.zoneId).toInstant().toEpochMilli(), group), expired);
+		} else if (newTrigger) {
+			LocalDate today = Instant.ofEpochMilli(now).atZone(key.zoneId).toLocalDate();
+			for (LocalDate date = today; !date.isAfter(group.calculatedThrough); date = date.plusDays(1)) {
+				schedule(group, date, List.of(trigger), now, expired);
+			}
+		}
+		List<Runnable> notifications = new ArrayList<>();
+		run(expired, notifications);
+		dispatch(notifications);
+		return subscription;
+	}
+
+	/**
+	 * Advances the scheduler to the current time of the clock, calculating the days ahead that are due and dispatching every
+	 * notification whose time has come to the executor.
+	 */
+	public void advance() {
+		List<Runnable> notifications = new ArrayList<>();
+		synchronized (this) {
+			ArrayDeque<Task> expired = new ArrayDeque<>();
+			// tasks run as they expire so that a daily calculation places its notifications before later buckets are reached
+			wheel.advance(clock.millis(), task -> {
+				expired.add(task);
+				run(expired, notifications);
+			});
+		}
+		dispatch(notifications);
+	}
+
+	/**
+	 * Returns the number of location groups.
+	 * @return the number of location groups.
+	 */
+	public synchronized int getGroupCount() {
+		return groups.size();
+	}
+
+	/**
+	 * Returns the number of active subscriptions.
+	 * @return the number of active subscriptions.
+	 */
+	public synchronized int getSubscriptionCount() {
+		return subscriptionCount;
+	}
+
+	/**
+	 * Returns the number of notifications and daily calculations pending in the timing wheel.
+	 * @return the number of pending tasks.
+	 */
+	public synchronized int getPendingCount() {
+		return wheel.size();
+	}
+
+	/**
+	 * Runs the expired tasks, including tasks that expire as a result of running them, adding their notifications to the
+	 * list.
+	 */
+	private void run(ArrayDeque<Task> expired, List<Runnable> notifications) {
+		while (!expired.isEmpty()) {
+			expired.poll().run(expired, notifications);
+		}
+	}
+
+	/**
+	 * Calculates the <em>zmanim</em> of the triggers for the date and schedules their notifications that are not earlier than
+	 * the given time. Each <em>zman</em> is calculated once no matter how many lead times it has.
+	 */
+	private void schedule(Group group, LocalDate date, Iterable<Trigger> triggers, long notBefore, ArrayDeque<Task> expired) {
+		group.calendar.setLocalDate(date);
+		Map<String, Zman> calculated = new HashMap<>();
+		for (Trigger trigger : triggers) {
+			Zman zman = calculated.computeIfAbsent(trigger.label, label -> {
+				Instant instant = zmanim.get(label).apply(group.calendar);
+				return instant == null ? null : new Zman(instant, group.calendar.getGeoLocation(), label);
+			});
+			if (zman != null) {
+				long fireTime = zman.getZman().minus(trigger.leadTime).toEpochMilli();
+				if (fireTime >= notBefore) {
+					schedule(new FireTask(fireTime, trigger, zman), expired);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a task to the wheel, or to the expired tasks if it is already due.
+	 */
+	private void schedule(Task task, ArrayDeque<Task> expired) {
+		if (!wheel.add(task)) {
+			expired.add(task);
+		}
+	}
+
+	/**
+	 * Dispatches the notifications to the executor.
+	 */
+	private void dispatch(List<Runnable> notifications) {
+		for (Runnable notification : notifications) {
+			executor.execute(notification);
+		}
+	}
+
+	/**
+	 * Cancels a subscription, removing its group and trigger when they have no more subscriptions.
+	 */
+	private synchronized void cancel(Subscription subscription) {
+		Trigger trigger = subscription.trigger;
+		if (subscription.index < 0) {
+			return;
+		}
+		List<Subscription> subscriptions = trigger.subscriptions;
+		Subscription last = subscriptions.remove(subscriptions.size() - 1);
+		if (last != subscription) {
+			subscriptions.set(subscription.index, last);
+			last.index = subscription.index;
+		}
+		subscription.index = -1;
+		subscriptionCount--;
+		if (subscriptions.isEmpty()) {
+			Group group = trigger.group;
+			group.triggers.remove(new TriggerKey(trigger.label, trigger.leadTime));
+			if (group.triggers.isEmpty()) {
+				group.cancelled = true;
+				groups.remove(group.key);
+			}
+		}
+	}
+
+	/**
+	 * A subscription to a <em>zman</em> at a location with a lead time.
+	 */
+	public final class Subscription {
+		private final Trigger trigger;
+		private final Consumer<? super Zman> listener;
+		/** The index in the subscriptions of the trigger, or -1 once cancelled. */
+		private int index;
+
+		private Subscription(Trigger trigger, Consumer<? super Zman> listener) {
+			this.trigger = trigger;
+			this.listener = listener;
+		}
+
+		/**
+		 * Returns the label of the <em>zman</em> subscribed to.
+		 * @return the label.
+		 */
+		public String getLabel() {
+			return trigger.label;
+		}
+
+		/**
+		 * Returns the lead time of the subscription.
+		 * @return the lead time.
+		 */
+		public Duration getLeadTime() {
+			return trigger.leadTime;
+		}
+
+		/**
+		 * Returns the quantized location that the <em>zmanim</em> of this subscription are calculated for.
+		 * @return the location.
+		 */
+		public GeoLocation getGeoLocation() {
+			return (GeoLocation) trigger.group.calendar.getGeoLocation().clone();
+		}
+
+		/**
+		 * Cancels the subscription. No further notifications are dispatched to it, though one that was already dispatched to
+		 * the executor may still run. Cancelling more than once has no effect.
+		 */
+		public void cancel() {
+			ZmanimNotificationScheduler.this.cancel(this);
+		}
+	}
+
+	/** The key of a location group. */
+	private static final class GroupKey {
+		private final long latitudeIndex;
+		private final long longitudeIndex;
+		private final ZoneId zoneId;
+
+		private GroupKey(long latitudeIndex, long longitudeIndex, ZoneId zoneId) {
+			this.latitudeIndex = latitudeIndex;
+			this.longitudeIndex = longitudeIndex;
+			this.zoneId = zoneId;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof GroupKey)) {
+				return false;
+			}
+			GroupKey key = (GroupKey) object;
+			return latitudeIndex == key.latitudeIndex && longitudeIndex == key.longitudeIndex && zoneId.equals(key.zoneId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(latitudeIndex, longitudeIndex, zoneId);
+		}
+	}
+
+	/** A location group with its own calendar. */
+	private final class Group {
+		private final GroupKey key;
+		private final T calendar;
+		private final Map<TriggerKey, Trigger> triggers = new LinkedHashMap<>();
+		/** The last date whose notifications were scheduled. */
+		private LocalDate calculatedThrough;
+		private boolean cancelled;
+
+		@SuppressWarnings("unchecked")
+		private Group(GroupKey key, double elevation) {
+			this.key = key;
+			double latitude = key.latitudeIndex * locationPrecision;
+			double longitude = key.longitudeIndex * locationPrecision;
+			this.calendar = (T) ZmanimNotificationScheduler.this.calendar.clone();
+			this.calendar.setGeoLocation(new GeoLocation(latitude + ", " + longitude, latitude, longitude, elevation,
+					key.zoneId));
+		}
+	}
+
+	/** The key of a trigger within a group. */
+	private static final class TriggerKey {
+		private final String label;
+		private final Duration leadTime;
+
+		private TriggerKey(String label, Duration leadTime) {
+			this.label = label;
+			this.leadTime = leadTime;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof TriggerKey)) {
+				return false;
+			}
+			TriggerKey key = (TriggerKey) object;
+			return label.equals(key.label) && leadTime.equals(key.leadTime);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(label, leadTime);
+		}
+	}
+
+	/** The subscriptions of a group to a <em>zman</em> with the same lead time. */
+	private final class Trigger {
+		private final Group group;
+		private final String label;
+		private final Duration leadTime;
+		private final List<Subscription> subscriptions = new ArrayList<>();
+
+		private Trigger(Group group, String label, Duration leadTime) {
+			this.group = group;
+			this.label = label;
+			this.leadTime = leadTime;
+		}
+	}
+
+	/** A task in the timing wheel. */
+	private abstract class Task extends TimingWheel.Entry {
+		private Task(long expiration) {
+			super(expiration);
+		}
+
+		/**
+		 * Runs the expired task, adding any tasks that are due as a result to the expired tasks, and any notifications to be
+		 * dispatched to the list of notifications.
+		 */
+		abstract void run(ArrayDeque<Task> expired, List<Runnable> notifications);
+	}
+
+	/** The daily task that calculates the notifications of a group a day ahead. */
+	private final class PlanTask extends Task {
+		private final Group group;
+
+		private PlanTask(long expiration, Group group) {
+			super(expiration);
+			this.group = group;
+		}
+
+		@Override
+		void run(ArrayDeque<Task> expired, List<Runnable> notifications) {
+			if (!group.cancelled) {
+				// this runs at the start of calculatedThrough, so calculate the day after it
+				LocalDate date = group.calculatedThrough.plusDays(1);
+				schedule(group, date, group.triggers.values(), expiration, expired);
+				group.calculatedThrough = date;
+				schedule(new PlanTask(date.atStartOfDay(group.key.zoneId).toInstant().toEpochMilli(), group), expired);
+			}
+		}
+	}
+
+	/** The notification of the subscribers of a trigger. */
+	private final class FireTask extends Task {
+		private final Trigger trigger;
+		private final Zman zman;
+
+		private FireTask(long expiration, Trigger trigger, Zman zman) {
+			super(expiration);
+			this.trigger = trigger;
+			this.zman = zman;
+		}
+
+		@Override
+		void run(ArrayDeque<Task> expired, List<Runnable> notifications) {
+			for (Subscription subscription : trigger.subscriptions) {
+				Consumer<? super Zman> listener = subscription.listener;
+				notifications.add(() -> listener.accept(zman));
+			}
+		}
+	}
+}
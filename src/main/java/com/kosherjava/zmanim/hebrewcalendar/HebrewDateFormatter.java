@@ -14,8 +14,10 @@
  */
 package com.kosherjava.zmanim.hebrewcalendar;
 
+import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 import java.util.EnumMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The HebrewDateFormatter class formats a {@link JewishDate}. The class formats Jewish dates, numbers, <em>Daf Yomi</em>
@@ -29,6 +31,10 @@ import java.util.EnumMap;
  * <li>כ״א שבט תש״פ or כ״א שבט תש״ף</li>
  * <li>כ׳ שבט ו׳ אלפים</li>
  * </ul>
+ * Hebrew numbers are looked up in tables of every number from 0 to 9999, built once for each combination of the
+ * {@link #isUseGershGershayim() geresh and gershayim}, {@link #isUseFinalFormLetters() final form letter} and
+ * {@link #isUseLongHebrewYears() long year} settings and shared by all formatters. The settings are stored in volatile fields
+ * and the formatter has no other mutable state, so a configured formatter can be shared between threads.
  * 
  * @see JewishDate
  * @see JewishCalendar
@@ -39,32 +45,32 @@ public class HebrewDateFormatter {
 	/**
 	 * See {@link #isHebrewFormat()} and {@link #setHebrewFormat(boolean)}.
 	 */
-	private boolean hebrewFormat = false;
+	private volatile boolean hebrewFormat = false;
 	
 	/**
 	 * See {@link #isUseLongHebrewYears()} and {@link #setUseLongHebrewYears(boolean)}.
 	 */
-	private boolean useLonghebrewYears = false;
+	private volatile boolean useLonghebrewYears = false;
 	
 	/**
 	 * See {@link #isUseGershGershayim()} and {@link #setUseGershGershayim(boolean)}.
 	 */
-	private boolean useGershGershayim = true;
+	private volatile boolean useGershGershayim = true;
 	
 	/**
 	 * See {@link #isLongWeekFormat()} and {@link #setLongWeekFormat(boolean)}.
 	 */
-	private boolean longWeekFormat = true;
+	private volatile boolean longWeekFormat = true;
 	
 	/**
 	 * See {@link #isUseFinalFormLetters()} and {@link #setUseFinalFormLetters(boolean)}.
 	 */
-	private boolean useFinalFormLetters = false;
+	private volatile boolean useFinalFormLetters = false;
 	
 	/**
 	 * The internal DateFormat. See {@link #isLongWeekFormat()} and {@link #setLongWeekFormat(boolean)}.
 	 */
-	private DateTimeFormatter weekFormat;
+	private volatile DateTimeFormatter weekFormat;
 	
 	/**
 	 * List of transliterated parshiyos using the default <em>Ashkenazi</em> pronunciation. For information on the format, see
@@ -74,7 +80,7 @@ public class HebrewDateFormatter {
 	 * @see #setTransliteratedParshiosList(EnumMap)
 	 * @see #HebrewDateFormatter() where the map is initially set.
 	 */
-	private EnumMap<JewishCalendar.Parsha, String> transliteratedParshaMap;
+	private volatile EnumMap<JewishCalendar.Parsha, String> transliteratedParshaMap;
 	
 	/**
 	 * An {@link EnumMap} of Hebrew <em>parshiyos</em>. The list includes double and special <em>parshiyos</em> and contains<br>
@@ -282,7 +288,7 @@ public class HebrewDateFormatter {
 	 * @see #getTransliteratedMonthList()
 	 * @see #setTransliteratedMonthList(String[])
 	 */
-	private String[] transliteratedMonths = { "Nissan", "Iyar", "Sivan", "Tammuz", "Av", "Elul", "Tishrei", "Cheshvan",
+	private volatile String[] transliteratedMonths = { "Nissan", "Iyar", "Sivan", "Tammuz", "Av", "Elul", "Tishrei", "Cheshvan",
 			"Kislev", "Teves", "Shevat", "Adar", "Adar II", "Adar I" };
 	
 	/**
@@ -290,14 +296,14 @@ public class HebrewDateFormatter {
 	 * @see #getHebrewOmerPrefix()
 	 * @see #setHebrewOmerPrefix(String)
 	 */
-	private String hebrewOmerPrefix = "ב";
+	private volatile String hebrewOmerPrefix = "ב";
 
 	/**
 	 * The default value for formatting "Shabbos" (Saturday) when transliterated.
 	 * @see #getTransliteratedShabbosDayOfWeek()
 	 * @see #setTransliteratedShabbosDayOfWeek(String)
 	 */
-	private String transliteratedShabbosDayOfWeek = "Shabbos";
+	private volatile String transliteratedShabbosDayOfWeek = "Shabbos";
 
 	/**
 	 * Returns the day of Shabbos transliterated into Latin chars. The default uses Ashkenazi pronunciation "Shabbos". This can be
@@ -326,7 +332,7 @@ public class HebrewDateFormatter {
 	/**
 	 * See {@link #getTransliteratedHolidayList()} and {@link #setTransliteratedHolidayList(String[])}.
 	 */
-	private String[] transliteratedHolidays = {"Erev Pesach", "Pesach", "Chol Hamoed Pesach", "Pesach Sheni",
+	private volatile String[] transliteratedHolidays = {"Erev Pesach", "Pesach", "Chol Hamoed Pesach", "Pesach Sheni",
 			"Erev Shavuos", "Shavuos", "Seventeenth of Tammuz", "Tishah B'Av", "Tu B'Av", "Erev Rosh Hashana",
 			"Rosh Hashana", "Fast of Gedalyah", "Erev Yom Kippur", "Yom Kippur", "Erev Succos", "Succos",
 			"Chol Hamoed Succos", "Hoshana Rabbah", "Shemini Atzeres", "Simchas Torah", "Erev Chanukah", "Chanukah",
@@ -576,7 +582,7 @@ public class HebrewDateFormatter {
 	 * @see #setHebrewMonthList(String[])
 	 * @see #formatMonth(JewishDate)
 	 */
-	private String[] hebrewMonths = { "ניסן", "אייר",
+	private volatile String[] hebrewMonths = { "ניסן", "אייר",
 			"סיון", "תמוז", "אב", "אלול",
 			"תשרי", "חשון", "כסלו",
 			"טבת", "שבט", "אדר", "אדר ב",
@@ -702,6 +708,38 @@ public class HebrewDateFormatter {
 		}
 	}
 
+	/**
+	 * Appends the formatted Jewish date to an {@code Appendable}. This produces the same text as {@link #format(JewishDate)}
+	 * and is intended for output such as a month grid, where the day and year numerals are appended from the cached tables of
+	 * formatted numbers without creating intermediate <code>String</code>s.
+	 * 
+	 * @param jewishDate the JewishDate to be formatted
+	 * @param out the {@code Appendable} the date is appended to.
+	 * @throws IOException if appending fails.
+	 * @see #format(JewishDate)
+	 */
+	public void format(JewishDate jewishDate, Appendable out) throws IOException {
+		if (isHebrewFormat()) {
+			formatHebrewNumber(jewishDate.getJewishDayOfMonth(), out);
+			out.append(' ').append(formatMonth(jewishDate)).append(' ');
+			formatHebrewNumber(jewishDate.getJewishYear(), out);
+		} else {
+			appendNumber(jewishDate.getJewishDayOfMonth(), out);
+			out.append(' ').append(formatMonth(jewishDate)).append(", ");
+			appendNumber(jewishDate.getJewishYear(), out);
+		}
+	}
+
+	/**
+	 * Appends a non-negative number in decimal digits.
+	 */
+	private static void appendNumber(int number, Appendable out) throws IOException {
+		if (number >= 10) {
+			appendNumber(number / 10, out);
+		}
+		out.append((char) ('0' + number % 10));
+	}
+
 	/**
 	 * Returns a string of the current Hebrew month formatted as "אדר ב׳" or "Adar II" depending on how {@link #isHebrewFormat()}
 	 * is set.
@@ -760,6 +798,31 @@ public class HebrewDateFormatter {
 		}
 	}
 
+	/**
+	 * Appends the formatted Omer day to an {@code Appendable}. This produces the same text as {@link
+	 * #formatOmer(JewishCalendar)}, and nothing is appended if there is no Omer this day.
+	 * 
+	 * @param jewishCalendar the JewishCalendar to be formatted
+	 * @param out the {@code Appendable} the Omer day is appended to.
+	 * @throws IOException if appending fails.
+	 * @see #formatOmer(JewishCalendar)
+	 */
+	public void formatOmer(JewishCalendar jewishCalendar, Appendable out) throws IOException {
+		int omer = jewishCalendar.getDayOfOmer();
+		if (omer == -1) {
+			return;
+		}
+		if (hebrewFormat) {
+			formatHebrewNumber(omer, out);
+			out.append(' ').append(hebrewOmerPrefix).append("עומר");
+		} else if (omer == 33) { // if Lag B'Omer
+			out.append(transliteratedHolidays[33]);
+		} else {
+			out.append("Omer ");
+			appendNumber(omer, out);
+		}
+	}
+
 	/**
 	 * Returns the kviah in the traditional 3 letter Hebrew format where the first letter represents the day of week of Rosh Hashana,
 	 * the second letter represents the lengths of Cheshvan and Kislev ({@link JewishDate#SHELAIMIM Shelaimim} , {@link
@@ -850,76 +913,138 @@ public class HebrewDateFormatter {
 		} else if (number > 9999) {
 			throw new IllegalArgumentException("numbers > 9999 can't be formatted");
 		}
+		return getHebrewNumerals(useGershGershayim, useFinalFormLetters, useLonghebrewYears)[number];
+	}
+
+	/**
+	 * Appends a Hebrew formatted number to an {@code Appendable}. This produces the same text as
+	 * {@link #formatHebrewNumber(int)} without creating a <code>String</code>.
+	 *
+	 * @param number the number to be formatted. It will throw an IllegalArgumentException if the number is &lt; 0 or &gt; 9999.
+	 * @param out the {@code Appendable} the number is appended to.
+	 * @throws IOException if appending fails.
+	 * @see #formatHebrewNumber(int)
+	 */
+	public void formatHebrewNumber(int number, Appendable out) throws IOException {
+		out.append(formatHebrewNumber(number));
+	}
+
+	/**
+	 * The tables of the Hebrew formatted numbers from 0 to 9999 for each combination of the {@link #isUseGershGershayim()},
+	 * {@link #isUseFinalFormLetters()} and {@link #isUseLongHebrewYears()} settings, built the first time a combination is
+	 * used. The tables are never modified once built, so they are shared by all formatters and threads.
+	 */
+	private static final AtomicReferenceArray<String[]> HEBREW_NUMERALS = new AtomicReferenceArray<>(8);
+
+	/**
+	 * Returns the table of Hebrew formatted numbers from 0 to 9999 for a combination of settings, building it if needed.
+	 */
+	private static String[] getHebrewNumerals(boolean useGershGershayim, boolean useFinalFormLetters,
+			boolean useLongHebrewYears) {
+		int key = (useGershGershayim ? 1 : 0) | (useFinalFormLetters ? 2 : 0) | (useLongHebrewYears ? 4 : 0);
+		String[] numerals = HEBREW_NUMERALS.get(key);
+		if (numerals == null) {
+			numerals = new String[10000];
+			StringBuilder sb = new StringBuilder(16);
+			for (int number = 0; number < numerals.length; number++) {
+				sb.setLength(0);
+				buildHebrewNumber(number, useGershGershayim, useFinalFormLetters, useLongHebrewYears, sb);
+				numerals[number] = sb.toString();
+			}
+			// if two threads build the same table at once, both are equal and the first one stored is kept
+			if (!HEBREW_NUMERALS.compareAndSet(key, null, numerals)) {
+				numerals = HEBREW_NUMERALS.get(key);
+			}
+		}
+		return numerals;
+	}
+
+	/** The Hebrew word for thousands, used for numbers such as 6000. */
+	private static final String ALAFIM = "אלפים";
+
+	/** The Hebrew word for zero. */
+	private static final String EFES = "אפס";
 
-		String ALAFIM = "אלפים";
-		String EFES = "אפס";
+	/** The Hebrew hundreds from 0 to 900. */
+	private static final String[] HEBREW_HUNDREDS = { "", "ק", "ר", "ש", "ת", "תק", "תר", "תש", "תת", "תתק" };
 
-		String[] jHundreds = new String[] { "", "ק", "ר", "ש", "ת", "תק", "תר", "תש", "תת", "תתק" };
-		String[] jTens = new String[] { "", "י", "כ", "ל", "מ", "נ", "ס", "ע", "פ", "צ" };
-		String[] jTenEnds = new String[] { "", "י", "ך", "ל", "ם", "ן", "ס", "ע", "ף", "ץ" };
-		String[] tavTaz = new String[] { "טו", "טז" };
-		String[] jOnes = new String[] { "", "א", "ב", "ג", "ד", "ה", "ו", "ז", "ח", "ט" };
+	/** The Hebrew tens from 0 to 90. */
+	private static final String[] HEBREW_TENS = { "", "י", "כ", "ל", "מ", "נ", "ס", "ע", "פ", "צ" };
 
+	/** The Hebrew tens from 0 to 90 using the final form letters. */
+	private static final String[] HEBREW_TEN_ENDS = { "", "י", "ך", "ל", "ם", "ן", "ס", "ע", "ף", "ץ" };
+
+	/** The Hebrew forms of 15 and 16 that avoid spelling a name of Hashem. */
+	private static final String[] TAV_TAZ = { "טו", "טז" };
+
+	/** The Hebrew ones from 0 to 9. */
+	private static final String[] HEBREW_ONES = { "", "א", "ב", "ג", "ד", "ה", "ו", "ז", "ח", "ט" };
+
+	/**
+	 * Builds a Hebrew formatted number from 0 to 9999 for a combination of settings. This is the algorithm documented in
+	 * {@link #formatHebrewNumber(int)}, used to fill the tables of formatted numbers.
+	 */
+	private static void buildHebrewNumber(int number, boolean useGershGershayim, boolean useFinalFormLetters,
+			boolean useLongHebrewYears, StringBuilder sb) {
 		if (number == 0) { // do we really need this? Should it be applicable to a date?
-			return EFES;
+			sb.append(EFES);
+			return;
 		}
 		int shortNumber = number % 1000; // discard thousands
 		// next check for all possible single Hebrew digit years
 		boolean singleDigitNumber = (shortNumber < 11 || (shortNumber < 100 && shortNumber % 10 == 0) ||
 				(shortNumber <= 400 && shortNumber % 100 == 0));
 		int thousands = number / 1000; // get # thousands
-		StringBuilder sb = new StringBuilder();
 		// append thousands to String
 		if (number % 1000 == 0) { // in year is 5000, 4000 etc
-			sb.append(jOnes[thousands]);
-			if (isUseGershGershayim()) {
+			sb.append(HEBREW_ONES[thousands]);
+			if (useGershGershayim) {
 				sb.append(GERESH);
 			}
 			sb.append(" ");
 			sb.append(ALAFIM); // add # of thousands plus the word "thousand" (override alafim boolean)
-			return sb.toString();
-		} else if (useLonghebrewYears && number >= 1000) { // if alafim boolean display thousands
-			sb.append(jOnes[thousands]);
-			if (isUseGershGershayim()) {
+			return;
+		} else if (useLongHebrewYears && number >= 1000) { // if alafim boolean display thousands
+			sb.append(HEBREW_ONES[thousands]);
+			if (useGershGershayim) {
 				sb.append(GERESH); // append thousands quote
 			}
 			sb.append(" ");
 		}
 		number = number % 1000; // remove 1000s
 		int hundreds = number / 100; // # of hundreds
-		sb.append(jHundreds[hundreds]); // add hundreds to String
+		sb.append(HEBREW_HUNDREDS[hundreds]); // add hundreds to String
 		number = number % 100; // remove 100s
 		if (number == 15) { // special case 15
-			sb.append(tavTaz[0]);
+			sb.append(TAV_TAZ[0]);
 		} else if (number == 16) { // special case 16
-			sb.append(tavTaz[1]);
+			sb.append(TAV_TAZ[1]);
 		} else {
 			int tens = number / 10;
 			if (number % 10 == 0) { // if evenly divisible by 10
 				if (!singleDigitNumber) {
-					if (isUseFinalFormLetters()) {
-						sb.append(jTenEnds[tens]); // years like 5780 will end with a final form ף
+					if (useFinalFormLetters) {
+						sb.append(HEBREW_TEN_ENDS[tens]); // years like 5780 will end with a final form ף
 					} else {
-						sb.append(jTens[tens]); // years like 5780 will end with a regular פ
+						sb.append(HEBREW_TENS[tens]); // years like 5780 will end with a regular פ
 					}
 				} else {
-					sb.append(jTens[tens]); // standard letters so years like 5050 will end with a regular nun
+					sb.append(HEBREW_TENS[tens]); // standard letters so years like 5050 will end with a regular nun
 				}
 			} else {
-				sb.append(jTens[tens]);
+				sb.append(HEBREW_TENS[tens]);
 				number = number % 10;
-				sb.append(jOnes[number]);
+				sb.append(HEBREW_ONES[number]);
 			}
 		}
-		if (isUseGershGershayim()) {
+		if (useGershGershayim) {
 			if (singleDigitNumber) {
 				sb.append(GERESH); // append single quote
 			} else { // append double quote before last digit
 				sb.insert(sb.length() - 1, GERSHAYIM);
 			}
 		}
-		return sb.toString();
-	}	
+	}
 
 	/**
 	 * Returns the map of transliterated parshiyos used by this formatter. This list using the default <em>Ashkenazi</em>
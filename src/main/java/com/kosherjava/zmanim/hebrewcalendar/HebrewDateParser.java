@@ -0,0 +1,557 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parses Jewish dates and Hebrew numbers, the inverse of the {@link HebrewDateFormatter}. A date is a day, a month and a year
+ * as formatted by {@link HebrewDateFormatter#format(JewishDate)}, such as &rlm;"כ״ג אדר ב׳ תשפ״ד" or "23 Adar II, 5784".
+ * Every formatting option is accepted without having to be set:
+ * <ul>
+ * <li>The days and years can be Hebrew numbers with or without the ׳ (geresh) and ״ (gershayim), or their ' and " ASCII
+ * look-alikes, with or without final form letters, and the years with or without the thousands (as in &rlm;"ה׳ תשפ״ד" or
+ * &rlm;"התשפ״ד"), or numbers in digits. A year without the thousands such as &rlm;"תשפ״ד" is in the sixth millennium
+ * (5784).</li>
+ * <li>The months are the names in the {@link HebrewDateFormatter#getHebrewMonthList() Hebrew} and {@link
+ * HebrewDateFormatter#getTransliteratedMonthList() transliterated} month lists of the formatter passed to the constructor,
+ * with an optional geresh after a Hebrew Adar. The transliterated names are not case-sensitive. A Hebrew month can also
+ * have the ב prefix, as in &rlm;"כ״ג באדר ב׳".</li>
+ * <li>The day, month and year are separated by spaces or commas.</li>
+ * </ul>
+ * The month names are looked up in a trie built once by the constructor, and the numbers are read letter by letter, so
+ * parsing reads each character once, and {@link #parsePacked(CharSequence, int, int)} does not create any objects. The
+ * packed result has the same layout as {@link JewishLocalDate}, with the year, month and day read by {@link
+ * #getJewishYear(int)}, {@link #getJewishMonth(int)} and {@link #getJewishDayOfMonth(int)}. A parser is immutable and can be
+ * shared by threads.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * HebrewDateParser parser = new HebrewDateParser();
+ * JewishDate jewishDate = parser.parse("כ״ג אדר ב׳ תשפ״ד"); // 23 Adar II, 5784
+ * int packed = parser.parsePacked("23 Adar II 5784");
+ * int year = HebrewDateParser.getJewishYear(packed); // 5784
+ * </pre>
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+public class HebrewDateParser {
+	/** The value returned by the packed parse methods for text that is not a valid date. */
+	public static final int INVALID = -1;
+
+	/** The Hebrew word for thousands, used for numbers such as 6000. */
+	private static final String ALAFIM = "אלפים";
+
+	/** The Hebrew word for zero. */
+	private static final String EFES = "אפס";
+
+	/** The numeric value of the Hebrew letters from א to ת, including the final form letters. */
+	private static final int[] LETTER_VALUES = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 20, 20, 30, 40, 40, 50, 50, 60, 70, 80, 80,
+			90, 90, 100, 200, 300, 400 };
+
+	/** The number of thousands in a year that is formatted without the thousands. */
+	private static final int DEFAULT_THOUSANDS = 5;
+
+	/** The month names trie. */
+	private final MonthTrie months;
+
+	/**
+	 * Creates a parser for the default month names of the {@link HebrewDateFormatter}.
+	 */
+	public HebrewDateParser() {
+		this(new HebrewDateFormatter());
+	}
+
+	/**
+	 * Creates a parser for the month names of a formatter, such as a formatter with a {@link
+	 * HebrewDateFormatter#setTransliteratedMonthList(String[]) Sephardi transliteration}. Later changes to the formatter do not
+	 * affect this parser.
+	 *
+	 * @param formatter the formatter with the {@link HebrewDateFormatter#getHebrewMonthList() Hebrew} and {@link
+	 *            HebrewDateFormatter#getTransliteratedMonthList() transliterated} month lists
+	 */
+	public HebrewDateParser(HebrewDateFormatter formatter) {
+		MonthTrie.Builder builder = new MonthTrie.Builder();
+		String[] hebrewMonths = formatter.getHebrewMonthList();
+		String[] transliteratedMonths = formatter.getTransliteratedMonthList();
+		for (int i = 0; i < hebrewMonths.length; i++) {
+			// the lists end in Adar, Adar II and Adar I
+			int month = i < JewishDate.ADAR_II ? i + 1 : JewishDate.ADAR;
+			builder.add(hebrewMonths[i], month);
+			builder.add("ב" + hebrewMonths[i], month);
+			builder.add(transliteratedMonths[i], month);
+		}
+		months = builder.build();
+	}
+
+	/**
+	 * Parses a date.
+	 *
+	 * @param text the date, such as &rlm;"כ״ג אדר ב׳ תשפ״ד" or "23 Adar II, 5784"
+	 * @return the date
+	 * @throws IllegalArgumentException if the text is not a valid date
+	 */
+	public JewishDate parse(CharSequence text) {
+		return parseLocalDate(text).toJewishDate();
+	}
+
+	/**
+	 * Parses a date into a {@link JewishLocalDate}.
+	 *
+	 * @param text the date, such as &rlm;"כ״ג אדר ב׳ תשפ״ד" or "23 Adar II, 5784"
+	 * @return the date
+	 * @throws IllegalArgumentException if the text is not a valid date
+	 */
+	public JewishLocalDate parseLocalDate(CharSequence text) {
+		int packed = parsePacked(text);
+		if (packed == INVALID) {
+			throw new IllegalArgumentException("\"" + text + "\" is not a valid Jewish date.");
+		}
+		return JewishLocalDate.ofPacked(packed);
+	}
+
+	/**
+	 * Parses a date into a packed {@code int}.
+	 *
+	 * @param text the date, such as &rlm;"כ״ג אדר ב׳ תשפ״ד" or "23 Adar II, 5784"
+	 * @return the packed date, or {@link #INVALID} if the text is not a valid date
+	 * @see #parsePacked(CharSequence, int, int)
+	 */
+	public int parsePacked(CharSequence text) {
+		return parsePacked(text, 0, text.length());
+	}
+
+	/**
+	 * Parses the date in a range of characters into a packed {@code int}, without creating any objects. This suits reading
+	 * many dates out of a large buffer, such as a field of every line of a file. The year, month and day are read with
+	 * {@link #getJewishYear(int)}, {@link #getJewishMonth(int)} and {@link #getJewishDayOfMonth(int)}.
+	 *
+	 * @param text the text with the date
+	 * @param start the index of the first character of the date
+	 * @param end the index after the last character of the date
+	 * @return the packed date, or {@link #INVALID} if the text is not a valid date (including a day that is not in the month
+	 *         such as 30 Teves, or Adar II in a year that is not a leap year)
+	 * @throws IndexOutOfBoundsException if the start or end are outside of the text
+	 */
+	public int parsePacked(CharSequence text, int start, int end) {
+		if (start < 0 || end > text.length() || start > end) {
+			throw new IndexOutOfBoundsException("Invalid range from " + start + " to " + end + " of " + text.length());
+		}
+		int pos = skipSeparators(text, start, end);
+		long number = isDigit(text, pos, end) ? parseDigits(text, pos, end) : parseHebrew(text, pos, end, false);
+		if (number < 0) {
+			return INVALID;
+		}
+		int day = (int) number;
+		pos = skipSeparators(text, (int) (number >>> 32), end);
+		long month = months.match(text, pos, end);
+		if (month < 0) {
+			return INVALID;
+		}
+		pos = (int) (month >>> 32);
+		if (pos < end && isGeresh(text.charAt(pos))) {
+			pos++; // as in אדר ב׳
+		}
+		pos = skipSeparators(text, pos, end);
+		if (isDigit(text, pos, end)) {
+			number = parseDigits(text, pos, end);
+		} else {
+			number = parseHebrew(text, pos, end, true);
+			if (number >= 0 && (int) number < 1000) {
+				number += DEFAULT_THOUSANDS * 1000;
+			}
+		}
+		if (number < 0 || skipSeparators(text, (int) (number >>> 32), end) != end) {
+			return INVALID;
+		}
+		return pack((int) number, (int) month, day);
+	}
+
+	/**
+	 * Parses a Hebrew number, the inverse of {@link HebrewDateFormatter#formatHebrewNumber(int)} with any of its settings,
+	 * such as &rlm;"תשכ״ט" (769), &rlm;"ה׳ תשפ״ד" (5784), &rlm;"ו׳ אלפים" (6000) or &rlm;"אפס" (0).
+	 *
+	 * @param text the Hebrew number
+	 * @return the number, or -1 if the text is not a Hebrew number
+	 */
+	public static int parseHebrewNumber(CharSequence text) {
+		int end = text.length();
+		int pos = skipSeparators(text, 0, end);
+		if (matches(text, pos, end, EFES)) {
+			return skipSeparators(text, pos + EFES.length(), end) == end ? 0 : -1;
+		}
+		long number = parseHebrew(text, pos, end, true);
+		if (number < 0 || skipSeparators(text, (int) (number >>> 32), end) != end) {
+			return -1;
+		}
+		return (int) number;
+	}
+
+	/**
+	 * Returns the year of a packed date.
+	 *
+	 * @param packedDate a date returned by {@link #parsePacked(CharSequence, int, int)}
+	 * @return the Jewish year
+	 */
+	public static int getJewishYear(int packedDate) {
+		return packedDate >>> 9;
+	}
+
+	/**
+	 * Returns the month of a packed date.
+	 *
+	 * @param packedDate a date returned by {@link #parsePacked(CharSequence, int, int)}
+	 * @return the Jewish month, using the {@link JewishDate} month constants such as {@link JewishDate#TISHREI}
+	 */
+	public static int getJewishMonth(int packedDate) {
+		return (packedDate >>> 5) & 0xF;
+	}
+
+	/**
+	 * Returns the day of the month of a packed date.
+	 *
+	 * @param packedDate a date returned by {@link #parsePacked(CharSequence, int, int)}
+	 * @return the Jewish day of the month
+	 */
+	public static int getJewishDayOfMonth(int packedDate) {
+		return packedDate & 0x1F;
+	}
+
+	/**
+	 * Validates and packs a date.
+	 *
+	 * @param year the Jewish year
+	 * @param month the Jewish month
+	 * @param day the Jewish day of the month
+	 * @return the packed date, or {@link #INVALID}
+	 */
+	private static int pack(int year, int month, int day) {
+		if (year < 3761 || year > 9999 || month > JewishDate.getLastMonthOfJewishYear(year) || day < 1
+				|| day > JewishDate.getDaysInJewishMonth(year, month)
+				|| (year == 3761 && (month >= JewishDate.TISHREI && month < JewishDate.TEVES
+						|| month == JewishDate.TEVES && day < 18))) { // the earliest date of JewishDate
+			return INVALID;
+		}
+		return (year << 9) | (month << 5) | day;
+	}
+
+	/**
+	 * Parses a number in digits.
+	 *
+	 * @param text the text
+	 * @param pos the index of the first digit
+	 * @param end the end of the text
+	 * @return the number in the low 32 bits and the index after it in the high 32 bits, or -1 for more than 4 digits
+	 */
+	private static long parseDigits(CharSequence text, int pos, int end) {
+		int number = 0;
+		int start = pos;
+		while (isDigit(text, pos, end)) {
+			if (pos - start == 4) {
+				return -1;
+			}
+			number = number * 10 + text.charAt(pos++) - '0';
+		}
+		return ((long) pos << 32) | number;
+	}
+
+	/**
+	 * Parses a Hebrew number by adding up the value of its letters. A number with thousands, only allowed for a year, has the
+	 * thousands as a single letter before the hundreds, followed by a geresh or a space (&rlm;"ה׳ תשפ״ד" or &rlm;"ה תשפד"),
+	 * or followed by the word &rlm;"אלפים". Without a separator, a first letter of one to nine is the thousands unless the
+	 * next letter is smaller, since the letters of a number are in descending order (&rlm;"התשפ״ד" or &rlm;"הה" for 5005).
+	 *
+	 * @param text the text
+	 * @param pos the index of the first letter
+	 * @param end the end of the text
+	 * @param allowThousands if the number can have thousands
+	 * @return the number in the low 32 bits and the index after it in the high 32 bits, or -1 if there is no number
+	 */
+	private static long parseHebrew(CharSequence text, int pos, int end, boolean allowThousands) {
+		int thousands = 0;
+		int sum = 0;
+		int letters = 0;
+		while (pos < end) {
+			char c = text.charAt(pos);
+			int value = getLetterValue(c);
+			if (value > 0) {
+				if (allowThousands && letters == 1 && thousands == 0 && sum < 10 && value >= sum) { // as in התשפ״ד or הה
+					thousands = sum;
+					sum = 0;
+				}
+				sum += value;
+				letters++;
+				pos++;
+			} else if (isGershayim(c)) {
+				pos++; // before the last letter
+			} else if (allowThousands && letters == 1 && thousands == 0 && sum < 10 && (isGeresh(c) || c == ' ')) {
+				int next = pos + 1;
+				if (isGeresh(c) && next < end && text.charAt(next) == ' ') {
+					next++;
+				}
+				if (matches(text, next, end, ALAFIM)) { // as in ו׳ אלפים
+					return ((long) (next + ALAFIM.length()) << 32) | (sum * 1000);
+				} else if (next < end && getLetterValue(text.charAt(next)) > 0) { // as in ה׳ תשפ״ד
+					thousands = sum;
+					sum = 0;
+					letters = 0;
+					pos = next;
+				} else {
+					if (isGeresh(c)) {
+						pos++; // a single letter year such as ה׳
+					}
+					break;
+				}
+			} else if (isGeresh(c)) {
+				pos++; // after a single letter, so it is the end of the number
+				break;
+			} else {
+				break;
+			}
+		}
+		if (letters == 0 || Character.isLetter(pos < end ? text.charAt(pos) : ' ')) {
+			return -1;
+		}
+		return ((long) pos << 32) | (thousands * 1000 + sum);
+	}
+
+	/**
+	 * Returns the value of a Hebrew letter.
+	 *
+	 * @param c the character
+	 * @return the value, or 0 if the character is not a Hebrew letter
+	 */
+	private static int getLetterValue(char c) {
+		return c >= 'א' && c <= 'ת' ? LETTER_VALUES[c - 'א'] : 0;
+	}
+
+	/**
+	 * Returns if a character is a geresh.
+	 *
+	 * @param c the character
+	 * @return if the character is ׳ or '
+	 */
+	private static boolean isGeresh(char c) {
+		return c == '׳' || c == '\'';
+	}
+
+	/**
+	 * Returns if a character is a gershayim.
+	 *
+	 * @param c the character
+	 * @return if the character is ״ or "
+	 */
+	private static boolean isGershayim(char c) {
+		return c == '״' || c == '"';
+	}
+
+	/**
+	 * Returns if there is a digit at an index.
+	 *
+	 * @param text the text
+	 * @param pos the index
+	 * @param end the end of the text
+	 * @return if the character at the index is a digit from 0 to 9
+	 */
+	private static boolean isDigit(CharSequence text, int pos, int end) {
+		return pos < end && text.charAt(pos) >= '0' && text.charAt(pos) <= '9';
+	}
+
+	/**
+	 * Returns if a word is at an index.
+	 *
+	 * @param text the text
+	 * @param pos the index
+	 * @param end the end of the text
+	 * @param word the word
+	 * @return if the text has the word at the index
+	 */
+	private static boolean matches(CharSequence text, int pos, int end, String word) {
+		if (end - pos < word.length()) {
+			return false;
+		}
+		for (int i = 0; i < word.length(); i++) {
+			if (text.charAt(pos + i) != word.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Skips the spaces, commas and right-to-left and left-to-right marks at an index.
+	 *
+	 * @param text the text
+	 * @param pos the index
+	 * @param end the end of the text
+	 * @return the index of the first character that is not a separator, or the end
+	 */
+	private static int skipSeparators(CharSequence text, int pos, int end) {
+		while (pos < end) {
+			char c = text.charAt(pos);
+			if (c != ' ' && c != ',' && c != '\t' && c != '\u00A0' && c != '\u200E' && c != '\u200F') {
+				break;
+			}
+			pos++;
+		}
+		return pos;
+	}
+
+	/**
+	 * A trie of the month names, stored in arrays. The edges of each node are sorted by their character and found with a
+	 * binary search. The Latin letters are stored and matched in lower case.
+	 */
+	private static final class MonthTrie {
+		/** The index of the first edge of each node. */
+		private final int[] firstEdge;
+
+		/** The characters of the edges. */
+		private final char[] edgeChars;
+
+		/** The node that each edge leads to. */
+		private final int[] edgeTargets;
+
+		/** The month of each node that ends a name, or 0. */
+		private final int[] nodeMonths;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param firstEdge the index of the first edge of each node, with one more entry for the end of the last node
+		 * @param edgeChars the characters of the edges
+		 * @param edgeTargets the node that each edge leads to
+		 * @param nodeMonths the month of each node
+		 */
+		MonthTrie(int[] firstEdge, char[] edgeChars, int[] edgeTargets, int[] nodeMonths) {
+			this.firstEdge = firstEdge;
+			this.edgeChars = edgeChars;
+			this.edgeTargets = edgeTargets;
+			this.nodeMonths = nodeMonths;
+		}
+
+		/**
+		 * Finds the longest month name at an index that is not followed by a letter. This means that "Adar I" is not
+		 * matched in "Adar II", and "Adar" is matched in "Adar 5785".
+		 *
+		 * @param text the text
+		 * @param pos the index
+		 * @param end the end of the text
+		 * @return the month in the low 32 bits and the index after the name in the high 32 bits, or -1 if there is no name
+		 */
+		long match(CharSequence text, int pos, int end) {
+			long match = -1;
+			int node = 0;
+			while (true) {
+				if (nodeMonths[node] != 0 && (pos == end || !Character.isLetter(text.charAt(pos)))) {
+					match = ((long) pos << 32) | nodeMonths[node];
+				}
+				if (pos == end) {
+					return match;
+				}
+				int from = firstEdge[node];
+				int edge = Arrays.binarySearch(edgeChars, from, firstEdge[node + 1], Character.toLowerCase(text.charAt(pos)));
+				if (edge < 0) {
+					return match;
+				}
+				node = edgeTargets[edge];
+				pos++;
+			}
+		}
+
+		/**
+		 * Builds a {@link MonthTrie}.
+		 */
+		static final class Builder {
+			/** The children of each node, as pairs of a character and a node, in the order added. */
+			private final List<List<int[]>> children = new ArrayList<>();
+
+			/** The month of each node. */
+			private final List<Integer> months = new ArrayList<>();
+
+			/**
+			 * Constructor for a trie with only the root.
+			 */
+			Builder() {
+				addNode();
+			}
+
+			/**
+			 * Adds a node.
+			 *
+			 * @return the node
+			 */
+			private int addNode() {
+				children.add(new ArrayList<>());
+				months.add(0);
+				return months.size() - 1;
+			}
+
+			/**
+			 * Adds a month name. If two months have the same name, the first one is kept.
+			 *
+			 * @param name the name
+			 * @param month the month
+			 */
+			void add(String name, int month) {
+				int node = 0;
+				for (int i = 0; i < name.length(); i++) {
+					char c = Character.toLowerCase(name.charAt(i));
+					int next = -1;
+					for (int[] child : children.get(node)) {
+						if (child[0] == c) {
+							next = child[1];
+						}
+					}
+					if (next < 0) {
+						next = addNode();
+						children.get(node).add(new int[] { c, next });
+					}
+					node = next;
+				}
+				if (months.get(node) == 0) {
+					months.set(node, month);
+				}
+			}
+
+			/**
+			 * Builds the trie, with the edges of each node sorted.
+			 *
+			 * @return the trie
+			 */
+			MonthTrie build() {
+				int[] firstEdge = new int[months.size() + 1];
+				int edgeCount = 0;
+				for (int node = 0; node < months.size(); node++) {
+					firstEdge[node] = edgeCount;
+					edgeCount += children.get(node).size();
+				}
+				firstEdge[months.size()] = edgeCount;
+				char[] edgeChars = new char[edgeCount];
+				int[] edgeTargets = new int[edgeCount];
+				int[] nodeMonths = new int[months.size()];
+				for (int node = 0; node < months.size(); node++) {
+					List<int[]> edges = children.get(node);
+					edges.sort((a, b) -> a[0] - b[0]);
+					for (int i = 0; i < edges.size(); i++) {
+						edgeChars[firstEdge[node] + i] = (char) edges.get(i)[0];
+						edgeTargets[firstEdge[node] + i] = edges.get(i)[1];
+					}
+					nodeMonths[node] = months.get(node);
+				}
+				return new MonthTrie(firstEdge, edgeChars, edgeTargets, nodeMonths);
+			}
+		}
+	}
+}
@@ -17,13 +17,11 @@
  */
 package com.kosherjava.zmanim.hebrewcalendar;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Calendar; // We still use the old Calendar.WEEKDAY constants
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The JewishCalendar extends the JewishDate class and adds calendar methods.
@@ -389,7 +387,7 @@ public class JewishCalendar extends JewishDate {
 	 * <a href="http://hebrewbooks.org/pdfpager.aspx?req=14268&amp;st=&amp;pgnum=222">Luach Arba'ah Shearim</a> in the Tur Ohr Hachaim.
 	 * @return the type of year for <em>parsha</em> calculations.
 	 */
-	private int getParshaYearType() {
+	int getParshaYearType() {
 		int roshHashanaDayOfWeek = (getJewishCalendarElapsedDays(getJewishYear()) + 1) % 7; // plus one to the original Rosh Hashana of year 1 to get a week starting on Sunday
 		if (roshHashanaDayOfWeek == 0) {
 			roshHashanaDayOfWeek = 7; // convert 0 to 7 for Shabbos for readability
@@ -586,7 +584,10 @@ public class JewishCalendar extends JewishDate {
 	/**
 	 * Returns an index of the Jewish holiday or fast day for the current day, or a -1 if there is no holiday for this day.
 	 * There are constants in this class representing each <em>Yom Tov</em>. Formatting of the <em>Yomim tovim</em> is done
-	 * in the {@link HebrewDateFormatter#formatYomTov(JewishCalendar)}.
+	 * in the {@link HebrewDateFormatter#formatYomTov(JewishCalendar)}. The holidays of each kind of year (by <em>kviah</em>
+	 * and the day of the week of Rosh Hashana) are calculated once, so this and the other holiday methods are array lookups.
+	 * A subclass can override this method to add its own holidays. The predicates such as {@link #isYomTov()}, {@link
+	 * #isErevYomTov()} and {@link #isTaanis()} of such a subclass follow its index, and are calculated for each call.
 	 * 
 	 * @todo Consider using enums instead of the constant ints.
 	 * 
@@ -594,12 +595,30 @@ public class JewishCalendar extends JewishDate {
 	 * 
 	 * @see HebrewDateFormatter#formatYomTov(JewishCalendar)
 	 */
-	public synchronized int getYomTovIndex() {
-		final int day = getJewishDayOfMonth();
-		final int dayOfWeek = getDayOfWeek();
+	public int getYomTovIndex() {
+		int year = getJewishYear();
+		int yearType = getYearType(year);
+		return getHolidayTable(year, yearType).yomTovIndex[getDayOfYear(yearType)];
+	}
 
+	/**
+	 * Calculates the index of the Jewish holiday or fast day for a day from its month, day and day of week and from the year
+	 * and calendar settings that the holidays depend on. This is the calculation behind the {@link #getYomTovIndex()}
+	 * tables.
+	 *
+	 * @param month the Jewish month
+	 * @param day the day of the Jewish month
+	 * @param dayOfWeek the day of the week, from {@link Calendar#SUNDAY} to {@link Calendar#SATURDAY}
+	 * @param leapYear if the year is a leap year
+	 * @param kislevShort if Kislev is short in the year
+	 * @param inIsrael if the holidays are for Israel
+	 * @param useModernHolidays if modern Israeli holidays are used
+	 * @return the index of the holiday such as the constant {@link #LAG_BAOMER} or {@link #YOM_KIPPUR} or a -1 if it is not a holiday.
+	 */
+	static int calculateYomTovIndex(int month, int day, int dayOfWeek, boolean leapYear, boolean kislevShort,
+			boolean inIsrael, boolean useModernHolidays) {
 		// check by month (starting from Nissan)
-		switch (getJewishMonth()) {
+		switch (month) {
 		case NISSAN:
 			if (day == 14) {
 				return EREV_PESACH;
@@ -614,7 +633,7 @@ public class JewishCalendar extends JewishDate {
 			if ((day == 22 && inIsrael) || (day == 23 && !inIsrael)) {
 				return ISRU_CHAG;
 			}
-			if (isUseModernHolidays()
+			if (useModernHolidays
 					&& ((day == 26 && dayOfWeek == Calendar.THURSDAY)
 							|| (day == 28 && dayOfWeek == Calendar.MONDAY)
 							|| (day == 27 && dayOfWeek != Calendar.SUNDAY && dayOfWeek != Calendar.FRIDAY))) {
@@ -622,14 +641,14 @@ public class JewishCalendar extends JewishDate {
 			}
 			break;
 		case IYAR:
-			if (isUseModernHolidays()
+			if (useModernHolidays
 					&& ((day == 4 && dayOfWeek == Calendar.TUESDAY)
 							|| ((day == 3 || day == 2) && dayOfWeek == Calendar.WEDNESDAY) || (day == 5 && dayOfWeek == Calendar.MONDAY))) {
 				return YOM_HAZIKARON;
 			}
 			// if 5 Iyar falls on Wed, Yom Haatzmaut is that day. If it falls on Friday or Shabbos, it is moved back to
 			// Thursday. If it falls on Monday it is moved to Tuesday
-			if (isUseModernHolidays()
+			if (useModernHolidays
 					&& ((day == 5 && dayOfWeek == Calendar.WEDNESDAY)
 							|| ((day == 4 || day == 3) && dayOfWeek == Calendar.THURSDAY) || (day == 6 && dayOfWeek == Calendar.TUESDAY))) {
 				return YOM_HAATZMAUT;
@@ -640,7 +659,7 @@ public class JewishCalendar extends JewishDate {
 			if (day == 18) {
 				return LAG_BAOMER;
 			}
-			if (isUseModernHolidays() && day == 28) {
+			if (useModernHolidays && day == 28) {
 				return YOM_YERUSHALAYIM;
 			}
 			break;
@@ -720,7 +739,7 @@ public class JewishCalendar extends JewishDate {
 			break;
 		case TEVES:
 			if (day == 1 || day == 2
-					|| (day == 3 && isKislevShort())) {
+					|| (day == 3 && kislevShort)) {
 				return CHANUKAH;
 			}
 			if (day == 10) {
@@ -733,7 +752,7 @@ public class JewishCalendar extends JewishDate {
 			}
 			break;
 		case ADAR:
-			if (!isJewishLeapYear()) {
+			if (!leapYear) {
 				// if 13th Adar falls on Friday or Shabbos, push back to Thursday
 				if (((day == 11 || day == 12) && dayOfWeek == Calendar.THURSDAY)
 						|| (day == 13 && !(dayOfWeek == Calendar.FRIDAY || dayOfWeek == Calendar.SATURDAY))) {
@@ -772,6 +791,182 @@ public class JewishCalendar extends JewishDate {
 		return -1;
 	}
 
+	/** Flag for a day that {@link #isYomTov()}. */
+	private static final int YOM_TOV_FLAG = 1;
+	/** Flag for a day that {@link #isYomTovAssurBemelacha()}. */
+	private static final int YOM_TOV_ASSUR_BEMELACHA_FLAG = 1 << 1;
+	/** Flag for a day that {@link #isAssurBemelacha()}. */
+	private static final int ASSUR_BEMELACHA_FLAG = 1 << 2;
+	/** Flag for a day that {@link #isErevYomTov()}. */
+	private static final int EREV_YOM_TOV_FLAG = 1 << 3;
+	/** Flag for a day that {@link #isErevYomTovSheni()}. */
+	private static final int EREV_YOM_TOV_SHENI_FLAG = 1 << 4;
+	/** Flag for a day that {@link #isTomorrowShabbosOrYomTov()}. */
+	private static final int TOMORROW_SHABBOS_OR_YOM_TOV_FLAG = 1 << 5;
+	/** Flag for a day that {@link #isTaanis()}. */
+	private static final int TAANIS_FLAG = 1 << 6;
+	/** Flag for a day that {@link #isCholHamoed()}. */
+	private static final int CHOL_HAMOED_FLAG = 1 << 7;
+
+	/**
+	 * Calculates the holiday flags such as {@link #YOM_TOV_FLAG} of a day from its {@link #getYomTovIndex() Yom Tov index}
+	 * and date.
+	 *
+	 * @param index the Yom Tov index of the day, or -1 if it is not a holiday
+	 * @param month the Jewish month
+	 * @param day the day of the Jewish month
+	 * @param dayOfWeek the day of the week, from {@link Calendar#SUNDAY} to {@link Calendar#SATURDAY}
+	 * @param inIsrael if the holidays are for Israel
+	 * @return the flags of the day
+	 */
+	private static int calculateHolidayFlags(int index, int month, int day, int dayOfWeek, boolean inIsrael) {
+		boolean erevYomTov = index == EREV_PESACH || index == EREV_SHAVUOS || index == EREV_ROSH_HASHANA
+				|| index == EREV_YOM_KIPPUR || index == EREV_SUCCOS || index == HOSHANA_RABBA
+				|| (index == CHOL_HAMOED_PESACH && day == 20);
+		boolean erevYomTovSheni = (month == TISHREI && day == 1)
+				|| (!inIsrael && ((month == NISSAN && (day == 15 || day == 21))
+						|| (month == TISHREI && (day == 15 || day == 22)) || (month == SIVAN && day == 6)));
+		boolean taanis = index == SEVENTEEN_OF_TAMMUZ || index == TISHA_BEAV || index == YOM_KIPPUR
+				|| index == FAST_OF_GEDALYAH || index == TENTH_OF_TEVES || index == FAST_OF_ESTHER;
+		boolean yomTov = index != -1 && !((erevYomTov && !(index == HOSHANA_RABBA || index == CHOL_HAMOED_PESACH))
+				|| (taanis && index != YOM_KIPPUR) || index == ISRU_CHAG);
+		boolean yomTovAssurBemelacha = index == PESACH || index == SHAVUOS || index == SUCCOS
+				|| index == SHEMINI_ATZERES || index == SIMCHAS_TORAH || index == ROSH_HASHANA || index == YOM_KIPPUR;
+		int flags = 0;
+		if (yomTov) {
+			flags |= YOM_TOV_FLAG;
+		}
+		if (yomTovAssurBemelacha) {
+			flags |= YOM_TOV_ASSUR_BEMELACHA_FLAG;
+		}
+		if (yomTovAssurBemelacha || dayOfWeek == Calendar.SATURDAY) {
+			flags |= ASSUR_BEMELACHA_FLAG;
+		}
+		if (erevYomTov) {
+			flags |= EREV_YOM_TOV_FLAG;
+		}
+		if (erevYomTovSheni) {
+			flags |= EREV_YOM_TOV_SHENI_FLAG;
+		}
+		if (erevYomTov || erevYomTovSheni || dayOfWeek == Calendar.FRIDAY) {
+			flags |= TOMORROW_SHABBOS_OR_YOM_TOV_FLAG;
+		}
+		if (taanis) {
+			flags |= TAANIS_FLAG;
+		}
+		if (index == CHOL_HAMOED_PESACH || index == CHOL_HAMOED_SUCCOS || index == HOSHANA_RABBA) {
+			flags |= CHOL_HAMOED_FLAG;
+		}
+		return flags;
+	}
+
+	/**
+	 * The holidays of every day of one kind of year. The holidays of a year only depend on its {@link JewishDate#getYearType(int)
+	 * type} (a leap year or not, and the <em>kviah</em>), the day of the week of Rosh Hashana and the {@link #getInIsrael()
+	 * Israel} and {@link #isUseModernHolidays() modern holidays} settings. Only 14 combinations of the year type and day of
+	 * the week are possible, so there are at most 56 tables of 385 days.
+	 */
+	private static final class HolidayTable {
+		/** The {@link #getYomTovIndex() Yom Tov index} of each day of the year, with 0 being 1 Tishrei. */
+		final byte[] yomTovIndex = new byte[385];
+		/** The holiday flags such as {@link #YOM_TOV_FLAG} of each day of the year, with 0 being 1 Tishrei. */
+		final short[] flags = new short[385];
+
+		/**
+		 * Builds the table of a kind of year.
+		 *
+		 * @param yearType the {@link JewishDate#getYearType(int) year type}
+		 * @param roshHashanaDayOfWeek the day of the week of Rosh Hashana, from 0 for Shabbos to 6 for Friday
+		 * @param inIsrael if the holidays are for Israel
+		 * @param useModernHolidays if modern Israeli holidays are used
+		 */
+		HolidayTable(int yearType, int roshHashanaDayOfWeek, boolean inIsrael, boolean useModernHolidays) {
+			boolean leapYear = yearType >= 3;
+			boolean kislevShort = yearType % 3 == CHASERIM;
+			int daysInYear = (leapYear ? 383 : 353) + yearType % 3;
+			for (int dayOfYear = 0; dayOfYear < daysInYear; dayOfYear++) {
+				int month = MONTH_OF_DAY_OF_YEAR[yearType][dayOfYear];
+				int day = dayOfYear - DAYS_BEFORE_MONTH[yearType][month] + 1;
+				int dayOfWeek = (roshHashanaDayOfWeek + dayOfYear + 6) % 7 + 1;
+				int index = calculateYomTovIndex(month, day, dayOfWeek, leapYear, kislevShort, inIsrael, useModernHolidays);
+				int flags = calculateHolidayFlags(index, month, day, dayOfWeek, inIsrael);
+				yomTovIndex[dayOfYear] = (byte) index;
+				this.flags[dayOfYear] = (short) flags;
+			}
+		}
+	}
+
+	/**
+	 * The {@link HolidayTable holiday tables}, indexed by the year type, the day of the week of Rosh Hashana and the Israel and
+	 * modern holidays settings, built the first time a combination is used. The tables are never modified once built, so
+	 * they are shared by all calendars and threads.
+	 */
+	private static final AtomicReferenceArray<HolidayTable> HOLIDAY_TABLES = new AtomicReferenceArray<>(6 * 7 * 2 * 2);
+
+	/**
+	 * Returns the {@link HolidayTable holiday table} of a year with this calendar's settings, building it if needed.
+	 *
+	 * @param year the Jewish year
+	 * @param yearType the {@link JewishDate#getYearType(int) type} of the year
+	 * @return the holiday table
+	 */
+	private HolidayTable getHolidayTable(int year, int yearType) {
+		int roshHashanaDayOfWeek = (getJewishCalendarElapsedDays(year) + 1) % 7; // 0 for Shabbos
+		int key = ((yearType * 7 + roshHashanaDayOfWeek) * 2 + (inIsrael ? 1 : 0)) * 2 + (useModernHolidays ? 1 : 0);
+		HolidayTable table = HOLIDAY_TABLES.get(key);
+		if (table == null) {
+			table = new HolidayTable(yearType, roshHashanaDayOfWeek, inIsrael, useModernHolidays);
+			// if two threads build the same table at once, both are equal and the first one stored is kept
+			if (!HOLIDAY_TABLES.compareAndSet(key, null, table)) {
+				table = HOLIDAY_TABLES.get(key);
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Returns the day of the year of the current date, with 0 being 1 Tishrei.
+	 *
+	 * @param yearType the {@link JewishDate#getYearType(int) type} of the current year
+	 * @return the day of the year
+	 */
+	private int getDayOfYear(int yearType) {
+		return DAYS_BEFORE_MONTH[yearType][getJewishMonth()] + getJewishDayOfMonth() - 1;
+	}
+
+	/**
+	 * If a class overrides {@link #getYomTovIndex()}, such as a subclass that adds custom holidays. The holiday flags of such a
+	 * class are calculated from its own {@link #getYomTovIndex()} instead of being looked up in the {@link HolidayTable holiday
+	 * tables}.
+	 */
+	private static final ClassValue<Boolean> OVERRIDES_YOM_TOV_INDEX = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("getYomTovIndex").getDeclaringClass() != JewishCalendar.class;
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+
+	/**
+	 * Returns if the current day has a holiday flag such as {@link #YOM_TOV_FLAG} in the {@link HolidayTable holiday table},
+	 * or for a subclass that overrides {@link #getYomTovIndex()}, in the flags calculated from its <em>Yom Tov</em> index.
+	 *
+	 * @param flag the flag
+	 * @return if the current day has the flag
+	 */
+	private boolean hasHolidayFlag(int flag) {
+		if (OVERRIDES_YOM_TOV_INDEX.get(getClass())) {
+			return (calculateHolidayFlags(getYomTovIndex(), getJewishMonth(), getJewishDayOfMonth(), getDayOfWeek(), inIsrael)
+					& flag) != 0;
+		}
+		int year = getJewishYear();
+		int yearType = getYearType(year);
+		return (getHolidayTable(year, yearType).flags[getDayOfYear(yearType)] & flag) != 0;
+	}
+
 	/**
 	 * Returns true if the current day is <em>Yom Tov</em>. The method returns true even for holidays such as {@link #CHANUKAH}
 	 * and minor ones such as {@link #TU_BEAV} and {@link #PESACH_SHENI}. <em>Erev Yom Tov</em> (with the exception of
@@ -788,12 +983,7 @@ public class JewishCalendar extends JewishDate {
 	 * @see #isCholHamoed()
 	 */
 	public boolean isYomTov() {
-		int holidayIndex = getYomTovIndex();
-		if ((isErevYomTov() && ! ( holidayIndex == HOSHANA_RABBA || holidayIndex == CHOL_HAMOED_PESACH))
-				|| (isTaanis() && holidayIndex != YOM_KIPPUR) || holidayIndex == ISRU_CHAG) {
-			return false;
-		}
-		return getYomTovIndex() != -1;
+		return hasHolidayFlag(YOM_TOV_FLAG);
 	}
 
 	/**
@@ -803,9 +993,7 @@ public class JewishCalendar extends JewishDate {
 	 * @return if the <em>Yom Tov</em> day has a <em>melacha</em> (work)  prohibition.
 	 */
 	public boolean isYomTovAssurBemelacha() {
-		int holidayIndex = getYomTovIndex();
-		return holidayIndex == PESACH || holidayIndex == SHAVUOS || holidayIndex == SUCCOS || holidayIndex == SHEMINI_ATZERES ||
-				holidayIndex == SIMCHAS_TORAH || holidayIndex == ROSH_HASHANA  || holidayIndex == YOM_KIPPUR;
+		return hasHolidayFlag(YOM_TOV_ASSUR_BEMELACHA_FLAG);
 	}
 	
 	/**
@@ -814,7 +1002,7 @@ public class JewishCalendar extends JewishDate {
 	 * @return if the day is a <em>Yom Tov</em> that is <em>assur bemlacha</em> or <em>Shabbos</em>
 	 */
 	public boolean isAssurBemelacha() {
-		return getDayOfWeek() == Calendar.SATURDAY || isYomTovAssurBemelacha();
+		return hasHolidayFlag(ASSUR_BEMELACHA_FLAG);
 	}
 	
 	/**
@@ -858,7 +1046,7 @@ public class JewishCalendar extends JewishDate {
 	 * @see #hasCandleLighting()
 	 */
 	public boolean isTomorrowShabbosOrYomTov() {
-		return getDayOfWeek() == Calendar.FRIDAY || isErevYomTov() || isErevYomTovSheni();
+		return hasHolidayFlag(TOMORROW_SHABBOS_OR_YOM_TOV_FLAG);
 	}
 	
 	/**
@@ -868,11 +1056,7 @@ public class JewishCalendar extends JewishDate {
 	 * @return  if the day is the second day of <em>Yom Tov</em>.
 	 */
 	public boolean isErevYomTovSheni() {
-		return (getJewishMonth() == TISHREI && (getJewishDayOfMonth() == 1))
-		|| (! getInIsrael()
-				&& ((getJewishMonth() == NISSAN && (getJewishDayOfMonth() == 15 || getJewishDayOfMonth() == 21))
-				|| (getJewishMonth() == TISHREI && (getJewishDayOfMonth() == 15 || getJewishDayOfMonth() == 22))
-				|| (getJewishMonth() == SIVAN && getJewishDayOfMonth() == 6 )));
+		return hasHolidayFlag(EREV_YOM_TOV_SHENI_FLAG);
 	}
 
 	/**
@@ -1022,7 +1206,7 @@ public class JewishCalendar extends JewishDate {
 	 * @see #CHOL_HAMOED_SUCCOS
 	 */
 	public boolean isCholHamoed() {
-		return isCholHamoedPesach() || isCholHamoedSuccos();
+		return hasHolidayFlag(CHOL_HAMOED_FLAG);
 	}
 
 	/**
@@ -1036,10 +1220,7 @@ public class JewishCalendar extends JewishDate {
 	 * @see #isErevYomTovSheni()
 	 */
 	public boolean isErevYomTov() {
-		int holidayIndex = getYomTovIndex();
-		return holidayIndex == EREV_PESACH || holidayIndex == EREV_SHAVUOS || holidayIndex == EREV_ROSH_HASHANA
-				|| holidayIndex == EREV_YOM_KIPPUR || holidayIndex == EREV_SUCCOS || holidayIndex == HOSHANA_RABBA
-				|| (holidayIndex == CHOL_HAMOED_PESACH && getJewishDayOfMonth() == 20);
+		return hasHolidayFlag(EREV_YOM_TOV_FLAG);
 	}
 
 	/**
@@ -1104,9 +1285,7 @@ public class JewishCalendar extends JewishDate {
 	 * @return true if today is a fast day
 	 */
 	public boolean isTaanis() {
-		int holidayIndex = getYomTovIndex();
-		return holidayIndex == SEVENTEEN_OF_TAMMUZ || holidayIndex == TISHA_BEAV || holidayIndex == YOM_KIPPUR
-				|| holidayIndex == FAST_OF_GEDALYAH || holidayIndex == TENTH_OF_TEVES || holidayIndex == FAST_OF_ESTHER;
+		return hasHolidayFlag(TAANIS_FLAG);
 	}
 	
 	/**
@@ -1240,29 +1419,10 @@ public class JewishCalendar extends JewishDate {
 	 * @return the Date representing the moment of the <em>molad</em> in Yerushalayim standard time (GMT + 2)
 	 */
 	public Instant getMoladAsInstant() {
-	    JewishDate molad = getMolad();
-
-	    // Standard time offset for Jerusalem: GMT+2
-	    // The raw point in time must be generated using standard time. Using "Asia/Jerusalem" timezone will result in the time
-	    // being incorrectly off by an hour in the summer due to DST. Proper adjustment for the actual time in DST will be done
-	    // by the formatter class used to display the Instant.
-	    ZoneId jerusalemStandardOffset = ZoneId.of("GMT+2");
-
-	    double moladSeconds = molad.getMoladChalakim() * 10.0 / 3.0; // Compute molad seconds from chalakim
-	    int seconds = (int) moladSeconds;
-	    int nanos = (int) ((moladSeconds - seconds) * 1_000_000_000); // convert remainder to nanos
-
-        LocalTime time = LocalTime.of(molad.getMoladHours(),molad.getMoladMinutes(),seconds,nanos);
-
-	    ZonedDateTime moladZdt = ZonedDateTime.of(molad.getLocalDate(),time,jerusalemStandardOffset);
-
-	    // Har Habayis at a longitude of 35.2354 offset vs longitude 35 in standard time, so we subtract the time difference
-	    // of 20.94 minutes (20 minutes and 56 seconds and 496 millis) to get to Standard time from local mean time
-	    Duration jerusalemStandardTimeOffset = Duration.ofMinutes(20)
-	            .plusSeconds(56)
-	            .plusMillis(496);
-
-	    return moladZdt.toInstant().minus(jerusalemStandardTimeOffset);
+		// The molad is calculated in standard time (GMT+2). Using "Asia/Jerusalem" timezone would result in the time being
+		// incorrectly off by an hour in the summer due to DST. Proper adjustment for the actual time in DST will be done by
+		// the formatter class used to display the Instant.
+		return MoladCalculator.getMoladInstant(getChalakimSinceMoladTohu());
 	}
 
 	/**
@@ -1276,7 +1436,7 @@ public class JewishCalendar extends JewishDate {
 	 * @see com.kosherjava.zmanim.ComprehensiveZmanimCalendar#getTchilasZmanKidushLevana3Days(Instant, Instant)
 	 */
 	public Instant getTchilasZmanKidushLevana3Days() {
-	    return getMoladAsInstant().plus(Duration.ofHours(72)); // 3 days after the molad
+	    return getMoladAsInstant().plusSeconds(72 * 3600); // 3 days after the molad
 	}
 
 	/**
@@ -1292,7 +1452,7 @@ public class JewishCalendar extends JewishDate {
 	 * @see com.kosherjava.zmanim.ComprehensiveZmanimCalendar#getTchilasZmanKidushLevana7Days(Instant, Instant)
 	 */
 	public Instant getTchilasZmanKidushLevana7Days() {
-	    return getMoladAsInstant().plus(Duration.ofHours(168)); // 7 days after the molad
+	    return getMoladAsInstant().plusSeconds(168 * 3600); // 7 days after the molad
 	}
 
 	/**
@@ -1311,17 +1471,8 @@ public class JewishCalendar extends JewishDate {
 	 * @see com.kosherjava.zmanim.ComprehensiveZmanimCalendar#getSofZmanKidushLevanaBetweenMoldos(Instant, Instant)
 	 */
 	public Instant getSofZmanKidushLevanaBetweenMoldos() {
-	    Instant molad = getMoladAsInstant();
-
-	    // Duration for half of the lunar month:
-	    // 14 days, 18 hours, 22 minutes, 1 second, 666 milliseconds
-	    Duration halfLunarMonth = Duration.ofDays(14)
-	            .plusHours(18)
-	            .plusMinutes(22)
-	            .plusSeconds(1)
-	            .plusMillis(666);
-
-	    return molad.plus(halfLunarMonth);
+	    // half of the lunar month: 14 days, 18 hours, 22 minutes, 1 second, 666 milliseconds
+	    return getMoladAsInstant().plusMillis(((((14 * 24 + 18) * 60) + 22) * 60 + 1) * 1000L + 666);
 	}
 
 	/**
@@ -1342,7 +1493,7 @@ public class JewishCalendar extends JewishDate {
 	 * @see com.kosherjava.zmanim.ComprehensiveZmanimCalendar#getSofZmanKidushLevana15Days(Instant, Instant)
 	 */
 	public Instant getSofZmanKidushLevana15Days() {
-	    return getMoladAsInstant().plus(Duration.ofHours(24 * 15));
+	    return getMoladAsInstant().plusSeconds(15 * 24 * 3600);
 	}
 
 	/**
@@ -1384,7 +1535,6 @@ public class JewishCalendar extends JewishDate {
 	 * @see com.kosherjava.zmanim.hebrewcalendar.TefilaRules#isVeseinTalUmatarStartDate(JewishCalendar)
 	 * @see com.kosherjava.zmanim.hebrewcalendar.TefilaRules#isVeseinTalUmatarStartingTonight(JewishCalendar)
 	 * @see com.kosherjava.zmanim.hebrewcalendar.TefilaRules#isYaalehVeyavoRecited(JewishCalendar)
-	 * @see #getTekufa()
 	 * @see #getTekufaAsInstant(boolean)
 	 */
 	public int getTekufasTishreiElapsedDays() {
@@ -1396,39 +1546,6 @@ public class JewishCalendar extends JewishDate {
 		return (int) Math.floor(days - solar);
 	}
 
-	/**
-	 * Calculates the hours for when the <a href="https://en.wikipedia.org/wiki/Tekufah"><em>Tekufa</em></a> (season) changes.
-	 * There are 4 <em>tekufos</em> a year: Nissan/Spring, Tammuz/Summer, Tishri/Fall, and Teves/Winter. This calculation is
-	 * according to <a href="https://en.wikipedia.org/wiki/Samuel_of_Nehardea">Shmuel</a> in <a href=
-	 * "https://hebrewbooks.org/shas.aspx?mesechta=3&daf=56">Eruvin 56a</a>, which is a more rounded up version of <a href=
-	 * "https://en.wikipedia.org/wiki/Adda_bar_Ahavah">Rav Adda's</a> calculation. This calculation follows the Levush in the end of Siman 428,
-	 * who writes that the hours to calculate the tekufa are based on regular clock hours and not proportional hours, and that the time
-	 * for the tekufa are based on 6 hours after the previous day's Midday. The <a href=
-	 * "https://en.wikipedia.org/wiki/Moses_Isserles">Rama</a> writes in <a href=
-	 * "https://hebrewbooks.org/pdfpager.aspx?req=67715&st=&pgnum=218">Yoreh De'ah 116:5</a> that one should not drink water during
-	 * the <em>tekufa</em> change. <a href="https://en.wikipedia.org/wiki/Ovadia_Yosef">Rabbi Ovadia Yosef</a> (Halichot Olam,
-	 * Chelek 7, Page 183) recommends to abstain from drinking water for a range of 1 hour (30 minutes before and after the
-	 * <em>tekufa</em> event).
-	 *
-	 * @return the number of hours into the Hebrew day that the <em>tekufa</em> (season) change takes place as a {code Double}, or
-	 *         {@code null} if the <em>tekufa</em> does not occur on current day. For example: 19.5 would mean that the
-	 *         <em>tekufa</em> occurs 19 hours and a half into the Hebrew date, or 13 and a half hours (-6 hours) into the Gregorian
-	 *         date.
-	 */
-	private Double getTekufa() {
-		double INITIAL_TEKUFA_OFFSET = 12.625;  // the number of days Tekufas Tishrei occurs before JEWISH_EPOCH
-
-		double days = getJewishCalendarElapsedDays(getJewishYear()) + getDaysSinceStartOfJewishYear() + INITIAL_TEKUFA_OFFSET - 1;  // total days since first Tekufas Tishrei event
-
-		double solarDaysElapsed = days % 365.25;  // total days elapsed since the start of solar year
-		double tekufaDaysElapsed = solarDaysElapsed % 91.3125;  // the number of days that have passed since a tekufa event
-		if (tekufaDaysElapsed > 0 && tekufaDaysElapsed <= 1) {  // if the tekufa happens in the upcoming 24 hours
-			return ((1.0 - tekufaDaysElapsed) * 24.0) % 24;// rationalize the tekufa event to number of hours since start of jewish day
-		} else {
-			return null;
-		}
-	}
-
 	/**
 	 * Returns an {@code Instant} if the current day has a <a href="https://en.wikipedia.org/wiki/Tekufah"><em>Tekufa</em></a>
 	 * (season) change. The {@code Instant} will contain the time that the <em>tekufa</em> (season) is arriving. If this method is
@@ -1444,45 +1561,32 @@ public class JewishCalendar extends JewishDate {
 	 * starts at sunset and to use proportional hours. While the <a href="https://en.wikipedia.org/wiki/Simeon_ben_Zemah_Duran"
 	 * >Tashbetz</a> (Shut Tashbetz <a href="https://hebrewbooks.org/pdfpager.aspx?req=1381&st=&pgnum=91">Chelek 1, Siman 109</a>)
 	 * is also of the opinion that the calculation starts at sunset, however, his opinion is to use regular hours.
+	 * <p>
+	 * There are 4 <em>tekufos</em> a year: Nissan/Spring, Tammuz/Summer, Tishri/Fall, and Teves/Winter. This calculation is
+	 * according to <a href="https://en.wikipedia.org/wiki/Samuel_of_Nehardea">Shmuel</a> in <a href=
+	 * "https://hebrewbooks.org/shas.aspx?mesechta=3&daf=56">Eruvin 56a</a>, which is a more rounded up version of <a href=
+	 * "https://en.wikipedia.org/wiki/Adda_bar_Ahavah">Rav Adda's</a> calculation. This calculation follows the Levush in the end of Siman 428,
+	 * who writes that the hours to calculate the tekufa are based on regular clock hours and not proportional hours, and that the time
+	 * for the tekufa are based on 6 hours after the previous day's Midday. The <a href=
+	 * "https://en.wikipedia.org/wiki/Moses_Isserles">Rama</a> writes in <a href=
+	 * "https://hebrewbooks.org/pdfpager.aspx?req=67715&st=&pgnum=218">Yoreh De'ah 116:5</a> that one should not drink water during
+	 * the <em>tekufa</em> change. <a href="https://en.wikipedia.org/wiki/Ovadia_Yosef">Rabbi Ovadia Yosef</a> (Halichot Olam,
+	 * Chelek 7, Page 183) recommends to abstain from drinking water for a range of 1 hour (30 minutes before and after the
+	 * <em>tekufa</em> event).
+	 * <p>
+	 * The time is calculated by the {@link MoladCalculator}, that can also return the <em>tekufos</em> of a range of years.
+	 * 
 	 * @param useLocalMeanTime if true, removes ~21 minutes from the time of the <em>tekufa</em> calculated by Rabbi Yechiel Michel
 	 *         Tucazinsky, and will follow the opinion of Rabbi Yonah Merzbach.
 	 * @return an Instant with the time that the <em>tekufa</em> (season) changes or a {@code null} on a day with no <em>tekufa</em>
 	 *         change.
-	 * @see #getTekufa()
+	 * @see MoladCalculator#getTekufaInstant(int, int, boolean)
 	 */
 	public Instant getTekufaAsInstant(boolean useLocalMeanTime) {
-		Double hours = getTekufa();
-		if (hours == null) {
-			return null;
-		}
-		// The tekufa Date must be generated using standard time. Using "Asia/Jerusalem" timezone will result in the time being
-		// incorrectly off by an hour in the summer due to DST. Proper adjustment for the actual time in DST will be done by the
-		// formatter class used to display the Instant.
-		ZoneId yerushalayimStandardTZ = ZoneId.of("GMT+2");
-
-		hours -= 6; // minus 6 hours because the hebrew date starts at sunset which is at 6PM
-
-		LocalDate tekufaDate = getLocalDate();
-		if (hours < 0) {
-			hours += 24;
-			tekufaDate = tekufaDate.minusDays(1);
-		}
-
-		int minutes = (int) ((hours - hours.intValue()) * 60);
-
-		LocalTime time = LocalTime.of(hours.intValue(), minutes);
-		ZonedDateTime tekufaZDT = ZonedDateTime.of(tekufaDate, time, yerushalayimStandardTZ);
-
-		// Har Habayis at a longitude of 35.2354 offset vs longitude 35 in standard time, so we subtract the time difference
-	    // of 20.94 minutes (20 minutes and 56 seconds and 496 millis) to get to Standard time from local mean time
-		if (useLocalMeanTime) {
-			Duration jerusalemStandardTimeOffset = Duration.ofMinutes(20)
-					.plusSeconds(56)
-					.plusMillis(496);
-			return tekufaZDT.minus(jerusalemStandardTimeOffset).toInstant();
-		} else {
-			return tekufaZDT.toInstant();
-		}
+		// The tekufa is calculated in standard time (GMT+2). Using "Asia/Jerusalem" timezone would result in the time being
+		// incorrectly off by an hour in the summer due to DST. Proper adjustment for the actual time in DST will be done by
+		// the formatter class used to display the Instant.
+		return MoladCalculator.getTekufaInstantOnDay(getAbsDate(), useLocalMeanTime);
 	}
 	
 	/**
@@ -17,8 +17,8 @@
 package com.kosherjava.zmanim.hebrewcalendar;
 
 import java.time.LocalDate;
-import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 
 /**
  * The JewishDate is the base calendar class, that supports maintenance of a {@link LocalDate}
@@ -142,7 +142,7 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
 	 * the Jewish epoch using the RD (Rata Die/Fixed Date or Reingold Dershowitz) day used in Calendrical Calculations.
 	 * Day 1 is January 1, 0001 of the Gregorian calendar
 	 */
-	private static final int JEWISH_EPOCH = -1373429;
+	static final int JEWISH_EPOCH = -1373429;
 
 	/** The number  of <em>chalakim</em> (18) in a minute.*/
 	private static final int CHALAKIM_PER_MINUTE = 18;
@@ -152,7 +152,7 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
 	private static final long CHALAKIM_PER_DAY = 25920; // 24 * 1080
 	/** The number  of <em>chalakim</em> in an average Jewish month. A month has 29 days, 12 hours and 793
 	 * <em>chalakim</em> (44 minutes and 3.3 seconds) for a total of 765,433 <em>chalakim</em>*/
-	private static final long CHALAKIM_PER_MONTH = 765433; // (29 * 24 + 12) * 1080 + 793
+	static final long CHALAKIM_PER_MONTH = 765433; // (29 * 24 + 12) * 1080 + 793
 	/**
 	 * Days from the beginning of Sunday till <em>molad BaHaRaD</em>. Calculated as 1 day, 5 hours and 204 <em>chalakim</em> =
 	 * (24 + 5) * 1080 + 204 = 31524
@@ -183,6 +183,60 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
 	 */
 	public static final int SHELAIMIM = 2;
 
+	/**
+	 * The {@link #getAbsDate() absolute date} of January 1, 1970, the {@link LocalDate#toEpochDay() epoch day} 0. Adding it to
+	 * an epoch day gives the absolute date (and subtracting it gives the epoch day) without any searching.
+	 */
+	static final int ABS_DATE_OF_EPOCH_DAY = 719163;
+
+	/**
+	 * The days from Rosh Hashana to the 1st of each month (indexed by the month constants such as {@link #NISSAN}) for each of
+	 * the six {@link #getYearType(int) year types}.
+	 */
+	static final int[][] DAYS_BEFORE_MONTH = new int[6][ADAR_II + 1];
+
+	/**
+	 * The Jewish month of each day of the year (with 0 being 1 Tishrei) for each of the six {@link #getYearType(int) year
+	 * types}.
+	 */
+	static final byte[][] MONTH_OF_DAY_OF_YEAR = new byte[6][385];
+
+	static {
+		for (int yearType = 0; yearType < 6; yearType++) {
+			boolean leapYear = yearType >= 3;
+			int lastMonth = leapYear ? ADAR_II : ADAR;
+			int days = 0;
+			for (int i = 0; i < lastMonth; i++) {
+				int month = (TISHREI - 1 + i) % lastMonth + 1; // Tishrei till Adar (II) and then Nissan till Elul
+				int monthLength = getDaysInJewishMonth(leapYear, yearType % 3, month);
+				DAYS_BEFORE_MONTH[yearType][month] = days;
+				Arrays.fill(MONTH_OF_DAY_OF_YEAR[yearType], days, days + monthLength, (byte) month);
+				days += monthLength;
+			}
+		}
+	}
+
+	/**
+	 * The {@link #getJewishCalendarElapsedDays(int) elapsed days} to Rosh Hashana of every year from 3760 to 9999, built the
+	 * first time it is used. This is about 25K of memory and turns the <em>molad</em> and <em>dechiyos</em> calculation (needed
+	 * several times for every date conversion) into an array lookup. The length of a year is the difference between the
+	 * entries for the year and the next year. Years outside of this range are calculated.
+	 */
+	private static final class ElapsedDaysTable {
+		/** The first year in the table. */
+		static final int FIRST_YEAR = 3760;
+		/** The last year in the table. */
+		static final int LAST_YEAR = 9999;
+		/** The elapsed days of each year, indexed from {@link #FIRST_YEAR}. */
+		static final int[] ELAPSED_DAYS = new int[LAST_YEAR - FIRST_YEAR + 1];
+
+		static {
+			for (int i = 0; i < ELAPSED_DAYS.length; i++) {
+				ELAPSED_DAYS[i] = calculateJewishCalendarElapsedDays(FIRST_YEAR + i);
+			}
+		}
+	}
+
 	/** the internal Jewish month.*/
 	private int jewishMonth;
 	/** the internal Jewish day.*/
@@ -293,34 +347,12 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
 	private int gregorianAbsDate;
 
 	/**
-	 * Returns the number of days in a given month in a given year and month.
-	 *
-	 * @param year the year (only impacts February)
-	 * @param month the month. As with other cases in this class, this is 1-based, not zero-based.
-	 * @return the number of days in the month in the given year
-	 */
-	private static int getLastDayOfGregorianMonth(int year, int month) {
-	 	return YearMonth.of(year, month).lengthOfMonth();
-	}
-
-	/**
-	 * Computes the Gregorian date from the absolute date. ND+ER
+	 * Computes the Gregorian date from the absolute date.
 	 * @param absDate the absolute date
 	 * @return the {@code LocalDate}.
 	 */
 	private static LocalDate absDateToDate(int absDate) {
-	 	int year = absDate / 366; // Search forward year by year from approximate year
-	 	while (absDate >= gregorianDateToAbsDate(year + 1, 1, 1)) {
-	 	 	year++;
-	 	}
-
-	 	int month = 1; // Search forward month by month from January
-	 	while (absDate > gregorianDateToAbsDate(year, month, getLastDayOfGregorianMonth(year, month))) {
-	 	 	month++;
-	 	}
-
-	 	int dayOfMonth = absDate - gregorianDateToAbsDate(year, month, 1) + 1;
-	 	return LocalDate.of(year, month, dayOfMonth);
+		return LocalDate.ofEpochDay((long) absDate - ABS_DATE_OF_EPOCH_DAY);
 	}
 
 	/**
@@ -333,26 +365,14 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
 	}
 
 	/**
-	 * Computes the absolute date from a Gregorian date. ND+ER
+	 * Computes the absolute date from a Gregorian date.
 	 *
-	 * @param year the Gregorian year
-	 * @param month the Gregorian month. Unlike the Java Calendar where January has the value of 0,This expects a 1 for January
-	 * @param dayOfMonth the day of the month (1st, 2nd, etc...)
-     * @return the absolute Gregorian day
-     */
-    private static int gregorianDateToAbsDate(int year, int month, int dayOfMonth) {
-        int absDate = dayOfMonth;
-        for (int m = month - 1; m > 0; m--) {
-            absDate += getLastDayOfGregorianMonth(year, m); // days in prior months of the year
-        }
-
-        int y = year - 1;
-		return (absDate // days this year
-				+ 365 * y // days in previous years ignoring leap days
-                + y / 4 // Julian leap days before this year
-                - y / 100 // minus prior century years
-                + y / 400); // plus prior years divisible by 400
-    }
+	 * @param localDate the Gregorian date
+	 * @return the absolute Gregorian day
+	 */
+	private static int gregorianDateToAbsDate(LocalDate localDate) {
+		return (int) (localDate.toEpochDay() + ABS_DATE_OF_EPOCH_DAY);
+	}
 
     /**
      * Returns if the year is a Jewish leap year. Years 3, 6, 8, 11, 14, 17 and 19 in the 19-year cycle are leap years.
@@ -384,7 +404,7 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
      * @return 12 on a non leap year or 13 on a leap year
      * @see #isJewishLeapYear(int)
      */
-    private static int getLastMonthOfJewishYear(int year) {
+    static int getLastMonthOfJewishYear(int year) {
         return isJewishLeapYear(year) ? ADAR_II : ADAR;
     }
 
@@ -399,6 +419,20 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
      *         <em>chalakim</em> after sunset on Sunday evening).
      */
     public static int getJewishCalendarElapsedDays(int year) {
+        if (year >= ElapsedDaysTable.FIRST_YEAR && year <= ElapsedDaysTable.LAST_YEAR) {
+            return ElapsedDaysTable.ELAPSED_DAYS[year - ElapsedDaysTable.FIRST_YEAR];
+        }
+        return calculateJewishCalendarElapsedDays(year);
+    }
+
+    /**
+     * Calculates the {@link #getJewishCalendarElapsedDays(int) elapsed days} to Rosh Hashana of a year from the <em>molad</em>
+     * and the 4 dechiyos.
+     *
+     * @param year the Jewish year
+     * @return the number of days elapsed from prior to the <em>molad Tohu BaHaRaD</em> to Rosh Hashana of the Jewish year.
+     */
+    private static int calculateJewishCalendarElapsedDays(int year) {
         long chalakimSince = getChalakimSinceMoladTohu(year, TISHREI);
         int moladDay = (int) (chalakimSince / CHALAKIM_PER_DAY);
         int moladParts = (int) (chalakimSince - moladDay * CHALAKIM_PER_DAY);
@@ -455,7 +489,7 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
      *         as {@link JewishDate#TISHREI}.
      * @return the number of <em>chalakim</em> (parts - 1080 to the hour) from the original hypothetical <em>Molad Tohu</em>
      */
-    private static long getChalakimSinceMoladTohu(int year, int month) {
+    static long getChalakimSinceMoladTohu(int year, int month) {
     	 int y = year - 1;
 		// Jewish lunar month = 29 days, 12 hours and 793 chalakim
 		// chalakim since Molad Tohu BeHaRaD - 1 day, 5 hours and 204 chalakim
@@ -486,7 +520,7 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
      * @param month The Jewish Month
      * @return the Jewish month of the year starting with Tishrei
      */
-    private static int getJewishMonthOfYear(int year, int month) {
+    static int getJewishMonthOfYear(int year, int month) {
         boolean isLeapYear = isJewishLeapYear(year);
         return (month + (isLeapYear ? 6 : 5)) % (isLeapYear ? 13 : 12) + 1;
     }
@@ -515,7 +549,7 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
      *         break the <em>chalakim</em> into minutes (18 <em>chalakim</em> per minutes, so it would be 44 minutes and 1
      *         <em>chelek</em> in the case of 793 (<em>TaShTzaG</em>).
      */
-    private static void validateJewishDate(int year, int month, int dayOfMonth, int hours, int minutes, int chalakim) {
+    static void validateJewishDate(int year, int month, int dayOfMonth, int hours, int minutes, int chalakim) {
         if (month < NISSAN || month > getLastMonthOfJewishYear(year)) {
             throw new IllegalArgumentException("The Jewish month has to be between 1 and 12 (or 13 on a leap year). "
                     + month + " is invalid for the year " + year + ".");
@@ -650,16 +684,42 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
      * @param month the Jewish month
      * @return the number of days for a given Jewish month
      */
-    private static int getDaysInJewishMonth(int year, int month) {
-        if ((month == IYAR) || (month == TAMMUZ) || (month == ELUL) || ((month == CHESHVAN) && !(isCheshvanLong(year)))
-                || ((month == KISLEV) && isKislevShort(year)) || (month == TEVES)
-                || ((month == ADAR) && !(isJewishLeapYear(year))) || (month == ADAR_II)) {
+    static int getDaysInJewishMonth(int year, int month) {
+        int yearType = getYearType(year);
+        return getDaysInJewishMonth(yearType >= 3, yearType % 3, month);
+    }
+
+    /**
+     * Returns the number of days of a Jewish month for a given type of year.
+     *
+     * @param leapYear if the year is a leap year
+     * @param kviah the {@link #CHASERIM}, {@link #KESIDRAN} or {@link #SHELAIMIM} <em>kviah</em> of the year
+     * @param month the Jewish month
+     * @return the number of days for a given Jewish month
+     */
+    static int getDaysInJewishMonth(boolean leapYear, int kviah, int month) {
+        if ((month == IYAR) || (month == TAMMUZ) || (month == ELUL) || ((month == CHESHVAN) && kviah != SHELAIMIM)
+                || ((month == KISLEV) && kviah == CHASERIM) || (month == TEVES)
+                || ((month == ADAR) && !leapYear) || (month == ADAR_II)) {
             return 29;
         } else {
             return 30;
         }
     }
 
+    /**
+     * Returns the type of a Jewish year, used as an index into the month tables. The month lengths of a year only depend on
+     * whether it is a leap year and on its <em>kviah</em>, so there are six types: 0 - 2 for a {@link #CHASERIM},
+     * {@link #KESIDRAN} and {@link #SHELAIMIM} non leap year (of 353, 354 and 355 days), and 3 - 5 for the same in a leap year
+     * (of 383, 384 and 385 days).
+     *
+     * @param year the Jewish year
+     * @return the year type, from 0 to 5
+     */
+    static int getYearType(int year) {
+        return (isJewishLeapYear(year) ? 3 : 0) + getDaysInJewishYear(year) % 10 - 3;
+    }
+
     /**
      * Returns the number of days of the Jewish month that the calendar is currently set to.
      *
@@ -674,30 +734,46 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
      * @param gregorianAbsDate the Gregorian absolute date.
      */
     private synchronized void setAbsDate(int gregorianAbsDate) {
+        int jewishDate = absDateToPackedJewishDate(gregorianAbsDate);
+        this.gregorianAbsDate = gregorianAbsDate;
+        jewishYear = jewishDate >>> 9;
+        jewishMonth = (jewishDate >>> 5) & 0xF;
+        jewishDay = jewishDate & 0x1F;
+
+        // day of week (same calculation as original)
+        dayOfWeek = Math.abs(gregorianAbsDate % 7) + 1;
+    }
+
+    /**
+     * Converts an absolute date to a Jewish date packed into an int as {@code year << 9 | month << 5 | day}, the form kept
+     * by {@link JewishLocalDate}.
+     *
+     * @param gregorianAbsDate the Gregorian absolute date.
+     * @return the packed Jewish date
+     * @throws IllegalArgumentException if the absolute date is before January 1, 0001
+     */
+    static int absDateToPackedJewishDate(int gregorianAbsDate) {
         if (gregorianAbsDate <= 0) {
             throw new IllegalArgumentException("Dates in the BC era are not supported");
         }
-        this.gregorianAbsDate = gregorianAbsDate;
-        // Approximation from below
-        jewishYear = (gregorianAbsDate - JEWISH_EPOCH) / 366;
-        // Search forward for year from the approximation
-        while (gregorianAbsDate >= jewishDateToAbsDate(jewishYear + 1, TISHREI, 1)) {
-            jewishYear++;
-        }
-        // Search forward for month from either Tishri or Nissan.
-        if (gregorianAbsDate < jewishDateToAbsDate(jewishYear, NISSAN, 1)) {
-            jewishMonth = TISHREI;// Start at Tishri
-        } else {
-            jewishMonth = NISSAN;// Start at Nissan
+        int daysSinceEpoch = gregorianAbsDate - JEWISH_EPOCH;
+        // Estimate the year from the mean year of 235 months per 19 years. Since Rosh Hashana is never more than a month
+        // from its mean date, the estimate is off by at most a year.
+        int year = (int) ((long) daysSinceEpoch * 19 * CHALAKIM_PER_DAY / (235 * CHALAKIM_PER_MONTH)) + 1;
+        int elapsedDays = getJewishCalendarElapsedDays(year);
+        while (daysSinceEpoch <= elapsedDays) { // before Rosh Hashana of the estimated year
+            elapsedDays = getJewishCalendarElapsedDays(--year);
         }
-        while (gregorianAbsDate > jewishDateToAbsDate(jewishYear, jewishMonth, getDaysInJewishMonth())) {
-            jewishMonth++;
+        int nextElapsedDays = getJewishCalendarElapsedDays(year + 1);
+        while (daysSinceEpoch > nextElapsedDays) { // on or after Rosh Hashana of the next year
+            elapsedDays = nextElapsedDays;
+            nextElapsedDays = getJewishCalendarElapsedDays(++year + 1);
         }
-        // Calculate the day by subtraction
-        jewishDay = gregorianAbsDate - jewishDateToAbsDate(jewishYear, jewishMonth, 1) + 1;
-
-        // day of week (same calculation as original)
-        dayOfWeek = Math.abs(gregorianAbsDate % 7) + 1;
+        int yearType = (isJewishLeapYear(year) ? 3 : 0) + (nextElapsedDays - elapsedDays) % 10 - 3;
+        int dayOfYear = daysSinceEpoch - elapsedDays - 1; // 0 for 1 Tishrei
+        int month = MONTH_OF_DAY_OF_YEAR[yearType][dayOfYear];
+        int day = dayOfYear - DAYS_BEFORE_MONTH[yearType][month] + 1;
+        return (year << 9) | (month << 5) | day;
     }
 
     /**
@@ -710,7 +786,7 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
      *         has 29 days, the day will be set as 29.
      * @return the absolute date of the Jewish date.
      */
-    private static int jewishDateToAbsDate(int year, int month, int dayOfMonth) {
+    static int jewishDateToAbsDate(int year, int month, int dayOfMonth) {
         int elapsed = getDaysSinceStartOfJewishYear(year, month, dayOfMonth);
         // add elapsed days this year + Days in prior years + Days elapsed before absolute year 1
         return elapsed + getJewishCalendarElapsedDays(year) + JEWISH_EPOCH;
@@ -772,22 +848,7 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
      * @return the number of days
      */
     private static int getDaysSinceStartOfJewishYear(int year, int month, int dayOfMonth) {
-        int elapsedDays = dayOfMonth;
-        // Before Tishrei (from Nissan to Tishrei), add days in prior months
-        if (month < TISHREI) {
-            // this year before and after Nissan.
-            for (int m = TISHREI; m <= getLastMonthOfJewishYear(year); m++) {
-                elapsedDays += getDaysInJewishMonth(year, m);
-            }
-            for (int m = NISSAN; m < month; m++) {
-                elapsedDays += getDaysInJewishMonth(year, m);
-            }
-        } else { // Add days in prior months this year
-            for (int m = TISHREI; m < month; m++) {
-                elapsedDays += getDaysInJewishMonth(year, m);
-            }
-        }
-        return elapsedDays;
+        return DAYS_BEFORE_MONTH[getYearType(year)][month] + dayOfMonth;
     }
 
     /**
@@ -854,7 +915,7 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
      * @throws IllegalArgumentException if the date would fall prior to the year 1 AD
      */
     public void setGregorianDate(LocalDate localDate) {
-        int absDate = gregorianDateToAbsDate(localDate.getYear(),  localDate.getMonth().getValue(), localDate.getDayOfMonth());
+        int absDate = gregorianDateToAbsDate(localDate);
         setAbsDate(absDate); // convert to Jewish date
     }
 
@@ -958,6 +1019,15 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
         return absDateToDate(getAbsDate());
     }
 
+    /**
+     * Returns this object's date as an immutable {@link JewishLocalDate}.
+     *
+     * @return the {@link JewishLocalDate}
+     */
+    public JewishLocalDate toJewishLocalDate() {
+        return JewishLocalDate.ofAbsDate(getAbsDate());
+    }
+
     /**
      * Resets this date to the current system date.
      */
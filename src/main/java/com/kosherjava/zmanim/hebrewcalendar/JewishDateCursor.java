@@ -0,0 +1,260 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * A cursor that walks forward one day at a time, keeping the Jewish date, the Gregorian date and the day of the week
+ * together. Moving to the next day only increments the day and rolls over the month and year when needed (using the month
+ * lengths of the current year that are looked up once per month), unlike {@link JewishDate#plusDays(int)} that converts the
+ * whole date from the absolute date each time. This suits code that prints a calendar grid or a <em>luach</em> and needs
+ * the fields of every day in a range. For a {@code Stream} of {@link JewishLocalDate}s, see {@link
+ * JewishLocalDate#datesUntil(JewishLocalDate)}.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * JewishDateCursor cursor = new JewishDateCursor(JewishLocalDate.of(5787, JewishDate.TISHREI, 1));
+ * while (cursor.getJewishYear() == 5787) {
+ *     System.out.println(cursor.getJewishDayOfMonth() + "/" + cursor.getJewishMonth() + " " + cursor.getGregorianDayOfMonth()
+ *             + "/" + cursor.getGregorianMonth());
+ *     cursor.nextDay();
+ * }
+ * </pre>
+ * A cursor is mutable and should not be shared between threads without synchronization.
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+public final class JewishDateCursor {
+	/** The Jewish year. */
+	private int jewishYear;
+
+	/** The Jewish month, using the {@link JewishDate} month constants. */
+	private int jewishMonth;
+
+	/** The Jewish day of the month. */
+	private int jewishDay;
+
+	/** If the Jewish year is a leap year. */
+	private boolean leapYear;
+
+	/** The {@link JewishDate#getCheshvanKislevKviah() kviah} of the Jewish year. */
+	private int kviah;
+
+	/** The number of days in the Jewish month. */
+	private int daysInJewishMonth;
+
+	/** The Gregorian year. */
+	private int gregorianYear;
+
+	/** The Gregorian month, from 1 for January to 12. */
+	private int gregorianMonth;
+
+	/** The Gregorian day of the month. */
+	private int gregorianDay;
+
+	/** The number of days in the Gregorian month. */
+	private int daysInGregorianMonth;
+
+	/** The {@link JewishDate#getAbsDate() absolute date}. */
+	private int absDate;
+
+	/** The day of the week, 1 for Sunday to 7 for <em>Shabbos</em>. */
+	private int dayOfWeek;
+
+	/**
+	 * Creates a cursor at a date.
+	 *
+	 * @param start the first date of the cursor
+	 */
+	public JewishDateCursor(JewishLocalDate start) {
+		jewishYear = start.getJewishYear();
+		jewishMonth = start.getJewishMonth();
+		jewishDay = start.getJewishDayOfMonth();
+		setJewishYearFields();
+		daysInJewishMonth = JewishDate.getDaysInJewishMonth(leapYear, kviah, jewishMonth);
+		absDate = start.getAbsDate();
+		dayOfWeek = absDate % 7 + 1;
+		LocalDate localDate = start.toLocalDate();
+		gregorianYear = localDate.getYear();
+		gregorianMonth = localDate.getMonthValue();
+		gregorianDay = localDate.getDayOfMonth();
+		daysInGregorianMonth = localDate.lengthOfMonth();
+	}
+
+	/**
+	 * Creates a cursor at the date of a {@link JewishDate} (or {@link JewishCalendar}). The cursor does not change the date
+	 * passed in.
+	 *
+	 * @param start the first date of the cursor
+	 */
+	public JewishDateCursor(JewishDate start) {
+		this(start.toJewishLocalDate());
+	}
+
+	/**
+	 * Sets the leap year and <em>kviah</em> of the current Jewish year.
+	 */
+	private void setJewishYearFields() {
+		int yearType = JewishDate.getYearType(jewishYear);
+		leapYear = yearType >= 3;
+		kviah = yearType % 3;
+	}
+
+	/**
+	 * Moves the cursor to the next day.
+	 */
+	public void nextDay() {
+		absDate++;
+		dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+		if (jewishDay < daysInJewishMonth) {
+			jewishDay++;
+		} else {
+			jewishDay = 1;
+			if (jewishMonth == JewishDate.ELUL) {
+				jewishYear++;
+				jewishMonth = JewishDate.TISHREI;
+				setJewishYearFields();
+			} else if (jewishMonth == (leapYear ? JewishDate.ADAR_II : JewishDate.ADAR)) {
+				jewishMonth = JewishDate.NISSAN;
+			} else {
+				jewishMonth++;
+			}
+			daysInJewishMonth = JewishDate.getDaysInJewishMonth(leapYear, kviah, jewishMonth);
+		}
+		if (gregorianDay < daysInGregorianMonth) {
+			gregorianDay++;
+		} else {
+			gregorianDay = 1;
+			if (gregorianMonth == 12) {
+				gregorianYear++;
+				gregorianMonth = 1;
+			} else {
+				gregorianMonth++;
+			}
+			daysInGregorianMonth = Month.of(gregorianMonth).length(Year.isLeap(gregorianYear));
+		}
+	}
+
+	/**
+	 * Returns the Jewish year.
+	 *
+	 * @return the Jewish year
+	 */
+	public int getJewishYear() {
+		return jewishYear;
+	}
+
+	/**
+	 * Returns the Jewish month, using the {@link JewishDate} month constants such as {@link JewishDate#NISSAN}.
+	 *
+	 * @return the Jewish month
+	 */
+	public int getJewishMonth() {
+		return jewishMonth;
+	}
+
+	/**
+	 * Returns the Jewish day of the month.
+	 *
+	 * @return the Jewish day of the month
+	 */
+	public int getJewishDayOfMonth() {
+		return jewishDay;
+	}
+
+	/**
+	 * Returns the number of days in the Jewish month.
+	 *
+	 * @return the number of days in the Jewish month
+	 */
+	public int getDaysInJewishMonth() {
+		return daysInJewishMonth;
+	}
+
+	/**
+	 * Returns if the Jewish year is a leap year.
+	 *
+	 * @return true for a Jewish leap year
+	 */
+	public boolean isJewishLeapYear() {
+		return leapYear;
+	}
+
+	/**
+	 * Returns the Gregorian year.
+	 *
+	 * @return the Gregorian year
+	 */
+	public int getGregorianYear() {
+		return gregorianYear;
+	}
+
+	/**
+	 * Returns the Gregorian month, from 1 for January to 12 for December as with {@link LocalDate#getMonthValue()}.
+	 *
+	 * @return the Gregorian month
+	 */
+	public int getGregorianMonth() {
+		return gregorianMonth;
+	}
+
+	/**
+	 * Returns the Gregorian day of the month.
+	 *
+	 * @return the Gregorian day of the month
+	 */
+	public int getGregorianDayOfMonth() {
+		return gregorianDay;
+	}
+
+	/**
+	 * Returns the day of the week as a number from 1 for Sunday to 7 for <em>Shabbos</em>, as with {@link
+	 * JewishDate#getDayOfWeek()}.
+	 *
+	 * @return the day of the week
+	 */
+	public int getDayOfWeek() {
+		return dayOfWeek;
+	}
+
+	/**
+	 * Returns the absolute date, the days since January 1, 0001 of the Gregorian calendar.
+	 *
+	 * @return the absolute date
+	 * @see JewishDate#getAbsDate()
+	 */
+	public int getAbsDate() {
+		return absDate;
+	}
+
+	/**
+	 * Returns the current Jewish date.
+	 *
+	 * @return the {@link JewishLocalDate}
+	 */
+	public JewishLocalDate toJewishLocalDate() {
+		return JewishLocalDate.ofPacked((jewishYear << 9) | (jewishMonth << 5) | jewishDay);
+	}
+
+	/**
+	 * Returns the current Gregorian date.
+	 *
+	 * @return the {@link LocalDate}
+	 */
+	public LocalDate toLocalDate() {
+		return LocalDate.of(gregorianYear, gregorianMonth, gregorianDay);
+	}
+}
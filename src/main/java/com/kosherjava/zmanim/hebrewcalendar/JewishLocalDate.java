@@ -0,0 +1,478 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable Jewish date, the value type counterpart of {@link JewishDate} in the way that {@link LocalDate} is to the
+ * old {@code Calendar}. The date is kept in a single packed {@code int} ({@code year << 9 | month << 5 | day}), methods such
+ * as {@link #plusDays(long)} and {@link #plusMonths(long)} return a new date, and nothing is locked, so instances can be
+ * shared between threads, used as map keys and cached freely. Months use the {@link JewishDate} constants, starting with
+ * {@link JewishDate#NISSAN} as 1.
+ * <p>
+ * Conversion to and from {@link JewishDate} and {@link JewishCalendar} is direct, so the holiday, <em>parsha</em> and other
+ * methods of {@link JewishCalendar} are available for any date:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * JewishLocalDate pesach = JewishLocalDate.of(5787, JewishDate.NISSAN, 15);
+ * LocalDate seder = pesach.minusDays(1).toLocalDate();
+ * boolean yomTov = pesach.plusDays(6).toJewishCalendar(false).isYomTov();
+ * </pre>
+ *
+ * @see JewishDate#toJewishLocalDate()
+ * @author © Eliyahu Hershfeld 2026
+ */
+public final class JewishLocalDate implements Comparable<JewishLocalDate>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/** The Jewish year, month and day packed as {@code year << 9 | month << 5 | day}, with the year unsigned. */
+	private final int packed;
+
+	/**
+	 * Creates a date from a packed year, month and day.
+	 *
+	 * @param packed the packed date
+	 */
+	private JewishLocalDate(int packed) {
+		this.packed = packed;
+	}
+
+	/**
+	 * Reads a serialized date and validates it as {@link #of(int, int, int)} does, so that a stream can't create a date that
+	 * is not valid.
+	 *
+	 * @param in the stream
+	 * @throws IOException if the stream can't be read
+	 * @throws ClassNotFoundException if a class of the stream can't be found
+	 * @throws InvalidObjectException if the date is not valid
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		try {
+			JewishDate.validateJewishDate(getJewishYear(), getJewishMonth(), getJewishDayOfMonth(), 0, 0, 0);
+		} catch (IllegalArgumentException e) {
+			InvalidObjectException invalid = new InvalidObjectException(e.getMessage());
+			invalid.initCause(e);
+			throw invalid;
+		}
+	}
+
+	/**
+	 * Returns a date from a packed year, month and day that are known to be valid.
+	 *
+	 * @param packed the packed date
+	 * @return the date
+	 */
+	static JewishLocalDate ofPacked(int packed) {
+		return new JewishLocalDate(packed);
+	}
+
+	/**
+	 * Returns a date for a Jewish year, month and day of month.
+	 *
+	 * @param year the Jewish year
+	 * @param month the Jewish month, using the constants such as {@link JewishDate#NISSAN}. {@link JewishDate#ADAR_II} (13)
+	 *         is only valid in a leap year.
+	 * @param dayOfMonth the day of the month
+	 * @return the date
+	 * @throws IllegalArgumentException if the date is not valid or is earlier than 18 Teves, 3761 (1/1/1 Gregorian)
+	 */
+	public static JewishLocalDate of(int year, int month, int dayOfMonth) {
+		JewishDate.validateJewishDate(year, month, dayOfMonth, 0, 0, 0);
+		return new JewishLocalDate((year << 9) | (month << 5) | dayOfMonth);
+	}
+
+	/**
+	 * Returns the Jewish date of a Gregorian date.
+	 *
+	 * @param localDate the Gregorian date
+	 * @return the date
+	 * @throws IllegalArgumentException if the date is before January 1, 0001
+	 */
+	public static JewishLocalDate of(LocalDate localDate) {
+		return ofAbsDate(Math.toIntExact(localDate.toEpochDay() + JewishDate.ABS_DATE_OF_EPOCH_DAY));
+	}
+
+	/**
+	 * Returns the date of a {@link JewishDate} (or {@link JewishCalendar}).
+	 *
+	 * @param jewishDate the date
+	 * @return the date
+	 */
+	public static JewishLocalDate of(JewishDate jewishDate) {
+		return ofAbsDate(jewishDate.getAbsDate());
+	}
+
+	/**
+	 * Returns the date of an {@link JewishDate#getAbsDate() absolute date}, the days since January 1, 0001 of the Gregorian
+	 * calendar.
+	 *
+	 * @param absDate the absolute date
+	 * @return the date
+	 * @throws IllegalArgumentException if the absolute date is before January 1, 0001
+	 */
+	public static JewishLocalDate ofAbsDate(int absDate) {
+		return new JewishLocalDate(JewishDate.absDateToPackedJewishDate(absDate));
+	}
+
+	/**
+	 * Returns the current date from the system clock in the default time zone.
+	 *
+	 * @return the current date
+	 */
+	public static JewishLocalDate now() {
+		return of(LocalDate.now());
+	}
+
+	/**
+	 * Returns the Jewish year.
+	 *
+	 * @return the Jewish year
+	 */
+	public int getJewishYear() {
+		return packed >>> 9;
+	}
+
+	/**
+	 * Returns the Jewish month, from 1 for {@link JewishDate#NISSAN} to 12 (or 13 for {@link JewishDate#ADAR_II} in a leap
+	 * year).
+	 *
+	 * @return the Jewish month
+	 */
+	public int getJewishMonth() {
+		return (packed >>> 5) & 0xF;
+	}
+
+	/**
+	 * Returns the Jewish day of the month.
+	 *
+	 * @return the day of the month
+	 */
+	public int getJewishDayOfMonth() {
+		return packed & 0x1F;
+	}
+
+	/**
+	 * Returns the absolute date, the days since January 1, 0001 of the Gregorian calendar.
+	 *
+	 * @return the absolute date
+	 * @see JewishDate#getAbsDate()
+	 */
+	public int getAbsDate() {
+		return JewishDate.jewishDateToAbsDate(getJewishYear(), getJewishMonth(), getJewishDayOfMonth());
+	}
+
+	/**
+	 * Returns the day of the week as a number from 1 for Sunday to 7 for <em>Shabbos</em>, as with {@link
+	 * JewishDate#getDayOfWeek()}.
+	 *
+	 * @return the day of the week
+	 */
+	public int getDayOfWeek() {
+		return getAbsDate() % 7 + 1;
+	}
+
+	/**
+	 * Returns if the year is a Jewish leap year.
+	 *
+	 * @return true for a leap year
+	 */
+	public boolean isJewishLeapYear() {
+		return JewishDate.isJewishLeapYear(getJewishYear());
+	}
+
+	/**
+	 * Returns the number of days in the Jewish month.
+	 *
+	 * @return the number of days in the month
+	 */
+	public int getDaysInJewishMonth() {
+		return JewishDate.getDaysInJewishMonth(getJewishYear(), getJewishMonth());
+	}
+
+	/**
+	 * Returns the number of days in the Jewish year.
+	 *
+	 * @return the number of days in the year
+	 */
+	public int getDaysInJewishYear() {
+		return JewishDate.getDaysInJewishYear(getJewishYear());
+	}
+
+	/**
+	 * Returns the number of days from Rosh Hashana to this date, 1 for Rosh Hashana.
+	 *
+	 * @return the number of days
+	 */
+	public int getDaysSinceStartOfJewishYear() {
+		return getAbsDate() - JewishDate.jewishDateToAbsDate(getJewishYear(), JewishDate.TISHREI, 1) + 1;
+	}
+
+	/**
+	 * Returns a copy of this date with a number of days added. A negative number subtracts days.
+	 *
+	 * @param days the days to add
+	 * @return the new date
+	 * @throws IllegalArgumentException if the result is before January 1, 0001
+	 * @throws ArithmeticException if the result is beyond the supported range
+	 */
+	public JewishLocalDate plusDays(long days) {
+		return days == 0 ? this : ofAbsDate(Math.toIntExact(getAbsDate() + days));
+	}
+
+	/**
+	 * Returns a copy of this date with a number of days subtracted. A negative number adds days.
+	 *
+	 * @param days the days to subtract
+	 * @return the new date
+	 * @throws IllegalArgumentException if the result is before January 1, 0001
+	 * @throws ArithmeticException if the result is beyond the supported range
+	 */
+	public JewishLocalDate minusDays(long days) {
+		return plusDays(Math.negateExact(days));
+	}
+
+	/**
+	 * Returns a copy of this date with a number of months added, in the order of the months of each year (with
+	 * {@link JewishDate#ADAR_II} only in a leap year). A negative number subtracts months. If the day of the month is the
+	 * 30th and the target month only has 29 days, the date is <a href="https://en.wikipedia.org/wiki/Clamp_(function)"
+	 * >clamped</a> to the 29th, as with {@link JewishDate#plusMonths(int)}.
+	 *
+	 * @param months the months to add
+	 * @return the new date
+	 * @throws IllegalArgumentException if the result is earlier than 18 Teves, 3761
+	 */
+	public JewishLocalDate plusMonths(long months) {
+		if (months == 0) {
+			return this;
+		}
+		int year = getJewishYear();
+		long monthNumber = getMonthsBeforeYear(year) + JewishDate.getJewishMonthOfYear(year, getJewishMonth()) - 1 + months;
+		// estimate the year from the 235 months of each 19 year cycle and correct it
+		year = (int) (monthNumber * 19 / 235) + 1;
+		while (getMonthsBeforeYear(year) > monthNumber) {
+			year--;
+		}
+		while (getMonthsBeforeYear(year + 1) <= monthNumber) {
+			year++;
+		}
+		int monthOfYear = (int) (monthNumber - getMonthsBeforeYear(year)) + 1; // 1 for Tishrei
+		int month = (monthOfYear + 5) % JewishDate.getLastMonthOfJewishYear(year) + 1;
+		return of(year, month, Math.min(getJewishDayOfMonth(), JewishDate.getDaysInJewishMonth(year, month)));
+	}
+
+	/**
+	 * Returns a copy of this date with a number of months subtracted. A negative number adds months.
+	 *
+	 * @param months the months to subtract
+	 * @return the new date
+	 * @throws IllegalArgumentException if the result is earlier than 18 Teves, 3761
+	 * @see #plusMonths(long)
+	 */
+	public JewishLocalDate minusMonths(long months) {
+		return plusMonths(Math.negateExact(months));
+	}
+
+	/**
+	 * Returns a copy of this date with a number of years added, with the same handling of Adar and of the 30th of a month
+	 * as {@link JewishDate#plusYears(int, boolean)}. A negative number subtracts years.
+	 *
+	 * @param years the years to add
+	 * @param useAdarAlephForLeapYear if the date is in Adar of a non leap year and the target year is a leap year, true to
+	 *         use Adar I and false to use Adar II. This is ignored in other cases.
+	 * @return the new date
+	 * @throws IllegalArgumentException if the result is earlier than 18 Teves, 3761
+	 */
+	public JewishLocalDate plusYears(int years, boolean useAdarAlephForLeapYear) {
+		if (years == 0) {
+			return this;
+		}
+		int year = getJewishYear();
+		int targetYear = Math.addExact(year, years);
+		int month = getJewishMonth();
+		if (month == JewishDate.ADAR && !JewishDate.isJewishLeapYear(year) && JewishDate.isJewishLeapYear(targetYear)) {
+			month = useAdarAlephForLeapYear ? JewishDate.ADAR : JewishDate.ADAR_II;
+		} else {
+			// Adar II becomes Adar in a non leap year
+			month = Math.min(month, JewishDate.getLastMonthOfJewishYear(targetYear));
+		}
+		return of(targetYear, month, Math.min(getJewishDayOfMonth(), JewishDate.getDaysInJewishMonth(targetYear, month)));
+	}
+
+	/**
+	 * Returns a copy of this date with a number of years subtracted. A negative number adds years.
+	 *
+	 * @param years the years to subtract
+	 * @param useAdarAlephForLeapYear if the date is in Adar of a non leap year and the target year is a leap year, true to
+	 *         use Adar I and false to use Adar II. This is ignored in other cases.
+	 * @return the new date
+	 * @throws IllegalArgumentException if the result is earlier than 18 Teves, 3761
+	 * @see #plusYears(int, boolean)
+	 */
+	public JewishLocalDate minusYears(int years, boolean useAdarAlephForLeapYear) {
+		return plusYears(Math.negateExact(years), useAdarAlephForLeapYear);
+	}
+
+	/**
+	 * Returns a sequential, ordered stream of the dates from this date (inclusive) to an end date (exclusive), in the manner
+	 * of {@link LocalDate#datesUntil(LocalDate)}. The dates are produced by a {@link JewishDateCursor} that moves one day at
+	 * a time, without converting each date from the absolute date.
+	 *
+	 * @param endExclusive the date after the last date of the stream
+	 * @return the stream of dates, empty if the end date is not after this date
+	 */
+	public Stream<JewishLocalDate> datesUntil(JewishLocalDate endExclusive) {
+		int days = Math.max(0, endExclusive.getAbsDate() - getAbsDate());
+		JewishDateCursor cursor = new JewishDateCursor(this);
+		Iterator<JewishLocalDate> iterator = new Iterator<JewishLocalDate>() {
+			private int remaining = days;
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			public JewishLocalDate next() {
+				if (remaining == 0) {
+					throw new NoSuchElementException();
+				}
+				JewishLocalDate date = cursor.toJewishLocalDate();
+				if (--remaining > 0) {
+					cursor.nextDay();
+				}
+				return date;
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliterator(iterator, days, Spliterator.ORDERED | Spliterator.DISTINCT
+				| Spliterator.SORTED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+	}
+
+	/**
+	 * Returns the number of months from the <em>molad Tohu</em> to the start of a Jewish year.
+	 *
+	 * @param year the Jewish year
+	 * @return the number of months
+	 */
+	private static long getMonthsBeforeYear(int year) {
+		int y = year - 1;
+		return 235L * (y / 19) + 12 * (y % 19) + (7 * (y % 19) + 1) / 19;
+	}
+
+	/**
+	 * Returns if this date is before another date.
+	 *
+	 * @param other the other date
+	 * @return true if this date is before the other date
+	 */
+	public boolean isBefore(JewishLocalDate other) {
+		return compareTo(other) < 0;
+	}
+
+	/**
+	 * Returns if this date is after another date.
+	 *
+	 * @param other the other date
+	 * @return true if this date is after the other date
+	 */
+	public boolean isAfter(JewishLocalDate other) {
+		return compareTo(other) > 0;
+	}
+
+	/**
+	 * Returns the Gregorian date.
+	 *
+	 * @return the {@link LocalDate}
+	 */
+	public LocalDate toLocalDate() {
+		return LocalDate.ofEpochDay((long) getAbsDate() - JewishDate.ABS_DATE_OF_EPOCH_DAY);
+	}
+
+	/**
+	 * Returns a new mutable {@link JewishDate} set to this date.
+	 *
+	 * @return the {@link JewishDate}
+	 */
+	public JewishDate toJewishDate() {
+		return new JewishDate(getJewishYear(), getJewishMonth(), getJewishDayOfMonth());
+	}
+
+	/**
+	 * Returns a new mutable {@link JewishCalendar} set to this date, for the holiday, <em>parsha</em> and other calendar
+	 * methods.
+	 *
+	 * @param inIsrael whether to use the Israel holiday and <em>parsha</em> scheme
+	 * @return the {@link JewishCalendar}
+	 */
+	public JewishCalendar toJewishCalendar(boolean inIsrael) {
+		return new JewishCalendar(getJewishYear(), getJewishMonth(), getJewishDayOfMonth(), inIsrael);
+	}
+
+	/**
+	 * Compares this date to another date, in chronological order.
+	 *
+	 * @see Comparable#compareTo(Object)
+	 */
+	@Override
+	public int compareTo(JewishLocalDate other) {
+		// the year, month and day order is chronological except for the months, that start with Nissan
+		int compare = Integer.compare(getJewishYear(), other.getJewishYear());
+		if (compare != 0) {
+			return compare;
+		}
+		return Integer.compare(JewishDate.getJewishMonthOfYear(getJewishYear(), getJewishMonth()) * 32 + getJewishDayOfMonth(),
+				JewishDate.getJewishMonthOfYear(getJewishYear(), other.getJewishMonth()) * 32 + other.getJewishDayOfMonth());
+	}
+
+	/**
+	 * Returns if another object is the same date.
+	 *
+	 * @see Object#equals(Object)
+	 */
+	@Override
+	public boolean equals(Object object) {
+		return this == object || (object instanceof JewishLocalDate && packed == ((JewishLocalDate) object).packed);
+	}
+
+	/**
+	 * Returns the hash code of the date.
+	 *
+	 * @see Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return packed;
+	}
+
+	/**
+	 * Returns the Jewish date in the form "day Month, year" e.g. "21 Shevat, 5729", as {@link JewishDate#toString()}.
+	 *
+	 * @return the Jewish date
+	 */
+	@Override
+	public String toString() {
+		return toJewishDate().toString();
+	}
+}
@@ -0,0 +1,728 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A daily learning cycle such as <a href="https://en.wikipedia.org/wiki/Daf_Yomi">Daf Yomi</a>, Mishna Yomis or Rambam
+ * Yomi, defined by the number of units (such as <em>dafim</em>, <em>mishnayos</em> or chapters) in each group (such as a
+ * <em>masechta</em> or a chapter), the number of units learned each day, the start date of the first cycle, the days on
+ * which nothing is learned (such as Yom Kippur and Tisha B'Av in the Daf Yomi Yerushalmi) and changes in the number of units
+ * from a given cycle (such as the change in the length of Shekalim in the Daf Yomi Bavli). Each cycle starts the day after
+ * the last unit of the previous cycle is learned.
+ * <p>
+ * The cycle builds an index when it is created: the units before each group, the days skipped and the start date of every
+ * cycle until {@link Builder#setLastDate(LocalDate) the last date covered}. Finding the {@link Portion} of a date or the
+ * date of a unit is a binary search of these tables, and does not get slower for later cycles. A cycle covering later dates
+ * is created with {@link #withLastDate(LocalDate)}, which only indexes the added dates. Instances are immutable and
+ * can be shared by any number of threads. The Daf Yomi cycles are available from {@link
+ * YomiCalculator#getDafYomiBavliCycle()} and {@link YerushalmiYomiCalculator#getDafYomiYerushalmiCycle()}, and other cycles
+ * can be defined with a {@link Builder}:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * LearningCycle cycle = new LearningCycle.Builder(LocalDate.of(2026, 1, 1), chaptersPerBook)
+ *         .setUnitsPerDay(3)
+ *         .setSkippedDays(date -&gt; date.getJewishMonth() == JewishDate.TISHREI &amp;&amp; date.getJewishDayOfMonth() == 10)
+ *         .build();
+ * LearningCycle.Portion today = cycle.getPortion(LocalDate.now());
+ * </pre>
+ *
+ * @see YomiCalculator
+ * @see YerushalmiYomiCalculator
+ * @author © Eliyahu Hershfeld 2026
+ */
+public final class LearningCycle {
+	/** The {@link LocalDate#toEpochDay() epoch day} of the start of the first cycle. */
+	private final int firstEpochDay;
+
+	/** The last epoch day covered. */
+	private final int lastEpochDay;
+
+	/** The number of units learned each day. */
+	private final int unitsPerDay;
+
+	/** The number of the first unit of each group. */
+	private final int[] firstUnitNumbers;
+
+	/** The first cycle that each entry of {@link #unitsBeforeGroup} is used for, in order and starting with 1. */
+	private final int[] unitsFromCycle;
+
+	/**
+	 * The number of units before each group (and the total number of units as the last entry), for each change in the
+	 * number of units.
+	 */
+	private final int[][] unitsBeforeGroup;
+
+	/** The test of the days on which nothing is learned, or null for none. */
+	private final Predicate<JewishLocalDate> skippedDayTest;
+
+	/** The epoch days on which nothing is learned, in order. */
+	private final int[] skippedDays;
+
+	/** The epoch day of the start of each cycle, in order. */
+	private final int[] cycleStarts;
+
+	/**
+	 * Creates the cycle and its index from a builder.
+	 *
+	 * @param builder the builder
+	 */
+	private LearningCycle(Builder builder) {
+		firstEpochDay = Math.toIntExact(builder.firstCycleStart.toEpochDay());
+		lastEpochDay = Math.toIntExact(builder.lastDate.toEpochDay());
+		unitsPerDay = builder.unitsPerDay;
+		firstUnitNumbers = builder.firstUnitNumbers.clone();
+		unitsFromCycle = builder.unitsFromCycle.stream().mapToInt(Integer::intValue).toArray();
+		unitsBeforeGroup = new int[builder.unitsPerGroup.size()][];
+		for (int i = 0; i < unitsBeforeGroup.length; i++) {
+			int[] units = builder.unitsPerGroup.get(i);
+			unitsBeforeGroup[i] = new int[units.length + 1];
+			for (int group = 0; group < units.length; group++) {
+				unitsBeforeGroup[i][group + 1] = unitsBeforeGroup[i][group] + units[group];
+			}
+		}
+		skippedDayTest = builder.skippedDays;
+		skippedDays = findSkippedDays(new int[0], firstEpochDay);
+		cycleStarts = findCycleStarts(new int[] { firstEpochDay });
+	}
+
+	/**
+	 * Creates a cycle with the same definition as another that covers more dates, reusing its index.
+	 *
+	 * @param cycle the cycle
+	 * @param lastEpochDay the last epoch day covered, after the last day covered by the cycle
+	 */
+	private LearningCycle(LearningCycle cycle, int lastEpochDay) {
+		firstEpochDay = cycle.firstEpochDay;
+		this.lastEpochDay = lastEpochDay;
+		unitsPerDay = cycle.unitsPerDay;
+		firstUnitNumbers = cycle.firstUnitNumbers;
+		unitsFromCycle = cycle.unitsFromCycle;
+		unitsBeforeGroup = cycle.unitsBeforeGroup;
+		skippedDayTest = cycle.skippedDayTest;
+		skippedDays = findSkippedDays(cycle.skippedDays, cycle.lastEpochDay + 1);
+		cycleStarts = findCycleStarts(cycle.cycleStarts);
+	}
+
+	/**
+	 * Returns the skipped days through the last day covered.
+	 *
+	 * @param known the skipped days before {@code from}
+	 * @param from the first epoch day to test
+	 * @return the skipped days
+	 */
+	private int[] findSkippedDays(int[] known, int from) {
+		if (skippedDayTest == null) {
+			return known;
+		}
+		List<Integer> skipped = new ArrayList<>();
+		JewishDateCursor cursor = new JewishDateCursor(JewishLocalDate.of(LocalDate.ofEpochDay(from)));
+		for (int epochDay = from; epochDay <= lastEpochDay; epochDay++) {
+			if (skippedDayTest.test(cursor.toJewishLocalDate())) {
+				skipped.add(epochDay);
+			}
+			cursor.nextDay();
+		}
+		int[] days = Arrays.copyOf(known, known.length + skipped.size());
+		for (int i = 0; i < skipped.size(); i++) {
+			days[known.length + i] = skipped.get(i);
+		}
+		return days;
+	}
+
+	/**
+	 * Returns the start of every cycle through the last day covered. The {@link #skippedDays} must already be found.
+	 *
+	 * @param known the starts of the first cycles, at least the first one
+	 * @return the cycle starts
+	 */
+	private int[] findCycleStarts(int[] known) {
+		List<Integer> starts = new ArrayList<>();
+		int cycle = known.length;
+		int cycleStart = getLearningDay(known[cycle - 1], getDaysInCycle(cycle) - 1) + 1;
+		while (cycleStart <= lastEpochDay) {
+			starts.add(cycleStart);
+			cycle++;
+			cycleStart = getLearningDay(cycleStart, getDaysInCycle(cycle) - 1) + 1;
+		}
+		int[] days = Arrays.copyOf(known, known.length + starts.size());
+		for (int i = 0; i < starts.size(); i++) {
+			days[known.length + i] = starts.get(i);
+		}
+		return days;
+	}
+
+	/**
+	 * Returns a cycle with the same definition that covers the dates through a later date. The index of this cycle is
+	 * reused, so only the added dates are indexed (and tested for {@link Builder#setSkippedDays(Predicate) skipped days}).
+	 *
+	 * @param lastDate the last date covered
+	 * @return the cycle, or this cycle if it already covers the date
+	 */
+	public LearningCycle withLastDate(LocalDate lastDate) {
+		int epochDay = Math.toIntExact(lastDate.toEpochDay());
+		return epochDay <= lastEpochDay ? this : new LearningCycle(this, epochDay);
+	}
+
+	/**
+	 * Returns the units before each group in a cycle.
+	 *
+	 * @param cycle the cycle number, starting with 1
+	 * @return the units before each group, with the total number of units as the last entry
+	 */
+	private int[] getUnitsBeforeGroup(int cycle) {
+		int i = unitsFromCycle.length - 1;
+		while (unitsFromCycle[i] > cycle) {
+			i--;
+		}
+		return unitsBeforeGroup[i];
+	}
+
+	/**
+	 * Returns the number of days, not counting skipped days, that a cycle takes.
+	 *
+	 * @param cycle the cycle number, starting with 1
+	 * @return the number of days
+	 */
+	private int getDaysInCycle(int cycle) {
+		int[] unitsBefore = getUnitsBeforeGroup(cycle);
+		return (unitsBefore[unitsBefore.length - 1] + unitsPerDay - 1) / unitsPerDay;
+	}
+
+	/**
+	 * Returns the number of skipped days from one day to another, inclusive.
+	 *
+	 * @param start the first epoch day counted
+	 * @param end the last epoch day counted
+	 * @return the number of skipped days
+	 */
+	private int countSkippedDays(int start, int end) {
+		return countSkippedDaysBefore(end + 1) - countSkippedDaysBefore(start);
+	}
+
+	/**
+	 * Returns the number of skipped days before a day.
+	 *
+	 * @param epochDay the epoch day
+	 * @return the number of skipped days before it
+	 */
+	private int countSkippedDaysBefore(int epochDay) {
+		int index = Arrays.binarySearch(skippedDays, epochDay);
+		return index >= 0 ? index : -index - 1;
+	}
+
+	/**
+	 * Returns the day on which the day of a cycle with a given index (not counting skipped days) is learned.
+	 *
+	 * @param cycleStart the epoch day that the cycle starts
+	 * @param dayOfCycle the day of the cycle, 0 for the first day
+	 * @return the epoch day
+	 */
+	private int getLearningDay(int cycleStart, int dayOfCycle) {
+		// each pass adds the skipped days found so far, and stops when no more are found
+		int epochDay = cycleStart + dayOfCycle;
+		while (true) {
+			int next = cycleStart + dayOfCycle + countSkippedDays(cycleStart, epochDay);
+			if (next == epochDay) {
+				return epochDay;
+			}
+			epochDay = next;
+		}
+	}
+
+	/**
+	 * Returns the first date of the first cycle.
+	 *
+	 * @return the start date of the first cycle
+	 */
+	public LocalDate getFirstDate() {
+		return LocalDate.ofEpochDay(firstEpochDay);
+	}
+
+	/**
+	 * Returns the last date covered.
+	 *
+	 * @return the last date covered
+	 * @see Builder#setLastDate(LocalDate)
+	 */
+	public LocalDate getLastDate() {
+		return LocalDate.ofEpochDay(lastEpochDay);
+	}
+
+	/**
+	 * Returns the number of cycles that start on or before the {@link #getLastDate() last date covered}.
+	 *
+	 * @return the number of cycles
+	 */
+	public int getCycleCount() {
+		return cycleStarts.length;
+	}
+
+	/**
+	 * Returns the start date of a cycle.
+	 *
+	 * @param cycle the cycle number, starting with 1
+	 * @return the start date of the cycle
+	 * @throws IllegalArgumentException if the cycle number is less than 1 or more than {@link #getCycleCount()}
+	 */
+	public LocalDate getCycleStartDate(int cycle) {
+		checkCycle(cycle);
+		return LocalDate.ofEpochDay(cycleStarts[cycle - 1]);
+	}
+
+	/**
+	 * Returns the portion learned on a date.
+	 *
+	 * @param date the date
+	 * @return the {@link Portion}, or null if nothing is learned on the date
+	 * @throws IllegalArgumentException if the date is before the first cycle or after the {@link #getLastDate() last date
+	 *         covered}
+	 */
+	public Portion getPortion(LocalDate date) {
+		long epochDay = date.toEpochDay();
+		if (epochDay < firstEpochDay || epochDay > lastEpochDay) {
+			throw new IllegalArgumentException(date + " is outside of the dates covered, " + getFirstDate() + " to "
+					+ getLastDate());
+		}
+		int day = (int) epochDay;
+		if (Arrays.binarySearch(skippedDays, day) >= 0) {
+			return null;
+		}
+		int cycleIndex = Arrays.binarySearch(cycleStarts, day);
+		if (cycleIndex < 0) {
+			cycleIndex = -cycleIndex - 2; // the cycle that started before this day
+		}
+		int cycleStart = cycleStarts[cycleIndex];
+		int dayOfCycle = day - cycleStart - countSkippedDays(cycleStart, day - 1);
+		int[] unitsBefore = getUnitsBeforeGroup(cycleIndex + 1);
+		int first = dayOfCycle * unitsPerDay;
+		int last = Math.min(first + unitsPerDay, unitsBefore[unitsBefore.length - 1]) - 1;
+		int firstGroup = getGroup(unitsBefore, first);
+		int lastGroup = getGroup(unitsBefore, last);
+		return new Portion(cycleIndex + 1, firstGroup, firstUnitNumbers[firstGroup] + first - unitsBefore[firstGroup],
+				lastGroup, firstUnitNumbers[lastGroup] + last - unitsBefore[lastGroup]);
+	}
+
+	/**
+	 * Returns the portion learned on each date in a range of dates, in the order of the dates.
+	 *
+	 * @param startDate the first date
+	 * @param endDateExclusive the date after the last date
+	 * @return the list of {@link Portion}s, with null for the dates on which nothing is learned. The list is empty if the end
+	 *         date is not after the start date.
+	 * @throws IllegalArgumentException if a date is before the first cycle or after the {@link #getLastDate() last date
+	 *         covered}
+	 * @see #getPortion(LocalDate)
+	 */
+	public List<Portion> getPortions(LocalDate startDate, LocalDate endDateExclusive) {
+		int days = (int) Math.max(0, endDateExclusive.toEpochDay() - startDate.toEpochDay());
+		List<Portion> portions = new ArrayList<>(days);
+		for (int i = 0; i < days; i++) {
+			portions.add(getPortion(startDate.plusDays(i)));
+		}
+		return portions;
+	}
+
+	/**
+	 * Returns the date on which a unit is learned in a cycle.
+	 *
+	 * @param cycle the cycle number, starting with 1
+	 * @param group the group, starting with 0
+	 * @param unit the unit number in the group, starting with the {@link Builder#setFirstUnitNumbers(int...) first unit number}
+	 *         of the group
+	 * @return the date
+	 * @throws IllegalArgumentException if the cycle is not covered or the unit is not in the cycle
+	 */
+	public LocalDate getDate(int cycle, int group, int unit) {
+		checkCycle(cycle);
+		int[] unitsBefore = getUnitsBeforeGroup(cycle);
+		if (group < 0 || group >= firstUnitNumbers.length || unit < firstUnitNumbers[group]
+				|| unit - firstUnitNumbers[group] >= unitsBefore[group + 1] - unitsBefore[group]) {
+			throw new IllegalArgumentException("Unit " + unit + " of group " + group + " is not in cycle " + cycle);
+		}
+		int dayOfCycle = (unitsBefore[group] + unit - firstUnitNumbers[group]) / unitsPerDay;
+		int epochDay = getLearningDay(cycleStarts[cycle - 1], dayOfCycle);
+		if (epochDay > lastEpochDay) {
+			throw new IllegalArgumentException("Unit " + unit + " of group " + group + " of cycle " + cycle
+					+ " is learned after the last date covered, " + getLastDate());
+		}
+		return LocalDate.ofEpochDay(epochDay);
+	}
+
+	/**
+	 * Returns the group of a unit.
+	 *
+	 * @param unitsBefore the units before each group
+	 * @param unitIndex the index of the unit in the cycle
+	 * @return the group
+	 */
+	private static int getGroup(int[] unitsBefore, int unitIndex) {
+		int group = Arrays.binarySearch(unitsBefore, unitIndex);
+		if (group < 0) {
+			return -group - 2;
+		}
+		// skip groups without units
+		while (unitsBefore[group + 1] == unitIndex) {
+			group++;
+		}
+		return group;
+	}
+
+	/**
+	 * Checks that a cycle is covered.
+	 *
+	 * @param cycle the cycle number
+	 * @throws IllegalArgumentException if the cycle number is less than 1 or more than {@link #getCycleCount()}
+	 */
+	private void checkCycle(int cycle) {
+		if (cycle < 1 || cycle > cycleStarts.length) {
+			throw new IllegalArgumentException("Cycle " + cycle + " is not covered, only cycles 1 to " + cycleStarts.length);
+		}
+	}
+
+	/**
+	 * The units learned on a day: the cycle, and the group and unit number of the first and last unit learned. When one unit
+	 * is learned a day, the first and last unit are the same.
+	 */
+	public static final class Portion {
+		/** The cycle number. */
+		private final int cycle;
+
+		/** The group of the first unit. */
+		private final int group;
+
+		/** The number of the first unit. */
+		private final int unit;
+
+		/** The group of the last unit. */
+		private final int lastGroup;
+
+		/** The number of the last unit. */
+		private final int lastUnit;
+
+		/**
+		 * Creates a portion.
+		 *
+		 * @param cycle the cycle number
+		 * @param group the group of the first unit
+		 * @param unit the number of the first unit
+		 * @param lastGroup the group of the last unit
+		 * @param lastUnit the number of the last unit
+		 */
+		Portion(int cycle, int group, int unit, int lastGroup, int lastUnit) {
+			this.cycle = cycle;
+			this.group = group;
+			this.unit = unit;
+			this.lastGroup = lastGroup;
+			this.lastUnit = lastUnit;
+		}
+
+		/**
+		 * Returns the cycle number, starting with 1.
+		 *
+		 * @return the cycle number
+		 */
+		public int getCycle() {
+			return cycle;
+		}
+
+		/**
+		 * Returns the group of the first unit learned, starting with 0. For the Daf Yomi this is the {@link
+		 * Daf#getMasechtaNumber() masechta number}.
+		 *
+		 * @return the group
+		 */
+		public int getGroup() {
+			return group;
+		}
+
+		/**
+		 * Returns the number of the first unit learned. For the Daf Yomi this is the {@link Daf#getDaf() daf}.
+		 *
+		 * @return the unit number
+		 */
+		public int getUnit() {
+			return unit;
+		}
+
+		/**
+		 * Returns the group of the last unit learned.
+		 *
+		 * @return the group
+		 */
+		public int getLastGroup() {
+			return lastGroup;
+		}
+
+		/**
+		 * Returns the number of the last unit learned.
+		 *
+		 * @return the unit number
+		 */
+		public int getLastUnit() {
+			return lastUnit;
+		}
+
+		/**
+		 * Returns a {@link Daf} of the first unit learned, for use with the {@link HebrewDateFormatter} Daf Yomi methods.
+		 *
+		 * @return the {@link Daf}
+		 */
+		public Daf toDaf() {
+			return new Daf(group, unit);
+		}
+
+		/**
+		 * @see Object#equals(Object)
+		 */
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Portion)) {
+				return false;
+			}
+			Portion portion = (Portion) object;
+			return cycle == portion.cycle && group == portion.group && unit == portion.unit && lastGroup == portion.lastGroup
+					&& lastUnit == portion.lastUnit;
+		}
+
+		/**
+		 * @see Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(cycle, group, unit, lastGroup, lastUnit);
+		}
+
+		/**
+		 * Returns the portion in the form "cycle 14: 0:2" or "cycle 3: 0:1 - 0:2".
+		 *
+		 * @see Object#toString()
+		 */
+		@Override
+		public String toString() {
+			String first = "cycle " + cycle + ": " + group + ":" + unit;
+			return group == lastGroup && unit == lastUnit ? first : first + " - " + lastGroup + ":" + lastUnit;
+		}
+	}
+
+	/**
+	 * A cycle shared by a calculator, built the first time it is used and {@linkplain #withLastDate(LocalDate) extended}
+	 * when a later date is needed. Each extension at least doubles the number of days covered, so a cycle is only extended a
+	 * few times.
+	 */
+	static final class Shared {
+		/** Builds the cycle. */
+		private final Supplier<LearningCycle> builder;
+
+		/** The cycle, or null before it is first used. */
+		private volatile LearningCycle cycle;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param builder builds the cycle the first time it is used
+		 */
+		Shared(Supplier<LearningCycle> builder) {
+			this.builder = builder;
+		}
+
+		/**
+		 * Returns the cycle, extended if needed to cover a date.
+		 *
+		 * @param date the date
+		 * @return the cycle
+		 */
+		LearningCycle covering(LocalDate date) {
+			LearningCycle current = cycle;
+			if (current == null || date.toEpochDay() > current.lastEpochDay) {
+				synchronized (this) {
+					current = cycle;
+					if (current == null) {
+						current = builder.get();
+					}
+					long epochDay = date.toEpochDay();
+					if (epochDay > current.lastEpochDay) {
+						long doubled = 2L * current.lastEpochDay - current.firstEpochDay;
+						current = current.withLastDate(LocalDate.ofEpochDay(Math.max(epochDay, doubled)));
+					}
+					cycle = current;
+				}
+			}
+			return current;
+		}
+	}
+
+	/**
+	 * A builder of a {@link LearningCycle}.
+	 */
+	public static final class Builder {
+		/** The start date of the first cycle. */
+		private final LocalDate firstCycleStart;
+
+		/** The number of units in each group, for each change in the number of units. */
+		private final List<int[]> unitsPerGroup = new ArrayList<>();
+
+		/** The first cycle that each entry of {@link #unitsPerGroup} is used for. */
+		private final List<Integer> unitsFromCycle = new ArrayList<>();
+
+		/** The number of the first unit of each group. */
+		private int[] firstUnitNumbers;
+
+		/** The number of units learned each day. */
+		private int unitsPerDay = 1;
+
+		/** The days on which nothing is learned, or null for none. */
+		private Predicate<JewishLocalDate> skippedDays;
+
+		/** The last date covered. */
+		private LocalDate lastDate;
+
+		/**
+		 * Constructor for a builder.
+		 *
+		 * @param firstCycleStart the start date of the first cycle
+		 * @param unitsPerGroup the number of units in each group, such as the number of <em>dafim</em> learned in each
+		 *         <em>masechta</em>
+		 * @throws IllegalArgumentException if the date is null or before January 1, 0001, or there are no units
+		 */
+		public Builder(LocalDate firstCycleStart, int... unitsPerGroup) {
+			if (firstCycleStart == null || firstCycleStart.getYear() < 1) {
+				throw new IllegalArgumentException("The start date of the first cycle must be a date from January 1, 0001");
+			}
+			this.firstCycleStart = firstCycleStart;
+			checkUnits(unitsPerGroup);
+			this.unitsPerGroup.add(unitsPerGroup.clone());
+			unitsFromCycle.add(1);
+			firstUnitNumbers = new int[unitsPerGroup.length];
+			Arrays.fill(firstUnitNumbers, 1);
+			lastDate = firstCycleStart.plusYears(500);
+		}
+
+		/**
+		 * Checks the number of units in each group.
+		 *
+		 * @param unitsPerGroup the number of units in each group
+		 * @throws IllegalArgumentException if there are no units or a group has a negative number of units
+		 */
+		private static void checkUnits(int[] unitsPerGroup) {
+			if (unitsPerGroup == null || Arrays.stream(unitsPerGroup).anyMatch(units -> units < 0)
+					|| Arrays.stream(unitsPerGroup).sum() == 0) {
+				throw new IllegalArgumentException("The number of units in each group can't be negative and there must be "
+						+ "at least one unit");
+			}
+		}
+
+		/**
+		 * Sets the number of the first unit of each group, such as 2 for the first <em>daf</em> of most <em>masechtos</em>.
+		 * The default is 1 for every group.
+		 *
+		 * @param firstUnitNumbers the number of the first unit of each group
+		 * @return this builder
+		 * @throws IllegalArgumentException if the number of groups is not the same as in the constructor
+		 */
+		public Builder setFirstUnitNumbers(int... firstUnitNumbers) {
+			if (firstUnitNumbers == null || firstUnitNumbers.length != this.firstUnitNumbers.length) {
+				throw new IllegalArgumentException("There must be a first unit number for each of the "
+						+ this.firstUnitNumbers.length + " groups");
+			}
+			this.firstUnitNumbers = firstUnitNumbers.clone();
+			return this;
+		}
+
+		/**
+		 * Sets the number of units learned each day. The default is 1.
+		 *
+		 * @param unitsPerDay the number of units learned each day
+		 * @return this builder
+		 * @throws IllegalArgumentException if the number is less than 1
+		 */
+		public Builder setUnitsPerDay(int unitsPerDay) {
+			if (unitsPerDay < 1) {
+				throw new IllegalArgumentException("At least one unit must be learned each day");
+			}
+			this.unitsPerDay = unitsPerDay;
+			return this;
+		}
+
+		/**
+		 * Sets the days on which nothing is learned. A skipped day does not count as a day of the cycle, so the cycle ends a
+		 * day later. The test is run once for every day covered when the cycle is built.
+		 *
+		 * @param skippedDays returns true for a date on which nothing is learned
+		 * @return this builder
+		 */
+		public Builder setSkippedDays(Predicate<JewishLocalDate> skippedDays) {
+			this.skippedDays = skippedDays;
+			return this;
+		}
+
+		/**
+		 * Changes the number of units in each group starting with a cycle, such as the change of Shekalim in the Daf Yomi
+		 * Bavli from 13 to 22 <em>dafim</em> starting with the eighth cycle.
+		 *
+		 * @param cycle the first cycle with the new number of units, after the cycle of any earlier change
+		 * @param unitsPerGroup the number of units in each group
+		 * @return this builder
+		 * @throws IllegalArgumentException if the cycle is not after the previous change or the number of groups is not the
+		 *         same as in the constructor
+		 */
+		public Builder setUnitsFromCycle(int cycle, int... unitsPerGroup) {
+			if (cycle <= unitsFromCycle.get(unitsFromCycle.size() - 1)) {
+				throw new IllegalArgumentException("Cycle " + cycle + " must be after the cycle of the previous change");
+			}
+			checkUnits(unitsPerGroup);
+			if (unitsPerGroup.length != firstUnitNumbers.length) {
+				throw new IllegalArgumentException("There must be a number of units for each of the "
+						+ firstUnitNumbers.length + " groups");
+			}
+			this.unitsPerGroup.add(unitsPerGroup.clone());
+			unitsFromCycle.add(cycle);
+			return this;
+		}
+
+		/**
+		 * Sets the last date covered by the cycle's index. The default is 500 years after the start of the first cycle.
+		 *
+		 * @param lastDate the last date covered
+		 * @return this builder
+		 * @throws IllegalArgumentException if the date is before the start of the first cycle
+		 */
+		public Builder setLastDate(LocalDate lastDate) {
+			if (lastDate == null || lastDate.isBefore(firstCycleStart)) {
+				throw new IllegalArgumentException("The last date can't be before the start of the first cycle");
+			}
+			this.lastDate = lastDate;
+			return this;
+		}
+
+		/**
+		 * Builds the cycle and its index.
+		 *
+		 * @return the {@link LearningCycle}
+		 */
+		public LearningCycle build() {
+			return new LearningCycle(this);
+		}
+	}
+}
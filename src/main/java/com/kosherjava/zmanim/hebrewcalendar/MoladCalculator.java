@@ -0,0 +1,364 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Calculates the time of the <em>molad</em> and of the <a href="https://en.wikipedia.org/wiki/Tekufah"><em>tekufos</em></a>
+ * (seasons according to <em>Shmuel</em>) as a point in time. Both are fixed intervals from a fixed starting point, a
+ * <em>molad</em> every 29 days, 12 hours and 793 <em>chalakim</em> and a <em>tekufa</em> every 91 days, 7 hours and 30
+ * minutes, so the time is calculated with integer arithmetic on the <em>chalakim</em> (or minutes) with no date or time
+ * zone objects. A <em>chelek</em> is 3⅓ seconds, and the nanoseconds are truncated, as they always were by {@link
+ * JewishCalendar#getMoladAsInstant()}.
+ * <p>
+ * The times are in Yerushalayim standard time (GMT+2) as in {@link JewishCalendar#getMoladAsInstant()} and {@link
+ * JewishCalendar#getTekufaAsInstant(boolean)}, that delegate to this class. The <em>molad</em> is adjusted by 20 minutes
+ * and 56.496 seconds from the local mean time of <em>Har Habayis</em>, and the <em>tekufa</em> can be as well. The times
+ * are returned as an {@link Instant} or as nanoseconds since the epoch of 1970-01-01T00:00:00Z. A {@code long} of epoch
+ * nanoseconds covers the years 1677 to 2262 (about the Jewish years 5438 to 6022), and the epoch nanosecond methods throw
+ * an {@link ArithmeticException} outside of this range. The <em>molados</em> and <em>tekufos</em> of the years
+ * {@value #FIRST_CACHED_YEAR} to {@value #LAST_CACHED_YEAR} are kept in a table that is built the first time that it is
+ * used, and the range methods copy from it.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * long[] molados = MoladCalculator.getMoladosEpochNanos(5787, 5790); // every molad from Tishrei 5787 to Elul 5790
+ * long[] tekufos = MoladCalculator.getTekufosEpochNanos(5787, 5790, false); // Tishrei, Teves, Nissan and Tammuz of each year
+ * </pre>
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+public class MoladCalculator {
+	/** The first year of the cached table. */
+	static final int FIRST_CACHED_YEAR = 5600;
+
+	/** The last year of the cached table. */
+	static final int LAST_CACHED_YEAR = 6000;
+
+	/** The number of nanoseconds in a second. */
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	/**
+	 * The difference of 20 minutes, 56 seconds and 496 milliseconds between the local mean time of <em>Har Habayis</em> at a
+	 * longitude of 35.2354&deg; and standard time at a longitude of 35&deg;, in nanoseconds.
+	 */
+	private static final long LOCAL_MEAN_TIME_OFFSET_NANOS = 1_256_496_000_000L;
+
+	/**
+	 * The epoch second of the beginning of the <em>chalakim</em> count of the <em>molad</em>, Saturday at 6 PM (the start of
+	 * the Sunday before <em>Molad BaHaRaD</em>), in Yerushalayim standard time.
+	 */
+	private static final long MOLAD_EPOCH_SECOND = (JewishDate.JEWISH_EPOCH - JewishDate.ABS_DATE_OF_EPOCH_DAY) * 86_400L
+			+ 18 * 3_600 - 2 * 3_600;
+
+	/**
+	 * The epoch minute of the first <em>Tekufas Tishrei</em>, 12 days and 21 hours before the midnight in the night of Rosh
+	 * Hashana of the year 1 (the start of the Monday of <em>BaHaRaD</em>), in Yerushalayim standard time.
+	 */
+	private static final long TEKUFA_EPOCH_MINUTE = (JewishDate.JEWISH_EPOCH + 2L - JewishDate.ABS_DATE_OF_EPOCH_DAY) * 1_440
+			- 18_540 - 2 * 60;
+
+	/** The number of minutes (91 days, 7 hours and 30 minutes) between <em>tekufos</em>. */
+	private static final long MINUTES_PER_TEKUFA = 131_490;
+
+	/**
+	 * Default constructor.
+	 */
+	public MoladCalculator() {
+		// No-op
+	}
+
+	/**
+	 * Returns the time of the <em>molad</em> of a month.
+	 *
+	 * @param year the Jewish year
+	 * @param month the Jewish month, using the {@link JewishDate} month constants such as {@link JewishDate#TISHREI}
+	 * @return the time of the <em>molad</em>
+	 * @throws IllegalArgumentException if the year is before the year 1, or the month is not a month of the year
+	 * @see JewishCalendar#getMoladAsInstant()
+	 */
+	public static Instant getMoladInstant(int year, int month) {
+		validateMonth(year, month);
+		return getMoladInstant(JewishDate.getChalakimSinceMoladTohu(year, month));
+	}
+
+	/**
+	 * Returns the time of the <em>molad</em> of a month in nanoseconds since the epoch.
+	 *
+	 * @param year the Jewish year
+	 * @param month the Jewish month, using the {@link JewishDate} month constants such as {@link JewishDate#TISHREI}
+	 * @return the epoch nanoseconds of the <em>molad</em>
+	 * @throws IllegalArgumentException if the year is before the year 1, or the month is not a month of the year
+	 * @throws ArithmeticException if the <em>molad</em> is before 1677 or after 2262
+	 */
+	public static long getMoladEpochNanos(int year, int month) {
+		validateMonth(year, month);
+		return getMoladEpochNanos(JewishDate.getChalakimSinceMoladTohu(year, month));
+	}
+
+	/**
+	 * Returns the time of every <em>molad</em> from Tishrei of the first year to Elul of the last year in nanoseconds since
+	 * the epoch. The months of each year are in order from Tishrei, so there are 12 entries for a regular year and 13 for a
+	 * leap year, with Adar I and Adar II before Nissan.
+	 *
+	 * @param fromYear the first Jewish year
+	 * @param toYear the last Jewish year, inclusive
+	 * @return the epoch nanoseconds of every <em>molad</em> in the years
+	 * @throws IllegalArgumentException if the first year is before the year 1 or after the last year
+	 * @throws ArithmeticException if a <em>molad</em> is before 1677 or after 2262
+	 */
+	public static long[] getMoladosEpochNanos(int fromYear, int toYear) {
+		validateYears(fromYear, toYear);
+		long first = JewishDate.getChalakimSinceMoladTohu(fromYear, JewishDate.TISHREI);
+		int count = (int) ((JewishDate.getChalakimSinceMoladTohu(toYear + 1, JewishDate.TISHREI) - first)
+				/ JewishDate.CHALAKIM_PER_MONTH);
+		if (fromYear >= FIRST_CACHED_YEAR && toYear <= LAST_CACHED_YEAR) {
+			int start = (int) ((first - JewishDate.getChalakimSinceMoladTohu(FIRST_CACHED_YEAR, JewishDate.TISHREI))
+					/ JewishDate.CHALAKIM_PER_MONTH);
+			return Arrays.copyOfRange(CachedTable.MOLADOS, start, start + count);
+		}
+		return calculateMolados(first, count);
+	}
+
+	/**
+	 * Returns the time of a <em>tekufa</em>. The <em>tekufos</em> of a year are <em>Tekufas Tishrei</em> in or just before
+	 * Tishrei and <em>Tekufas Teves</em>, <em>Tekufas Nissan</em> and <em>Tekufas Tammuz</em> that follow it.
+	 *
+	 * @param year the Jewish year
+	 * @param month {@link JewishDate#TISHREI}, {@link JewishDate#TEVES}, {@link JewishDate#NISSAN} or {@link
+	 *         JewishDate#TAMMUZ}
+	 * @param useLocalMeanTime if true, removes the 20 minutes and 56.496 seconds difference from local mean time, following
+	 *         the opinion of Rabbi Yonah Merzbach as explained in {@link JewishCalendar#getTekufaAsInstant(boolean)}
+	 * @return the time of the <em>tekufa</em>
+	 * @throws IllegalArgumentException if the year is before the year 1, or the month is not one of the four months of a
+	 *         <em>tekufa</em>
+	 */
+	public static Instant getTekufaInstant(int year, int month, boolean useLocalMeanTime) {
+		return getTekufaInstant(getTekufa(year, month), useLocalMeanTime);
+	}
+
+	/**
+	 * Returns the time of a <em>tekufa</em> in nanoseconds since the epoch.
+	 *
+	 * @param year the Jewish year
+	 * @param month {@link JewishDate#TISHREI}, {@link JewishDate#TEVES}, {@link JewishDate#NISSAN} or {@link
+	 *         JewishDate#TAMMUZ}
+	 * @param useLocalMeanTime if true, removes the 20 minutes and 56.496 seconds difference from local mean time
+	 * @return the epoch nanoseconds of the <em>tekufa</em>
+	 * @throws IllegalArgumentException if the year is before the year 1, or the month is not one of the four months of a
+	 *         <em>tekufa</em>
+	 * @throws ArithmeticException if the <em>tekufa</em> is before 1677 or after 2262
+	 * @see #getTekufaInstant(int, int, boolean)
+	 */
+	public static long getTekufaEpochNanos(int year, int month, boolean useLocalMeanTime) {
+		return getTekufaEpochNanos(getTekufa(year, month), useLocalMeanTime);
+	}
+
+	/**
+	 * Returns the time of the four <em>tekufos</em> of every year in a range in nanoseconds since the epoch. The entries
+	 * of each year are <em>Tekufas Tishrei</em>, <em>Tekufas Teves</em>, <em>Tekufas Nissan</em> and <em>Tekufas Tammuz</em>.
+	 *
+	 * @param fromYear the first Jewish year
+	 * @param toYear the last Jewish year, inclusive
+	 * @param useLocalMeanTime if true, removes the 20 minutes and 56.496 seconds difference from local mean time
+	 * @return the epoch nanoseconds of the <em>tekufos</em>, 4 for each year
+	 * @throws IllegalArgumentException if the first year is before the year 1 or after the last year
+	 * @throws ArithmeticException if a <em>tekufa</em> is before 1677 or after 2262
+	 * @see #getTekufaInstant(int, int, boolean)
+	 */
+	public static long[] getTekufosEpochNanos(int fromYear, int toYear, boolean useLocalMeanTime) {
+		validateYears(fromYear, toYear);
+		int count = (toYear - fromYear + 1) * 4;
+		long[] tekufos;
+		if (fromYear >= FIRST_CACHED_YEAR && toYear <= LAST_CACHED_YEAR) {
+			int start = (fromYear - FIRST_CACHED_YEAR) * 4;
+			tekufos = Arrays.copyOfRange(CachedTable.TEKUFOS, start, start + count);
+		} else {
+			tekufos = calculateTekufos((fromYear - 1) * 4L, count);
+		}
+		if (useLocalMeanTime) {
+			for (int i = 0; i < tekufos.length; i++) {
+				tekufos[i] -= LOCAL_MEAN_TIME_OFFSET_NANOS;
+			}
+		}
+		return tekufos;
+	}
+
+	/**
+	 * Returns the time of the <em>tekufa</em> on a day, used by {@link JewishCalendar#getTekufaAsInstant(boolean)}. A day
+	 * has the <em>tekufa</em> that is after 6 PM of the previous day and no later than 6 PM of the day. This is the same
+	 * as the rule of the day count of {@link JewishCalendar#getTekufaAsInstant(boolean) <em>Tekufas Shmuel</em>}, that
+	 * starts 12.625 days before Rosh Hashana of the year 1 and counts tekufos of 91.3125 days, with the days counted in
+	 * sixteenths of a day.
+	 *
+	 * @param absDate the {@link JewishDate#getAbsDate() absolute date}
+	 * @param useLocalMeanTime if true, removes the 20 minutes and 56.496 seconds difference from local mean time
+	 * @return the time of the <em>tekufa</em>, or null if there is none on the day
+	 */
+	static Instant getTekufaInstantOnDay(int absDate, boolean useLocalMeanTime) {
+		long sixteenths = (absDate - JewishDate.JEWISH_EPOCH - 1L) * 16 + 202; // 12.625 days is 202 sixteenths
+		long sinceTekufa = Math.floorMod(sixteenths, 1461); // 91.3125 days is 1461 sixteenths
+		if (sinceTekufa == 0 || sinceTekufa > 16) {
+			return null;
+		}
+		return getTekufaInstant(Math.floorDiv(sixteenths, 1461), useLocalMeanTime);
+	}
+
+	/**
+	 * Returns the time of a <em>molad</em>.
+	 *
+	 * @param chalakim the {@link JewishDate#getChalakimSinceMoladTohu() <em>chalakim</em> since <em>Molad Tohu</em>}
+	 * @return the time of the <em>molad</em>
+	 */
+	static Instant getMoladInstant(long chalakim) {
+		long remainder = chalakim % 3;
+		return Instant.ofEpochSecond(MOLAD_EPOCH_SECOND + chalakim / 3 * 10 + remainder * 3,
+				remainder * 333_333_333 - LOCAL_MEAN_TIME_OFFSET_NANOS);
+	}
+
+	/**
+	 * Returns the time of a <em>molad</em> in nanoseconds since the epoch. Every 3 <em>chalakim</em> are exactly 10
+	 * seconds, and 1 or 2 more <em>chalakim</em> are 3⅓ or 6⅔ seconds, truncated to the nanosecond.
+	 *
+	 * @param chalakim the {@link JewishDate#getChalakimSinceMoladTohu() <em>chalakim</em> since <em>Molad Tohu</em>}
+	 * @return the epoch nanoseconds of the <em>molad</em>
+	 */
+	private static long getMoladEpochNanos(long chalakim) {
+		long remainder = chalakim % 3;
+		long seconds = MOLAD_EPOCH_SECOND + chalakim / 3 * 10 + remainder * 3;
+		return Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND),
+				remainder * 333_333_333 - LOCAL_MEAN_TIME_OFFSET_NANOS);
+	}
+
+	/**
+	 * Returns the time of a <em>tekufa</em>.
+	 *
+	 * @param tekufa the number of the <em>tekufa</em> since the first <em>Tekufas Tishrei</em> before the year 1
+	 * @param useLocalMeanTime if true, removes the 20 minutes and 56.496 seconds difference from local mean time
+	 * @return the time of the <em>tekufa</em>
+	 */
+	private static Instant getTekufaInstant(long tekufa, boolean useLocalMeanTime) {
+		return Instant.ofEpochSecond((TEKUFA_EPOCH_MINUTE + tekufa * MINUTES_PER_TEKUFA) * 60,
+				useLocalMeanTime ? -LOCAL_MEAN_TIME_OFFSET_NANOS : 0);
+	}
+
+	/**
+	 * Returns the time of a <em>tekufa</em> in nanoseconds since the epoch.
+	 *
+	 * @param tekufa the number of the <em>tekufa</em> since the first <em>Tekufas Tishrei</em> before the year 1
+	 * @param useLocalMeanTime if true, removes the 20 minutes and 56.496 seconds difference from local mean time
+	 * @return the epoch nanoseconds of the <em>tekufa</em>
+	 */
+	private static long getTekufaEpochNanos(long tekufa, boolean useLocalMeanTime) {
+		long nanos = Math.multiplyExact(TEKUFA_EPOCH_MINUTE + tekufa * MINUTES_PER_TEKUFA, 60 * NANOS_PER_SECOND);
+		return useLocalMeanTime ? Math.subtractExact(nanos, LOCAL_MEAN_TIME_OFFSET_NANOS) : nanos;
+	}
+
+	/**
+	 * Returns the number of a <em>tekufa</em> since the first <em>Tekufas Tishrei</em> before the year 1.
+	 *
+	 * @param year the Jewish year
+	 * @param month the month of the <em>tekufa</em>
+	 * @return the number of the <em>tekufa</em>
+	 */
+	private static long getTekufa(int year, int month) {
+		int season;
+		switch (month) {
+			case JewishDate.TISHREI: season = 0; break;
+			case JewishDate.TEVES: season = 1; break;
+			case JewishDate.NISSAN: season = 2; break;
+			case JewishDate.TAMMUZ: season = 3; break;
+			default: throw new IllegalArgumentException("The month of a tekufa has to be Tishrei, Teves, Nissan or Tammuz. "
+					+ month + " is invalid.");
+		}
+		validateYears(year, year);
+		return (year - 1) * 4L + season;
+	}
+
+	/**
+	 * Calculates the epoch nanoseconds of consecutive <em>molados</em>.
+	 *
+	 * @param first the <em>chalakim</em> since <em>Molad Tohu</em> of the first <em>molad</em>
+	 * @param count the number of <em>molados</em>
+	 * @return the epoch nanoseconds of the <em>molados</em>
+	 */
+	private static long[] calculateMolados(long first, int count) {
+		long[] molados = new long[count];
+		for (int i = 0; i < count; i++) {
+			molados[i] = getMoladEpochNanos(first + i * JewishDate.CHALAKIM_PER_MONTH);
+		}
+		return molados;
+	}
+
+	/**
+	 * Calculates the epoch nanoseconds of consecutive <em>tekufos</em> in standard time.
+	 *
+	 * @param first the number of the first <em>tekufa</em>
+	 * @param count the number of <em>tekufos</em>
+	 * @return the epoch nanoseconds of the <em>tekufos</em>
+	 */
+	private static long[] calculateTekufos(long first, int count) {
+		long[] tekufos = new long[count];
+		for (int i = 0; i < count; i++) {
+			tekufos[i] = getTekufaEpochNanos(first + i, false);
+		}
+		return tekufos;
+	}
+
+	/**
+	 * Validates a month of a year.
+	 *
+	 * @param year the Jewish year
+	 * @param month the Jewish month
+	 */
+	private static void validateMonth(int year, int month) {
+		validateYears(year, year);
+		if (month < JewishDate.NISSAN || month > JewishDate.getLastMonthOfJewishYear(year)) {
+			throw new IllegalArgumentException("The Jewish month has to be between 1 and 12 (or 13 on a leap year). "
+					+ month + " is invalid for the year " + year + ".");
+		}
+	}
+
+	/**
+	 * Validates a range of years.
+	 *
+	 * @param fromYear the first Jewish year
+	 * @param toYear the last Jewish year
+	 */
+	private static void validateYears(int fromYear, int toYear) {
+		if (fromYear < 1 || toYear < fromYear) {
+			throw new IllegalArgumentException("Invalid range of Jewish years from " + fromYear + " to " + toYear + ".");
+		}
+	}
+
+	/**
+	 * The <em>molados</em> and standard time <em>tekufos</em> of the years {@link #FIRST_CACHED_YEAR} to {@link
+	 * #LAST_CACHED_YEAR}, built the first time that they are used. This is about 50K of memory.
+	 */
+	private static final class CachedTable {
+		/** Every <em>molad</em> of the years, in order. */
+		static final long[] MOLADOS;
+
+		/** The four <em>tekufos</em> of each of the years. */
+		static final long[] TEKUFOS = calculateTekufos((FIRST_CACHED_YEAR - 1) * 4L,
+				(LAST_CACHED_YEAR - FIRST_CACHED_YEAR + 1) * 4);
+
+		static {
+			long first = JewishDate.getChalakimSinceMoladTohu(FIRST_CACHED_YEAR, JewishDate.TISHREI);
+			MOLADOS = calculateMolados(first, (int) ((JewishDate.getChalakimSinceMoladTohu(LAST_CACHED_YEAR + 1,
+					JewishDate.TISHREI) - first) / JewishDate.CHALAKIM_PER_MONTH));
+		}
+	}
+}
@@ -0,0 +1,255 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar.Parsha;
+
+/**
+ * An immutable schedule of every <em>Shabbos</em> of a Jewish year, in or out of Israel, with its {@link
+ * JewishCalendar#getParshah() <em>parsha</em>}, {@link JewishCalendar#getSpecialShabbos() special <em>parsha</em>}, {@link
+ * JewishCalendar#isShabbosMevorchim() <em>Shabbos Mevorchim</em>} flag and {@link #getUpcomingParsha(int) upcoming
+ * <em>parsha</em>}. The schedule is built once from the {@link JewishCalendar#parshalist} row of the year, and after that
+ * every lookup by index or by date is an array access. This suits printing a year of <em>parshiyos</em> or answering many
+ * date lookups, where calling {@link JewishCalendar#getUpcomingParshah()} for each date clones the calendar and searches
+ * week by week.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ShabbosSchedule schedule = new ShabbosSchedule(5787, false);
+ * for (int i = 0; i &lt; schedule.getShabbosCount(); i++) {
+ *     System.out.println(schedule.getDate(i) + " " + schedule.getUpcomingParsha(i));
+ * }
+ * </pre>
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+public final class ShabbosSchedule {
+	/** The Jewish year of the schedule. */
+	private final int jewishYear;
+
+	/** Whether the schedule follows the Israel <em>parsha</em> scheme. */
+	private final boolean inIsrael;
+
+	/** The Gregorian date of Rosh Hashana. */
+	private final LocalDate roshHashana;
+
+	/** The days from Rosh Hashana to the first <em>Shabbos</em> of the year, 0 if Rosh Hashana is on <em>Shabbos</em>. */
+	private final int firstShabbos;
+
+	/** The <em>parsha</em> of each <em>Shabbos</em>. */
+	private final Parsha[] parshiyos;
+
+	/** The special <em>parsha</em> of each <em>Shabbos</em>. */
+	private final Parsha[] specialParshiyos;
+
+	/** The upcoming <em>parsha</em> of each <em>Shabbos</em>. */
+	private final Parsha[] upcomingParshiyos;
+
+	/** Whether each <em>Shabbos</em> is <em>Shabbos Mevorchim</em>. */
+	private final boolean[] mevorchim;
+
+	/**
+	 * Builds the schedule of a Jewish year.
+	 *
+	 * @param jewishYear the Jewish year
+	 * @param inIsrael whether to follow the Israel <em>parsha</em> scheme
+	 * @throws IllegalArgumentException if the year is earlier than 3762, the first full year that is supported
+	 */
+	public ShabbosSchedule(int jewishYear, boolean inIsrael) {
+		if (jewishYear < 3762) {
+			throw new IllegalArgumentException("The year " + jewishYear + " is earlier than 3762, the first full year supported.");
+		}
+		this.jewishYear = jewishYear;
+		this.inIsrael = inIsrael;
+		JewishCalendar calendar = new JewishCalendar(jewishYear, JewishDate.TISHREI, 1, inIsrael);
+		roshHashana = calendar.getLocalDate();
+		firstShabbos = (Calendar.SATURDAY - calendar.getDayOfWeek() + 7) % 7;
+		int count = (JewishDate.getDaysInJewishYear(jewishYear) - firstShabbos + 6) / 7;
+		// the parshalist weeks end on Shabbos and week 0 is the one before Rosh Hashana, so the first Shabbos is week 1
+		Parsha[] row = JewishCalendar.parshalist[calendar.getParshaYearType()];
+		parshiyos = new Parsha[count];
+		specialParshiyos = new Parsha[count];
+		upcomingParshiyos = new Parsha[count];
+		mevorchim = new boolean[count];
+		if (firstShabbos > 0) {
+			calendar.plusDays(firstShabbos);
+		}
+		for (int i = 0; i < count; i++) {
+			parshiyos[i] = row[i + 1];
+			specialParshiyos[i] = calendar.getSpecialShabbos();
+			mevorchim[i] = calendar.isShabbosMevorchim();
+			calendar.plusDays(7);
+		}
+		// the last Shabbos of a year always has a parsha, so this never needs the next year
+		Parsha upcoming = Parsha.NONE;
+		for (int i = count - 1; i >= 0; i--) {
+			if (parshiyos[i] != Parsha.NONE) {
+				upcoming = parshiyos[i];
+			}
+			upcomingParshiyos[i] = upcoming;
+		}
+	}
+
+	/**
+	 * Returns the Jewish year of the schedule.
+	 *
+	 * @return the Jewish year
+	 */
+	public int getJewishYear() {
+		return jewishYear;
+	}
+
+	/**
+	 * Returns whether the schedule follows the Israel <em>parsha</em> scheme.
+	 *
+	 * @return true for the Israel scheme
+	 */
+	public boolean getInIsrael() {
+		return inIsrael;
+	}
+
+	/**
+	 * Returns the number of <em>Shabbosos</em> in the year, 50 to 55.
+	 *
+	 * @return the number of <em>Shabbosos</em>
+	 */
+	public int getShabbosCount() {
+		return parshiyos.length;
+	}
+
+	/**
+	 * Returns the Gregorian date of a <em>Shabbos</em>.
+	 *
+	 * @param index the index of the <em>Shabbos</em> in the year, starting with 0
+	 * @return the date
+	 */
+	public LocalDate getDate(int index) {
+		checkIndex(index);
+		return roshHashana.plusDays(firstShabbos + 7L * index);
+	}
+
+	/**
+	 * Returns the <em>parsha</em> of a <em>Shabbos</em>, {@link Parsha#NONE} if it has no <em>parsha</em>, as with
+	 * {@link JewishCalendar#getParshah()}.
+	 *
+	 * @param index the index of the <em>Shabbos</em> in the year, starting with 0
+	 * @return the <em>parsha</em>
+	 */
+	public Parsha getParsha(int index) {
+		checkIndex(index);
+		return parshiyos[index];
+	}
+
+	/**
+	 * Returns the special <em>parsha</em> of a <em>Shabbos</em>, or {@link Parsha#NONE} for a regular <em>Shabbos</em>, as
+	 * with {@link JewishCalendar#getSpecialShabbos()}.
+	 *
+	 * @param index the index of the <em>Shabbos</em> in the year, starting with 0
+	 * @return the special <em>parsha</em>
+	 */
+	public Parsha getSpecialShabbos(int index) {
+		checkIndex(index);
+		return specialParshiyos[index];
+	}
+
+	/**
+	 * Returns if a <em>Shabbos</em> is <em>Shabbos Mevorchim</em>, as with {@link JewishCalendar#isShabbosMevorchim()}.
+	 *
+	 * @param index the index of the <em>Shabbos</em> in the year, starting with 0
+	 * @return true if it is <em>Shabbos Mevorchim</em>
+	 */
+	public boolean isShabbosMevorchim(int index) {
+		checkIndex(index);
+		return mevorchim[index];
+	}
+
+	/**
+	 * Returns the <em>parsha</em> that the week ending with a <em>Shabbos</em> is known by: the <em>parsha</em> of the
+	 * <em>Shabbos</em>, or if it has none (such as a <em>Yom Tov</em> on <em>Shabbos</em>), the next <em>parsha</em> that is
+	 * read. This is what {@link JewishCalendar#getUpcomingParshah()} returns for the days of the week before the
+	 * <em>Shabbos</em>.
+	 *
+	 * @param index the index of the <em>Shabbos</em> in the year, starting with 0
+	 * @return the upcoming <em>parsha</em>
+	 */
+	public Parsha getUpcomingParsha(int index) {
+		checkIndex(index);
+		return upcomingParshiyos[index];
+	}
+
+	/**
+	 * Returns the index of the <em>Shabbos</em> on or after a date of this year, or -1 if it is after the last
+	 * <em>Shabbos</em> of the year.
+	 *
+	 * @param date a date in the year of the schedule
+	 * @return the index of the <em>Shabbos</em>, or -1 if the next <em>Shabbos</em> is in the following year
+	 * @throws IllegalArgumentException if the date is not in the year of the schedule
+	 */
+	public int getShabbosIndex(JewishDate date) {
+		if (date.getJewishYear() != jewishYear) {
+			throw new IllegalArgumentException("The date " + date + " is not in the year " + jewishYear + ".");
+		}
+		int index = (date.getDaysSinceStartOfJewishYear() - 1 - firstShabbos + 6) / 7;
+		return index < parshiyos.length ? index : -1;
+	}
+
+	/**
+	 * Returns the <em>parsha</em> of a date of this year if it is <em>Shabbos</em>, or {@link Parsha#NONE} for a weekday or
+	 * a <em>Shabbos</em> without a <em>parsha</em>. This is the same as {@link JewishCalendar#getParshah()}.
+	 *
+	 * @param date a date in the year of the schedule
+	 * @return the <em>parsha</em>
+	 * @throws IllegalArgumentException if the date is not in the year of the schedule
+	 */
+	public Parsha getParsha(JewishDate date) {
+		int index = getShabbosIndex(date);
+		return date.getDayOfWeek() == Calendar.SATURDAY ? parshiyos[index] : Parsha.NONE;
+	}
+
+	/**
+	 * Returns the upcoming <em>parsha</em> of a date of this year. This is the same as {@link
+	 * JewishCalendar#getUpcomingParshah()}: the <em>parsha</em> of the coming <em>Shabbos</em> (or of the next week on
+	 * <em>Shabbos</em>), skipping weeks without a <em>parsha</em>. The following year's schedule is built when the upcoming
+	 * <em>Shabbos</em> is in the next year.
+	 *
+	 * @param date a date in the year of the schedule
+	 * @return the upcoming <em>parsha</em>
+	 * @throws IllegalArgumentException if the date is not in the year of the schedule
+	 */
+	public Parsha getUpcomingParsha(JewishDate date) {
+		int index = getShabbosIndex(date);
+		if (index != -1 && date.getDayOfWeek() == Calendar.SATURDAY) {
+			index++;
+		}
+		if (index == -1 || index == parshiyos.length) {
+			return new ShabbosSchedule(jewishYear + 1, inIsrael).getUpcomingParsha(0);
+		}
+		return upcomingParshiyos[index];
+	}
+
+	/**
+	 * Checks that a <em>Shabbos</em> index is in the schedule.
+	 *
+	 * @param index the index
+	 * @throws IndexOutOfBoundsException if the index is negative or not less than {@link #getShabbosCount()}
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= parshiyos.length) {
+			throw new IndexOutOfBoundsException("Shabbos index " + index + " is out of range for " + parshiyos.length
+					+ " Shabbosos.");
+		}
+	}
+}
@@ -15,7 +15,10 @@
  */
 package com.kosherjava.zmanim.hebrewcalendar;
 
+import java.util.BitSet;
 import java.util.Calendar;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Tefila Rules is a utility class that covers the various <em>halachos</em> and <em>minhagim</em> regarding
@@ -54,6 +57,43 @@ import java.util.Calendar;
  * </ol>
  */
 public class TefilaRules {
+	/**
+	 * The rules that {@link #getRulesForYear(JewishCalendar)} evaluates for every day of a year, each named for the
+	 * <code>is...</code> method of this class that it matches.
+	 */
+	public enum Rule {
+		/** {@link TefilaRules#isTachanunRecitedShacharis(JewishCalendar)} */
+		TACHANUN_SHACHARIS,
+		/** {@link TefilaRules#isTachanunRecitedMincha(JewishCalendar)} */
+		TACHANUN_MINCHA,
+		/** {@link TefilaRules#isVeseinTalUmatarStartDate(JewishCalendar)} */
+		VESEIN_TAL_UMATAR_START_DATE,
+		/** {@link TefilaRules#isVeseinTalUmatarStartingTonight(JewishCalendar)} */
+		VESEIN_TAL_UMATAR_STARTING_TONIGHT,
+		/** {@link TefilaRules#isVeseinTalUmatarRecited(JewishCalendar)} */
+		VESEIN_TAL_UMATAR,
+		/** {@link TefilaRules#isVeseinBerachaRecited(JewishCalendar)} */
+		VESEIN_BERACHA,
+		/** {@link TefilaRules#isMashivHaruachStartDate(JewishCalendar)} */
+		MASHIV_HARUACH_START_DATE,
+		/** {@link TefilaRules#isMashivHaruachEndDate(JewishCalendar)} */
+		MASHIV_HARUACH_END_DATE,
+		/** {@link TefilaRules#isMashivHaruachRecited(JewishCalendar)} */
+		MASHIV_HARUACH,
+		/** {@link TefilaRules#isMoridHatalRecited(JewishCalendar)} */
+		MORID_HATAL,
+		/** {@link TefilaRules#isHallelRecited(JewishCalendar)} */
+		HALLEL,
+		/** {@link TefilaRules#isHallelShalemRecited(JewishCalendar)} */
+		HALLEL_SHALEM,
+		/** {@link TefilaRules#isAlHanissimRecited(JewishCalendar)} */
+		AL_HANISSIM,
+		/** {@link TefilaRules#isYaalehVeyavoRecited(JewishCalendar)} */
+		YAALEH_VEYAVO,
+		/** {@link TefilaRules#isMizmorLesodaRecited(JewishCalendar)} */
+		MIZMOR_LESODA
+	}
+
 	/**
 	 * The default value is <code>true</code>.
 	 * @see #isTachanunRecitedEndOfTishrei()
@@ -502,6 +542,83 @@ public class TefilaRules {
 				&& holidayIndex != JewishCalendar.EREV_PESACH && !jewishCalendar.isCholHamoedPesach());
 	}
 	
+	/**
+	 * Evaluates every {@link Rule} for each day of the Jewish year of a calendar in one pass through the year, using the
+	 * <em>minhag</em> settings of this instance and the settings of the calendar (such as {@link JewishCalendar#getInIsrael()}
+	 * and {@link JewishCalendar#isUseModernHolidays()}). This is much faster than calling the <code>is...</code> methods for
+	 * each day, since {@link #isTachanunRecitedMincha(JewishCalendar)} clones the calendar and evaluates the next day's
+	 * <em>tachanun</em> as well, and each day's <em>tachanun</em> is only evaluated once here. For example, to check if
+	 * <em>Hallel</em> is recited on a date of the year:
+	 * <pre style="background: #FEF0C9; display: inline-block;">
+	 * Map&lt;TefilaRules.Rule, BitSet&gt; year = tefilaRules.getRulesForYear(jewishCalendar);
+	 * boolean hallel = year.get(TefilaRules.Rule.HALLEL).get(jewishCalendar.getDaysSinceStartOfJewishYear() - 1);
+	 * </pre>
+	 * The settings are read when this method is called, and later changes to them do not change the result.
+	 *
+	 * @param jewishCalendar a date in the Jewish year to evaluate, with the settings to use. It is not changed.
+	 * @return a map with a bit set for each rule, with the bit for each day of the year (counting 1 Tishrei as 0) set if the
+	 *         rule's method returns true for that day.
+	 */
+	public Map<Rule, BitSet> getRulesForYear(JewishCalendar jewishCalendar) {
+		int year = jewishCalendar.getJewishYear();
+		int daysInYear = JewishDate.getDaysInJewishYear(year);
+		Map<Rule, BitSet> rules = new EnumMap<>(Rule.class);
+		for (Rule rule : Rule.values()) {
+			rules.put(rule, new BitSet(daysInYear));
+		}
+		BitSet tachanunShacharis = rules.get(Rule.TACHANUN_SHACHARIS);
+		BitSet tachanunMincha = rules.get(Rule.TACHANUN_MINCHA);
+		BitSet veseinTalUmatarStartDate = rules.get(Rule.VESEIN_TAL_UMATAR_START_DATE);
+		BitSet veseinTalUmatarStartingTonight = rules.get(Rule.VESEIN_TAL_UMATAR_STARTING_TONIGHT);
+		BitSet veseinTalUmatar = rules.get(Rule.VESEIN_TAL_UMATAR);
+		BitSet hallel = rules.get(Rule.HALLEL);
+		BitSet hallelShalem = rules.get(Rule.HALLEL_SHALEM);
+		BitSet alHanissim = rules.get(Rule.AL_HANISSIM);
+		BitSet yaalehVeyavo = rules.get(Rule.YAALEH_VEYAVO);
+		BitSet mizmorLesoda = rules.get(Rule.MIZMOR_LESODA);
+
+		// Mashiv Haruach is recited after 22 Tishrei and before 15 Nissan, and the rest of the year is Morid Hatal
+		int mashivHaruachStart = 21;
+		int mashivHaruachEnd = new JewishDate(year, JewishDate.NISSAN, 15).getDaysSinceStartOfJewishYear() - 1;
+		rules.get(Rule.MASHIV_HARUACH_START_DATE).set(mashivHaruachStart);
+		rules.get(Rule.MASHIV_HARUACH_END_DATE).set(mashivHaruachEnd);
+		rules.get(Rule.MASHIV_HARUACH).set(mashivHaruachStart + 1, mashivHaruachEnd);
+		BitSet moridHatal = rules.get(Rule.MORID_HATAL);
+		moridHatal.set(0, mashivHaruachStart + 1);
+		moridHatal.set(mashivHaruachEnd, daysInYear);
+
+		JewishCalendar day = (JewishCalendar) jewishCalendar.clone();
+		day.setJewishDate(year, JewishDate.TISHREI, 1);
+		boolean shacharis = isTachanunRecitedShacharis(day);
+		for (int i = 0; i < daysInYear; i++) {
+			int dayOfWeek = day.getDayOfWeek();
+			tachanunShacharis.set(i, shacharis);
+			veseinTalUmatarStartDate.set(i, isVeseinTalUmatarStartDate(day));
+			veseinTalUmatarStartingTonight.set(i, isVeseinTalUmatarStartingTonight(day));
+			veseinTalUmatar.set(i, isVeseinTalUmatarRecited(day));
+			hallel.set(i, isHallelRecited(day));
+			hallelShalem.set(i, isHallelShalemRecited(day));
+			alHanissim.set(i, isAlHanissimRecited(day));
+			yaalehVeyavo.set(i, isYaalehVeyavoRecited(day));
+			mizmorLesoda.set(i, isMizmorLesodaRecited(day));
+
+			// the same test as isTachanunRecitedMincha, with tomorrow's shacharis kept for the next day
+			day.plusDays(1);
+			boolean tomorrowShacharis = isTachanunRecitedShacharis(day);
+			int tomorrowIndex = day.getYomTovIndex();
+			tachanunMincha.set(i, tachanunRecitedMinchaAllYear && dayOfWeek != Calendar.FRIDAY && shacharis
+					&& (tomorrowShacharis || tomorrowIndex == JewishCalendar.EREV_ROSH_HASHANA
+							|| tomorrowIndex == JewishCalendar.EREV_YOM_KIPPUR
+							|| tomorrowIndex == JewishCalendar.PESACH_SHENI)
+					&& (tachanunRecitedMinchaErevLagBaomer || tomorrowIndex != JewishCalendar.LAG_BAOMER));
+			shacharis = tomorrowShacharis;
+		}
+		BitSet veseinBeracha = rules.get(Rule.VESEIN_BERACHA);
+		veseinBeracha.set(0, daysInYear);
+		veseinBeracha.andNot(veseinTalUmatar);
+		return rules;
+	}
+
 	/**
 	 * Is <em>tachanun</em> set to be recited during the week of Purim, from the 11th through the 17th of {@link
 	 * JewishDate#ADAR <em>Adar</em>} (on a non-leap year, or {@link JewishDate#ADAR_II <em>Adar II</em>} on a leap year). Some
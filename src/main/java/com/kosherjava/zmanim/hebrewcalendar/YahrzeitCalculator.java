@@ -0,0 +1,507 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.time.LocalDate;
+
+/**
+ * Calculates the date on which a <em>yahrzeit</em> or an anniversary (such as a birthday or a bar mitzvah) of a Jewish date
+ * is observed in a later year, in bulk. A date can't simply be moved to the same month and day of another year, since the
+ * month or day may not exist in that year:
+ * <ul>
+ * <li>A date in Adar of a regular year is observed in Adar I in a leap year for a <em>yahrzeit</em> (following the Rema
+ * in Orach Chaim 568:7) and in Adar II for an anniversary (following Orach Chaim 55:10). This can be {@link
+ * Builder#setAdarOfRegularYear(int) changed}, for example to observe a <em>yahrzeit</em> in Adar II as the Mechaber rules.
+ * A date in Adar II is observed in Adar of a regular year and a date in Adar I is observed in Adar.</li>
+ * <li>30 Adar I is the first day of Rosh Chodesh Adar II, and in a regular year a <em>yahrzeit</em> on it is observed on
+ * 30 Shevat, the first day of Rosh Chodesh Adar, and an anniversary on 1 Adar. This can be {@link
+ * Builder#setAdarIThirtiethRule(int) changed} to 30 Shevat, 1 Adar or 29 Adar for either type.</li>
+ * <li>The 30th of Cheshvan or Kislev when the month only has 29 days is observed on the 1st of the next month, unless the first anniversary (the year after the date) had no 30th, in which case
+ * a <em>yahrzeit</em> is observed on the last day of the month (the 29th when there is no 30th). This can be {@link
+ * Builder#setThirtiethRule(int) changed} to always observe on the 29th or always on the 1st of the next month.</li>
+ * </ul>
+ * The source dates are passed in packed as {@code year << 9 | month << 5 | day}, as returned by {@link
+ * HebrewDateParser#parsePacked(CharSequence)}, and the dates observed are returned as {@link LocalDate#toEpochDay() epoch
+ * days}. The start of every year and its type (the length of its months) come from the table of {@link
+ * JewishDate#getJewishCalendarElapsedDays(int) elapsed days} kept by {@link JewishDate}, and the calculator builds a table
+ * of the day of the year that each source month and day is observed on in each type of year, so resolving a date takes a
+ * few array lookups, and the bulk methods create no objects. Instances are
+ * immutable and can be shared by any number of threads.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * YahrzeitCalculator calculator = new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT).build();
+ * long[] epochDays = new long[packedDates.length];
+ * calculator.getNextEpochDays(packedDates, LocalDate.now(), epochDays);
+ * </pre>
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+public final class YahrzeitCalculator {
+	/** The type of a calculator of <em>yahrzeits</em>. */
+	public static final int YAHRZEIT = 0;
+
+	/** The type of a calculator of anniversaries such as birthdays and bar mitzvahs. */
+	public static final int ANNIVERSARY = 1;
+
+	/**
+	 * The rule that a 30th of Cheshvan or Kislev that the first anniversary (the year after the date) did not have is observed
+	 * as {@link #THIRTIETH_ON_LAST_DAY}, and otherwise as {@link #THIRTIETH_ON_NEXT_DAY}. This is the default for a
+	 * <em>yahrzeit</em>, and for an anniversary it is the same as {@link #THIRTIETH_ON_NEXT_DAY}.
+	 */
+	public static final int THIRTIETH_FOLLOWS_FIRST_YEAR = 0;
+
+	/** The rule that a 30th is observed on the 29th in a year without a 30th. */
+	public static final int THIRTIETH_ON_LAST_DAY = 1;
+
+	/** The rule that a 30th is observed on the 1st of the next month in a year without a 30th. */
+	public static final int THIRTIETH_ON_NEXT_DAY = 2;
+
+	/**
+	 * The rule that 30 Adar I is observed on 30 Shevat in a regular year, the first day of Rosh Chodesh Adar. This is the
+	 * default for a <em>yahrzeit</em>.
+	 */
+	public static final int ADAR_I_THIRTIETH_ON_SHEVAT_30 = 0;
+
+	/** The rule that 30 Adar I is observed on 1 Adar in a regular year. This is the default for an anniversary. */
+	public static final int ADAR_I_THIRTIETH_ON_ADAR_1 = 1;
+
+	/** The rule that 30 Adar I is observed on 29 Adar, the last day of Adar, in a regular year. */
+	public static final int ADAR_I_THIRTIETH_ON_ADAR_29 = 2;
+
+	/** The epoch day returned by the bulk methods for a source date that is not valid. */
+	public static final long NO_DATE = Long.MIN_VALUE;
+
+	/** The number of year types (see {@link JewishDate#getYearType(int)}). */
+	private static final int YEAR_TYPES = 6;
+
+	/**
+	 * The day of the year (1 for 1 Tishrei) that a source date is observed on, indexed by {@link #getIndex(int, int, int,
+	 * int)}, or 0 for a date that does not exist.
+	 */
+	private final short[] daysOfYear;
+
+	/** The type of the calculator, {@link #YAHRZEIT} or {@link #ANNIVERSARY}. */
+	private final int type;
+
+	/** The first year that can be resolved. */
+	private static final int FIRST_YEAR = 3761;
+
+	/** The last year that can be resolved. */
+	private static final int LAST_YEAR = 9999;
+
+	/**
+	 * Creates a calculator and its table from a builder.
+	 *
+	 * @param builder the builder
+	 */
+	private YahrzeitCalculator(Builder builder) {
+		type = builder.type;
+		daysOfYear = new short[2 * 3 * (JewishDate.ADAR_II + 1) * 31 * YEAR_TYPES];
+		for (int sourceLeap = 0; sourceLeap < 2; sourceLeap++) {
+			for (int nextKviah = JewishDate.CHASERIM; nextKviah <= JewishDate.SHELAIMIM; nextKviah++) {
+				for (int month = JewishDate.NISSAN; month <= JewishDate.ADAR_II; month++) {
+					for (int day = 1; day <= 30; day++) {
+						for (int targetType = 0; targetType < YEAR_TYPES; targetType++) {
+							daysOfYear[getIndex(sourceLeap * 3 + nextKviah, month, day, targetType)] = (short) resolve(
+									sourceLeap == 1, nextKviah, month, day, targetType, builder);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the index into {@link #daysOfYear} of a source month and day.
+	 *
+	 * @param sourceClass 3 if the source year is a leap year (otherwise 0) plus the <em>kviah</em> of the next year
+	 * @param month the source month
+	 * @param day the source day of the month
+	 * @param targetType the type of the year the date is observed in
+	 * @return the index
+	 */
+	private static int getIndex(int sourceClass, int month, int day, int targetType) {
+		return ((sourceClass * (JewishDate.ADAR_II + 1) + month) * 31 + day) * YEAR_TYPES + targetType;
+	}
+
+	/**
+	 * Returns the day of the year that a source date is observed on in a type of year.
+	 *
+	 * @param sourceLeap if the source year is a leap year
+	 * @param nextKviah the <em>kviah</em> of the year after the source year
+	 * @param month the source month
+	 * @param day the source day of the month
+	 * @param targetType the type of the year the date is observed in
+	 * @param builder the options
+	 * @return the day of the year, with 1 for 1 Tishrei, or 0 if the source date can't exist
+	 */
+	private static int resolve(boolean sourceLeap, int nextKviah, int month, int day, int targetType, Builder builder) {
+		if (day > JewishDate.getDaysInJewishMonth(sourceLeap, JewishDate.SHELAIMIM, month)
+				|| (month == JewishDate.ADAR_II && !sourceLeap)) {
+			return 0;
+		}
+		boolean targetLeap = targetType >= 3;
+		int targetMonth = month;
+		if (month == JewishDate.ADAR_II) {
+			targetMonth = targetLeap ? JewishDate.ADAR_II : JewishDate.ADAR;
+		} else if (month == JewishDate.ADAR && !sourceLeap && targetLeap) {
+			targetMonth = builder.adarOfRegularYear;
+		}
+		int monthLength = JewishDate.getDaysInJewishMonth(targetLeap, targetType % 3, targetMonth);
+		int targetDay = day;
+		if (day == 30) {
+			if (month == JewishDate.ADAR) {
+				if (!targetLeap) { // Rosh Chodesh Adar II, which stays in Adar rather than moving to Nissan
+					if (builder.adarIThirtiethRule == ADAR_I_THIRTIETH_ON_SHEVAT_30) {
+						targetMonth = JewishDate.SHEVAT;
+					} else {
+						targetDay = builder.adarIThirtiethRule == ADAR_I_THIRTIETH_ON_ADAR_1 ? 1 : 29;
+					}
+				}
+			} else {
+				boolean firstYearShort = (month == JewishDate.CHESHVAN && nextKviah != JewishDate.SHELAIMIM)
+						|| (month == JewishDate.KISLEV && nextKviah == JewishDate.CHASERIM);
+				int rule = builder.thirtiethRule;
+				if (rule == THIRTIETH_FOLLOWS_FIRST_YEAR && builder.type == ANNIVERSARY) {
+					rule = THIRTIETH_ON_NEXT_DAY;
+				}
+				if (rule == THIRTIETH_FOLLOWS_FIRST_YEAR) {
+					rule = firstYearShort ? THIRTIETH_ON_LAST_DAY : THIRTIETH_ON_NEXT_DAY;
+				}
+				if (rule == THIRTIETH_ON_LAST_DAY && monthLength < 30) {
+					targetDay = 29;
+				} // otherwise a missing 30th is the day after the 29th, the 1st of the next month
+			}
+		}
+		return JewishDate.DAYS_BEFORE_MONTH[targetType][targetMonth] + targetDay;
+	}
+
+	/**
+	 * Checks that a year can be resolved.
+	 *
+	 * @param year the Jewish year
+	 * @return the year
+	 * @throws IllegalArgumentException if the year is not between {@link #FIRST_YEAR} and {@link #LAST_YEAR}
+	 */
+	private static int checkYear(int year) {
+		if (year < FIRST_YEAR || year > LAST_YEAR) {
+			throw new IllegalArgumentException("The year " + year + " is not between " + FIRST_YEAR + " and " + LAST_YEAR);
+		}
+		return year;
+	}
+
+	/**
+	 * Returns the epoch day before Rosh Hashana of a year.
+	 *
+	 * @param year the Jewish year
+	 * @return the epoch day of 29 Elul of the previous year
+	 */
+	private static long getEpochDayBefore(int year) {
+		return JewishDate.getJewishCalendarElapsedDays(year) + JewishDate.JEWISH_EPOCH - JewishDate.ABS_DATE_OF_EPOCH_DAY;
+	}
+
+	/**
+	 * Returns the epoch day that a source date is observed on in a year, or {@link #NO_DATE}.
+	 *
+	 * @param packedDate the packed source date
+	 * @param targetType the {@link JewishDate#getYearType(int) type} of the year it is observed in
+	 * @param targetStart the {@link #getEpochDayBefore(int) epoch day before} the year it is observed in
+	 * @return the epoch day, or {@link #NO_DATE} if the source date is not valid
+	 */
+	private long resolve(int packedDate, int targetType, long targetStart) {
+		int year = packedDate >>> 9;
+		int month = (packedDate >>> 5) & 0xF;
+		int day = packedDate & 0x1F;
+		if (year < FIRST_YEAR || year > LAST_YEAR || month < JewishDate.NISSAN || month > JewishDate.ADAR_II || day < 1
+				|| day > 30) {
+			return NO_DATE;
+		}
+		int sourceType = JewishDate.getYearType(year);
+		int nextKviah = JewishDate.getYearType(year + 1) % 3;
+		int dayOfYear = daysOfYear[getIndex((sourceType >= 3 ? 3 : 0) + nextKviah, month, day, targetType)];
+		if (dayOfYear == 0 || (month == JewishDate.CHESHVAN || month == JewishDate.KISLEV) && day == 30
+				&& JewishDate.getDaysInJewishMonth(sourceType >= 3, sourceType % 3, month) < 30) {
+			return NO_DATE;
+		}
+		return targetStart + dayOfYear;
+	}
+
+	/**
+	 * Returns the epoch day that a source date is observed on in a year, or {@link #NO_DATE}.
+	 *
+	 * @param packedDate the packed source date
+	 * @param targetYear the Jewish year it is observed in
+	 * @return the epoch day, or {@link #NO_DATE} if the source date is not valid
+	 * @throws IllegalArgumentException if the year is not between {@link #FIRST_YEAR} and {@link #LAST_YEAR}
+	 */
+	private long resolve(int packedDate, int targetYear) {
+		checkYear(targetYear);
+		return resolve(packedDate, JewishDate.getYearType(targetYear), getEpochDayBefore(targetYear));
+	}
+
+	/**
+	 * Returns the epoch day that a source date is observed on in a year.
+	 *
+	 * @param packedDate the source date packed as {@code year << 9 | month << 5 | day}
+	 * @param targetYear the Jewish year it is observed in
+	 * @return the {@link LocalDate#toEpochDay() epoch day}
+	 * @throws IllegalArgumentException if the source date is not valid or a year is not between 3761 and 9999
+	 */
+	public long getEpochDay(int packedDate, int targetYear) {
+		long epochDay = resolve(packedDate, targetYear);
+		if (epochDay == NO_DATE) {
+			throw new IllegalArgumentException("The packed date " + packedDate + " is not a valid date from 3761 to 9999");
+		}
+		return epochDay;
+	}
+
+	/**
+	 * Returns the date that a source date is observed on in a year.
+	 *
+	 * @param date the source date, such as the date of death for a <em>yahrzeit</em>
+	 * @param targetYear the Jewish year it is observed in
+	 * @return the Gregorian date
+	 * @throws IllegalArgumentException if a year is not between 3761 and 9999
+	 */
+	public LocalDate getLocalDate(JewishLocalDate date, int targetYear) {
+		return LocalDate.ofEpochDay(getEpochDay(pack(date), targetYear));
+	}
+
+	/**
+	 * Returns the Jewish date that a source date is observed on in a year.
+	 *
+	 * @param date the source date, such as the date of death for a <em>yahrzeit</em>
+	 * @param targetYear the Jewish year it is observed in
+	 * @return the Jewish date
+	 * @throws IllegalArgumentException if a year is not between 3761 and 9999
+	 */
+	public JewishLocalDate getJewishLocalDate(JewishLocalDate date, int targetYear) {
+		return JewishLocalDate.ofAbsDate((int) getEpochDay(pack(date), targetYear) + JewishDate.ABS_DATE_OF_EPOCH_DAY);
+	}
+
+	/**
+	 * Returns the next date that a source date is observed on, on or after a date and after the source date.
+	 *
+	 * @param date the source date, such as the date of death for a <em>yahrzeit</em>
+	 * @param onOrAfter the earliest date returned
+	 * @return the Gregorian date
+	 * @throws IllegalArgumentException if a year is not between 3761 and 9999
+	 */
+	public LocalDate getNextLocalDate(JewishLocalDate date, LocalDate onOrAfter) {
+		long[] epochDays = new long[1];
+		getNextEpochDays(new int[] { pack(date) }, onOrAfter, epochDays);
+		if (epochDays[0] == NO_DATE) {
+			throw new IllegalArgumentException("The year after " + date + " is after 9999");
+		}
+		return LocalDate.ofEpochDay(epochDays[0]);
+	}
+
+	/**
+	 * Returns the epoch days that source dates are observed on, each in its own year.
+	 *
+	 * @param packedDates the source dates packed as {@code year << 9 | month << 5 | day}
+	 * @param targetYears the Jewish year that each date is observed in
+	 * @param epochDays receives the {@link LocalDate#toEpochDay() epoch day} of each date, or {@link #NO_DATE} for a source
+	 *         date that is not valid
+	 * @throws IllegalArgumentException if the arrays are not the same length or a target year is not between 3761 and 9999
+	 */
+	public void getEpochDays(int[] packedDates, int[] targetYears, long[] epochDays) {
+		checkLengths(packedDates, targetYears.length, epochDays);
+		for (int i = 0; i < packedDates.length; i++) {
+			epochDays[i] = resolve(packedDates[i], targetYears[i]);
+		}
+	}
+
+	/**
+	 * Returns the epoch days that source dates are observed on in a year.
+	 *
+	 * @param packedDates the source dates packed as {@code year << 9 | month << 5 | day}
+	 * @param targetYear the Jewish year that the dates are observed in
+	 * @param epochDays receives the {@link LocalDate#toEpochDay() epoch day} of each date, or {@link #NO_DATE} for a source
+	 *         date that is not valid
+	 * @throws IllegalArgumentException if the arrays are not the same length or the year is not between 3761 and 9999
+	 */
+	public void getEpochDays(int[] packedDates, int targetYear, long[] epochDays) {
+		checkLengths(packedDates, packedDates.length, epochDays);
+		int targetType = JewishDate.getYearType(checkYear(targetYear));
+		long targetStart = getEpochDayBefore(targetYear);
+		for (int i = 0; i < packedDates.length; i++) {
+			epochDays[i] = resolve(packedDates[i], targetType, targetStart);
+		}
+	}
+
+	/**
+	 * Returns the next epoch days that source dates are observed on, on or after a date and (for dates in the year of the
+	 * date or later) in a year after the source date, such as the next <em>yahrzeit</em> of each record.
+	 *
+	 * @param packedDates the source dates packed as {@code year << 9 | month << 5 | day}
+	 * @param onOrAfter the earliest date returned
+	 * @param epochDays receives the {@link LocalDate#toEpochDay() epoch day} of each date, or {@link #NO_DATE} for a source
+	 *         date that is not valid or whose next date would be after 9999
+	 * @throws IllegalArgumentException if the arrays are not the same length or the date is not in the years 3761 to 9998
+	 */
+	public void getNextEpochDays(int[] packedDates, LocalDate onOrAfter, long[] epochDays) {
+		checkLengths(packedDates, packedDates.length, epochDays);
+		long first = onOrAfter.toEpochDay();
+		int currentYear = JewishDate.absDateToPackedJewishDate((int) first + JewishDate.ABS_DATE_OF_EPOCH_DAY) >>> 9;
+		int currentType = JewishDate.getYearType(checkYear(currentYear));
+		long currentStart = getEpochDayBefore(currentYear);
+		int nextType = JewishDate.getYearType(checkYear(currentYear + 1));
+		long nextStart = getEpochDayBefore(currentYear + 1);
+		for (int i = 0; i < packedDates.length; i++) {
+			int sourceYear = packedDates[i] >>> 9;
+			long epochDay = NO_DATE;
+			if (sourceYear < currentYear) {
+				epochDay = resolve(packedDates[i], currentType, currentStart);
+			}
+			if (epochDay == NO_DATE || epochDay < first) {
+				if (sourceYear < currentYear + 1) {
+					epochDay = resolve(packedDates[i], nextType, nextStart);
+				} else if (sourceYear < LAST_YEAR) {
+					epochDay = resolve(packedDates[i], sourceYear + 1);
+				} else {
+					epochDay = NO_DATE;
+				}
+			}
+			epochDays[i] = epochDay;
+		}
+	}
+
+	/**
+	 * Checks that the arrays passed to a bulk method are the same length.
+	 *
+	 * @param packedDates the source dates
+	 * @param targetYears the number of target years
+	 * @param epochDays the array that receives the epoch days
+	 * @throws IllegalArgumentException if the lengths are not the same
+	 */
+	private static void checkLengths(int[] packedDates, int targetYears, long[] epochDays) {
+		if (packedDates.length != targetYears || packedDates.length != epochDays.length) {
+			throw new IllegalArgumentException("The arrays must be the same length");
+		}
+	}
+
+	/**
+	 * Returns a date packed as {@code year << 9 | month << 5 | day}.
+	 *
+	 * @param date the date
+	 * @return the packed date
+	 */
+	private static int pack(JewishLocalDate date) {
+		return date.getJewishYear() << 9 | date.getJewishMonth() << 5 | date.getJewishDayOfMonth();
+	}
+
+	/**
+	 * Returns the type of the calculator.
+	 *
+	 * @return {@link #YAHRZEIT} or {@link #ANNIVERSARY}
+	 */
+	public int getType() {
+		return type;
+	}
+
+	/**
+	 * A builder of a {@link YahrzeitCalculator}.
+	 */
+	public static final class Builder {
+		/** The type of the calculator. */
+		private final int type;
+
+		/** The month in a leap year that a date in Adar of a regular year is observed in. */
+		private int adarOfRegularYear;
+
+		/** The rule for a missing 30th. */
+		private int thirtiethRule;
+
+		/** The rule for 30 Adar I in a regular year. */
+		private int adarIThirtiethRule;
+
+		/**
+		 * Constructor for a builder.
+		 *
+		 * @param type {@link #YAHRZEIT} or {@link #ANNIVERSARY}, which sets the default options
+		 * @throws IllegalArgumentException if the type is not valid
+		 */
+		public Builder(int type) {
+			if (type != YAHRZEIT && type != ANNIVERSARY) {
+				throw new IllegalArgumentException("The type must be YAHRZEIT or ANNIVERSARY");
+			}
+			this.type = type;
+			adarOfRegularYear = type == YAHRZEIT ? JewishDate.ADAR : JewishDate.ADAR_II;
+			thirtiethRule = type == YAHRZEIT ? THIRTIETH_FOLLOWS_FIRST_YEAR : THIRTIETH_ON_NEXT_DAY;
+			adarIThirtiethRule = type == YAHRZEIT ? ADAR_I_THIRTIETH_ON_SHEVAT_30 : ADAR_I_THIRTIETH_ON_ADAR_1;
+		}
+
+		/**
+		 * Sets the month in a leap year that a date in Adar of a regular year is observed in. The default is Adar I
+		 * ({@link JewishDate#ADAR}) for a <em>yahrzeit</em> and {@link JewishDate#ADAR_II} for an anniversary. Those who
+		 * observe a <em>yahrzeit</em> in both months can use a calculator for each.
+		 *
+		 * @param month {@link JewishDate#ADAR} or {@link JewishDate#ADAR_II}
+		 * @return this builder
+		 * @throws IllegalArgumentException if the month is not Adar or Adar II
+		 */
+		public Builder setAdarOfRegularYear(int month) {
+			if (month != JewishDate.ADAR && month != JewishDate.ADAR_II) {
+				throw new IllegalArgumentException("The month must be ADAR or ADAR_II");
+			}
+			this.adarOfRegularYear = month;
+			return this;
+		}
+
+		/**
+		 * Sets the rule for the 30th of Cheshvan or Kislev in a year in which the month only has 29 days. The default is
+		 * {@link #THIRTIETH_FOLLOWS_FIRST_YEAR} for a <em>yahrzeit</em> and {@link #THIRTIETH_ON_NEXT_DAY} for an
+		 * anniversary. 30 Adar I has its own {@link #setAdarIThirtiethRule(int) rule}.
+		 *
+		 * @param thirtiethRule {@link #THIRTIETH_FOLLOWS_FIRST_YEAR}, {@link #THIRTIETH_ON_LAST_DAY} or {@link
+		 *         #THIRTIETH_ON_NEXT_DAY}
+		 * @return this builder
+		 * @throws IllegalArgumentException if the rule is not valid
+		 */
+		public Builder setThirtiethRule(int thirtiethRule) {
+			if (thirtiethRule < THIRTIETH_FOLLOWS_FIRST_YEAR || thirtiethRule > THIRTIETH_ON_NEXT_DAY) {
+				throw new IllegalArgumentException("Invalid rule for the 30th: " + thirtiethRule);
+			}
+			this.thirtiethRule = thirtiethRule;
+			return this;
+		}
+
+		/**
+		 * Sets the day that 30 Adar I is observed on in a regular year. The default is {@link #ADAR_I_THIRTIETH_ON_SHEVAT_30}
+		 * for a <em>yahrzeit</em> and {@link #ADAR_I_THIRTIETH_ON_ADAR_1} for an anniversary.
+		 *
+		 * @param adarIThirtiethRule {@link #ADAR_I_THIRTIETH_ON_SHEVAT_30}, {@link #ADAR_I_THIRTIETH_ON_ADAR_1} or {@link
+		 *         #ADAR_I_THIRTIETH_ON_ADAR_29}
+		 * @return this builder
+		 * @throws IllegalArgumentException if the rule is not valid
+		 */
+		public Builder setAdarIThirtiethRule(int adarIThirtiethRule) {
+			if (adarIThirtiethRule < ADAR_I_THIRTIETH_ON_SHEVAT_30 || adarIThirtiethRule > ADAR_I_THIRTIETH_ON_ADAR_29) {
+				throw new IllegalArgumentException("Invalid rule for 30 Adar I: " + adarIThirtiethRule);
+			}
+			this.adarIThirtiethRule = adarIThirtiethRule;
+			return this;
+		}
+
+		/**
+		 * Builds the calculator and its table.
+		 *
+		 * @return the {@link YahrzeitCalculator}
+		 */
+		public YahrzeitCalculator build() {
+			return new YahrzeitCalculator(this);
+		}
+	}
+}
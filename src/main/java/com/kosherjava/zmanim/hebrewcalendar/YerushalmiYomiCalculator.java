@@ -15,7 +15,8 @@
 package com.kosherjava.zmanim.hebrewcalendar;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class calculates the <a href="https://en.wikipedia.org/wiki/Jerusalem_Talmud">Talmud Yerusalmi</a> <a href=
@@ -29,15 +30,24 @@ public class YerushalmiYomiCalculator {
     /** Start date of first Daf Yomi Yerushalmi cycle: 1980-02-02 */
     private static final LocalDate DAF_YOMI_START_DAY = LocalDate.of(1980, 2, 2);
 
-    /** number of pages (<em>blatt/dafim</em>) in <em>Shas</em>*/
-    private static final int WHOLE_SHAS_DAFS = 1554;
-    
     /** number of pages (<em>blatt/dafim</em>) per <em>masechta</em>*/
     private static final int[] BLATT_PER_MASECHTA = {
             68, 37, 34, 44, 31, 59, 26, 33, 28, 20, 13, 92, 65, 71, 22, 22, 42, 26, 26, 33, 34, 22,
             19, 85, 72, 47, 40, 47, 54, 48, 44, 37, 34, 44, 9, 57, 37, 19, 13
     };
 
+    /**
+     * The Daf Yomi Yerushalmi cycle, built the first time it is used through 2080 and extended for later dates. Yom Kippur
+     * and Tisha B’Av (the 10th of Av when the 9th is Shabbos) are skipped days.
+     */
+    private static final LearningCycle.Shared CYCLE = new LearningCycle.Shared(
+            () -> new LearningCycle.Builder(DAF_YOMI_START_DAY, BLATT_PER_MASECHTA)
+                    .setSkippedDays(date -> date.getJewishMonth() == JewishDate.TISHREI
+                            ? date.getJewishDayOfMonth() == 10
+                            : date.getJewishMonth() == JewishDate.AV && (date.getJewishDayOfMonth() == 9
+                                    ? date.getDayOfWeek() != 7 : date.getJewishDayOfMonth() == 10 && date.getDayOfWeek() == 1))
+                    .setLastDate(DAF_YOMI_START_DAY.plusYears(100)).build());
+
     /**
      * Default constructor.
      */
@@ -50,122 +60,54 @@ public class YerushalmiYomiCalculator {
      * Returns null on Yom Kippur or Tisha B’Av.
      * @param jewishCalendar the <code>JewishCalendar</code> to set.
      * @return the daf.
+     * @throws IllegalArgumentException if the date is before the first Daf Yomi Yerushalmi cycle started on February 2, 1980
      */
     public static Daf getDafYomiYerushalmi(JewishCalendar jewishCalendar) {
         LocalDate requested = jewishCalendar.getLocalDate();
-        int masechta = 0;
-        Daf dafYomi = null;
-
-        // No Daf Yomi on Yom Kippur or Tisha B'Av
-        if (jewishCalendar.getYomTovIndex() == JewishCalendar.YOM_KIPPUR ||
-                jewishCalendar.getYomTovIndex() == JewishCalendar.TISHA_BEAV) {
-            return null;
-        }
-
         if (requested.isBefore(DAF_YOMI_START_DAY)) {
             throw new IllegalArgumentException(requested + " is prior to the first Daf Yomi cycle starting on "
                     + DAF_YOMI_START_DAY);
         }
-
-        // Initialize cycle dates
-        LocalDate prevCycle = DAF_YOMI_START_DAY;
-        LocalDate nextCycle = getNextCycleStart(prevCycle);
-
-        // Loop through cycles until we reach the requested date
-        while (!requested.isBefore(nextCycle)) {
-            prevCycle = nextCycle;
-            nextCycle = getNextCycleStart(prevCycle);
-        }
-
-        // Days between start of cycle and requested date
-        int dafNo = (int) getDiffBetweenDays(prevCycle, requested);
-
-        int specialDays = getNumOfSpecialDays(prevCycle, requested);
-        int total = dafNo - specialDays;
-
-        // Find the daf
-        for (int blatt : BLATT_PER_MASECHTA) {
-            if (total < blatt) {
-                dafYomi = new Daf(masechta, total + 1);
-                break;
-            }
-            total -= blatt;
-            masechta++;
-        }
-
-        return dafYomi;
+        LearningCycle.Portion portion = CYCLE.covering(requested).getPortion(requested);
+        return portion == null ? null : portion.toDaf();
     }
 
     /**
-     * Returns the start date of the cycle after the one beginning on {@code cycleStart}.
-     * The cycle end is inclusive, so skipped days on the tentative end date extend the cycle.
-     * @param cycleStart the first day of the current cycle
-     * @return the first day of the following cycle
+     * Returns the Daf Yomi Yerushalmi page for every day in a range of dates, in the order of the dates. The entry for Yom
+     * Kippur and Tisha B’Av is null.
+     *
+     * @param startDate the first date
+     * @param endDateExclusive the date after the last date
+     * @return the list of {@link Daf}s, empty if the end date is not after the start date
+     * @throws IllegalArgumentException if the start date is before the first Daf Yomi Yerushalmi cycle started on
+     *         February 2, 1980
+     * @see #getDafYomiYerushalmi(JewishCalendar)
      */
-    private static LocalDate getNextCycleStart(LocalDate cycleStart) {
-        LocalDate endDate = cycleStart.plusDays(WHOLE_SHAS_DAFS - 1);
-        int specialDays = getNumOfSpecialDays(cycleStart, endDate);
-
-        while (specialDays > 0) {
-            LocalDate newStart = endDate.plusDays(1);
-            endDate = endDate.plusDays(specialDays);
-            specialDays = getNumOfSpecialDays(newStart, endDate);
+    public static List<Daf> getDafYomiYerushalmi(LocalDate startDate, LocalDate endDateExclusive) {
+        if (startDate.isBefore(DAF_YOMI_START_DAY)) {
+            throw new IllegalArgumentException(startDate + " is prior to the first Daf Yomi cycle starting on "
+                    + DAF_YOMI_START_DAY);
         }
-
-        return endDate.plusDays(1);
-    }
-
-    /**
-     * Counts the number of "special days" (Yom Kippur, Tisha B’Av) between two dates.
-     * @param start the start date for the calculation
-     * @param end the end date for the calculation
-     * @return the number of special days
-     */
-    private static int getNumOfSpecialDays(LocalDate start, LocalDate end) {
-
-        int startYear = new JewishCalendar(start).getJewishYear();
-        int endYear = new JewishCalendar(end).getJewishYear();
-
-        int specialDays = 0;
-
-        // Loop over each Jewish year in range
-        for (int year = startYear; year <= endYear; year++) {
-            // Create Yom Kippur and Tisha B’Av for that Jewish year
-            JewishCalendar yomKippur = new JewishCalendar(year, JewishCalendar.TISHREI, 10);
-            JewishCalendar tishaBeav = new JewishCalendar(year, JewishCalendar.AV, 9);
-            // Check if Tisha B'Av is a Nidche.
-            if (tishaBeav.getDayOfWeek() == 7) {
-                tishaBeav.plusDays(1);
+        List<Daf> dafim = new ArrayList<>();
+        if (endDateExclusive.isAfter(startDate)) {
+            for (LearningCycle.Portion portion : CYCLE.covering(endDateExclusive.minusDays(1))
+                    .getPortions(startDate, endDateExclusive)) {
+                dafim.add(portion == null ? null : portion.toDaf());
             }
-            LocalDate ykDate = yomKippur.getLocalDate();
-            LocalDate tbDate = tishaBeav.getLocalDate();
-
-            if (isBetween(start, ykDate, end)) specialDays++;
-            if (isBetween(start, tbDate, end)) specialDays++;
         }
-
-        return specialDays;
-    }
-
-
-    /**
-     * Checks if a date is after start and on or before end.
-     * @param start the start <code>ZonedDateTime</code>
-     * @param date the <code>ZonedDateTime</code> to check
-     * @param end the end <code>ZonedDateTime</code>
-     * @return if the date is between the two dates
-     */
-    private static boolean isBetween(LocalDate start, LocalDate date, LocalDate end) {
-        return start.isBefore(date) && !end.isBefore(date);
+        return dafim;
     }
 
     /**
-     * Returns the number of full days between two <code>ZonedDateTime</code>s.
-     * @param start the start <code>ZonedDateTime</code>
-     * @param end the end <code>ZonedDateTime</code>
-     * @return the number of days between the dates.
+     * Returns the Daf Yomi Yerushalmi as a {@link LearningCycle}, with the {@link LearningCycle.Portion#getGroup() group}
+     * being the <em>masechta</em> number and the {@link LearningCycle.Portion#getUnit() unit} being the <em>daf</em>, as in
+     * the {@link Daf} returned by {@link #getDafYomiYerushalmi(JewishCalendar)}, which uses the same cycle. Yom Kippur and
+     * Tisha B’Av are skipped days. The cycle also finds the date of a <em>daf</em> with {@link LearningCycle#getDate(int,
+     * int, int)}. It covers at least the dates through the end of the Jewish year 9999, and is shared.
+     *
+     * @return the Daf Yomi Yerushalmi cycle
      */
-    private static long getDiffBetweenDays(LocalDate start, LocalDate end) {
-        return ChronoUnit.DAYS.between(start, end);
+    public static LearningCycle getDafYomiYerushalmiCycle() {
+        return CYCLE.covering(new JewishDate(9999, JewishDate.ELUL, 29).getLocalDate());
     }
 }
@@ -16,6 +16,8 @@ package com.kosherjava.zmanim.hebrewcalendar;
 
 import java.time.LocalDate;
 import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class calculates the Daf Yomi Bavli page (daf) for a given date. To calculate Daf Yomi Yerushalmi
@@ -30,19 +32,36 @@ public class YomiCalculator {
 	 * The start date of the first Daf Yomi Bavli cycle of September 11, 1923 / Rosh Hashana 5684.
 	 */
 	private static final LocalDate dafYomiStartDay = LocalDate.of(1923, Month.SEPTEMBER,11);
-	/** The start date of the first Daf Yomi Bavli cycle in the Julian calendar. Used internally for calculations.*/
-	private static final int dafYomiJulianStartDay = getJulianDay(dafYomiStartDay);
+
 	/**
-	 * The date that the pagination for the Daf Yomi <em>Maseches Shekalim</em> changed to use the commonly used Vilna
-	 * Shas pagination from the no longer commonly available Zhitomir / Slavuta Shas used by Rabbi Meir Shapiro. 
+	 * The number of daf per masechta. Since the number of blatt in Shekalim changed on the 8th Daf Yomi cycle beginning on
+	 * June 24, 1975, from 13 to 22, the first seven cycles use 13 for Shekalim (index 4).
 	 */
-	private static final LocalDate shekalimChangeDay =  LocalDate.of(1975, Month.JUNE, 24);
-	
-	/** The Julian date that the cycle for Shekalim changed.
-	 * @see #getDafYomiBavli(JewishCalendar) for details.
+	private static final int[] BLATT_PER_MASECHTA = { 64, 157, 105, 121, 22, 88, 56, 40, 35, 31, 32, 29, 27, 122, 112, 91,
+			66, 49, 90, 82, 119, 119, 176, 113, 24, 49, 76, 14, 120, 110, 142, 61, 34, 34, 28, 22, 4, 9, 5, 73 };
+
+	/**
+	 * The Daf Yomi Bavli cycle, built the first time it is used through 500 years from the first cycle and extended for later
+	 * dates. Each masechta starts on daf 2, except for the weird ones near the end, and Shekalim has 13 blatt in the first
+	 * seven cycles (following the Zhitomir / Slavuta Shas) and 22 from the eighth cycle beginning on June 24, 1975.
 	 */
-	private static final int shekalimJulianChangeDay = getJulianDay(shekalimChangeDay);
-	
+	private static final LearningCycle.Shared CYCLE = new LearningCycle.Shared(() -> {
+		int[] dafim = new int[BLATT_PER_MASECHTA.length];
+		int[] firstDaf = new int[BLATT_PER_MASECHTA.length];
+		for (int masechta = 0; masechta < BLATT_PER_MASECHTA.length; masechta++) {
+			dafim[masechta] = BLATT_PER_MASECHTA[masechta] - 1; // each masechta starts on daf 2
+			firstDaf[masechta] = 2;
+		}
+		// the weird ones near the end
+		firstDaf[36] = 23;
+		firstDaf[37] = 26;
+		firstDaf[38] = 34;
+		int[] originalDafim = dafim.clone();
+		originalDafim[4] = 13 - 1; // Shekalim in the Zhitomir / Slavuta Shas
+		return new LearningCycle.Builder(dafYomiStartDay, originalDafim).setFirstUnitNumbers(firstDaf)
+				.setUnitsFromCycle(8, dafim).build();
+	});
+
 	/**
 	 * Default constructor.
 	 */
@@ -75,80 +94,60 @@ public class YomiCalculator {
 	 *             if the date is prior to the September 11, 1923, the start date of the first Daf Yomi cycle.
 	 */
 	public static Daf getDafYomiBavli(JewishCalendar jewishCalendar) {
-		/*
-		 * The number of daf per masechta. Since the number of blatt in Shekalim changed on the 8th Daf Yomi cycle
-		 * beginning on June 24, 1975, from 13 to 22, the actual calculation for blattPerMasechta[4] will later be
-		 * adjusted based on the cycle.
-		 */
-		int[] blattPerMasechta = { 64, 157, 105, 121, 22, 88, 56, 40, 35, 31, 32, 29, 27, 122, 112, 91, 66, 49, 90, 82,
-				119, 119, 176, 113, 24, 49, 76, 14, 120, 110, 142, 61, 34, 34, 28, 22, 4, 9, 5, 73 };
-		LocalDate date = jewishCalendar.getLocalDate();
+		return getDafYomiBavli(jewishCalendar.getLocalDate());
+	}
 
-		Daf dafYomi = null;
-		int julianDay = getJulianDay(date);
-		int cycleNo;
-		int dafNo;
-		if (date.isBefore(dafYomiStartDay)  ) {
-			// TODO: should we return a null or throw an IllegalArgumentException?
+	/**
+	 * Returns the Daf Yomi Bavli {@link Daf} for a Gregorian date. See {@link #getDafYomiBavli(JewishCalendar)} for details.
+	 * The <em>daf</em> is found in the {@link #getDafYomiBavliCycle() Daf Yomi Bavli cycle}.
+	 *
+	 * @param date the date
+	 * @return the {@link Daf}.
+	 * @throws IllegalArgumentException
+	 *             if the date is prior to the September 11, 1923, the start date of the first Daf Yomi cycle.
+	 */
+	public static Daf getDafYomiBavli(LocalDate date) {
+		if (date.isBefore(dafYomiStartDay)) {
 			throw new IllegalArgumentException(date + " is prior to organized Daf Yomi Bavli cycles that started on "
 					+ dafYomiStartDay);
 		}
-		if (date.equals(shekalimChangeDay) || date.isAfter(shekalimChangeDay)) {
-			cycleNo = 8 + ((julianDay - shekalimJulianChangeDay) / 2711);
-			dafNo = ((julianDay - shekalimJulianChangeDay) % 2711);
-		} else {
-			cycleNo = 1 + ((julianDay - dafYomiJulianStartDay) / 2702);
-			dafNo = ((julianDay - dafYomiJulianStartDay) % 2702);
-		}
-
-		int total = 0;
-		int masechta = -1;
-		int blatt;
+		return CYCLE.covering(date).getPortion(date).toDaf();
+	}
 
-		// Fix Shekalim for old cycles.
-		if (cycleNo <= 7) {
-			blattPerMasechta[4] = 13;
+	/**
+	 * Returns the Daf Yomi Bavli {@link Daf} of every day in a range of dates, in the order of the dates.
+	 *
+	 * @param startDate the first date
+	 * @param endDateExclusive the date after the last date
+	 * @return the list of {@link Daf}s, empty if the end date is not after the start date
+	 * @throws IllegalArgumentException
+	 *             if the start date is prior to the September 11, 1923, the start date of the first Daf Yomi cycle.
+	 * @see #getDafYomiBavli(LocalDate)
+	 */
+	public static List<Daf> getDafYomiBavli(LocalDate startDate, LocalDate endDateExclusive) {
+		if (startDate.isBefore(dafYomiStartDay)) {
+			throw new IllegalArgumentException(startDate + " is prior to organized Daf Yomi Bavli cycles that started on "
+					+ dafYomiStartDay);
 		}
-		
-		// Finally find the daf.
-		for (int i : blattPerMasechta) {
-			masechta++;
-			total = total + i - 1;
-			if (dafNo < total) {
-				blatt = 1 + i - (total - dafNo);
-				// Fiddle with the weird ones near the end.
-				if (masechta == 36) {
-				    blatt += 21;
-				} else if (masechta == 37) {
-				    blatt += 24;
-				} else if (masechta == 38) {
-				    blatt += 32;
-				}
-				dafYomi = new Daf(masechta, blatt);
-				break;
+		List<Daf> dafim = new ArrayList<>();
+		if (endDateExclusive.isAfter(startDate)) {
+			for (LearningCycle.Portion portion : CYCLE.covering(endDateExclusive.minusDays(1))
+					.getPortions(startDate, endDateExclusive)) {
+				dafim.add(portion.toDaf());
 			}
 		}
-
-		return dafYomi;
+		return dafim;
 	}
 
 	/**
-	 * Return the <a href="http://en.wikipedia.org/wiki/Julian_day">Julian day</a> from a Java Calendar.
-	 * 
-	 * @param localDate
-	 *            The Java {@link java.time.LocalDate} of the date to be calculated
-	 * @return the Julian day number corresponding to the date
+	 * Returns the Daf Yomi Bavli as a {@link LearningCycle}, with the {@link LearningCycle.Portion#getGroup() group} being
+	 * the <em>masechta</em> number and the {@link LearningCycle.Portion#getUnit() unit} being the <em>daf</em>, as in the
+	 * {@link Daf} returned by {@link #getDafYomiBavli(LocalDate)}. The cycle also finds the date of a <em>daf</em> with
+	 * {@link LearningCycle#getDate(int, int, int)}. It covers at least 500 years from the first cycle, and is shared.
+	 *
+	 * @return the Daf Yomi Bavli cycle
 	 */
-	private static int getJulianDay(LocalDate localDate) {
-		int year = localDate.getYear();
-		int month = localDate.getMonthValue() ;
-		int day = localDate.getDayOfMonth();
-		if (month <= 2) {
-			year -= 1;
-			month += 12;
-		}
-		int a = year / 100;
-		int b = 2 - a + a / 4;
-		return (int) (Math.floor(365.25 * (year + 4716)) + Math.floor(30.6001 * (month + 1)) + day + b - 1524.5);
+	public static LearningCycle getDafYomiBavliCycle() {
+		return CYCLE.covering(dafYomiStartDay.plusYears(500));
 	}
 }
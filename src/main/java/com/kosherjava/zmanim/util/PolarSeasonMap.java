@@ -0,0 +1,262 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * A precomputed map of the days at a location on which the sun never reaches a given zenith. In the Arctic and Antarctic
+ * Circles (and for <em>alos</em> and <em>tzais</em> well outside of them, such as <em>alos</em> 16.1° in London in June) there
+ * are days that have no sunrise, no sunset or no twilight. Calculating such a time runs the full iterative solve of the
+ * {@link AstronomicalCalculator} only to end with {@link Double#NaN}. This class calculates the highest and lowest elevation
+ * of the sun on each day of a range of Gregorian years once (at {@link AstronomicalCalculator#getUTCNoon(LocalDate, GeoLocation)
+ * solar noon} and {@link AstronomicalCalculator#getUTCMidnight(LocalDate, GeoLocation) solar midnight}), so that the days on
+ * which a zenith can't be reached are known up front.
+ * <p>
+ * When set on an {@link com.kosherjava.zmanim.AstronomicalCalendar} with {@link
+ * com.kosherjava.zmanim.AstronomicalCalendar#setPolarSeasonMap(PolarSeasonMap)}, the calendar returns {@link Double#NaN}
+ * (and therefore a <code>null</code> <em>zman</em>) for such days without calling the calculator, and the polar fallbacks
+ * such as {@link com.kosherjava.zmanim.ComprehensiveZmanimCalendar#getPolarStartOfDayTeshuvosVehanhagos()} are reached
+ * directly. Only days on which the zenith is missed by more than {@link #MARGIN} are flagged, so that refraction and the
+ * movement of the sun during the day can't cause a time that can be calculated to be skipped. Days close to the edge of a
+ * polar season are left to the calculator.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * GeoLocation tromso = new GeoLocation("Tromsø", 69.6496, 18.9560, 0, ZoneId.of("Europe/Oslo"));
+ * ComprehensiveZmanimCalendar czc = new ComprehensiveZmanimCalendar(tromso);
+ * czc.setPolarSeasonMap(new PolarSeasonMap(czc.getAstronomicalCalculator(), tromso, 2026, 2027));
+ * BitSet noSunrise = czc.getPolarSeasonMap().getDaysNeverReached(AstronomicalCalendar.GEOMETRIC_ZENITH, 0);
+ * </pre>
+ * <p>
+ * Instances are immutable and can be shared by any number of calendars and threads.
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+public final class PolarSeasonMap {
+	/**
+	 * The number of degrees by which the sun must miss a zenith for a day to be flagged as never reaching it. This covers the
+	 * refraction included in {@link AstronomicalCalculator#getSolarElevation(Instant, GeoLocation)} and the change in the
+	 * sun's declination over the day.
+	 */
+	public static final double MARGIN = 1.0;
+
+	/** The zenith of sunrise and sunset before the adjustment for refraction, solar radius and elevation. */
+	private static final double GEOMETRIC_ZENITH = 90;
+
+	/** A private clone of the calculator used to calculate the elevations. */
+	private final AstronomicalCalculator calculator;
+
+	/** The latitude the map was calculated for. */
+	private final double latitude;
+
+	/** The longitude the map was calculated for. */
+	private final double longitude;
+
+	/** The epoch day of the first day covered. */
+	private final long firstEpochDay;
+
+	/** The highest elevation of the sun on each day, indexed by the days since {@link #firstEpochDay}. */
+	private final double[] maximumElevations;
+
+	/** The lowest elevation of the sun on each day, indexed by the days since {@link #firstEpochDay}. */
+	private final double[] minimumElevations;
+
+	/**
+	 * Constructor that calculates the map for a location and a range of Gregorian years.
+	 *
+	 * @param calculator the calculator used by the calendars that will use the map. It is cloned.
+	 * @param geoLocation the location. Only the latitude and longitude are used, and the map applies to a location at any
+	 *            elevation.
+	 * @param firstYear the first Gregorian year covered.
+	 * @param lastYear the last Gregorian year covered.
+	 * @throws IllegalArgumentException if the calculator or location is null, if the last year is before the first year or if
+	 *             the calculator does not support {@link AstronomicalCalculator#getSolarElevation(Instant, GeoLocation)}, as is
+	 *             the case with the {@link SunTimesCalculator}.
+	 */
+	public PolarSeasonMap(AstronomicalCalculator calculator, GeoLocation geoLocation, int firstYear, int lastYear) {
+		if (calculator == null || geoLocation == null) {
+			throw new IllegalArgumentException("The calculator and location can't be null");
+		}
+		if (lastYear < firstYear) {
+			throw new IllegalArgumentException("The last year can't be before the first year");
+		}
+		this.calculator = calculator.clone();
+		this.latitude = geoLocation.getLatitude();
+		this.longitude = geoLocation.getLongitude();
+		LocalDate first = LocalDate.of(firstYear, 1, 1);
+		this.firstEpochDay = first.toEpochDay();
+		int days = (int) (LocalDate.of(lastYear + 1, 1, 1).toEpochDay() - firstEpochDay);
+		maximumElevations = new double[days];
+		minimumElevations = new double[days];
+		try {
+			for (int i = 0; i < days; i++) {
+				LocalDate date = first.plusDays(i);
+				maximumElevations[i] = getElevation(date, this.calculator.getUTCNoon(date, geoLocation), 12, geoLocation);
+				minimumElevations[i] = getElevation(date, this.calculator.getUTCMidnight(date, geoLocation), 24, geoLocation);
+			}
+		} catch (UnsupportedOperationException uoe) {
+			throw new IllegalArgumentException("The " + calculator.getCalculatorName()
+					+ " does not support solar elevation calculations", uoe);
+		}
+	}
+
+	/**
+	 * Returns the elevation of the sun at a time of day in UTC hours. If the time can't be calculated, the mean solar time
+	 * (the local hour converted to UTC using the longitude) is used.
+	 */
+	private double getElevation(LocalDate date, double utcHours, double meanLocalHours, GeoLocation geoLocation) {
+		double hours = Double.isNaN(utcHours) ? meanLocalHours - geoLocation.getLongitude() / 15 : utcHours;
+		Instant instant = Instant.ofEpochSecond(date.toEpochDay() * 86_400 + Math.round(hours * 3600));
+		return calculator.getSolarElevation(instant, geoLocation);
+	}
+
+	/**
+	 * Returns if the map covers a date.
+	 *
+	 * @param localDate the date.
+	 * @return true if the date is within the years the map was calculated for.
+	 */
+	public boolean covers(LocalDate localDate) {
+		long index = localDate.toEpochDay() - firstEpochDay;
+		return index >= 0 && index < maximumElevations.length;
+	}
+
+	/**
+	 * Returns if the map was calculated for a location and calculator, and can be used by a calendar using them. The elevation
+	 * of the location is not compared, since it only affects the zenith of sunrise and sunset.
+	 *
+	 * @param geoLocation the location.
+	 * @param astronomicalCalculator the calculator.
+	 * @return true if the latitude and longitude are the same, and the calculator is {@link AstronomicalCalculator#equals(Object)
+	 *         equal} to the one used to calculate the map.
+	 */
+	public boolean appliesTo(GeoLocation geoLocation, AstronomicalCalculator astronomicalCalculator) {
+		return geoLocation != null && Double.compare(geoLocation.getLatitude(), latitude) == 0
+				&& Double.compare(geoLocation.getLongitude(), longitude) == 0 && calculator.equals(astronomicalCalculator);
+	}
+
+	/**
+	 * Returns the highest elevation of the sun on a date, at solar noon.
+	 *
+	 * @param localDate the date.
+	 * @return the elevation in degrees, including refraction.
+	 * @throws IllegalArgumentException if the date is not {@link #covers(LocalDate) covered}.
+	 */
+	public double getMaximumElevation(LocalDate localDate) {
+		return maximumElevations[getIndex(localDate)];
+	}
+
+	/**
+	 * Returns the lowest elevation of the sun on a date, at solar midnight.
+	 *
+	 * @param localDate the date.
+	 * @return the elevation in degrees, including refraction.
+	 * @throws IllegalArgumentException if the date is not {@link #covers(LocalDate) covered}.
+	 */
+	public double getMinimumElevation(LocalDate localDate) {
+		return minimumElevations[getIndex(localDate)];
+	}
+
+	/**
+	 * Returns if the sun is clearly above an elevation for all of a date, such as the sun being above the horizon during the
+	 * polar summer.
+	 *
+	 * @param localDate the date.
+	 * @param elevation the elevation in degrees.
+	 * @return true if the lowest elevation of the sun on the date is more than {@link #MARGIN} above the elevation.
+	 * @throws IllegalArgumentException if the date is not {@link #covers(LocalDate) covered}.
+	 */
+	public boolean isAlwaysAbove(LocalDate localDate, double elevation) {
+		return minimumElevations[getIndex(localDate)] > elevation + MARGIN;
+	}
+
+	/**
+	 * Returns if the sun is clearly below an elevation for all of a date, such as the sun being below the horizon during the
+	 * polar winter.
+	 *
+	 * @param localDate the date.
+	 * @param elevation the elevation in degrees.
+	 * @return true if the highest elevation of the sun on the date is more than {@link #MARGIN} below the elevation.
+	 * @throws IllegalArgumentException if the date is not {@link #covers(LocalDate) covered}.
+	 */
+	public boolean isAlwaysBelow(LocalDate localDate, double elevation) {
+		return maximumElevations[getIndex(localDate)] < elevation - MARGIN;
+	}
+
+	/**
+	 * Returns if the sun clearly never crosses a zenith on a date, so that neither a rising nor a setting time can be calculated
+	 * for it. A zenith of exactly {@link com.kosherjava.zmanim.AstronomicalCalendar#GEOMETRIC_ZENITH 90°} is adjusted for
+	 * refraction, the solar radius and the elevation the same way the calculator adjusts it.
+	 *
+	 * @param localDate the date.
+	 * @param zenith the zenith, such as 90 for sunrise and sunset or 106.1 for <em>alos</em> 16.1°.
+	 * @param elevation the elevation in meters used to adjust sunrise and sunset, or 0 for sea level.
+	 * @return true if the date is covered and the zenith is never reached. Dates that are not covered return false, so that the
+	 *         time is calculated normally.
+	 */
+	public boolean isZenithNeverReached(LocalDate localDate, double zenith, double elevation) {
+		if (!covers(localDate)) {
+			return false;
+		}
+		double sunElevation = GEOMETRIC_ZENITH - calculator.adjustZenith(zenith, elevation, localDate);
+		return isAlwaysAbove(localDate, sunElevation) || isAlwaysBelow(localDate, sunElevation);
+	}
+
+	/**
+	 * Returns the days covered on which a zenith is never reached. This is a report of the polar season of a zenith at the
+	 * location, such as the days with no sunrise for {@link com.kosherjava.zmanim.AstronomicalCalendar#GEOMETRIC_ZENITH 90°}.
+	 *
+	 * @param zenith the zenith.
+	 * @param elevation the elevation in meters used to adjust sunrise and sunset, or 0 for sea level.
+	 * @return a bit set with the bit for each day, counted from {@link #getFirstDate()}, set if the zenith is never reached.
+	 */
+	public BitSet getDaysNeverReached(double zenith, double elevation) {
+		BitSet days = new BitSet(maximumElevations.length);
+		LocalDate first = getFirstDate();
+		for (int i = 0; i < maximumElevations.length; i++) {
+			if (isZenithNeverReached(first.plusDays(i), zenith, elevation)) {
+				days.set(i);
+			}
+		}
+		return days;
+	}
+
+	/**
+	 * Returns the first date covered.
+	 * @return the first date covered.
+	 */
+	public LocalDate getFirstDate() {
+		return LocalDate.ofEpochDay(firstEpochDay);
+	}
+
+	/**
+	 * Returns the number of days covered.
+	 * @return the number of days covered.
+	 */
+	public int getDayCount() {
+		return maximumElevations.length;
+	}
+
+	/**
+	 * Returns the index of a date in the arrays.
+	 */
+	private int getIndex(LocalDate localDate) {
+		if (!covers(localDate)) {
+			throw new IllegalArgumentException("The date " + localDate + " is not covered by this map");
+		}
+		return (int) (localDate.toEpochDay() - firstEpochDay);
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+/**
+ * Index sorting of primitive {@code long} keys, used by the columnar <em>zmanim</em> types to order rows by time without
+ * boxing the keys or creating comparator objects.
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+final class PrimitiveSort {
+	/** Ranges this short are sorted with an insertion sort. */
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	/**
+	 * Private constructor, since all methods are static.
+	 */
+	private PrimitiveSort() {
+	}
+
+	/**
+	 * Returns the indexes of the first keys in ascending order of the keys. The sort is stable, so indexes with equal keys (such
+	 * as {@link Long#MAX_VALUE} used for missing values) stay in their original order.
+	 *
+	 * @param keys the keys.
+	 * @param length the number of keys from the start of the array to sort.
+	 * @return the indexes from 0 to length - 1 ordered by their keys.
+	 */
+	static int[] indexSort(long[] keys, int length) {
+		int[] index = new int[length];
+		for (int i = 0; i < length; i++) {
+			index[i] = i;
+		}
+		indexSort(keys, index, 0, length);
+		return index;
+	}
+
+	/**
+	 * Stably sorts a range of an index array in ascending order of the keys it points to.
+	 *
+	 * @param keys the keys.
+	 * @param index the index array, holding positions in the keys.
+	 * @param from the start of the range (inclusive).
+	 * @param to the end of the range (exclusive).
+	 */
+	static void indexSort(long[] keys, int[] index, int from, int to) {
+		if (to - from < 2) {
+			return;
+		}
+		mergeSort(keys, index, index.clone(), from, to);
+	}
+
+	/**
+	 * Stably sorts a range of an index array in ascending order of the keys it points to, using a caller supplied scratch
+	 * array so that the sort does not allocate.
+	 *
+	 * @param keys the keys.
+	 * @param index the index array, holding positions in the keys.
+	 * @param scratch an array at least as long as the end of the range. Its contents in the range are overwritten.
+	 * @param from the start of the range (inclusive).
+	 * @param to the end of the range (exclusive).
+	 */
+	static void indexSort(long[] keys, int[] index, int[] scratch, int from, int to) {
+		if (to - from < 2) {
+			return;
+		}
+		System.arraycopy(index, from, scratch, from, to - from);
+		mergeSort(keys, index, scratch, from, to);
+	}
+
+	/**
+	 * Sorts a range of the index with a top down merge sort, using the copy as the source of each merge.
+	 */
+	private static void mergeSort(long[] keys, int[] index, int[] copy, int from, int to) {
+		if (to - from <= INSERTION_SORT_THRESHOLD) {
+			for (int i = from + 1; i < to; i++) {
+				int value = index[i];
+				long key = keys[value];
+				int j = i - 1;
+				while (j >= from && keys[index[j]] > key) {
+					index[j + 1] = index[j];
+					j--;
+				}
+				index[j + 1] = value;
+			}
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		// sort each half of the copy using the index as scratch, then merge the halves of the copy into the index
+		mergeSort(keys, copy, index, from, middle);
+		mergeSort(keys, copy, index, middle, to);
+		if (keys[copy[middle - 1]] <= keys[copy[middle]]) {
+			System.arraycopy(copy, from, index, from, to - from);
+			return;
+		}
+		for (int i = from, left = from, right = middle; i < to; i++) {
+			if (right >= to || left < middle && keys[copy[left]] <= keys[copy[right]]) {
+				index[i] = copy[left++];
+			} else {
+				index[i] = copy[right++];
+			}
+		}
+	}
+}
@@ -0,0 +1,284 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The formatting engine used by {@link ZmanimFormatter}. It writes xsd:dateTime times, xsd:duration durations and
+ * sexagesimal durations as ASCII digits straight into a {@code char} array or an {@link Appendable}, producing the same text as
+ * the {@link DateTimeFormatter} pattern "{@code yyyy-MM-dd'T'HH:mm:ssXXX}", {@link Duration#toString()} and the formerly used
+ * {@link java.text.DecimalFormat} patterns. It has no mutable state other than a concurrent cache of the text of each zone
+ * offset, so it is safe to use from any number of threads. The methods that write into a buffer do not allocate any objects
+ * once the offset is cached, and the methods that write to an {@code Appendable} only allocate a small buffer.
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+final class TimeAppender {
+	/** The number of characters a buffer must hold for any value formatted by this class. */
+	static final int MAX_LENGTH = 48;
+
+	/** The number of seconds in a day. */
+	private static final long SECONDS_PER_DAY = 86_400;
+
+	/** The formatter used for the years that the fast path does not handle. */
+	private static final DateTimeFormatter XSD_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
+
+	/** The text of each zone offset as formatted by the pattern "{@code XXX}", calculated once per offset. */
+	private static final ConcurrentHashMap<ZoneOffset, String> OFFSET_TEXT = new ConcurrentHashMap<>();
+
+	/**
+	 * Private constructor, since all methods are static.
+	 */
+	private TimeAppender() {
+	}
+
+	/**
+	 * Appends an {@link Instant} in the xsd:dateTime format "{@code yyyy-MM-dd'T'HH:mm:ssXXX}" in a time zone.
+	 *
+	 * @param out the {@code Appendable} written to.
+	 * @param instant the instant.
+	 * @param zoneId the time zone.
+	 * @throws IOException if writing fails.
+	 */
+	static void appendXSDDateTime(Appendable out, Instant instant, ZoneId zoneId) throws IOException {
+		char[] buffer = new char[MAX_LENGTH];
+		int length = formatXSDDateTime(instant, zoneId, buffer, 0);
+		if (length < 0) {
+			out.append(XSD_DATE_TIME_FORMATTER.withZone(zoneId).format(instant));
+		} else {
+			append(out, buffer, length);
+		}
+	}
+
+	/**
+	 * Formats an {@link Instant} in the xsd:dateTime format "{@code yyyy-MM-dd'T'HH:mm:ssXXX}" in a time zone.
+	 *
+	 * @param instant the instant.
+	 * @param zoneId the time zone.
+	 * @return the formatted instant.
+	 */
+	static String formatXSDDateTime(Instant instant, ZoneId zoneId) {
+		char[] buffer = new char[MAX_LENGTH];
+		int length = formatXSDDateTime(instant, zoneId, buffer, 0);
+		return length < 0 ? XSD_DATE_TIME_FORMATTER.withZone(zoneId).format(instant) : new String(buffer, 0, length);
+	}
+
+	/**
+	 * Writes an {@link Instant} in the xsd:dateTime format into a buffer.
+	 *
+	 * @param instant the instant.
+	 * @param zoneId the time zone.
+	 * @param buffer the buffer, that must have {@link #MAX_LENGTH} characters free from the position.
+	 * @param position the position to start writing at.
+	 * @return the position after the last character written, or -1 if the year is not between 1 and 9999 (so that the
+	 *         pattern would not write exactly four digits), in which case nothing is written.
+	 */
+	static int formatXSDDateTime(Instant instant, ZoneId zoneId, char[] buffer, int position) {
+		ZoneOffset offset = zoneId.getRules().getOffset(instant);
+		long localSeconds = instant.getEpochSecond() + offset.getTotalSeconds();
+		long epochDay = Math.floorDiv(localSeconds, SECONDS_PER_DAY);
+		int secondOfDay = (int) Math.floorMod(localSeconds, SECONDS_PER_DAY);
+
+		// the civil from days algorithm of Howard Hinnant, with eras of 400 years starting on March 1st of year 0
+		long shifted = epochDay + 719_468;
+		long era = Math.floorDiv(shifted, 146_097);
+		long dayOfEra = shifted - era * 146_097;
+		long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		long monthIndex = (5 * dayOfYear + 2) / 153;
+		int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+		int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+		long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+		if (year < 1 || year > 9999) {
+			return -1;
+		}
+
+		position = writeDigits(buffer, position, (int) year, 4);
+		buffer[position++] = '-';
+		position = writeDigits(buffer, position, month, 2);
+		buffer[position++] = '-';
+		position = writeDigits(buffer, position, day, 2);
+		buffer[position++] = 'T';
+		position = writeDigits(buffer, position, secondOfDay / 3600, 2);
+		buffer[position++] = ':';
+		position = writeDigits(buffer, position, secondOfDay / 60 % 60, 2);
+		buffer[position++] = ':';
+		position = writeDigits(buffer, position, secondOfDay % 60, 2);
+		String offsetText = OFFSET_TEXT.computeIfAbsent(offset, o -> DateTimeFormatter.ofPattern("XXX").format(o));
+		offsetText.getChars(0, offsetText.length(), buffer, position);
+		return position + offsetText.length();
+	}
+
+	/**
+	 * Appends a {@link Duration} in the xsd:duration format of {@link Duration#toString()}, such as "{@code PT1H6M7.869S}".
+	 *
+	 * @param out the {@code Appendable} written to.
+	 * @param duration the duration.
+	 * @throws IOException if writing fails.
+	 */
+	static void appendXSDDuration(Appendable out, Duration duration) throws IOException {
+		char[] buffer = new char[MAX_LENGTH];
+		append(out, buffer, formatXSDDuration(duration, buffer, 0));
+	}
+
+	/**
+	 * Writes a {@link Duration} in the xsd:duration format of {@link Duration#toString()} into a buffer.
+	 *
+	 * @param duration the duration.
+	 * @param buffer the buffer, that must have {@link #MAX_LENGTH} characters free from the position.
+	 * @param position the position to start writing at.
+	 * @return the position after the last character written.
+	 */
+	static int formatXSDDuration(Duration duration, char[] buffer, int position) {
+		long seconds = duration.getSeconds();
+		int nanos = duration.getNano();
+		buffer[position++] = 'P';
+		buffer[position++] = 'T';
+		if (seconds == 0 && nanos == 0) {
+			buffer[position++] = '0';
+			buffer[position++] = 'S';
+			return position;
+		}
+		// a negative duration with a fraction is stored as the next lower second plus a positive fraction
+		long effectiveSeconds = seconds < 0 && nanos > 0 ? seconds + 1 : seconds;
+		long hours = effectiveSeconds / 3600;
+		int minutes = (int) (effectiveSeconds % 3600 / 60);
+		int secs = (int) (effectiveSeconds % 60);
+		int unitsStart = position;
+		if (hours != 0) {
+			position = writeLong(buffer, position, hours);
+			buffer[position++] = 'H';
+		}
+		if (minutes != 0) {
+			position = writeLong(buffer, position, minutes);
+			buffer[position++] = 'M';
+		}
+		if (secs == 0 && nanos == 0 && position > unitsStart) {
+			return position;
+		}
+		if (seconds < 0 && nanos > 0 && secs == 0) {
+			buffer[position++] = '-';
+			buffer[position++] = '0';
+		} else {
+			position = writeLong(buffer, position, secs);
+		}
+		if (nanos > 0) {
+			int fraction = seconds < 0 ? 1_000_000_000 - nanos : nanos;
+			int digits = 9;
+			while (fraction % 10 == 0) {
+				fraction /= 10;
+				digits--;
+			}
+			buffer[position++] = '.';
+			position = writeDigits(buffer, position, fraction, digits);
+		}
+		buffer[position++] = 'S';
+		return position;
+	}
+
+	/**
+	 * Writes a {@link Duration} in the sexagesimal format "{@code h:mm}", optionally followed by "{@code :ss}" and
+	 * "{@code .SSS}", into a buffer. A negative duration is written with a leading minus sign.
+	 *
+	 * @param duration the duration.
+	 * @param prependZeroHours whether hours under ten are written with two digits.
+	 * @param useSeconds whether seconds are written.
+	 * @param useMillis whether milliseconds are written.
+	 * @param buffer the buffer, that must have {@link #MAX_LENGTH} characters free from the position.
+	 * @param position the position to start writing at.
+	 * @return the position after the last character written.
+	 */
+	static int formatSexagesimal(Duration duration, boolean prependZeroHours, boolean useSeconds, boolean useMillis,
+			char[] buffer, int position) {
+		if (duration.isNegative()) {
+			buffer[position++] = '-';
+		}
+		Duration absDuration = duration.abs();
+		long hours = absDuration.toHours();
+		if (prependZeroHours && hours < 10) {
+			buffer[position++] = '0';
+		}
+		position = writeLong(buffer, position, hours);
+		buffer[position++] = ':';
+		position = writeDigits(buffer, position, (int) (absDuration.toMinutes() % 60), 2);
+		if (useSeconds) {
+			buffer[position++] = ':';
+			position = writeDigits(buffer, position, (int) (absDuration.getSeconds() % 60), 2);
+		}
+		if (useMillis) {
+			buffer[position++] = '.';
+			position = writeDigits(buffer, position, (int) (absDuration.toMillis() % 1000), 3);
+		}
+		return position;
+	}
+
+	/**
+	 * Appends the characters of a buffer, using the bulk methods of a {@link Writer} or {@link StringBuilder} when possible.
+	 *
+	 * @param out the {@code Appendable} written to.
+	 * @param buffer the buffer.
+	 * @param length the number of characters from the start of the buffer to append.
+	 * @throws IOException if writing fails.
+	 */
+	static void append(Appendable out, char[] buffer, int length) throws IOException {
+		if (out instanceof StringBuilder) {
+			((StringBuilder) out).append(buffer, 0, length);
+		} else if (out instanceof Writer) {
+			((Writer) out).write(buffer, 0, length);
+		} else {
+			out.append(CharBuffer.wrap(buffer, 0, length));
+		}
+	}
+
+	/**
+	 * Writes a non-negative value with exactly the given number of digits, padded with leading zeros.
+	 */
+	private static int writeDigits(char[] buffer, int position, int value, int digits) {
+		for (int i = position + digits - 1; i >= position; i--) {
+			buffer[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+		return position + digits;
+	}
+
+	/**
+	 * Writes a value with as many digits as needed and a leading minus sign if it is negative.
+	 */
+	private static int writeLong(char[] buffer, int position, long value) {
+		if (value < 0) {
+			buffer[position++] = '-';
+		}
+		int start = position;
+		do {
+			buffer[position++] = (char) ('0' + Math.abs(value % 10));
+			value /= 10;
+		} while (value != 0);
+		for (int i = start, j = position - 1; i < j; i++, j--) {
+			char c = buffer[i];
+			buffer[i] = buffer[j];
+			buffer[j] = c;
+		}
+		return position;
+	}
+}
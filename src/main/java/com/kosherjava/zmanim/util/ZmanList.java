@@ -0,0 +1,362 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compact list of <em>zmanim</em> that can be put in chronological order without creating {@link Zman} objects. Each entry
+ * is a label id, an index into a fixed table of labels passed to the constructor, and either an {@link Instant}, a
+ * {@link Duration} such as a <em>shaah zmanis</em>, or nothing for a <em>zman</em> that could not be calculated. Values are
+ * stored as nanoseconds in a {@code long[]}, label ids in an {@code int[]}, and the missing and duration entries in bitmaps.
+ * {@link #sort()} and {@link #sortByDuration()} order the entries exactly as {@link Zman#DATE_ORDER} and
+ * {@link Zman#DURATION_ORDER} would, with a stable primitive sort of an index, and {@code Zman} objects are only created when
+ * {@link #get(int)} is called.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanList zmanim = new ZmanList("Alos", "Sunrise", "Sunset", "Tzais");
+ * zmanim.add(0, czc.getAlos72Minutes());
+ * zmanim.add(1, czc.getSunrise());
+ * zmanim.add(2, czc.getSunset());
+ * zmanim.add(3, czc.getTzais72Minutes());
+ * zmanim.sort();
+ * for (int i = 0; i &lt; zmanim.size(); i++) {
+ *     System.out.println(zmanim.getLabel(i) + " " + zmanim.getInstant(i));
+ * }
+ * </pre>
+ * A list can be {@link #clear() cleared} and refilled, for example once a day, and once its arrays have grown to the number of
+ * entries it needs, adding and sorting do not allocate. Instants are stored relative to the first instant added, so a list
+ * can hold any instants within about 292 years of each other. Instances are not thread safe.
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+public final class ZmanList {
+	/** The labels that the label ids of the entries index. */
+	private final String[] labels;
+
+	/** The nanoseconds of each entry: since {@link #baseSecond} for an instant, or the length of a duration. */
+	private long[] nanos;
+
+	/** The label id of each entry. */
+	private int[] labelIds;
+
+	/** The bitmap of the entries that are missing. */
+	private long[] missing;
+
+	/** The bitmap of the entries that are durations. */
+	private long[] durations;
+
+	/** The entries in their current order, as indexes into the arrays above. */
+	private int[] order;
+
+	/** The entries partitioned into the groups of a sort. */
+	private int[] scratch;
+
+	/** The positions of the partitioned entries, reordered by the index sort. */
+	private int[] positions;
+
+	/** The values of the partitioned entries, the keys of the index sort. */
+	private long[] keys;
+
+	/** The number of entries. */
+	private int size;
+
+	/** The epoch second that instants are stored relative to, set by the first instant added. */
+	private long baseSecond;
+
+	/** Whether {@link #baseSecond} has been set. */
+	private boolean hasBase;
+
+	/**
+	 * Constructor for a list.
+	 *
+	 * @param labels the labels of the <em>zmanim</em>, indexed by the label ids of the entries. The array is copied.
+	 * @throws IllegalArgumentException if the labels are null.
+	 */
+	public ZmanList(String... labels) {
+		this(labels == null ? null : labels.clone(), 16);
+	}
+
+	/**
+	 * Constructor used by the formatter to share a fixed table of labels without copying it.
+	 */
+	ZmanList(String[] labels, int capacity) {
+		if (labels == null) {
+			throw new IllegalArgumentException("The labels can't be null");
+		}
+		this.labels = labels;
+		capacity = Math.max(capacity, 1);
+		nanos = new long[capacity];
+		labelIds = new int[capacity];
+		order = new int[capacity];
+		missing = new long[(capacity + 63) >>> 6];
+		durations = new long[missing.length];
+	}
+
+	/**
+	 * Adds an instant based <em>zman</em>.
+	 *
+	 * @param labelId the index of the label of the <em>zman</em>.
+	 * @param instant the <em>zman</em>, or <code>null</code> if it could not be calculated.
+	 * @throws IllegalArgumentException if the label id is out of range, or the instant is more than about 292 years from the
+	 *             first instant in the list.
+	 */
+	public void add(int labelId, Instant instant) {
+		int entry = append(labelId);
+		if (instant == null) {
+			missing[entry >>> 6] |= 1L << entry;
+			return;
+		}
+		if (!hasBase) {
+			baseSecond = instant.getEpochSecond();
+			hasBase = true;
+		}
+		try {
+			nanos[entry] = Math.addExact(Math.multiplyExact(instant.getEpochSecond() - baseSecond, 1_000_000_000L),
+					instant.getNano());
+		} catch (ArithmeticException ae) {
+			size--;
+			throw new IllegalArgumentException("The instant " + instant + " is too far from the other instants in the list");
+		}
+	}
+
+	/**
+	 * Adds a duration based <em>zman</em> such as a <em>shaah zmanis</em>.
+	 *
+	 * @param labelId the index of the label of the <em>zman</em>.
+	 * @param duration the <em>zman</em>, or <code>null</code> if it could not be calculated.
+	 * @throws IllegalArgumentException if the label id is out of range, or the duration is longer than about 292 years.
+	 */
+	public void add(int labelId, Duration duration) {
+		int entry = append(labelId);
+		if (duration == null) {
+			missing[entry >>> 6] |= 1L << entry;
+			return;
+		}
+		try {
+			nanos[entry] = duration.toNanos();
+		} catch (ArithmeticException ae) {
+			size--;
+			throw new IllegalArgumentException("The duration " + duration + " is too long");
+		}
+		durations[entry >>> 6] |= 1L << entry;
+	}
+
+	/**
+	 * Appends an entry with no value at the end of the order and returns its index in the arrays.
+	 */
+	private int append(int labelId) {
+		if (labelId < 0 || labelId >= labels.length) {
+			throw new IllegalArgumentException("The label id " + labelId + " is not between 0 and " + (labels.length - 1));
+		}
+		if (size == nanos.length) {
+			int capacity = size * 2;
+			nanos = Arrays.copyOf(nanos, capacity);
+			labelIds = Arrays.copyOf(labelIds, capacity);
+			order = Arrays.copyOf(order, capacity);
+			missing = Arrays.copyOf(missing, (capacity + 63) >>> 6);
+			durations = Arrays.copyOf(durations, missing.length);
+		}
+		int entry = size++;
+		labelIds[entry] = labelId;
+		nanos[entry] = 0;
+		missing[entry >>> 6] &= ~(1L << entry);
+		durations[entry >>> 6] &= ~(1L << entry);
+		order[entry] = entry;
+		return entry;
+	}
+
+	/**
+	 * Removes all entries, keeping the arrays for reuse.
+	 */
+	public void clear() {
+		size = 0;
+		hasBase = false;
+	}
+
+	/**
+	 * Returns the number of entries.
+	 * @return the number of entries.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the label id of an entry.
+	 * @param index the position of the entry.
+	 * @return the label id.
+	 */
+	public int getLabelId(int index) {
+		return labelIds[entry(index)];
+	}
+
+	/**
+	 * Returns the label of an entry.
+	 * @param index the position of the entry.
+	 * @return the label.
+	 */
+	public String getLabel(int index) {
+		return labels[labelIds[entry(index)]];
+	}
+
+	/**
+	 * Returns if an entry is missing because the <em>zman</em> could not be calculated.
+	 * @param index the position of the entry.
+	 * @return true if the entry is missing.
+	 */
+	public boolean isMissing(int index) {
+		int entry = entry(index);
+		return (missing[entry >>> 6] & (1L << entry)) != 0;
+	}
+
+	/**
+	 * Returns if an entry is a duration based <em>zman</em>.
+	 * @param index the position of the entry.
+	 * @return true if the entry is a duration.
+	 */
+	public boolean isDuration(int index) {
+		int entry = entry(index);
+		return (durations[entry >>> 6] & (1L << entry)) != 0;
+	}
+
+	/**
+	 * Returns an instant based <em>zman</em>.
+	 * @param index the position of the entry.
+	 * @return the instant, or <code>null</code> if the entry is missing or is a duration.
+	 */
+	public Instant getInstant(int index) {
+		if (isMissing(index) || isDuration(index)) {
+			return null;
+		}
+		long value = nanos[entry(index)];
+		return Instant.ofEpochSecond(baseSecond + Math.floorDiv(value, 1_000_000_000L), Math.floorMod(value, 1_000_000_000L));
+	}
+
+	/**
+	 * Returns a duration based <em>zman</em>.
+	 * @param index the position of the entry.
+	 * @return the duration, or <code>null</code> if the entry is missing or is an instant.
+	 */
+	public Duration getDuration(int index) {
+		return isDuration(index) && !isMissing(index) ? Duration.ofNanos(nanos[entry(index)]) : null;
+	}
+
+	/**
+	 * Creates a {@link Zman} for an entry.
+	 * @param index the position of the entry.
+	 * @return the <em>zman</em>, with a <code>null</code> value if the entry is missing.
+	 */
+	public Zman get(int index) {
+		return isDuration(index) ? new Zman(getDuration(index), getLabel(index)) : new Zman(getInstant(index), getLabel(index));
+	}
+
+	/**
+	 * Creates a list of {@link Zman} objects for the entries in their current order.
+	 * @return the list.
+	 */
+	public List<Zman> toList() {
+		List<Zman> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(get(i));
+		}
+		return list;
+	}
+
+	/**
+	 * Puts the entries in chronological order: the instants in order, then the durations from shortest to longest, then the
+	 * missing entries. This is the order of {@link Zman#DATE_ORDER}, and entries that are equal keep their order.
+	 */
+	public void sort() {
+		sort(false);
+	}
+
+	/**
+	 * Puts the entries in order of duration: the durations from shortest to longest, then the instants in order, then the
+	 * missing entries. This is the order of {@link Zman#DURATION_ORDER}, and entries that are equal keep their order.
+	 */
+	public void sortByDuration() {
+		sort(true);
+	}
+
+	/**
+	 * Stably partitions the order into the first group, the second group and the missing entries, and sorts the first two
+	 * groups by value.
+	 */
+	private void sort(boolean durationsFirst) {
+		if (scratch == null || scratch.length < size) {
+			scratch = new int[nanos.length];
+			positions = new int[nanos.length];
+			keys = new long[nanos.length];
+		}
+		int first = 0;
+		int second = 0;
+		for (int i = 0; i < size; i++) {
+			int group = group(order[i], durationsFirst);
+			if (group == 0) {
+				first++;
+			} else if (group == 1) {
+				second++;
+			}
+		}
+		int sorted = first + second;
+		for (int i = 0, a = 0, b = first, c = sorted; i < size; i++) {
+			int entry = order[i];
+			int group = group(entry, durationsFirst);
+			if (group == 0) {
+				scratch[a++] = entry;
+			} else if (group == 1) {
+				scratch[b++] = entry;
+			} else {
+				scratch[c++] = entry;
+			}
+		}
+		for (int i = 0; i < sorted; i++) {
+			keys[i] = nanos[scratch[i]];
+			positions[i] = i;
+		}
+		// the order is rebuilt from the partitioned entries below, so it serves as the scratch array of the index sort
+		PrimitiveSort.indexSort(keys, positions, order, 0, first);
+		PrimitiveSort.indexSort(keys, positions, order, first, sorted);
+		for (int i = 0; i < sorted; i++) {
+			order[i] = scratch[positions[i]];
+		}
+		System.arraycopy(scratch, sorted, order, sorted, size - sorted);
+	}
+
+	/**
+	 * Returns the group of an entry in a sort: 0 for the group sorted first, 1 for the second and 2 for missing entries.
+	 */
+	private int group(int entry, boolean durationsFirst) {
+		if ((missing[entry >>> 6] & (1L << entry)) != 0) {
+			return 2;
+		}
+		boolean duration = (durations[entry >>> 6] & (1L << entry)) != 0;
+		return duration == durationsFirst ? 0 : 1;
+	}
+
+	/**
+	 * Returns the index in the arrays of the entry at a position in the current order.
+	 */
+	private int entry(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+		}
+		return order[index];
+	}
+}
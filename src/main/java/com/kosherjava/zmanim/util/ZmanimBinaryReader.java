@@ -0,0 +1,254 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads <em>zmanim</em> written by a {@link ZmanimBinaryWriter} directly from a {@link ByteBuffer}, such as one wrapping a
+ * downloaded array or a memory mapped file. The header is read by the constructor, and each call to {@link #nextDay(long[])}
+ * decodes the next day into an array supplied by the caller without copying the buffer. The local midnight of each day is
+ * calculated with the time zone in the header, so days with a daylight saving time change are decoded exactly.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanimBinaryReader reader = new ZmanimBinaryReader(ByteBuffer.wrap(bytes));
+ * long[] zmanim = new long[reader.getLabels().size()];
+ * while (reader.hasNextDay()) {
+ *     long epochDay = reader.nextDay(zmanim);
+ *     // zmanim[i] is the epoch millisecond of the zman labeled reader.getLabels().get(i), or ZmanimBinaryReader.MISSING
+ * }
+ * </pre>
+ * <p>
+ * A reader is not thread safe, but any number of readers can read the same buffer.
+ *
+ * @see ZmanimBinaryWriter
+ * @author © Eliyahu Hershfeld 2026
+ */
+public class ZmanimBinaryReader {
+	/** The value returned for a <em>zman</em> that could not be calculated. */
+	public static final long MISSING = Long.MIN_VALUE;
+
+	/** The view of the buffer read from. Its position is the start of the next day. */
+	private final ByteBuffer buffer;
+
+	/** The location in the header. */
+	private final GeoLocation geoLocation;
+
+	/** The calculator name in the header. */
+	private final String calculatorName;
+
+	/** The labels of the <em>zmanim</em> in the header. */
+	private final List<String> labels;
+
+	/** The precision in the header. */
+	private final int precision;
+
+	/** The number of milliseconds in the unit of the precision. */
+	private final long unitMillis;
+
+	/** The time zone of the location. */
+	private final ZoneId zoneId;
+
+	/** The epoch day of the next day read. */
+	private long nextEpochDay;
+
+	/**
+	 * Constructor that reads the header. The buffer itself is not modified; reading uses a view of it that starts at its
+	 * current position.
+	 *
+	 * @param buffer the buffer holding the data from a {@link ZmanimBinaryWriter}.
+	 * @throws IllegalArgumentException if the buffer does not start with a valid header.
+	 */
+	public ZmanimBinaryReader(ByteBuffer buffer) {
+		this.buffer = buffer.duplicate();
+		try {
+			for (byte expected : ZmanimBinaryWriter.MAGIC) {
+				if (this.buffer.get() != expected) {
+					throw new IllegalArgumentException("The buffer does not hold zmanim in a supported binary format");
+				}
+			}
+			precision = this.buffer.get();
+			if (precision != ZmanimBinaryWriter.PRECISION_SECONDS && precision != ZmanimBinaryWriter.PRECISION_MILLISECONDS) {
+				throw new IllegalArgumentException("An invalid precision of " + precision + " was found");
+			}
+			unitMillis = precision == ZmanimBinaryWriter.PRECISION_SECONDS ? 1000 : 1;
+			String locationName = readString();
+			double latitude = Double.longBitsToDouble(this.buffer.getLong());
+			double longitude = Double.longBitsToDouble(this.buffer.getLong());
+			double elevation = Double.longBitsToDouble(this.buffer.getLong());
+			zoneId = ZoneId.of(readString());
+			geoLocation = new GeoLocation(locationName, latitude, longitude, elevation, zoneId);
+			calculatorName = readString();
+			int count = (int) readVarLong();
+			List<String> labelList = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				labelList.add(readString());
+			}
+			labels = Collections.unmodifiableList(labelList);
+			nextEpochDay = unZigZag(readVarLong());
+		} catch (BufferUnderflowException bue) {
+			throw new IllegalArgumentException("The header is truncated", bue);
+		}
+	}
+
+	/**
+	 * Returns the location in the header.
+	 * @return the location.
+	 */
+	public GeoLocation getGeoLocation() {
+		return geoLocation;
+	}
+
+	/**
+	 * Returns the calculator name in the header.
+	 * @return the calculator name.
+	 */
+	public String getCalculatorName() {
+		return calculatorName;
+	}
+
+	/**
+	 * Returns the labels of the <em>zmanim</em> of each day, in the order they are returned by {@link #nextDay(long[])}.
+	 * @return the unmodifiable list of labels.
+	 */
+	public List<String> getLabels() {
+		return labels;
+	}
+
+	/**
+	 * Returns the precision of the times.
+	 * @return {@link ZmanimBinaryWriter#PRECISION_SECONDS} or {@link ZmanimBinaryWriter#PRECISION_MILLISECONDS}.
+	 */
+	public int getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * Returns the date of the next day read.
+	 * @return the date of the next day.
+	 */
+	public LocalDate getNextDate() {
+		return LocalDate.ofEpochDay(nextEpochDay);
+	}
+
+	/**
+	 * Returns if there is another day to read.
+	 * @return true if the buffer has more data.
+	 */
+	public boolean hasNextDay() {
+		return buffer.hasRemaining();
+	}
+
+	/**
+	 * Reads the next day. This does not allocate any objects beyond the calculation of local midnight.
+	 *
+	 * @param epochMillis the array the <em>zmanim</em> are written to as milliseconds since the epoch, in the order of the
+	 *            {@link #getLabels() labels}. A <em>zman</em> that could not be calculated is written as {@link #MISSING}.
+	 * @return the epoch day of the day read.
+	 * @throws IllegalArgumentException if the array is shorter than the number of labels or the data is truncated.
+	 * @throws NoSuchElementException if there are no more days.
+	 */
+	public long nextDay(long[] epochMillis) {
+		int count = labels.size();
+		if (epochMillis.length < count) {
+			throw new IllegalArgumentException("The array must hold at least " + count + " zmanim");
+		}
+		if (!buffer.hasRemaining()) {
+			throw new NoSuchElementException("There are no more days");
+		}
+		try {
+			int bitmapStart = buffer.position();
+			buffer.position(bitmapStart + (count + 7) / 8);
+			long previous = Math.floorDiv(LocalDate.ofEpochDay(nextEpochDay).atStartOfDay(zoneId).toInstant().toEpochMilli(),
+					unitMillis);
+			for (int i = 0; i < count; i++) {
+				if ((buffer.get(bitmapStart + i / 8) & (1 << (i % 8))) != 0) {
+					epochMillis[i] = MISSING;
+				} else {
+					previous += unZigZag(readVarLong());
+					epochMillis[i] = previous * unitMillis;
+				}
+			}
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IllegalArgumentException("The data of " + getNextDate() + " is truncated", e);
+		}
+		return nextEpochDay++;
+	}
+
+	/**
+	 * Reads the next day as {@link Instant}s.
+	 *
+	 * @return the <em>zmanim</em> in the order of the {@link #getLabels() labels}, with <code>null</code> for a <em>zman</em>
+	 *         that could not be calculated.
+	 * @throws NoSuchElementException if there are no more days.
+	 */
+	public Instant[] nextDay() {
+		long[] epochMillis = new long[labels.size()];
+		nextDay(epochMillis);
+		Instant[] zmanim = new Instant[epochMillis.length];
+		for (int i = 0; i < zmanim.length; i++) {
+			zmanim[i] = epochMillis[i] == MISSING ? null : Instant.ofEpochMilli(epochMillis[i]);
+		}
+		return zmanim;
+	}
+
+	/**
+	 * Reverses {@link ZmanimBinaryWriter#zigZag(long)}.
+	 */
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Reads an unsigned varint.
+	 */
+	private long readVarLong() {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("A varint is too long");
+	}
+
+	/**
+	 * Reads a string written as its UTF-8 length and bytes.
+	 */
+	private String readString() {
+		int length = (int) readVarLong();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		if (buffer.hasArray()) {
+			String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+			buffer.position(buffer.position() + length);
+			return value;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
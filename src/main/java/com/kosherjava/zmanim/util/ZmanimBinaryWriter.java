@@ -0,0 +1,248 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes <em>zmanim</em> in a compact binary format, intended for syncing many days of many opinions to devices where the
+ * size of the {@link ZmanimFormatter#writeXML(com.kosherjava.zmanim.AstronomicalCalendar, LocalDate, LocalDate, Appendable) XML}
+ * or {@link ZmanimFormatter#writeJSON(com.kosherjava.zmanim.AstronomicalCalendar, LocalDate, LocalDate, Appendable) JSON}
+ * output matters. The data is read back with a {@link ZmanimBinaryReader}.
+ * <p>
+ * The format starts with a header that holds the {@link GeoLocation} (name, latitude, longitude, elevation and time zone),
+ * the name of the {@link AstronomicalCalculator}, the labels of the <em>zmanim</em> (the opinion set), the first date and the
+ * precision. It is followed by a record for each consecutive day, holding a bitmap of the <em>zmanim</em> that could not be
+ * calculated and then each <em>zman</em> that could as a <a href="https://en.wikipedia.org/wiki/LEB128">varint</a>. The first
+ * <em>zman</em> of the day is stored relative to local midnight, and every other one relative to the one before it, so most
+ * values take two bytes or less. Times are truncated to the {@link #PRECISION_SECONDS second} or {@link
+ * #PRECISION_MILLISECONDS millisecond}, and are read back exactly at that precision.
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ComprehensiveZmanimCalendar czc = new ComprehensiveZmanimCalendar(location);
+ * ZmanimBinaryWriter writer = new ZmanimBinaryWriter(out, location, czc.getAstronomicalCalculator().getCalculatorName(),
+ *         Arrays.asList("Alos72", "Sunrise", "Sunset", "Tzais72"), startDate, ZmanimBinaryWriter.PRECISION_SECONDS);
+ * for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+ *     czc.setLocalDate(date);
+ *     writer.writeDay(czc.getAlos72(), czc.getSunrise(), czc.getSunset(), czc.getTzais72());
+ * }
+ * writer.flush();
+ * </pre>
+ * <p>
+ * A writer is not thread safe.
+ *
+ * @see ZmanimBinaryReader
+ * @author © Eliyahu Hershfeld 2026
+ */
+public class ZmanimBinaryWriter {
+	/** The precision of times written in seconds. */
+	public static final int PRECISION_SECONDS = 0;
+
+	/** The precision of times written in milliseconds. */
+	public static final int PRECISION_MILLISECONDS = 1;
+
+	/** The bytes that start every stream, "ZMN" followed by the format version. */
+	static final byte[] MAGIC = { 'Z', 'M', 'N', 1 };
+
+	/** The stream written to. */
+	private final OutputStream out;
+
+	/** The time zone used to find local midnight. */
+	private final ZoneId zoneId;
+
+	/** The number of <em>zmanim</em> in each day. */
+	private final int zmanimCount;
+
+	/** The number of milliseconds in the unit of the precision. */
+	private final long unitMillis;
+
+	/** The buffer a day is encoded into before being written to the stream. */
+	private byte[] buffer = new byte[64];
+
+	/** The number of bytes in the buffer. */
+	private int length;
+
+	/** The date of the next day written. */
+	private LocalDate nextDate;
+
+	/**
+	 * Constructor that writes the header to the stream.
+	 *
+	 * @param out the stream written to. It is not buffered by this class beyond a single day, and is not closed.
+	 * @param geoLocation the location of the <em>zmanim</em>. Its time zone is used to find local midnight.
+	 * @param calculatorName the name of the calculator used, typically {@link AstronomicalCalculator#getCalculatorName()}.
+	 * @param labels the labels of the <em>zmanim</em> in the order they are passed to {@link #writeDay(Instant...)}.
+	 * @param startDate the date of the first day written.
+	 * @param precision {@link #PRECISION_SECONDS} or {@link #PRECISION_MILLISECONDS}.
+	 * @throws IOException if writing the header fails.
+	 * @throws IllegalArgumentException if a parameter is null, there are no labels or the precision is not valid.
+	 */
+	public ZmanimBinaryWriter(OutputStream out, GeoLocation geoLocation, String calculatorName, List<String> labels,
+			LocalDate startDate, int precision) throws IOException {
+		if (out == null || geoLocation == null || calculatorName == null || labels == null || startDate == null) {
+			throw new IllegalArgumentException("The parameters can't be null");
+		}
+		if (precision != PRECISION_SECONDS && precision != PRECISION_MILLISECONDS) {
+			throw new IllegalArgumentException("An invalid precision of " + precision + " was set");
+		}
+		if (labels.isEmpty()) {
+			throw new IllegalArgumentException("At least one zman label is needed");
+		}
+		this.out = out;
+		this.zoneId = geoLocation.getZoneId();
+		this.zmanimCount = labels.size();
+		this.unitMillis = precision == PRECISION_SECONDS ? 1000 : 1;
+		this.nextDate = startDate;
+		append(MAGIC, 0, MAGIC.length);
+		appendByte(precision);
+		appendString(geoLocation.getLocationName());
+		appendDouble(geoLocation.getLatitude());
+		appendDouble(geoLocation.getLongitude());
+		appendDouble(geoLocation.getElevation());
+		appendString(zoneId.getId());
+		appendString(calculatorName);
+		appendVarLong(zmanimCount);
+		for (String label : labels) {
+			appendString(label);
+		}
+		appendVarLong(zigZag(startDate.toEpochDay()));
+		writeBuffer();
+	}
+
+	/**
+	 * Writes the <em>zmanim</em> of the next day.
+	 *
+	 * @param zmanim the <em>zmanim</em> in the order of the labels passed to the constructor. A <code>null</code> is a
+	 *            <em>zman</em> that could not be calculated.
+	 * @throws IOException if writing fails.
+	 * @throws IllegalArgumentException if the number of <em>zmanim</em> does not match the number of labels.
+	 */
+	public void writeDay(Instant... zmanim) throws IOException {
+		if (zmanim.length != zmanimCount) {
+			throw new IllegalArgumentException("Expected " + zmanimCount + " zmanim but got " + zmanim.length);
+		}
+		int bitmapStart = length;
+		ensureCapacity((zmanimCount + 7) / 8);
+		Arrays.fill(buffer, bitmapStart, bitmapStart + (zmanimCount + 7) / 8, (byte) 0);
+		length += (zmanimCount + 7) / 8;
+		long previous = Math.floorDiv(nextDate.atStartOfDay(zoneId).toInstant().toEpochMilli(), unitMillis);
+		for (int i = 0; i < zmanimCount; i++) {
+			if (zmanim[i] == null) {
+				buffer[bitmapStart + i / 8] |= (byte) (1 << (i % 8));
+			} else {
+				long units = Math.floorDiv(zmanim[i].toEpochMilli(), unitMillis);
+				appendVarLong(zigZag(units - previous));
+				previous = units;
+			}
+		}
+		writeBuffer();
+		nextDate = nextDate.plusDays(1);
+	}
+
+	/**
+	 * Returns the date of the next day that {@link #writeDay(Instant...)} writes.
+	 * @return the date of the next day.
+	 */
+	public LocalDate getNextDate() {
+		return nextDate;
+	}
+
+	/**
+	 * Flushes the stream.
+	 * @throws IOException if flushing fails.
+	 */
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	/**
+	 * Writes the buffer to the stream and empties it.
+	 */
+	private void writeBuffer() throws IOException {
+		out.write(buffer, 0, length);
+		length = 0;
+	}
+
+	/**
+	 * Maps a signed value to an unsigned one so that values close to zero are small, as in Protocol Buffers.
+	 */
+	static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	/**
+	 * Appends a value as an unsigned varint.
+	 */
+	private void appendVarLong(long value) {
+		ensureCapacity(10);
+		while ((value & ~0x7FL) != 0) {
+			buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[length++] = (byte) value;
+	}
+
+	/**
+	 * Appends a double as its eight bytes, so it is read back exactly.
+	 */
+	private void appendDouble(double value) {
+		long bits = Double.doubleToLongBits(value);
+		ensureCapacity(8);
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			buffer[length++] = (byte) (bits >>> shift);
+		}
+	}
+
+	/**
+	 * Appends a string as its UTF-8 length and bytes. A <code>null</code> is written as an empty string.
+	 */
+	private void appendString(String value) {
+		byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+		appendVarLong(bytes.length);
+		append(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Appends a single byte.
+	 */
+	private void appendByte(int value) {
+		ensureCapacity(1);
+		buffer[length++] = (byte) value;
+	}
+
+	/**
+	 * Appends bytes.
+	 */
+	private void append(byte[] bytes, int offset, int count) {
+		ensureCapacity(count);
+		System.arraycopy(bytes, offset, buffer, length, count);
+		length += count;
+	}
+
+	/**
+	 * Grows the buffer so that it can hold more bytes.
+	 */
+	private void ensureCapacity(int additional) {
+		if (length + additional > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+		}
+	}
+}
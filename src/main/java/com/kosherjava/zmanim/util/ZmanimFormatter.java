@@ -14,11 +14,20 @@
  */
 package com.kosherjava.zmanim.util;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
-import java.text.DecimalFormat;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.time.Duration;
@@ -55,31 +64,103 @@ public class ZmanimFormatter {
 	private boolean useMillis = false;
 
 	/**
-	 * the formatter for minutes as seconds.
+	 * The {@link DateTimeFormatter} class used by the formatter.
+	 * @see #setDateTimeFormatter(DateTimeFormatter)
+	 */
+	private DateTimeFormatter dateTimeFormatter;
+	
+	/**
+	 * The TimeZone class.
+	 * @see #setZoneId(ZoneId)
 	 */
-	private static final DecimalFormat minuteSecondNF = new DecimalFormat("00");
+	private ZoneId zoneId = null;
+
+	/** The xsd:date format used for dates in the XML and JSON output. */
+	private static final DateTimeFormatter XSD_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
 	/**
-	 * the formatter for hours.
+	 * The <em>zmanim</em> of each calendar class, found with reflection the first time the class is formatted and reused for
+	 * every later document.
 	 */
-	private DecimalFormat hourNF = new DecimalFormat("0");
+	private static final ClassValue<ZmanAccessor[]> ZMAN_ACCESSORS = new ClassValue<ZmanAccessor[]>() {
+		@Override
+		protected ZmanAccessor[] computeValue(Class<?> type) {
+			List<ZmanAccessor> accessors = new ArrayList<>();
+			for (Method method : type.getMethods()) {
+				if (includeMethod(method)) {
+					accessors.add(new ZmanAccessor(method));
+				}
+			}
+			return accessors.toArray(new ZmanAccessor[0]);
+		}
+	};
 
 	/**
-	 * the formatter for minutes as milliseconds.
+	 * The tag names of the <em>zmanim</em> of each calendar class, in the order of {@link #ZMAN_ACCESSORS}, used as the label
+	 * table of the {@link ZmanList} the <em>zmanim</em> are sorted in.
 	 */
-	private static final DecimalFormat milliNF = new DecimalFormat("000");
+	private static final ClassValue<String[]> ZMAN_LABELS = new ClassValue<String[]>() {
+		@Override
+		protected String[] computeValue(Class<?> type) {
+			ZmanAccessor[] accessors = ZMAN_ACCESSORS.get(type);
+			String[] labels = new String[accessors.length];
+			for (int i = 0; i < accessors.length; i++) {
+				labels[i] = accessors[i].name;
+			}
+			return labels;
+		}
+	};
 
 	/**
-	 * The {@link DateTimeFormatter} class used by the formatter.
-	 * @see #setDateTimeFormatter(DateTimeFormatter)
+	 * The <em>zmanim</em> of each calendar class sorted by name, the fixed order used by the streaming writers.
 	 */
-	private DateTimeFormatter dateTimeFormatter;
-	
+	private static final ClassValue<ZmanAccessor[]> SORTED_ZMAN_ACCESSORS = new ClassValue<ZmanAccessor[]>() {
+		@Override
+		protected ZmanAccessor[] computeValue(Class<?> type) {
+			ZmanAccessor[] accessors = ZMAN_ACCESSORS.get(type).clone();
+			Arrays.sort(accessors, Comparator.comparing(accessor -> accessor.name));
+			return accessors;
+		}
+	};
+
 	/**
-	 * The TimeZone class.
-	 * @see #setZoneId(ZoneId)
+	 * A getter of an {@link Instant} or {@link Duration} <em>zman</em> with the tag name it is output with.
 	 */
-	private ZoneId zoneId = null;
+	private static final class ZmanAccessor {
+		/** The name of the getter without the "get" prefix. */
+		private final String name;
+
+		/** The handle to the getter. */
+		private final MethodHandle handle;
+
+		/**
+		 * Creates the accessor for a public getter.
+		 * @param method the getter.
+		 */
+		private ZmanAccessor(Method method) {
+			this.name = method.getName().substring(3);
+			try {
+				this.handle = MethodHandles.publicLookup().unreflect(method);
+			} catch (IllegalAccessException iae) {
+				throw new IllegalStateException("The method " + method + " can't be accessed", iae);
+			}
+		}
+
+		/**
+		 * Returns the value of the getter on a calendar.
+		 * @param astronomicalCalendar the calendar.
+		 * @return the {@link Instant} or {@link Duration}, or <code>null</code> if the <em>zman</em> can't be calculated.
+		 */
+		private Object get(AstronomicalCalendar astronomicalCalendar) {
+			try {
+				return handle.invoke(astronomicalCalendar);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new IllegalStateException("Calculating " + name + " failed", t);
+			}
+		}
+	}
 
 
 	/**
@@ -211,7 +292,6 @@ public class ZmanimFormatter {
 		this.prependZeroHours = prependZeroHours;
 		this.useSeconds = useSeconds;
 		this.useMillis = useMillis;
-		this.hourNF = new DecimalFormat(this.prependZeroHours ? "00" : "0");
 	}
 
 	/**
@@ -231,31 +311,9 @@ public class ZmanimFormatter {
 			return formatXSDDurationTime(duration);
 		}
 		
-		StringBuilder sb = new StringBuilder();
-		if (duration.isNegative()) {
-			sb.append("-");
-		}
-		
-		Duration absDuration = duration.abs();
-		
-		long hours = absDuration.toHours();
-		long minutes = absDuration.toMinutes() % 60;
-		long seconds = absDuration.toSeconds() % 60;
-		long milliseconds = absDuration.toMillis() % 1000;
-		sb.append(this.hourNF.format(hours));
-		sb.append(":");
-		sb.append(minuteSecondNF.format(minutes));
-		
-		if (this.useSeconds) {
-			sb.append(":");
-			sb.append(minuteSecondNF.format(seconds));
-		}
-		if (this.useMillis) {
-			sb.append(".");
-			sb.append(milliNF.format(milliseconds));
-		}
-		
-		return sb.toString();
+		char[] buffer = new char[TimeAppender.MAX_LENGTH];
+		int length = TimeAppender.formatSexagesimal(duration, this.prependZeroHours, this.useSeconds, this.useMillis, buffer, 0);
+		return new String(buffer, 0, length);
 	}
 
 	/**
@@ -277,8 +335,7 @@ public class ZmanimFormatter {
 	 * @return the {@code Instant} formatted using the format "{@code yyyy-MM-dd'T'HH:mm:ssXXX}".
 	 */
 	public String formatXSDateTime(Instant instant) {
-		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX").withZone(getZoneId());
-		return formatter.format(instant);
+		return TimeAppender.formatXSDDateTime(instant, getZoneId());
 	}
 
 	/**
@@ -324,12 +381,8 @@ public class ZmanimFormatter {
 	 * @todo Add proper schema, and support for nulls. XSD duration (for solar hours), should probably return nil and not P.
 	 */
 	public static String toXML(AstronomicalCalendar astronomicalCalendar) {
-		ZmanimFormatter formatter = new ZmanimFormatter(ZmanimFormatter.XSD_DURATION_FORMAT, DateTimeFormatter.ofPattern(
-				"yyyy-MM-dd'T'HH:mm:ss"), astronomicalCalendar.getGeoLocation().getZoneId());
-		DateTimeFormatter xsdFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX")
-				.withZone(astronomicalCalendar.getGeoLocation().getZoneId());
-		DateTimeFormatter df = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-		df = df.withZone(astronomicalCalendar.getGeoLocation().getZoneId());
+		ZoneId zone = astronomicalCalendar.getGeoLocation().getZoneId();
+		DateTimeFormatter df = XSD_DATE_FORMATTER;
 
 		LocalDate localDate = astronomicalCalendar.getLocalDate();
 		GeoLocation geoLocation = astronomicalCalendar.getGeoLocation();
@@ -361,47 +414,38 @@ public class ZmanimFormatter {
 		//sb.append(" useElevationAllZmanim=\"").append(astronomicalCalendar.useElevationAllZmanim()).append("\""); //TODO likely using reflection
 		sb.append(">\n");
 
-		Method[] theMethods = astronomicalCalendar.getClass().getMethods();
 		String tagName;
 		Object value;
-		List<Zman> dateList = new ArrayList<>();
-		List<Zman> durationList = new ArrayList<>();
+		ZmanAccessor[] accessors = ZMAN_ACCESSORS.get(astronomicalCalendar.getClass());
+		ZmanList zmanim = new ZmanList(ZMAN_LABELS.get(astronomicalCalendar.getClass()), accessors.length);
 		List<String> otherList = new ArrayList<>();
-		for (Method theMethod : theMethods) {
-			if (includeMethod(theMethod)) {
-				tagName = theMethod.getName().substring(3);
-				// String returnType = theMethods[i].getReturnType().getName();
-				try {
-					value = theMethod.invoke(astronomicalCalendar, (Object[]) null);
-					if (value == null) {
-						otherList.add("<" + tagName + ">N/A</" + tagName + ">");
-					} else if (value instanceof Instant) {
-						dateList.add(new Zman((Instant) value, tagName));
-					} else if (value instanceof Duration) {// shaah zmanis
-						durationList.add(new Zman((Duration)value, tagName));
-					} else { // will probably never enter this block, but is present to be future-proof
-						otherList.add("<" + tagName + ">" + value + "</" + tagName + ">");
-					}
-				} catch (Exception e) {
-					e.printStackTrace();
+		for (int i = 0; i < accessors.length; i++) {
+			tagName = accessors[i].name;
+			try {
+				value = accessors[i].get(astronomicalCalendar);
+				if (value == null) {
+					otherList.add("<" + tagName + ">N/A</" + tagName + ">");
+				} else if (value instanceof Instant) {
+					zmanim.add(i, (Instant) value);
+				} else if (value instanceof Duration) {// shaah zmanis
+					zmanim.add(i, (Duration) value);
+				} else { // will probably never enter this block, but is present to be future-proof
+					otherList.add("<" + tagName + ">" + value + "</" + tagName + ">");
 				}
+			} catch (Exception e) {
+				e.printStackTrace();
 			}
 		}
-		Zman zman;
-		dateList.sort(Zman.DATE_ORDER);
-
-		for (int i = 0; i < dateList.size(); i++) {
-			zman = dateList.get(i);
-			sb.append("\t<").append(zman.getLabel()).append(">");
-			sb.append(xsdFormatter.format(zman.getZman()));
-			sb.append("</").append(zman.getLabel()).append(">\n");
-		}
-		durationList.sort(Zman.DURATION_ORDER);
-		for (int i = 0; i < durationList.size(); i++) {
-			zman = durationList.get(i);
-			sb.append("\t<" + zman.getLabel()).append(">");
-			sb.append(formatter.format(zman.getDuration())).append("</").append(zman.getLabel())
-					.append(">\n");
+		// the instants in chronological order followed by the durations from shortest to longest
+		zmanim.sort();
+		for (int i = 0; i < zmanim.size(); i++) {
+			sb.append("\t<").append(zmanim.getLabel(i)).append(">");
+			if (zmanim.isDuration(i)) {
+				sb.append(zmanim.getDuration(i).toString());
+			} else {
+				sb.append(TimeAppender.formatXSDDateTime(zmanim.getInstant(i), zone));
+			}
+			sb.append("</").append(zmanim.getLabel(i)).append(">\n");
 		}
 
 		for (int i = 0; i < otherList.size(); i++) {// will probably never enter this block
@@ -452,12 +496,8 @@ public class ZmanimFormatter {
 	 * @return The JSON {@code String} formatted as described above.
 	 */
 	public static String toJSON(AstronomicalCalendar astronomicalCalendar) {
-		ZmanimFormatter formatter = new ZmanimFormatter(ZmanimFormatter.XSD_DURATION_FORMAT, DateTimeFormatter.ofPattern(
-				"yyyy-MM-dd'T'HH:mm:ss"), astronomicalCalendar.getGeoLocation().getZoneId());
-		DateTimeFormatter xsdFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX")
-				.withZone(astronomicalCalendar.getGeoLocation().getZoneId());
-		DateTimeFormatter df = DateTimeFormatter.ofPattern("yyyy-MM-dd")
-				.withZone(astronomicalCalendar.getGeoLocation().getZoneId());
+		ZoneId zone = astronomicalCalendar.getGeoLocation().getZoneId();
+		DateTimeFormatter df = XSD_DATE_FORMATTER;
 
 		LocalDate localDate = astronomicalCalendar.getLocalDate();
 		GeoLocation geoLocation = astronomicalCalendar.getGeoLocation();		
@@ -491,46 +531,39 @@ public class ZmanimFormatter {
 				break;
 		}
 		sb.append("\":{\n");
-		Method[] theMethods = astronomicalCalendar.getClass().getMethods();
 		String tagName;
 		Object value;
-		List<Zman> dateList = new ArrayList<>();
-		List<Zman> durationList = new ArrayList<>();
+		ZmanAccessor[] accessors = ZMAN_ACCESSORS.get(astronomicalCalendar.getClass());
+		ZmanList zmanim = new ZmanList(ZMAN_LABELS.get(astronomicalCalendar.getClass()), accessors.length);
 		List<String> otherList = new ArrayList<>();
-		for (Method theMethod : theMethods) {
-			if (includeMethod(theMethod)) {
-				tagName = theMethod.getName().substring(3);
-				// String returnType = theMethods[i].getReturnType().getName();
-				try {
-					value = theMethod.invoke(astronomicalCalendar, (Object[]) null);
-					if (value == null) {
-						otherList.add("\"" + tagName + "\":\"N/A\",");
-					} else if (value instanceof Instant) {
-						dateList.add(new Zman((Instant) value, tagName));
-					} else if (value instanceof Duration) {// shaah zmanis
-						durationList.add(new Zman((Duration)value, tagName));
-					} else { // will probably never enter this block, but is present to be future-proof
-						otherList.add("\"" + tagName + "\":\"" + value + "\",");
-					}
-				} catch (Exception e) {
-					e.printStackTrace();
+		for (int i = 0; i < accessors.length; i++) {
+			tagName = accessors[i].name;
+			try {
+				value = accessors[i].get(astronomicalCalendar);
+				if (value == null) {
+					otherList.add("\"" + tagName + "\":\"N/A\",");
+				} else if (value instanceof Instant) {
+					zmanim.add(i, (Instant) value);
+				} else if (value instanceof Duration) {// shaah zmanis
+					zmanim.add(i, (Duration) value);
+				} else { // will probably never enter this block, but is present to be future-proof
+					otherList.add("\"" + tagName + "\":\"" + value + "\",");
 				}
+			} catch (Exception e) {
+				e.printStackTrace();
 			}
 		}
-		Zman zman;
-		dateList.sort(Zman.DATE_ORDER);
-		for (int i = 0; i < dateList.size(); i++) {
-			zman = dateList.get(i);
-			sb.append("\t\"").append(zman.getLabel()).append("\":\"");
-			sb.append(xsdFormatter.format(zman.getZman()));
+		// the instants in chronological order followed by the durations from shortest to longest
+		zmanim.sort();
+		for (int i = 0; i < zmanim.size(); i++) {
+			sb.append("\t\"").append(zmanim.getLabel(i)).append("\":\"");
+			if (zmanim.isDuration(i)) {
+				sb.append(zmanim.getDuration(i).toString());
+			} else {
+				sb.append(TimeAppender.formatXSDDateTime(zmanim.getInstant(i), zone));
+			}
 			sb.append("\",\n");
 		}
-		durationList.sort(Zman.DURATION_ORDER);
-		for (int i = 0; i < durationList.size(); i++) {
-			zman = durationList.get(i);
-			sb.append("\t\"" + zman.getLabel()).append("\":\"");
-			sb.append(formatter.format(zman.getDuration())).append("\",\n");
-		}
 
 		for (int i = 0; i < otherList.size(); i++) {// will probably never enter this block
 			sb.append("\t").append(otherList.get(i)).append("\n");
@@ -540,6 +573,293 @@ public class ZmanimFormatter {
 		return sb.toString();
 	}
 
+	/**
+	 * Writes the <em>zmanim</em> of every day in a range of dates as one XML document. Unlike {@link
+	 * #toXML(AstronomicalCalendar)}, the document is written to the {@code Appendable} a day at a time, so a range of any length
+	 * is written in constant memory. The <em>zmanim</em> of the calendar class are found once and reused for every day and
+	 * document, and are written in the same (alphabetical) order every day. A <em>zman</em> that can't be calculated is written
+	 * as an empty element with <code>xsi:nil="true"</code>. The format used is:
+	 * 
+	 * {@snippet lang='xml' :
+	 *  <?xml version="1.0" encoding="UTF-8"?>
+	 *  <Zmanim xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" type="com.kosherjava.zmanim.ComprehensiveZmanimCalendar"
+	 *         algorithm="US National Oceanic and Atmospheric Administration Algorithm" location="Lakewood, NJ"
+	 *         latitude="40.0828" longitude="-74.2094" elevation="20.0" timeZoneID="America/New_York"
+	 *         startDate="2026-01-01" endDate="2026-12-31">
+	 *    <Day date="2026-01-01" timeZoneOffset="-5.0">
+	 *      <Alos16Point1Degrees>2026-01-01T05:47:05-05:00</Alos16Point1Degrees>
+	 *      <AlosBaalHatanya xsi:nil="true"/>
+	 *      ...
+	 *    </Day>
+	 *    ...
+	 *  </Zmanim>
+	 * }
+	 * 
+	 * @param astronomicalCalendar the calendar whose class, location and settings are used. It is not modified.
+	 * @param startDate the first date written.
+	 * @param endDate the last date written.
+	 * @param out the {@code Appendable}, such as a {@link Writer} or {@link StringBuilder}, the document is written to.
+	 * @throws IOException if writing to the {@code Appendable} fails.
+	 * @throws IllegalArgumentException if the end date is before the start date.
+	 * @see #writeJSON(AstronomicalCalendar, LocalDate, LocalDate, Appendable)
+	 */
+	public static void writeXML(AstronomicalCalendar astronomicalCalendar, LocalDate startDate, LocalDate endDate, Appendable out)
+			throws IOException {
+		checkRange(startDate, endDate);
+		AstronomicalCalendar calendar = (AstronomicalCalendar) astronomicalCalendar.clone();
+		GeoLocation geoLocation = calendar.getGeoLocation();
+		ZoneId zone = geoLocation.getZoneId();
+		ZmanAccessor[] accessors = SORTED_ZMAN_ACCESSORS.get(calendar.getClass());
+		String rootName = getRootName(calendar);
+
+		out.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<").append(rootName);
+		out.append(" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"");
+		appendXMLAttribute(out, "type", calendar.getClass().getName());
+		appendXMLAttribute(out, "algorithm", calendar.getAstronomicalCalculator().getCalculatorName());
+		appendXMLAttribute(out, "location", geoLocation.getLocationName());
+		appendXMLAttribute(out, "latitude", String.valueOf(geoLocation.getLatitude()));
+		appendXMLAttribute(out, "longitude", String.valueOf(geoLocation.getLongitude()));
+		appendXMLAttribute(out, "elevation", String.valueOf(geoLocation.getElevation()));
+		appendXMLAttribute(out, "timeZoneID", zone.getId());
+		appendXMLAttribute(out, "startDate", XSD_DATE_FORMATTER.format(startDate));
+		appendXMLAttribute(out, "endDate", XSD_DATE_FORMATTER.format(endDate));
+		out.append(">\n");
+		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+			calendar.setLocalDate(date);
+			out.append("\t<Day date=\"").append(XSD_DATE_FORMATTER.format(date)).append("\" timeZoneOffset=\"")
+					.append(String.valueOf(getOffsetHours(date, zone))).append("\">\n");
+			for (ZmanAccessor accessor : accessors) {
+				Object value = accessor.get(calendar);
+				out.append("\t\t<").append(accessor.name);
+				if (value == null) {
+					out.append(" xsi:nil=\"true\"/>\n");
+				} else {
+					out.append('>');
+					appendValue(out, value, zone);
+					out.append("</").append(accessor.name).append(">\n");
+				}
+			}
+			out.append("\t</Day>\n");
+		}
+		out.append("</").append(rootName).append(">\n");
+	}
+
+	/**
+	 * Writes the <em>zmanim</em> of every day in a range of dates as one UTF-8 encoded XML document to an
+	 * {@code OutputStream}. The stream is flushed but not closed.
+	 * 
+	 * @param astronomicalCalendar the calendar whose class, location and settings are used. It is not modified.
+	 * @param startDate the first date written.
+	 * @param endDate the last date written.
+	 * @param out the stream the document is written to.
+	 * @throws IOException if writing to the stream fails.
+	 * @see #writeXML(AstronomicalCalendar, LocalDate, LocalDate, Appendable)
+	 */
+	public static void writeXML(AstronomicalCalendar astronomicalCalendar, LocalDate startDate, LocalDate endDate,
+			OutputStream out) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		writeXML(astronomicalCalendar, startDate, endDate, writer);
+		writer.flush();
+	}
+
+	/**
+	 * Writes the <em>zmanim</em> of every day in a range of dates as one JSON document. The document is written to the
+	 * {@code Appendable} a day at a time, so a range of any length is written in constant memory. The <em>zmanim</em> of the
+	 * calendar class are found once and reused for every day and document, and are written in the same (alphabetical) order
+	 * every day. A <em>zman</em> that can't be calculated is written as <code>null</code>. The format used is:
+	 * {@snippet lang='json' :
+	 * {
+	 *   "metadata":{
+	 *     "type":"com.kosherjava.zmanim.ComprehensiveZmanimCalendar",
+	 *     "algorithm":"US National Oceanic and Atmospheric Administration Algorithm",
+	 *     "location":"Lakewood, NJ",
+	 *     "latitude":40.0828,
+	 *     "longitude":-74.2094,
+	 *     "elevation":20.0,
+	 *     "timeZoneID":"America/New_York",
+	 *     "startDate":"2026-01-01",
+	 *     "endDate":"2026-12-31"},
+	 *   "Zmanim":[
+	 *     {"date":"2026-01-01","timeZoneOffset":-5.0,"zmanim":{
+	 *       "Alos16Point1Degrees":"2026-01-01T05:47:05-05:00",
+	 *       "AlosBaalHatanya":null,
+	 *       ...
+	 *     }},
+	 *     ...
+	 *   ]
+	 * }
+	 * }
+	 * 
+	 * @param astronomicalCalendar the calendar whose class, location and settings are used. It is not modified.
+	 * @param startDate the first date written.
+	 * @param endDate the last date written.
+	 * @param out the {@code Appendable}, such as a {@link Writer} or {@link StringBuilder}, the document is written to.
+	 * @throws IOException if writing to the {@code Appendable} fails.
+	 * @throws IllegalArgumentException if the end date is before the start date.
+	 * @see #writeXML(AstronomicalCalendar, LocalDate, LocalDate, Appendable)
+	 */
+	public static void writeJSON(AstronomicalCalendar astronomicalCalendar, LocalDate startDate, LocalDate endDate, Appendable out)
+			throws IOException {
+		checkRange(startDate, endDate);
+		AstronomicalCalendar calendar = (AstronomicalCalendar) astronomicalCalendar.clone();
+		GeoLocation geoLocation = calendar.getGeoLocation();
+		ZoneId zone = geoLocation.getZoneId();
+		ZmanAccessor[] accessors = SORTED_ZMAN_ACCESSORS.get(calendar.getClass());
+
+		out.append("{\n\"metadata\":{\n");
+		appendJSONMember(out, "\t", "type", calendar.getClass().getName()).append(",\n");
+		appendJSONMember(out, "\t", "algorithm", calendar.getAstronomicalCalculator().getCalculatorName()).append(",\n");
+		appendJSONMember(out, "\t", "location", geoLocation.getLocationName()).append(",\n");
+		out.append("\t\"latitude\":").append(String.valueOf(geoLocation.getLatitude())).append(",\n");
+		out.append("\t\"longitude\":").append(String.valueOf(geoLocation.getLongitude())).append(",\n");
+		out.append("\t\"elevation\":").append(String.valueOf(geoLocation.getElevation())).append(",\n");
+		appendJSONMember(out, "\t", "timeZoneID", zone.getId()).append(",\n");
+		appendJSONMember(out, "\t", "startDate", XSD_DATE_FORMATTER.format(startDate)).append(",\n");
+		appendJSONMember(out, "\t", "endDate", XSD_DATE_FORMATTER.format(endDate));
+		out.append("},\n\"").append(getRootName(calendar)).append("\":[\n");
+		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+			calendar.setLocalDate(date);
+			out.append("\t{\"date\":\"").append(XSD_DATE_FORMATTER.format(date)).append("\",\"timeZoneOffset\":")
+					.append(String.valueOf(getOffsetHours(date, zone))).append(",\"zmanim\":{\n");
+			for (int i = 0; i < accessors.length; i++) {
+				Object value = accessors[i].get(calendar);
+				if (value == null) {
+					out.append("\t\t\"").append(accessors[i].name).append("\":null");
+				} else {
+					out.append("\t\t\"").append(accessors[i].name).append("\":\"");
+					appendValue(out, value, zone);
+					out.append('"');
+				}
+				out.append(i < accessors.length - 1 ? ",\n" : "\n");
+			}
+			out.append(date.isBefore(endDate) ? "\t}},\n" : "\t}}\n");
+		}
+		out.append("]\n}\n");
+	}
+
+	/**
+	 * Writes the <em>zmanim</em> of every day in a range of dates as one UTF-8 encoded JSON document to an
+	 * {@code OutputStream}. The stream is flushed but not closed.
+	 * 
+	 * @param astronomicalCalendar the calendar whose class, location and settings are used. It is not modified.
+	 * @param startDate the first date written.
+	 * @param endDate the last date written.
+	 * @param out the stream the document is written to.
+	 * @throws IOException if writing to the stream fails.
+	 * @see #writeJSON(AstronomicalCalendar, LocalDate, LocalDate, Appendable)
+	 */
+	public static void writeJSON(AstronomicalCalendar astronomicalCalendar, LocalDate startDate, LocalDate endDate,
+			OutputStream out) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		writeJSON(astronomicalCalendar, startDate, endDate, writer);
+		writer.flush();
+	}
+
+	/**
+	 * Throws an {@link IllegalArgumentException} if the end of a range of dates is before the start.
+	 * @param startDate the first date.
+	 * @param endDate the last date.
+	 */
+	private static void checkRange(LocalDate startDate, LocalDate endDate) {
+		if (endDate.isBefore(startDate)) {
+			throw new IllegalArgumentException("The end date " + endDate + " can't be before the start date " + startDate);
+		}
+	}
+
+	/**
+	 * Returns the name of the root element used for a calendar class, the same as used by {@link #toXML(AstronomicalCalendar)}.
+	 * @param astronomicalCalendar the calendar.
+	 * @return "AstronomicalTimes" for an {@code AstronomicalCalendar}, "BasicZmanim" for a {@code ZmanimCalendar} and "Zmanim"
+	 *         for any other calendar.
+	 */
+	private static String getRootName(AstronomicalCalendar astronomicalCalendar) {
+		switch (astronomicalCalendar.getClass().getName()) {
+			case "com.kosherjava.zmanim.AstronomicalCalendar":
+				return "AstronomicalTimes";
+			case "com.kosherjava.zmanim.ZmanimCalendar":
+				return "BasicZmanim";
+			default:
+				return "Zmanim";
+		}
+	}
+
+	/**
+	 * Returns the offset from UTC in hours at the start of a date.
+	 * @param date the date.
+	 * @param zone the time zone.
+	 * @return the offset in hours, such as -5.0 or 5.5.
+	 */
+	private static double getOffsetHours(LocalDate date, ZoneId zone) {
+		return zone.getRules().getOffset(date.atStartOfDay(zone).toInstant()).getTotalSeconds() / 3600.0;
+	}
+
+	/**
+	 * Appends an {@link Instant} as an xsd:dateTime or a {@link Duration} as an xsd:duration.
+	 * @param out the {@code Appendable}.
+	 * @param value the {@code Instant} or {@code Duration}.
+	 * @param zone the time zone of the location.
+	 * @throws IOException if writing fails.
+	 */
+	private static void appendValue(Appendable out, Object value, ZoneId zone) throws IOException {
+		if (value instanceof Instant) {
+			TimeAppender.appendXSDDateTime(out, (Instant) value, zone);
+		} else {
+			TimeAppender.appendXSDDuration(out, (Duration) value);
+		}
+	}
+
+	/**
+	 * Appends an XML attribute, escaping the characters that can't appear in an attribute value.
+	 * @param out the {@code Appendable}.
+	 * @param name the attribute name.
+	 * @param value the attribute value. A <code>null</code> value is written as an empty string.
+	 * @throws IOException if writing fails.
+	 */
+	private static void appendXMLAttribute(Appendable out, String name, String value) throws IOException {
+		out.append(' ').append(name).append("=\"");
+		if (value != null) {
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				switch (c) {
+					case '&': out.append("&amp;"); break;
+					case '<': out.append("&lt;"); break;
+					case '>': out.append("&gt;"); break;
+					case '"': out.append("&quot;"); break;
+					default: out.append(c);
+				}
+			}
+		}
+		out.append('"');
+	}
+
+	/**
+	 * Appends a JSON string member, escaping the characters that can't appear in a JSON string.
+	 * @param out the {@code Appendable}.
+	 * @param indent the indentation written before the member.
+	 * @param name the member name.
+	 * @param value the member value. A <code>null</code> value is written as <code>null</code>.
+	 * @return the {@code Appendable}.
+	 * @throws IOException if writing fails.
+	 */
+	private static Appendable appendJSONMember(Appendable out, String indent, String name, String value) throws IOException {
+		out.append(indent).append('"').append(name).append("\":");
+		if (value == null) {
+			return out.append("null");
+		}
+		out.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				out.append('\\').append(c);
+			} else if (c < 0x20) {
+				out.append(String.format("\\u%04x", (int) c));
+			} else {
+				out.append(c);
+			}
+		}
+		return out.append('"');
+	}
+
 	/**
 	 * Determines if a method should be output by the {@link #toXML(AstronomicalCalendar)}
 	 * 
@@ -0,0 +1,483 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import com.kosherjava.zmanim.AstronomicalCalendar;
+
+/**
+ * An immutable table of <em>zmanim</em> stored by column, for holding months or years of results for a location. Each
+ * <em>zman</em> (column) is a {@code long[]} of epoch milliseconds with a bitmap of the days it could not be calculated, and
+ * all columns share a column of dates stored as epoch days. Times are truncated to the millisecond. A year of 150
+ * <em>zmanim</em> takes about 450 KB, where the same results as a {@code List<Zman>} take an object header, five references
+ * and an {@link Instant} for every value, more than ten times as much.
+ * <p>
+ * Tables are created with a {@link Builder} that calculates each column with a calendar:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanimTable table = new ZmanimTable.Builder&lt;&gt;(new ComprehensiveZmanimCalendar(location))
+ *         .addColumn("Alos72Minutes", ComprehensiveZmanimCalendar::getAlos72Minutes)
+ *         .addColumn("Sunrise", ComprehensiveZmanimCalendar::getSunrise)
+ *         .addColumn("Tzais72Minutes", ComprehensiveZmanimCalendar::getTzais72Minutes)
+ *         .build(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+ * long[] sunrises = new long[table.getRowCount()];
+ * table.getColumn(table.getColumnIndex("Sunrise")).get(sunrises);
+ * </pre>
+ * The columns are exposed as read only {@link LongBuffer} views without copying, and individual values as epoch milliseconds,
+ * {@link Instant}s or {@link Zman}s created on demand. Tables can be written as CSV, reordered by any column, and combined by
+ * date with {@link #merge(ZmanimTable)} or by column with {@link #join(ZmanimTable)}.
+ *
+ * @author © Eliyahu Hershfeld 2026
+ */
+public final class ZmanimTable {
+	/** The location the <em>zmanim</em> were calculated for. */
+	private final GeoLocation geoLocation;
+
+	/** The labels of the columns. */
+	private final String[] labels;
+
+	/** The date of each row as an epoch day. */
+	private final long[] epochDays;
+
+	/** The <em>zmanim</em> of each column in epoch milliseconds, 0 where the <em>zman</em> is missing. */
+	private final long[][] columns;
+
+	/** For each column, a bitmap of the rows where the <em>zman</em> is missing. */
+	private final long[][] missing;
+
+	/**
+	 * Constructor used by the builder and the methods that create new tables. The arrays are not copied.
+	 */
+	private ZmanimTable(GeoLocation geoLocation, String[] labels, long[] epochDays, long[][] columns, long[][] missing) {
+		this.geoLocation = geoLocation;
+		this.labels = labels;
+		this.epochDays = epochDays;
+		this.columns = columns;
+		this.missing = missing;
+	}
+
+	/**
+	 * Returns the location the <em>zmanim</em> were calculated for.
+	 * @return the location.
+	 */
+	public GeoLocation getGeoLocation() {
+		return geoLocation;
+	}
+
+	/**
+	 * Returns the number of rows (days).
+	 * @return the number of rows.
+	 */
+	public int getRowCount() {
+		return epochDays.length;
+	}
+
+	/**
+	 * Returns the number of columns (<em>zmanim</em>).
+	 * @return the number of columns.
+	 */
+	public int getColumnCount() {
+		return labels.length;
+	}
+
+	/**
+	 * Returns the labels of the columns.
+	 * @return an unmodifiable list of the labels in column order.
+	 */
+	public List<String> getLabels() {
+		return Collections.unmodifiableList(Arrays.asList(labels));
+	}
+
+	/**
+	 * Returns the index of a column.
+	 * @param label the label of the column.
+	 * @return the index of the column, or -1 if there is no column with the label.
+	 */
+	public int getColumnIndex(String label) {
+		for (int i = 0; i < labels.length; i++) {
+			if (labels[i].equals(label)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the date of a row.
+	 * @param row the row.
+	 * @return the date.
+	 */
+	public LocalDate getDate(int row) {
+		return LocalDate.ofEpochDay(epochDays[row]);
+	}
+
+	/**
+	 * Returns the date of a row as an epoch day.
+	 * @param row the row.
+	 * @return the epoch day.
+	 */
+	public long getEpochDay(int row) {
+		return epochDays[row];
+	}
+
+	/**
+	 * Returns a read only view of the dates of the rows as epoch days, without copying them.
+	 * @return the date column.
+	 */
+	public LongBuffer getDateColumn() {
+		return LongBuffer.wrap(epochDays).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Returns a read only view of a column in epoch milliseconds, without copying it. Missing <em>zmanim</em> are 0 and should
+	 * be checked with {@link #isMissing(int, int)}.
+	 * @param column the column index.
+	 * @return the column.
+	 */
+	public LongBuffer getColumn(int column) {
+		return LongBuffer.wrap(columns[column]).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Returns if a <em>zman</em> is missing because it could not be calculated.
+	 * @param row the row.
+	 * @param column the column.
+	 * @return true if the <em>zman</em> is missing.
+	 */
+	public boolean isMissing(int row, int column) {
+		if (row < 0 || row >= epochDays.length) {
+			throw new IndexOutOfBoundsException("Row " + row + " is out of bounds for " + epochDays.length + " rows");
+		}
+		return (missing[column][row >>> 6] & (1L << row)) != 0;
+	}
+
+	/**
+	 * Returns a <em>zman</em> in epoch milliseconds.
+	 * @param row the row.
+	 * @param column the column.
+	 * @return the epoch milliseconds, or 0 if the <em>zman</em> is {@link #isMissing(int, int) missing}.
+	 */
+	public long getEpochMillis(int row, int column) {
+		return columns[column][row];
+	}
+
+	/**
+	 * Returns a <em>zman</em> as an {@link Instant}.
+	 * @param row the row.
+	 * @param column the column.
+	 * @return the <em>zman</em>, or <code>null</code> if it is missing.
+	 */
+	public Instant getInstant(int row, int column) {
+		return isMissing(row, column) ? null : Instant.ofEpochMilli(columns[column][row]);
+	}
+
+	/**
+	 * Returns a <em>zman</em> as a {@link Zman} labeled with its column label.
+	 * @param row the row.
+	 * @param column the column.
+	 * @return the <em>zman</em>, or <code>null</code> if it is missing.
+	 */
+	public Zman getZman(int row, int column) {
+		Instant instant = getInstant(row, column);
+		return instant == null ? null : new Zman(instant, geoLocation, labels[column]);
+	}
+
+	/**
+	 * Writes the table as CSV (RFC 4180) with a header row. The first column is the date and the others are the
+	 * <em>zmanim</em> in the xsd:dateTime format in the time zone of the location. Missing <em>zmanim</em> are empty fields.
+	 *
+	 * @param out the {@code Appendable} written to.
+	 * @throws IOException if writing fails.
+	 */
+	public void writeCSV(Appendable out) throws IOException {
+		out.append("date");
+		for (String label : labels) {
+			out.append(',');
+			appendCSVField(out, label);
+		}
+		out.append("\r\n");
+		char[] buffer = new char[TimeAppender.MAX_LENGTH];
+		for (int row = 0; row < epochDays.length; row++) {
+			out.append(LocalDate.ofEpochDay(epochDays[row]).toString());
+			for (int column = 0; column < labels.length; column++) {
+				out.append(',');
+				if (!isMissing(row, column)) {
+					Instant instant = Instant.ofEpochMilli(columns[column][row]);
+					int length = TimeAppender.formatXSDDateTime(instant, geoLocation.getZoneId(), buffer, 0);
+					if (length < 0) {
+						TimeAppender.appendXSDDateTime(out, instant, geoLocation.getZoneId());
+					} else {
+						TimeAppender.append(out, buffer, length);
+					}
+				}
+			}
+			out.append("\r\n");
+		}
+	}
+
+	/**
+	 * Appends a CSV field, quoting it if it contains a comma, quote or line break.
+	 */
+	private static void appendCSVField(Appendable out, String value) throws IOException {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			out.append(value);
+		} else {
+			out.append('"').append(value.replace("\"", "\"\"")).append('"');
+		}
+	}
+
+	/**
+	 * Returns a table with the rows in ascending order of a column, such as the days of the year ordered by the time of sunset.
+	 * Rows where the <em>zman</em> is missing come last, and rows with the same time keep their order.
+	 *
+	 * @param column the column to order by.
+	 * @return a new table with the rows reordered.
+	 */
+	public ZmanimTable sortBy(int column) {
+		long[] keys = new long[epochDays.length];
+		for (int row = 0; row < keys.length; row++) {
+			keys[row] = isMissing(row, column) ? Long.MAX_VALUE : columns[column][row];
+		}
+		return reorder(PrimitiveSort.indexSort(keys, keys.length));
+	}
+
+	/**
+	 * Returns a table with the rows in ascending order of date.
+	 * @return a new table with the rows in date order.
+	 */
+	public ZmanimTable sortByDate() {
+		return reorder(PrimitiveSort.indexSort(epochDays, epochDays.length));
+	}
+
+	/**
+	 * Returns a table with the rows of this table in the order of an index.
+	 */
+	private ZmanimTable reorder(int[] index) {
+		long[] newDays = new long[index.length];
+		long[][] newColumns = new long[labels.length][index.length];
+		long[][] newMissing = new long[labels.length][words(index.length)];
+		for (int row = 0; row < index.length; row++) {
+			newDays[row] = epochDays[index[row]];
+			for (int column = 0; column < labels.length; column++) {
+				copyCell(this, index[row], column, newColumns, newMissing, row, column);
+			}
+		}
+		return new ZmanimTable(geoLocation, labels, newDays, newColumns, newMissing);
+	}
+
+	/**
+	 * Returns a table with the rows of this table and another table with the same columns, such as the next year of the same
+	 * location, in date order. Where both tables have a row for a date, the row of the other table is used.
+	 *
+	 * @param other the other table.
+	 * @return a new table with the rows of both tables.
+	 * @throws IllegalArgumentException if the tables do not have the same column labels in the same order.
+	 */
+	public ZmanimTable merge(ZmanimTable other) {
+		if (!Arrays.equals(labels, other.labels)) {
+			throw new IllegalArgumentException("Tables can only be merged if they have the same columns");
+		}
+		ZmanimTable first = sortByDate();
+		ZmanimTable second = other.sortByDate();
+		int rows = first.getRowCount() + second.getRowCount();
+		long[] newDays = new long[rows];
+		long[][] newColumns = new long[labels.length][rows];
+		long[][] newMissing = new long[labels.length][words(rows)];
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < first.getRowCount() || j < second.getRowCount()) {
+			ZmanimTable source;
+			int row;
+			if (j >= second.getRowCount() || i < first.getRowCount() && first.epochDays[i] < second.epochDays[j]) {
+				source = first;
+				row = i++;
+			} else {
+				if (i < first.getRowCount() && first.epochDays[i] == second.epochDays[j]) {
+					i++; // the other table replaces the row of this table
+				}
+				source = second;
+				row = j++;
+			}
+			newDays[count] = source.epochDays[row];
+			for (int column = 0; column < labels.length; column++) {
+				copyCell(source, row, column, newColumns, newMissing, count, column);
+			}
+			count++;
+		}
+		for (int column = 0; column < labels.length; column++) {
+			newColumns[column] = Arrays.copyOf(newColumns[column], count);
+			newMissing[column] = Arrays.copyOf(newMissing[column], words(count));
+		}
+		return new ZmanimTable(geoLocation, labels, Arrays.copyOf(newDays, count), newColumns, newMissing);
+	}
+
+	/**
+	 * Returns a table with the columns of this table followed by the columns of another table, for the dates that are in
+	 * both, in the row order of this table. This combines the results of different calendars or opinions for the same days.
+	 *
+	 * @param other the other table.
+	 * @return a new table with the columns of both tables.
+	 * @throws IllegalArgumentException if the tables have a column label in common.
+	 */
+	public ZmanimTable join(ZmanimTable other) {
+		for (String label : other.labels) {
+			if (getColumnIndex(label) >= 0) {
+				throw new IllegalArgumentException("Both tables have a column labeled " + label);
+			}
+		}
+		int[] otherSorted = PrimitiveSort.indexSort(other.epochDays, other.epochDays.length);
+		long[] otherDays = new long[otherSorted.length];
+		for (int k = 0; k < otherSorted.length; k++) {
+			otherDays[k] = other.epochDays[otherSorted[k]];
+		}
+		int columnCount = labels.length + other.labels.length;
+		String[] newLabels = Arrays.copyOf(labels, columnCount);
+		System.arraycopy(other.labels, 0, newLabels, labels.length, other.labels.length);
+		long[] newDays = new long[epochDays.length];
+		long[][] newColumns = new long[columnCount][epochDays.length];
+		long[][] newMissing = new long[columnCount][words(epochDays.length)];
+		int count = 0;
+		for (int row = 0; row < epochDays.length; row++) {
+			int match = Arrays.binarySearch(otherDays, epochDays[row]);
+			if (match < 0) {
+				continue;
+			}
+			newDays[count] = epochDays[row];
+			for (int column = 0; column < labels.length; column++) {
+				copyCell(this, row, column, newColumns, newMissing, count, column);
+			}
+			for (int column = 0; column < other.labels.length; column++) {
+				copyCell(other, otherSorted[match], column, newColumns, newMissing, count, labels.length + column);
+			}
+			count++;
+		}
+		for (int column = 0; column < columnCount; column++) {
+			newColumns[column] = Arrays.copyOf(newColumns[column], count);
+			newMissing[column] = Arrays.copyOf(newMissing[column], words(count));
+		}
+		return new ZmanimTable(geoLocation, newLabels, Arrays.copyOf(newDays, count), newColumns, newMissing);
+	}
+
+	/**
+	 * Copies a cell of a table into new column and missing arrays.
+	 */
+	private static void copyCell(ZmanimTable source, int sourceRow, int sourceColumn, long[][] columns, long[][] missing,
+			int row, int column) {
+		if (source.isMissing(sourceRow, sourceColumn)) {
+			missing[column][row >>> 6] |= 1L << row;
+		} else {
+			columns[column][row] = source.columns[sourceColumn][sourceRow];
+		}
+	}
+
+	/**
+	 * Returns the number of {@code long} words in a bitmap of a number of rows.
+	 */
+	private static int words(int rows) {
+		return (rows + 63) >>> 6;
+	}
+
+	/**
+	 * A builder that calculates the columns of a {@link ZmanimTable} with a calendar.
+	 *
+	 * @param <T> the type of calendar used to calculate the <em>zmanim</em>.
+	 */
+	public static final class Builder<T extends AstronomicalCalendar> {
+		/** The calendar used to calculate the <em>zmanim</em>. It is a private clone of the calendar passed in. */
+		private final T calendar;
+
+		/** The labels of the columns added. */
+		private final List<String> labels = new ArrayList<>();
+
+		/** The functions calculating the columns added. */
+		private final List<Function<? super T, Instant>> zmanim = new ArrayList<>();
+
+		/**
+		 * Constructor for a builder.
+		 *
+		 * @param calendar the calendar whose location and settings are used. It is cloned.
+		 * @throws IllegalArgumentException if the calendar is null.
+		 */
+		@SuppressWarnings("unchecked")
+		public Builder(T calendar) {
+			if (calendar == null) {
+				throw new IllegalArgumentException("The calendar can't be null");
+			}
+			this.calendar = (T) calendar.clone();
+		}
+
+		/**
+		 * Adds a column.
+		 *
+		 * @param label the label of the column.
+		 * @param zman the function returning the <em>zman</em> for the calendar set to a given date, typically a method
+		 *            reference such as {@code ComprehensiveZmanimCalendar::getAlos72Minutes}.
+		 * @return this builder.
+		 * @throws IllegalArgumentException if a parameter is null or a column with the label was already added.
+		 */
+		public Builder<T> addColumn(String label, Function<? super T, Instant> zman) {
+			if (label == null || zman == null) {
+				throw new IllegalArgumentException("The label and zman can't be null");
+			}
+			if (labels.contains(label)) {
+				throw new IllegalArgumentException("A column labeled " + label + " was already added");
+			}
+			labels.add(label);
+			zmanim.add(zman);
+			return this;
+		}
+
+		/**
+		 * Calculates the table for every day in a range of dates.
+		 *
+		 * @param startDate the first date (inclusive).
+		 * @param endDate the last date (inclusive).
+		 * @return the table, with a row for each date in order.
+		 * @throws IllegalArgumentException if the end date is before the start date.
+		 */
+		public ZmanimTable build(LocalDate startDate, LocalDate endDate) {
+			if (endDate.isBefore(startDate)) {
+				throw new IllegalArgumentException("The end date " + endDate + " can't be before the start date " + startDate);
+			}
+			int rows = Math.toIntExact(endDate.toEpochDay() - startDate.toEpochDay() + 1);
+			long[] epochDays = new long[rows];
+			long[][] columns = new long[labels.size()][rows];
+			long[][] missing = new long[labels.size()][words(rows)];
+			for (int row = 0; row < rows; row++) {
+				epochDays[row] = startDate.toEpochDay() + row;
+				calendar.setLocalDate(LocalDate.ofEpochDay(epochDays[row]));
+				for (int column = 0; column < zmanim.size(); column++) {
+					Instant instant = zmanim.get(column).apply(calendar);
+					if (instant == null) {
+						missing[column][row >>> 6] |= 1L << row;
+					} else {
+						columns[column][row] = instant.toEpochMilli();
+					}
+				}
+			}
+			return new ZmanimTable((GeoLocation) calendar.getGeoLocation().clone(), labels.toArray(new String[0]), epochDays,
+					columns, missing);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.junit.Test;
+
+/**
+ * Verifies {@link AssurBemelachaIndex} against {@link ZmanimCalendar#isAssurBemelacha(Instant, Instant, boolean)} by sampling
+ * a full year every 20 minutes, in and out of Israel, including the batch query form.
+ *
+ * @author Test coverage
+ */
+public class AssurBemelachaIndexTest {
+
+	private static final int YEAR = 2025;
+
+	private void assertMatchesCalendar(AssurBemelachaIndex<ZmanimCalendar> index, int locationId, ZmanimCalendar calendar,
+			boolean inIsrael) {
+		ZoneId zoneId = calendar.getGeoLocation().getZoneId();
+		Instant end = LocalDate.of(YEAR + 1, 1, 1).atStartOfDay(zoneId).toInstant();
+		int prohibited = 0;
+		for (Instant instant = LocalDate.of(YEAR, 1, 1).atStartOfDay(zoneId).toInstant(); instant.isBefore(end);
+				instant = instant.plus(Duration.ofMinutes(20))) {
+			calendar.setLocalDate(instant.atZone(zoneId).toLocalDate());
+			boolean expected = calendar.isAssurBemelacha(instant, calendar.getTzaisGeonim8Point5Degrees(), inIsrael);
+			assertEquals(instant.toString(), expected, index.isAssurBemelacha(locationId, instant.toEpochMilli()));
+			if (expected) {
+				prohibited++;
+			}
+		}
+		// over 52 Shabbosos and the Yamim Tovim, each at least a day long
+		assertEquals(true, prohibited > 60 * 24 * 3);
+	}
+
+	@Test
+	public void matchesZmanimCalendarInAndOutOfIsrael() {
+		AssurBemelachaIndex<ZmanimCalendar> index = new AssurBemelachaIndex<>(YEAR, YEAR);
+		ZmanimCalendar lakewood = new ZmanimCalendar(TestLocations.lakewood());
+		ZmanimCalendar jerusalem = new ZmanimCalendar(TestLocations.jerusalem(ZoneId.of("Asia/Jerusalem")));
+		assertEquals(0, index.addLocation(lakewood, false));
+		assertEquals(1, index.addLocation(jerusalem, true));
+		assertMatchesCalendar(index, 0, lakewood, false);
+		assertMatchesCalendar(index, 1, jerusalem, true);
+	}
+
+	@Test
+	public void batchQueries() {
+		AssurBemelachaIndex<ZmanimCalendar> index = new AssurBemelachaIndex<>(YEAR, YEAR);
+		index.addLocation(new ZmanimCalendar(TestLocations.lakewood()), false);
+		index.addLocation(new ZmanimCalendar(TestLocations.jerusalem(ZoneId.of("Asia/Jerusalem"))), true);
+		// Shabbos 2025-04-19 is the 7th day of Pesach in Israel and the 8th day is Sunday only outside Israel
+		long sundayNoon = Instant.parse("2025-04-20T12:00:00Z").toEpochMilli();
+		long fridayMorning = Instant.parse("2025-04-18T06:00:00Z").toEpochMilli();
+		boolean[] results = new boolean[4];
+		index.isAssurBemelacha(new int[] { 0, 1, 0, 1 }, new long[] { sundayNoon, sundayNoon, fridayMorning, fridayMorning },
+				results);
+		assertArrayEquals(new boolean[] { true, false, false, false }, results);
+	}
+
+	@Test
+	public void missingTimesCoverTheWholeDay() {
+		ZoneId oslo = ZoneId.of("Europe/Oslo");
+		ZmanimCalendar norway = new ZmanimCalendar(TestLocations.norway(oslo));
+		norway.setLocalDate(LocalDate.of(YEAR, 12, 19));
+		assertEquals(null, norway.getSunsetBasedOnElevationSetting()); // polar night
+		AssurBemelachaIndex<ZmanimCalendar> index = new AssurBemelachaIndex<>(YEAR, YEAR);
+		index.addLocation(norway, false);
+		assertEquals(false, index.isAssurBemelacha(0, LocalDate.of(YEAR, 12, 18).atTime(23, 59).atZone(oslo).toInstant()));
+		assertEquals(true, index.isAssurBemelacha(0, LocalDate.of(YEAR, 12, 19).atStartOfDay(oslo).toInstant()));
+		assertEquals(true, index.isAssurBemelacha(0, LocalDate.of(YEAR, 12, 20).atTime(12, 0).atZone(oslo).toInstant()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void queriesOutsideTheYearsAreRejected() {
+		AssurBemelachaIndex<ZmanimCalendar> index = new AssurBemelachaIndex<>(YEAR, YEAR);
+		index.addLocation(new ZmanimCalendar(TestLocations.lakewood()), false);
+		index.isAssurBemelacha(0, Instant.parse("2026-06-01T00:00:00Z"));
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+import com.kosherjava.zmanim.util.Zman;
+
+/**
+ * Verifies {@link CandleLightingScheduler} against a day-by-day scan of the same rules, so that skipping straight to the
+ * candidate days never drops an event, in both the Israel and <em>chutz laaretz</em> holiday schemes.
+ *
+ * @author Test coverage
+ */
+public class CandleLightingSchedulerTest {
+
+	private static final LocalDate START = LocalDate.of(2024, 9, 1);
+	private static final LocalDate END = LocalDate.of(2025, 10, 31);
+
+	private List<Zman> scanEveryDay(ZmanimCalendar calendar, boolean inIsrael) {
+		List<Zman> events = new ArrayList<>();
+		for (LocalDate date = START; !date.isAfter(END); date = date.plusDays(1)) {
+			JewishCalendar jewishCalendar = new JewishCalendar(date);
+			jewishCalendar.setInIsrael(inIsrael);
+			calendar.setLocalDate(date);
+			if (jewishCalendar.hasCandleLighting()) {
+				boolean afterTzais = jewishCalendar.isAssurBemelacha() && jewishCalendar.getDayOfWeek() != Calendar.FRIDAY;
+				events.add(new Zman(afterTzais ? calendar.getTzaisGeonim8Point5Degrees() : calendar.getCandleLighting(),
+						CandleLightingScheduler.CANDLE_LIGHTING));
+			}
+			if (jewishCalendar.isTonightMutarBemelacha()) {
+				events.add(new Zman(calendar.getTzaisGeonim8Point5Degrees(), CandleLightingScheduler.HAVDALAH));
+			}
+		}
+		events.sort(Zman.DATE_ORDER);
+		return events;
+	}
+
+	private void assertMatchesScan(ZmanimCalendar calendar, boolean inIsrael) {
+		ZoneId zoneId = calendar.getGeoLocation().getZoneId();
+		List<Zman> expected = scanEveryDay((ZmanimCalendar) calendar.clone(), inIsrael);
+		List<Zman> actual = new CandleLightingScheduler<>(calendar, inIsrael).getEvents(START.atStartOfDay(zoneId).toInstant(),
+				END.plusDays(1).atStartOfDay(zoneId).toInstant());
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals("label " + i, expected.get(i).getLabel(), actual.get(i).getLabel());
+			assertEquals("instant " + i, expected.get(i).getZman(), actual.get(i).getZman());
+		}
+	}
+
+	@Test
+	public void matchesDailyScanOutsideIsrael() {
+		assertMatchesScan(new ZmanimCalendar(TestLocations.lakewood()), false);
+	}
+
+	@Test
+	public void matchesDailyScanInIsrael() {
+		ZmanimCalendar calendar = new ZmanimCalendar(TestLocations.jerusalem(ZoneId.of("Asia/Jerusalem")));
+		calendar.setCandleLightingOffset(40);
+		assertMatchesScan(calendar, true);
+	}
+
+	@Test
+	public void secondNightOfYomTovIsAfterTzais() {
+		// 2024-10-03 is the first day of Rosh Hashana 5785, a Thursday followed by the second day and Shabbos
+		ZmanimCalendar calendar = new ZmanimCalendar(TestLocations.lakewood());
+		ZoneId zoneId = calendar.getGeoLocation().getZoneId();
+		List<Zman> events = new CandleLightingScheduler<>(calendar, false).getEvents(
+				LocalDate.of(2024, 10, 2).atStartOfDay(zoneId).toInstant(),
+				LocalDate.of(2024, 10, 6).atStartOfDay(zoneId).toInstant());
+		calendar.setLocalDate(LocalDate.of(2024, 10, 3));
+		Instant tzais = calendar.getTzaisGeonim8Point5Degrees();
+		assertEquals(4, events.size());
+		assertEquals(tzais, events.get(1).getZman());
+		calendar.setLocalDate(LocalDate.of(2024, 10, 4));
+		assertEquals(calendar.getCandleLighting(), events.get(2).getZman());
+		assertEquals(CandleLightingScheduler.HAVDALAH, events.get(3).getLabel());
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.kosherjava.zmanim.HalachicTimeline.Interval;
+import com.kosherjava.zmanim.HalachicTimeline.IntervalType;
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+
+/**
+ * Coverage for {@link HalachicTimeline}: the expected number of each interval type in a year, stabbing and range queries
+ * checked against a linear scan, and a serialization round trip.
+ *
+ * @author Test coverage
+ */
+public class HalachicTimelineTest {
+
+	private static HalachicTimeline build() {
+		return new HalachicTimeline.Builder<>(new ZmanimCalendar(TestLocations.lakewood()), false).build(5785, 5785);
+	}
+
+	@Test
+	public void countsPerType() {
+		Map<IntervalType, Integer> counts = new EnumMap<>(IntervalType.class);
+		for (Interval interval : build().getIntervals()) {
+			counts.merge(interval.getType(), 1, Integer::sum);
+		}
+		assertEquals(Integer.valueOf(49), counts.get(IntervalType.SEFIRA));
+		assertEquals(Integer.valueOf(8), counts.get(IntervalType.CHANUKAH));
+		assertEquals(Integer.valueOf(12), counts.get(IntervalType.KIDDUSH_LEVANA)); // 5785 is not a leap year
+		assertEquals(Integer.valueOf(6), counts.get(IntervalType.FAST));
+		assertEquals(Integer.valueOf(13), counts.get(IntervalType.YOM_TOV)); // 2 RH, YK, 4 Succos, 4 Pesach, 2 Shavuos
+		assertTrue(counts.get(IntervalType.SHABBOS) >= 50);
+	}
+
+	@Test
+	public void yomKippurFastStartsAtSunset() {
+		HalachicTimeline timeline = build();
+		// Yom Kippur 5785 was 2024-10-12, the fast began the evening of the 11th
+		List<Interval> fasts = timeline.getIntervals(Instant.parse("2024-10-12T03:00:00Z"), IntervalType.FAST);
+		assertEquals(1, fasts.size());
+		assertEquals(JewishCalendar.YOM_KIPPUR, fasts.get(0).getValue());
+		// on the day itself it is also Shabbos, Yom Tov and within the Kiddush Levana window of Tishrei
+		List<Interval> day = timeline.getIntervals(Instant.parse("2024-10-12T16:00:00Z"));
+		assertEquals(4, day.size());
+		assertEquals(IntervalType.KIDDUSH_LEVANA, day.get(0).getType());
+		assertEquals(JewishCalendar.TISHREI, day.get(0).getValue());
+	}
+
+	@Test
+	public void queriesMatchLinearScan() {
+		HalachicTimeline timeline = build();
+		List<Interval> all = timeline.getIntervals();
+		Instant start = all.get(0).getStart();
+		Random random = new Random(30);
+		for (int i = 0; i < 2000; i++) {
+			Instant from = start.plusSeconds(random.nextInt(360 * 24 * 3600));
+			Instant to = from.plus(Duration.ofMinutes(1 + random.nextInt(5000)));
+			List<Interval> expectedStab = new ArrayList<>();
+			List<Interval> expectedRange = new ArrayList<>();
+			for (Interval interval : all) {
+				if (interval.contains(from)) {
+					expectedStab.add(interval);
+				}
+				if (interval.getStart().isBefore(to) && interval.getEnd().isAfter(from)) {
+					expectedRange.add(interval);
+				}
+			}
+			assertEquals(expectedStab, timeline.getIntervals(from));
+			assertEquals(expectedRange, timeline.getIntervals(from, to));
+		}
+	}
+
+	@Test
+	public void serializationRoundTrip() throws Exception {
+		HalachicTimeline timeline = build();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(timeline);
+		}
+		HalachicTimeline copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (HalachicTimeline) in.readObject();
+		}
+		assertEquals(timeline.getIntervals(), copy.getIntervals());
+		Instant instant = Instant.parse("2025-04-20T02:00:00Z");
+		assertEquals(timeline.getIntervals(instant), copy.getIntervals(instant));
+	}
+}
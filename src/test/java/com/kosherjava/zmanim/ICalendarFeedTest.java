@@ -0,0 +1,198 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.kosherjava.zmanim.hebrewcalendar.HebrewDateFormatter;
+
+/**
+ * Checks the content lines, folding, events and year cache of {@link ICalendarFeed}.
+ *
+ * @author Test coverage
+ */
+public class ICalendarFeedTest {
+
+	private static final Instant STAMP = Instant.parse("2026-01-01T00:00:00Z");
+
+	private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+			.withZone(ZoneOffset.UTC);
+
+	private static ICalendarFeed<ComprehensiveZmanimCalendar> feed(ComprehensiveZmanimCalendar czc) {
+		ICalendarFeed<ComprehensiveZmanimCalendar> feed = new ICalendarFeed<>(czc, false);
+		feed.setTimestamp(STAMP);
+		feed.addZman("Sunrise", ComprehensiveZmanimCalendar::getSunrise);
+		feed.addZman("Tzais 72", ComprehensiveZmanimCalendar::getTzais72Minutes);
+		return feed;
+	}
+
+	private static byte[] write(ICalendarFeed<?> feed, LocalDate start, LocalDate end) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		feed.write(start, end, out);
+		return out.toByteArray();
+	}
+
+	/** Splits the feed into physical lines, checking that each is valid UTF-8 and at most 75 octets long. */
+	private static List<String> physicalLines(byte[] bytes) throws CharacterCodingException {
+		List<String> lines = new ArrayList<>();
+		int start = 0;
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == '\r') {
+				assertEquals('\n', bytes[i + 1]);
+				assertTrue("line of " + (i - start) + " octets", i - start <= 75);
+				lines.add(StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes, start, i - start)).toString());
+				start = ++i + 1;
+			}
+		}
+		assertEquals(bytes.length, start);
+		return lines;
+	}
+
+	private static List<String> unfold(List<String> physicalLines) {
+		List<String> lines = new ArrayList<>();
+		for (String line : physicalLines) {
+			if (line.startsWith(" ")) {
+				lines.set(lines.size() - 1, lines.get(lines.size() - 1) + line.substring(1));
+			} else {
+				lines.add(line);
+			}
+		}
+		return lines;
+	}
+
+	@Test
+	public void foldsLongLinesBetweenCharacters() throws IOException {
+		ComprehensiveZmanimCalendar czc = new ComprehensiveZmanimCalendar(TestLocations.lakewood());
+		ICalendarFeed<ComprehensiveZmanimCalendar> feed = new ICalendarFeed<>(czc, false);
+		String label = "סוף זמן קריאת שמע לפי שיטת המגן אברהם, מעלות השחר עד צאת הכוכבים; 72 דקות";
+		feed.addZman(label, ComprehensiveZmanimCalendar::getSofZmanShmaMGA72Minutes);
+		HebrewDateFormatter hebrew = new HebrewDateFormatter();
+		hebrew.setHebrewFormat(true);
+		feed.setHebrewDateFormatter(hebrew);
+		List<String> physical = physicalLines(write(feed, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 7)));
+		List<String> lines = unfold(physical);
+		assertTrue(physical.size() > lines.size());
+		assertEquals(7, lines.stream().filter(l -> l.startsWith("SUMMARY:סוף")).count());
+		assertTrue(lines.contains("SUMMARY:" + label.replace(",", "\\,").replace(";", "\\;")));
+		assertTrue(lines.contains("SUMMARY:פורים"));
+		assertEquals("BEGIN:VCALENDAR", lines.get(0));
+		assertEquals("END:VCALENDAR", lines.get(lines.size() - 1));
+	}
+
+	@Test
+	public void zmanimMatchTheCalendarAndMissingZmanimAreSkipped() throws IOException {
+		ComprehensiveZmanimCalendar czc = new ComprehensiveZmanimCalendar(TestLocations.norway(ZoneId.of("Europe/Oslo")));
+		ICalendarFeed<ComprehensiveZmanimCalendar> feed = feed(czc);
+		feed.setIncludeHolidays(false);
+		feed.setIncludeParsha(false);
+		List<String> lines = unfold(physicalLines(write(feed, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31))));
+		List<String> expected = new ArrayList<>();
+		for (LocalDate date = LocalDate.of(2026, 1, 1); date.getYear() == 2026; date = date.plusDays(1)) {
+			czc.setLocalDate(date);
+			for (Instant zman : new Instant[] { czc.getSunrise(), czc.getTzais72Minutes() }) {
+				if (zman != null) {
+					expected.add("DTSTART:" + UTC_FORMAT.format(zman));
+				}
+			}
+		}
+		List<String> actual = new ArrayList<>();
+		for (String line : lines) {
+			if (line.startsWith("DTSTART")) {
+				actual.add(line);
+			}
+		}
+		assertTrue(expected.size() < 2 * 365);
+		assertEquals(expected, actual);
+		assertTrue(lines.contains("UID:20260315-zman-Tzais%2072@" + TestLocations.NORWAY_LAT + "," + TestLocations.NORWAY_LON));
+		assertTrue(lines.contains("DTSTAMP:20260101T000000Z"));
+		assertTrue(lines.contains("X-WR-CALNAME:Northern Norway"));
+	}
+
+	@Test
+	public void includesHolidaysAndParsha() throws IOException {
+		ICalendarFeed<ComprehensiveZmanimCalendar> feed = feed(new ComprehensiveZmanimCalendar(TestLocations.lakewood()));
+		String ics = new String(write(feed, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 11)), StandardCharsets.UTF_8);
+		assertTrue(ics.contains("DTSTART;VALUE=DATE:20260402\r\nDTEND;VALUE=DATE:20260403\r\nSUMMARY:Pesach\r\n"));
+		assertTrue(ics.contains("DTSTART;VALUE=DATE:20260409\r\nDTEND;VALUE=DATE:20260410\r\nSUMMARY:Pesach\r\n"));
+		assertFalse(new String(write(new ICalendarFeed<>(new ComprehensiveZmanimCalendar(TestLocations.lakewood()), true),
+				LocalDate.of(2026, 4, 9), LocalDate.of(2026, 4, 9)), StandardCharsets.UTF_8).contains("SUMMARY:Pesach"));
+		ics = new String(write(feed, LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 3)), StandardCharsets.UTF_8);
+		assertTrue(ics.contains("UID:20260103-day-parsha@"));
+		assertTrue(ics.contains("SUMMARY:Vayechi\r\n"));
+	}
+
+	@Test
+	public void givesEveryEventItsOwnUID() throws IOException {
+		ICalendarFeed<ComprehensiveZmanimCalendar> feed = new ICalendarFeed<>(
+				new ComprehensiveZmanimCalendar(TestLocations.lakewood()), false);
+		feed.addZman("צאת", ComprehensiveZmanimCalendar::getTzais72Minutes);
+		feed.addZman("הנץ", ComprehensiveZmanimCalendar::getSunrise);
+		feed.addZman("parsha", ComprehensiveZmanimCalendar::getSunset);
+		List<String> uids = new ArrayList<>();
+		for (String line : unfold(physicalLines(write(feed, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 10))))) {
+			if (line.startsWith("UID:")) {
+				assertFalse(line, uids.contains(line));
+				uids.add(line);
+			}
+		}
+		assertEquals(10 * 3 + 2, uids.size()); // two Shabbosos with a parsha
+		assertTrue(uids.get(0).startsWith("UID:20260101-zman-%D7%A6%D7%90%D7%AA@"));
+	}
+
+	@Test
+	public void cachesWholeYears() throws IOException {
+		ICalendarFeed<ComprehensiveZmanimCalendar> feed = feed(new ComprehensiveZmanimCalendar(TestLocations.lakewood()));
+		byte[] partial = write(feed, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+		assertEquals(0, feed.getCachedYearCount());
+		byte[] year = write(feed, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+		assertEquals(1, feed.getCachedYearCount());
+		assertArrayEquals(year, write(feed, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)));
+		feed.invalidate(2026);
+		assertEquals(0, feed.getCachedYearCount());
+		assertArrayEquals(year, write(feed, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)));
+
+		// the partial range is the same as the matching part of the whole year
+		String yearText = new String(year, StandardCharsets.UTF_8);
+		String partialText = new String(partial, StandardCharsets.UTF_8);
+		String marchEvents = partialText.substring(partialText.indexOf("BEGIN:VEVENT"), partialText.indexOf("END:VCALENDAR"));
+		assertTrue(yearText.contains(marchEvents));
+
+		ByteArrayOutputStream spanning = new ByteArrayOutputStream();
+		feed.write(LocalDate.of(2025, 12, 31), LocalDate.of(2027, 1, 1), spanning);
+		assertEquals(1, feed.getCachedYearCount());
+		assertTrue(new String(spanning.toByteArray(), StandardCharsets.UTF_8)
+				.contains(yearText.substring(yearText.indexOf("BEGIN:VEVENT"), yearText.indexOf("END:VCALENDAR"))));
+		feed.setIncludeParsha(false);
+		assertEquals(0, feed.getCachedYearCount());
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.junit.Test;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+import com.kosherjava.zmanim.hebrewcalendar.JewishDate;
+
+/**
+ * Verifies {@link KiddushLevanaCalculator} against a day-by-day scan with the per day <em>Kiddush Levana</em> methods of
+ * {@link ComprehensiveZmanimCalendar}, in the northern and southern hemispheres.
+ *
+ * @author Test coverage
+ */
+public class KiddushLevanaCalculatorTest {
+
+	private void assertMatchesScan(ComprehensiveZmanimCalendar czc) {
+		KiddushLevanaCalculator<ComprehensiveZmanimCalendar> calculator = new KiddushLevanaCalculator<>(czc);
+		ZoneId zoneId = czc.getGeoLocation().getZoneId();
+		JewishCalendar month = new JewishCalendar(5785, JewishDate.TISHREI, 1);
+		for (int i = 0; i < 26; i++) {
+			KiddushLevanaCalculator.Window window = calculator.getWindow(month.getJewishYear(), month.getJewishMonth());
+			assertEquals(month.getMoladAsInstant(), window.getMolad());
+			int found = 0;
+			LocalDate start = window.getMolad().atZone(zoneId).toLocalDate();
+			for (LocalDate date = start; date.isBefore(start.plusDays(17)); date = date.plusDays(1)) {
+				czc.setLocalDate(date);
+				Instant alos = czc.getAlos72Minutes();
+				Instant tzais = czc.getTzais72Minutes();
+				String message = month + " " + date;
+				if (window.getTchilasZmanKidushLevana3Days().equals(czc.getTchilasZmanKidushLevana3Days())) {
+					assertEquals(message, czc.getTchilasZmanKidushLevana3Days(alos, tzais),
+							window.getTchilasZmanKidushLevana3DaysAtNight());
+					found++;
+				}
+				if (window.getTchilasZmanKidushLevana7Days().equals(czc.getTchilasZmanKidushLevana7Days())) {
+					assertEquals(message, czc.getTchilasZmanKidushLevana7Days(alos, tzais),
+							window.getTchilasZmanKidushLevana7DaysAtNight());
+					found++;
+				}
+				if (window.getSofZmanKidushLevanaBetweenMoldos().equals(czc.getSofZmanKidushLevanaBetweenMoldos())) {
+					assertEquals(message, czc.getSofZmanKidushLevanaBetweenMoldos(alos, tzais),
+							window.getSofZmanKidushLevanaBetweenMoldosAtNight());
+					found++;
+				}
+				if (window.getSofZmanKidushLevana15Days().equals(czc.getSofZmanKidushLevana15Days())) {
+					assertEquals(message, czc.getSofZmanKidushLevana15Days(alos, tzais),
+							window.getSofZmanKidushLevana15DaysAtNight());
+					found++;
+				}
+			}
+			assertEquals(month.toString(), 4, found);
+			month.plusMonths(1);
+		}
+	}
+
+	@Test
+	public void matchesDailyScanInLakewood() {
+		assertMatchesScan(new ComprehensiveZmanimCalendar(TestLocations.lakewood()));
+	}
+
+	@Test
+	public void matchesDailyScanInSydney() {
+		assertMatchesScan(new ComprehensiveZmanimCalendar(TestLocations.sydney(ZoneId.of("Australia/Sydney"))));
+	}
+
+	@Test
+	public void adjustsToTheNight() {
+		ComprehensiveZmanimCalendar czc = new ComprehensiveZmanimCalendar(TestLocations.jerusalem(ZoneId.of("Asia/Jerusalem")));
+		KiddushLevanaCalculator<ComprehensiveZmanimCalendar> calculator = new KiddushLevanaCalculator<>(czc);
+		calculator.setTzais(ComprehensiveZmanimCalendar::getTzaisGeonim8Point5Degrees);
+		KiddushLevanaCalculator.Window window = calculator.getWindow(5786, JewishDate.KISLEV);
+		Instant tchila = window.getTchilasZmanKidushLevana7Days();
+		czc.setLocalDate(tchila.atZone(czc.getGeoLocation().getZoneId()).toLocalDate());
+		Instant tzais = czc.getTzaisGeonim8Point5Degrees();
+		boolean daytime = tchila.isAfter(czc.getAlos72Minutes()) && tchila.isBefore(tzais);
+		assertEquals(daytime ? tzais : tchila, window.getTchilasZmanKidushLevana7DaysAtNight());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsAdarIIOfARegularYear() {
+		new KiddushLevanaCalculator<>(new ZmanimCalendar(TestLocations.lakewood())).getWindow(5786, JewishDate.ADAR_II);
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A manually advanced {@link Clock} for driving time based components such as {@link ZmanimNotificationScheduler} in tests
+ * without waiting on the wall clock.
+ *
+ * @author Test coverage
+ */
+public final class SimulatedClock extends Clock {
+
+	private Instant instant;
+
+	public SimulatedClock(Instant start) {
+		this.instant = start;
+	}
+
+	/**
+	 * Moves the clock forward.
+	 * @param duration the amount of time to move forward
+	 */
+	public synchronized void advance(Duration duration) {
+		instant = instant.plus(duration);
+	}
+
+	@Override
+	public synchronized Instant instant() {
+		return instant;
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return ZoneOffset.UTC;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		throw new UnsupportedOperationException("A simulated clock is always UTC");
+	}
+}
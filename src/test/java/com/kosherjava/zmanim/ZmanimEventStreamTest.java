@@ -0,0 +1,149 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.Zman;
+
+/**
+ * Coverage for {@link ZmanimEventStream}: the events must match what a hand merge of per-day calendars produces, respect
+ * the start {@code Instant}, and a {@link Flow.Subscriber} must receive no more events than it requested.
+ *
+ * @author Test coverage
+ */
+public class ZmanimEventStreamTest {
+
+	private static final LocalDate FIXTURE_DATE = LocalDate.of(2017, 10, 17);
+
+	private ZmanimEventStream<ZmanimCalendar> stream(Instant start) {
+		return new ZmanimEventStream<>(new ZmanimCalendar(TestLocations.lakewood()), start)
+				.addZman("Sunrise", ZmanimCalendar::getSunrise)
+				.addZman("Sunset", ZmanimCalendar::getSunset)
+				.addZman("Chatzos Halayla", ZmanimCalendar::getChatzosHalayla);
+	}
+
+	private Instant startOfFixtureDate() {
+		return FIXTURE_DATE.atStartOfDay(TestLocations.lakewood().getZoneId()).toInstant();
+	}
+
+	@Test
+	public void matchesManualMergeAcrossDays() {
+		List<Zman> expected = new ArrayList<>();
+		ZmanimCalendar calendar = new ZmanimCalendar(TestLocations.lakewood());
+		for (int i = -1; i < 4; i++) {
+			calendar.setLocalDate(FIXTURE_DATE.plusDays(i));
+			expected.add(new Zman(calendar.getSunrise(), "Sunrise"));
+			expected.add(new Zman(calendar.getSunset(), "Sunset"));
+			expected.add(new Zman(calendar.getChatzosHalayla(), "Chatzos Halayla"));
+		}
+		expected.removeIf(zman -> zman.getZman().isBefore(startOfFixtureDate()));
+		expected.sort(Zman.DATE_ORDER);
+
+		Iterator<Zman> events = stream(startOfFixtureDate()).iterator();
+		for (int i = 0; i < 9; i++) {
+			Zman zman = events.next();
+			assertEquals("label " + i, expected.get(i).getLabel(), zman.getLabel());
+			assertEquals("instant " + i, expected.get(i).getZman(), zman.getZman());
+		}
+		// the first event is chatzos halayla of the previous day, which occurs after midnight
+		assertEquals("Chatzos Halayla", expected.get(0).getLabel());
+	}
+
+	@Test
+	public void startIsInclusiveAndEarlierZmanimAreSkipped() {
+		ZmanimCalendar calendar = new ZmanimCalendar(TestLocations.lakewood());
+		calendar.setLocalDate(FIXTURE_DATE);
+		Instant sunset = calendar.getSunset();
+
+		Iterator<Zman> events = stream(sunset).iterator();
+		Zman first = events.next();
+		assertEquals("Sunset", first.getLabel());
+		assertEquals(sunset, first.getZman());
+		assertEquals("Chatzos Halayla", events.next().getLabel());
+		assertEquals("Sunrise", events.next().getLabel());
+	}
+
+	@Test
+	public void emptyAndPolarStreams() {
+		ZmanimEventStream<ZmanimCalendar> empty = new ZmanimEventStream<>(new ZmanimCalendar(TestLocations.lakewood()),
+				startOfFixtureDate());
+		assertFalse(empty.iterator().hasNext());
+
+		// sunrise is never calculable in the polar night, but resumes in late January
+		ZoneId oslo = ZoneId.of("Europe/Oslo");
+		Instant start = LocalDate.of(2017, 12, 1).atStartOfDay(oslo).toInstant();
+		ZmanimEventStream<ZmanimCalendar> polar = new ZmanimEventStream<>(new ZmanimCalendar(TestLocations.norway(oslo)),
+				start).addZman("Sunrise", ZmanimCalendar::getSunrise);
+		ZmanimCalendar calendar = new ZmanimCalendar(TestLocations.norway(oslo));
+		calendar.setLocalDate(LocalDate.of(2017, 12, 15));
+		assertNull(calendar.getSunrise());
+		Zman first = polar.iterator().next();
+		assertTrue(first.getZman().isAfter(LocalDate.of(2018, 1, 1).atStartOfDay(oslo).toInstant()));
+	}
+
+	@Test
+	public void publisherHonorsBackPressure() {
+		List<Zman> received = new ArrayList<>();
+		Flow.Subscription[] subscription = new Flow.Subscription[1];
+		stream(startOfFixtureDate()).subscribe(new Flow.Subscriber<Zman>() {
+			@Override
+			public void onSubscribe(Flow.Subscription s) {
+				subscription[0] = s;
+			}
+
+			@Override
+			public void onNext(Zman item) {
+				received.add(item);
+				if (received.size() == 3) {
+					subscription[0].request(1); // re-entrant request must not recurse into delivery
+				}
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				throw new AssertionError(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+				throw new AssertionError("infinite stream completed");
+			}
+		});
+		assertTrue(received.isEmpty());
+		subscription[0].request(2);
+		assertEquals(2, received.size());
+		subscription[0].request(1);
+		assertEquals(4, received.size());
+
+		Iterator<Zman> expected = stream(startOfFixtureDate()).iterator();
+		for (Zman zman : received) {
+			assertEquals(expected.next().getZman(), zman.getZman());
+		}
+	}
+}
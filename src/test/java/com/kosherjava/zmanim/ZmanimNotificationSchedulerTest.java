@@ -0,0 +1,178 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.Zman;
+
+/**
+ * Drives {@link ZmanimNotificationScheduler} (and the {@link TimingWheel} under it) with a {@link SimulatedClock} and a
+ * same-thread executor. Notifications must arrive once the clock passes their time, in order, identically whether the clock
+ * moves a minute or days at a time, and subscriptions must share the work of their location group.
+ *
+ * @author Test coverage
+ */
+public class ZmanimNotificationSchedulerTest {
+
+	private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+	/** A location that is exactly on the default quantization grid, so its zmanim are not shifted. */
+	private static final GeoLocation ON_GRID = new GeoLocation("Lakewood, NJ", 40.07, -74.24, 0, NEW_YORK);
+	private static final Instant START = LocalDate.of(2017, 10, 17).atTime(12, 0).atZone(NEW_YORK).toInstant();
+
+	private static final class Received {
+		private final Instant clockTime;
+		private final Zman zman;
+
+		private Received(Instant clockTime, Zman zman) {
+			this.clockTime = clockTime;
+			this.zman = zman;
+		}
+	}
+
+	private ZmanimNotificationScheduler<ZmanimCalendar> scheduler(SimulatedClock clock) {
+		ZmanimNotificationScheduler<ZmanimCalendar> scheduler = new ZmanimNotificationScheduler<>(new ZmanimCalendar(),
+				clock, Runnable::run);
+		scheduler.registerZman("Sunset", ZmanimCalendar::getSunset);
+		scheduler.registerZman("Sunrise", ZmanimCalendar::getSunrise);
+		return scheduler;
+	}
+
+	private List<Received> run(Duration step, Duration total) {
+		SimulatedClock clock = new SimulatedClock(START);
+		ZmanimNotificationScheduler<ZmanimCalendar> scheduler = scheduler(clock);
+		List<Received> received = new ArrayList<>();
+		scheduler.subscribe(ON_GRID, "Sunset", Duration.ofMinutes(15), zman -> received.add(new Received(clock.instant(), zman)));
+		scheduler.subscribe(ON_GRID, "Sunrise", Duration.ZERO, zman -> received.add(new Received(clock.instant(), zman)));
+		for (Duration elapsed = Duration.ZERO; elapsed.compareTo(total) < 0; elapsed = elapsed.plus(step)) {
+			clock.advance(step);
+			scheduler.advance();
+		}
+		return received;
+	}
+
+	@Test
+	public void notifiesAtLeadTimeBeforeEachZman() {
+		Duration step = Duration.ofMinutes(1);
+		List<Received> received = run(step, Duration.ofDays(3));
+		ZmanimCalendar calendar = new ZmanimCalendar(ON_GRID);
+		List<Instant> expected = new ArrayList<>();
+		for (int day = 0; day < 4; day++) {
+			calendar.setLocalDate(LocalDate.of(2017, 10, 17).plusDays(day));
+			if (day > 0) {
+				expected.add(calendar.getSunrise());
+			}
+			if (day < 3) {
+				expected.add(calendar.getSunset());
+			}
+		}
+		assertEquals(expected.size(), received.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Received notification = received.get(i);
+			assertEquals(expected.get(i), notification.zman.getZman());
+			Duration lead = "Sunset".equals(notification.zman.getLabel()) ? Duration.ofMinutes(15) : Duration.ZERO;
+			Instant fireTime = notification.zman.getZman().minus(lead);
+			assertFalse("not early", notification.clockTime.isBefore(fireTime));
+			assertTrue("within a step", notification.clockTime.isBefore(fireTime.plus(step)));
+		}
+	}
+
+	@Test
+	public void largeClockJumpDeliversTheSameNotificationsInOrder() {
+		List<Received> stepped = run(Duration.ofMinutes(1), Duration.ofDays(3));
+		List<Received> jumped = run(Duration.ofDays(3), Duration.ofDays(3));
+		assertEquals(stepped.size(), jumped.size());
+		for (int i = 0; i < stepped.size(); i++) {
+			assertEquals(stepped.get(i).zman.getLabel(), jumped.get(i).zman.getLabel());
+			assertEquals(stepped.get(i).zman.getZman(), jumped.get(i).zman.getZman());
+		}
+	}
+
+	@Test
+	public void subscriptionsShareLocationGroups() {
+		SimulatedClock clock = new SimulatedClock(START);
+		ZmanimNotificationScheduler<ZmanimCalendar> scheduler = scheduler(clock);
+		List<ZmanimNotificationScheduler<ZmanimCalendar>.Subscription> subscriptions = new ArrayList<>();
+		int[] count = new int[1];
+		Random random = new Random(26);
+		for (int i = 0; i < 1000; i++) {
+			GeoLocation nearby = new GeoLocation("nearby", 40.07 + (random.nextDouble() - 0.5) * 0.009,
+					-74.24 + (random.nextDouble() - 0.5) * 0.009, 0, NEW_YORK);
+			subscriptions.add(scheduler.subscribe(nearby, "Sunset", Duration.ofMinutes(i % 3), zman -> count[0]++));
+		}
+		assertEquals(1, scheduler.getGroupCount());
+		assertEquals(1000, scheduler.getSubscriptionCount());
+		scheduler.subscribe(new GeoLocation("elsewhere", 40.07, -74.24, 0, ZoneId.of("America/Chicago")), "Sunset",
+				Duration.ZERO, zman -> { });
+		assertEquals(2, scheduler.getGroupCount());
+
+		for (int i = 0; i < 500; i++) {
+			subscriptions.get(i).cancel();
+			subscriptions.get(i).cancel();
+		}
+		assertEquals(501, scheduler.getSubscriptionCount());
+		clock.advance(Duration.ofDays(1));
+		scheduler.advance();
+		assertEquals(500, count[0]);
+		for (int i = 500; i < 1000; i++) {
+			subscriptions.get(i).cancel();
+		}
+		assertEquals(1, scheduler.getGroupCount());
+	}
+
+	@Test
+	public void timingWheelDeliversInTickOrder() {
+		long start = START.toEpochMilli();
+		TimingWheel<TimingWheel.Entry> wheel = new TimingWheel<>(1000, 8, start);
+		Random random = new Random(28);
+		List<Long> added = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			long expiration = start + 1000 + (long) (random.nextDouble() * Duration.ofDays(400).toMillis());
+			added.add(expiration);
+			assertTrue(wheel.add(new TimingWheel.Entry(expiration) { }));
+		}
+		assertFalse(wheel.add(new TimingWheel.Entry(start) { }));
+		List<Long> delivered = new ArrayList<>();
+		long now = start;
+		while (delivered.size() < added.size()) {
+			now += Duration.ofHours(random.nextInt(200)).toMillis();
+			long limit = now;
+			wheel.advance(now, entry -> {
+				assertTrue(entry.expiration <= limit);
+				delivered.add(entry.expiration);
+			});
+		}
+		assertEquals(0, wheel.size());
+		for (int i = 1; i < delivered.size(); i++) {
+			assertTrue(delivered.get(i - 1) / 1000 <= delivered.get(i) / 1000);
+		}
+		added.sort(null);
+		delivered.sort(null);
+		assertEquals(added, delivered);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Checks the Hebrew numbers of {@link HebrewDateFormatter} for each combination of settings, that the {@code Appendable}
+ * methods produce the same text as the <code>String</code> methods, and that a shared formatter gives the same results from
+ * many threads.
+ *
+ * @author Test coverage
+ */
+public class HebrewDateFormatterTest {
+
+	/**
+	 * Returns a Hebrew format formatter with the geresh, final form letter and long year settings in bits 0, 1 and 2 of
+	 * {@code settings}. Also used by {@link HebrewDateParserTest}.
+	 */
+	static HebrewDateFormatter formatter(int settings) {
+		HebrewDateFormatter formatter = new HebrewDateFormatter();
+		formatter.setHebrewFormat(true);
+		formatter.setUseGershGershayim((settings & 1) != 0);
+		formatter.setUseFinalFormLetters((settings & 2) != 0);
+		formatter.setUseLongHebrewYears((settings & 4) != 0);
+		return formatter;
+	}
+
+	@Test
+	public void formatsHebrewNumbers() {
+		HebrewDateFormatter formatter = new HebrewDateFormatter();
+		assertEquals("אפס", formatter.formatHebrewNumber(0));
+		assertEquals("ג׳", formatter.formatHebrewNumber(3));
+		assertEquals("ט״ו", formatter.formatHebrewNumber(15));
+		assertEquals("ט״ז", formatter.formatHebrewNumber(16));
+		assertEquals("כ״א", formatter.formatHebrewNumber(21));
+		assertEquals("ק׳", formatter.formatHebrewNumber(100));
+		assertEquals("תשכ״ט", formatter.formatHebrewNumber(5729));
+		assertEquals("תש״פ", formatter.formatHebrewNumber(5780));
+		assertEquals("ו׳ אלפים", formatter.formatHebrewNumber(6000));
+		formatter.setUseFinalFormLetters(true);
+		assertEquals("תש״ף", formatter.formatHebrewNumber(5780));
+		assertEquals("ת״ן", formatter.formatHebrewNumber(450));
+		assertEquals("נ׳", formatter.formatHebrewNumber(50));
+		formatter.setUseLongHebrewYears(true);
+		assertEquals("ה׳ תשכ״ט", formatter.formatHebrewNumber(5729));
+		formatter.setUseGershGershayim(false);
+		assertEquals("ה תשכט", formatter.formatHebrewNumber(5729));
+		assertEquals("ו אלפים", formatter.formatHebrewNumber(6000));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNumbersOver9999() {
+		new HebrewDateFormatter().formatHebrewNumber(10000);
+	}
+
+	@Test
+	public void appendableMethodsMatchStringMethods() throws IOException {
+		for (int settings = 0; settings < 8; settings++) {
+			HebrewDateFormatter formatter = formatter(settings);
+			StringBuilder sb = new StringBuilder();
+			for (int number = 0; number <= 9999; number++) {
+				sb.setLength(0);
+				formatter.formatHebrewNumber(number, sb);
+				assertEquals(formatter.formatHebrewNumber(number), sb.toString());
+			}
+		}
+		for (boolean hebrew : new boolean[] { true, false }) {
+			HebrewDateFormatter formatter = new HebrewDateFormatter();
+			formatter.setHebrewFormat(hebrew);
+			JewishCalendar jewishCalendar = new JewishCalendar(5784, JewishDate.TISHREI, 1);
+			StringBuilder sb = new StringBuilder();
+			for (int day = 0; day < 385; day++) {
+				sb.setLength(0);
+				formatter.format(jewishCalendar, sb);
+				assertEquals(formatter.format(jewishCalendar), sb.toString());
+				sb.setLength(0);
+				formatter.formatOmer(jewishCalendar, sb);
+				assertEquals(formatter.formatOmer(jewishCalendar), sb.toString());
+				jewishCalendar.plusDays(1);
+			}
+		}
+	}
+
+	@Test
+	public void sharedFormatterIsThreadSafe() throws Exception {
+		HebrewDateFormatter shared = formatter(5);
+		List<String> expected = new ArrayList<>();
+		HebrewDateFormatter reference = formatter(5);
+		JewishDate jewishDate = new JewishDate(5780, JewishDate.NISSAN, 1);
+		for (int day = 0; day < 1000; day++) {
+			expected.add(reference.format(jewishDate));
+			jewishDate.plusDays(1);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<List<String>>> results = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				Callable<List<String>> task = () -> {
+					List<String> formatted = new ArrayList<>();
+					JewishDate date = new JewishDate(5780, JewishDate.NISSAN, 1);
+					for (int day = 0; day < 1000; day++) {
+						formatted.add(shared.format(date));
+						date.plusDays(1);
+					}
+					return formatted;
+				};
+				results.add(executor.submit(task));
+			}
+			for (Future<List<String>> result : results) {
+				assertEquals(expected, result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Checks that {@link HebrewDateParser} reads back what {@link HebrewDateFormatter} formats with each combination of settings,
+ * and the typical forms of dates in records.
+ *
+ * @author Test coverage
+ */
+public class HebrewDateParserTest {
+
+	@Test
+	public void parsesFormattedNumbers() {
+		for (int settings = 0; settings < 8; settings++) {
+			HebrewDateFormatter formatter = HebrewDateFormatterTest.formatter(settings);
+			for (int number = 0; number <= 9999; number++) {
+				if (number < 1000 || number % 1000 == 0 || formatter.isUseLongHebrewYears()) {
+					String text = formatter.formatHebrewNumber(number);
+					assertEquals(text, number, HebrewDateParser.parseHebrewNumber(text));
+				}
+			}
+		}
+		assertEquals(5784, HebrewDateParser.parseHebrewNumber("התשפ\"ד"));
+		assertEquals(-1, HebrewDateParser.parseHebrewNumber("abc"));
+	}
+
+	@Test
+	public void parsesThousands() {
+		assertEquals(5784, HebrewDateParser.parseHebrewNumber("התשפד"));
+		assertEquals(5005, HebrewDateParser.parseHebrewNumber("הה"));
+		assertEquals(5005, HebrewDateParser.parseHebrewNumber("ה׳ה"));
+		assertEquals(5005, HebrewDateParser.parseHebrewNumber("ה׳ ה"));
+		assertEquals(5005, HebrewDateParser.parseHebrewNumber("ה ה"));
+		assertEquals(5000, HebrewDateParser.parseHebrewNumber("ה׳ אלפים"));
+		assertEquals(15, HebrewDateParser.parseHebrewNumber("טו"));
+		assertEquals(16, HebrewDateParser.parseHebrewNumber("ט״ז"));
+		assertEquals(5, HebrewDateParser.parseHebrewNumber("ה׳"));
+		assertEquals(new JewishDate(5005, JewishDate.NISSAN, 5), new HebrewDateParser().parse("ה ניסן הה"));
+	}
+
+	@Test
+	public void parsesFormattedDates() {
+		for (int settings = 0; settings < 16; settings++) {
+			HebrewDateFormatter formatter = HebrewDateFormatterTest.formatter(settings);
+			formatter.setHebrewFormat((settings & 8) != 0);
+			HebrewDateParser parser = new HebrewDateParser(formatter);
+			JewishDate jewishDate = new JewishDate(5680, JewishDate.TISHREI, 1);
+			while (jewishDate.getJewishYear() < 5830) {
+				String text = formatter.format(jewishDate);
+				int packed = parser.parsePacked(text);
+				assertEquals(text, jewishDate.getJewishYear(), HebrewDateParser.getJewishYear(packed));
+				assertEquals(text, jewishDate.getJewishMonth(), HebrewDateParser.getJewishMonth(packed));
+				assertEquals(text, jewishDate.getJewishDayOfMonth(), HebrewDateParser.getJewishDayOfMonth(packed));
+				jewishDate.plusDays(settings + 1);
+			}
+		}
+	}
+
+	@Test
+	public void parsesRecords() {
+		HebrewDateParser parser = new HebrewDateParser();
+		JewishDate adarII = new JewishDate(5784, JewishDate.ADAR_II, 23);
+		assertEquals(adarII, parser.parse("כ״ג אדר ב׳ תשפ״ד"));
+		assertEquals(adarII, parser.parse("23 Adar II 5784"));
+		assertEquals(adarII, parser.parse(" 23 adar ii, 5784 "));
+		assertEquals(adarII, parser.parse("כ\"ג באדר ב' ה'תשפ\"ד"));
+		assertEquals(adarII, parser.parse("כג אדר ב התשפד"));
+		assertEquals(new JewishDate(5784, JewishDate.ADAR, 1), parser.parse("א׳ אדר א׳ תשפ״ד"));
+		assertEquals(new JewishDate(5785, JewishDate.ADAR, 7), parser.parse("ז׳ אדר תשפ״ה"));
+		assertEquals(new JewishDate(5785, JewishDate.ADAR, 7), parser.parse("7 Adar 5785"));
+		assertEquals(JewishLocalDate.of(5786, JewishDate.TISHREI, 15), parser.parseLocalDate("ט״ו בתשרי תשפ״ו"));
+
+		String record = "id=17;date=ט״ו שבט תש״ף;";
+		int packed = parser.parsePacked(record, record.indexOf('=', 4) + 1, record.length() - 1);
+		assertEquals(JewishLocalDate.of(5780, JewishDate.SHEVAT, 15), JewishLocalDate.ofPacked(packed));
+	}
+
+	@Test
+	public void rejectsInvalidDates() {
+		HebrewDateParser parser = new HebrewDateParser();
+		assertEquals(HebrewDateParser.INVALID, parser.parsePacked("23 Adar II 5785")); // not a leap year
+		assertEquals(HebrewDateParser.INVALID, parser.parsePacked("30 Teves 5785"));
+		assertEquals(HebrewDateParser.INVALID, parser.parsePacked("23 Adar I I 5784"));
+		assertEquals(HebrewDateParser.INVALID, parser.parsePacked("23 Adarr 5784"));
+		assertEquals(HebrewDateParser.INVALID, parser.parsePacked("23 Adar 5784 x"));
+		assertEquals(HebrewDateParser.INVALID, parser.parsePacked("23 Adar"));
+		assertEquals(HebrewDateParser.INVALID, parser.parsePacked(""));
+	}
+
+	@Test
+	public void parsesCustomMonthNames() {
+		HebrewDateFormatter formatter = new HebrewDateFormatter();
+		formatter.setTransliteratedMonthList(new String[] { "Nisan", "Iyar", "Sivan", "Tamuz", "Av", "Elul", "Tishri",
+				"Heshvan", "Kislev", "Tevet", "Shevat", "Adar", "Adar II", "Adar I" });
+		HebrewDateParser parser = new HebrewDateParser(formatter);
+		assertEquals(new JewishDate(5785, JewishDate.CHESHVAN, 11), parser.parse("11 Heshvan 5785"));
+		assertEquals(HebrewDateParser.INVALID, parser.parsePacked("11 Cheshvan 5785"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parseThrowsOnInvalidText() {
+		new HebrewDateParser().parse("not a date");
+	}
+}
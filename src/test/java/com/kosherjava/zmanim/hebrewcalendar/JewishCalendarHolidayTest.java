@@ -19,6 +19,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDate;
+import java.util.zip.CRC32;
 
 import org.junit.Test;
 
@@ -86,4 +87,92 @@ public class JewishCalendarHolidayTest {
 		JewishCalendar weekday = new JewishCalendar(5784, JewishDate.CHESHVAN, 5);
 		assertFalse(weekday.isAssurBemelacha());
 	}
+
+	/**
+	 * Checks the holiday predicates of known days in and out of Israel.
+	 */
+	@Test
+	public void knownHolidays() {
+		JewishCalendar erevPesach = new JewishCalendar(LocalDate.of(2026, 4, 1));
+		assertTrue(erevPesach.isErevYomTov());
+		assertTrue(erevPesach.isTomorrowShabbosOrYomTov());
+		assertFalse(erevPesach.isYomTov());
+
+		JewishCalendar secondDay = new JewishCalendar(LocalDate.of(2026, 4, 3));
+		assertTrue(secondDay.isYomTovAssurBemelacha());
+		assertFalse(secondDay.isCholHamoed());
+		secondDay.setInIsrael(true);
+		assertFalse(secondDay.isYomTovAssurBemelacha());
+		assertTrue(secondDay.isCholHamoed());
+		assertTrue(secondDay.isYomTov());
+
+		JewishCalendar fastOfEsther = new JewishCalendar(LocalDate.of(2026, 3, 2));
+		assertTrue(fastOfEsther.isTaanis());
+		assertFalse(fastOfEsther.isYomTov());
+
+		JewishCalendar yomKippur = new JewishCalendar(LocalDate.of(2026, 9, 21));
+		assertTrue(yomKippur.isTaanis());
+		assertTrue(yomKippur.isYomTov());
+		assertTrue(yomKippur.isAssurBemelacha());
+
+		JewishCalendar hoshanaRabba = new JewishCalendar(LocalDate.of(2026, 10, 2));
+		assertTrue(hoshanaRabba.isErevYomTov());
+		assertTrue(hoshanaRabba.isCholHamoed());
+		assertTrue(hoshanaRabba.isYomTov());
+		assertTrue(new JewishCalendar(LocalDate.of(2026, 10, 3)).isErevYomTovSheni());
+	}
+
+	/**
+	 * Checks the holiday predicates of every day of the years 5600 - 5999 in and out of Israel, with and without the modern
+	 * holidays, against a checksum of the results of the per day calculation that the holiday tables replaced.
+	 */
+	@Test
+	public void holidayTablesMatchThePerDayCalculation() {
+		long[] expected = { 0x75E6DB02L, 0x6E303368L, 0xD2AEA0EDL, 0xC9784887L };
+		for (int settings = 0; settings < 4; settings++) {
+			boolean inIsrael = (settings & 1) != 0;
+			boolean modern = (settings & 2) != 0;
+			JewishCalendar date = new JewishCalendar(5600, JewishDate.TISHREI, 1, inIsrael);
+			date.setUseModernHolidays(modern);
+			CRC32 crc = new CRC32();
+			while (date.getJewishYear() < 6000) {
+				int bits = (date.getYomTovIndex() + 1) << 8 | (date.isYomTov() ? 1 : 0)
+						| (date.isYomTovAssurBemelacha() ? 2 : 0) | (date.isAssurBemelacha() ? 4 : 0)
+						| (date.isErevYomTov() ? 8 : 0) | (date.isErevYomTovSheni() ? 16 : 0)
+						| (date.isTomorrowShabbosOrYomTov() ? 32 : 0) | (date.isTaanis() ? 64 : 0)
+						| (date.isCholHamoed() ? 128 : 0);
+				crc.update(bits >>> 8);
+				crc.update(bits);
+				date.plusDays(1);
+			}
+			assertEquals("in Israel " + inIsrael + ", modern " + modern, expected[settings], crc.getValue());
+		}
+	}
+
+	/**
+	 * A calendar with a custom fast day on 8 Teves, to check that the predicates follow an overridden
+	 * {@link JewishCalendar#getYomTovIndex()}.
+	 */
+	private static class CustomFastCalendar extends JewishCalendar {
+		CustomFastCalendar(int jewishYear, int jewishMonth, int jewishDayOfMonth) {
+			super(jewishYear, jewishMonth, jewishDayOfMonth);
+		}
+
+		@Override
+		public int getYomTovIndex() {
+			if (getJewishMonth() == TEVES && getJewishDayOfMonth() == 8) {
+				return TENTH_OF_TEVES;
+			}
+			return super.getYomTovIndex();
+		}
+	}
+
+	@Test
+	public void predicatesFollowAnOverriddenYomTovIndex() {
+		assertFalse(new JewishCalendar(5786, JewishDate.TEVES, 8).isTaanis());
+		assertTrue(new CustomFastCalendar(5786, JewishDate.TEVES, 8).isTaanis());
+		assertFalse(new CustomFastCalendar(5786, JewishDate.TEVES, 8).isYomTov());
+		assertTrue(new CustomFastCalendar(5786, JewishDate.TEVES, 10).isTaanis());
+		assertTrue(new CustomFastCalendar(5786, JewishDate.NISSAN, 15).isYomTovAssurBemelacha());
+	}
 }
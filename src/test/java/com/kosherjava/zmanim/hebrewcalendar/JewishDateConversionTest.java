@@ -0,0 +1,94 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+/**
+ * Checks the table based conversion of {@link JewishDate} between Gregorian and Jewish dates by walking every day from
+ * January 1, 0001 through the end of 9999 (past the end of the precomputed years) and checking that each Gregorian day is
+ * the day after the previous Jewish date and converts back to the same Gregorian date.
+ *
+ * @author Test coverage
+ */
+public class JewishDateConversionTest {
+
+	@Test
+	public void convertsEveryDayInBothDirections() {
+		JewishDate jewishDate = new JewishDate(LocalDate.of(1, 1, 1));
+		assertEquals(3761, jewishDate.getJewishYear());
+		assertEquals(JewishDate.TEVES, jewishDate.getJewishMonth());
+		assertEquals(18, jewishDate.getJewishDayOfMonth());
+		assertEquals(1, jewishDate.getAbsDate());
+		int year = 3761;
+		int month = JewishDate.TEVES;
+		int day = 18;
+		for (LocalDate date = LocalDate.of(1, 1, 2); date.getYear() < 10000; date = date.plusDays(1)) {
+			// the expected next Jewish day, from the previous one
+			if (day < jewishDate.getDaysInJewishMonth()) {
+				day++;
+			} else {
+				day = 1;
+				if (month == JewishDate.ELUL) {
+					year++;
+					month = JewishDate.TISHREI;
+				} else if (month == (jewishDate.isJewishLeapYear() ? JewishDate.ADAR_II : JewishDate.ADAR)) {
+					month = JewishDate.NISSAN;
+				} else {
+					month++;
+				}
+			}
+			jewishDate.setGregorianDate(date);
+			if (jewishDate.getJewishYear() != year || jewishDate.getJewishMonth() != month
+					|| jewishDate.getJewishDayOfMonth() != day) {
+				assertEquals(date.toString(), year + "-" + month + "-" + day, jewishDate.getJewishYear() + "-"
+						+ jewishDate.getJewishMonth() + "-" + jewishDate.getJewishDayOfMonth());
+			}
+			if (jewishDate.getDayOfWeek() != date.getDayOfWeek().getValue() % 7 + 1) {
+				assertEquals(date.toString(), date.getDayOfWeek().getValue() % 7 + 1, jewishDate.getDayOfWeek());
+			}
+			if (day == 1 || day == 29) {
+				assertEquals(date, new JewishDate(year, month, day).getLocalDate());
+			}
+		}
+	}
+
+	@Test
+	public void yearsHaveValidLengths() {
+		for (int year = 3761; year < 12000; year++) {
+			int days = JewishDate.getDaysInJewishYear(year);
+			int expected = JewishDate.isJewishLeapYear(year) ? 383 : 353;
+			assertTrue(year + " has " + days + " days", days >= expected && days <= expected + 2);
+			// Rosh Hashana is never on Sunday, Wednesday or Friday
+			int roshHashana = (JewishDate.getJewishCalendarElapsedDays(year) + 1) % 7;
+			assertTrue(year + " starts on day " + roshHashana, roshHashana != 1 && roshHashana != 4 && roshHashana != 6);
+		}
+	}
+
+	@Test
+	public void convertsFarFutureDates() {
+		LocalDate date = LocalDate.of(200000, 3, 3);
+		JewishDate jewishDate = new JewishDate(date);
+		assertEquals(203758, jewishDate.getJewishYear());
+		assertEquals(JewishDate.CHESHVAN, jewishDate.getJewishMonth());
+		assertEquals(9, jewishDate.getJewishDayOfMonth());
+		assertEquals(date, jewishDate.getLocalDate());
+	}
+}
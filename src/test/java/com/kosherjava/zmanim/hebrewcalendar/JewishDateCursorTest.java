@@ -0,0 +1,69 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Checks that {@link JewishDateCursor} and {@link JewishLocalDate#datesUntil(JewishLocalDate)} give the same Jewish date,
+ * Gregorian date and day of the week as {@link JewishDate#plusDays(int)} for every day of many years.
+ *
+ * @author Test coverage
+ */
+public class JewishDateCursorTest {
+
+	@Test
+	public void walksLikeJewishDate() {
+		JewishDate jewishDate = new JewishDate(LocalDate.of(1600, 2, 27));
+		JewishDateCursor cursor = new JewishDateCursor(jewishDate);
+		while (jewishDate.getLocalDate().getYear() < 2400) {
+			String message = jewishDate.toString();
+			LocalDate localDate = jewishDate.getLocalDate();
+			if (cursor.getJewishYear() != jewishDate.getJewishYear() || cursor.getJewishMonth() != jewishDate.getJewishMonth()
+					|| cursor.getJewishDayOfMonth() != jewishDate.getJewishDayOfMonth()
+					|| cursor.getGregorianYear() != localDate.getYear() || cursor.getGregorianMonth() != localDate.getMonthValue()
+					|| cursor.getGregorianDayOfMonth() != localDate.getDayOfMonth()) {
+				assertEquals(message, jewishDate.toJewishLocalDate(), cursor.toJewishLocalDate());
+				assertEquals(message, localDate, cursor.toLocalDate());
+			}
+			assertEquals(message, jewishDate.getDayOfWeek(), cursor.getDayOfWeek());
+			assertEquals(message, jewishDate.getAbsDate(), cursor.getAbsDate());
+			assertEquals(message, jewishDate.getDaysInJewishMonth(), cursor.getDaysInJewishMonth());
+			assertEquals(message, jewishDate.isJewishLeapYear(), cursor.isJewishLeapYear());
+			jewishDate.plusDays(1);
+			cursor.nextDay();
+		}
+	}
+
+	@Test
+	public void streamsARange() {
+		JewishLocalDate start = JewishLocalDate.of(5786, JewishDate.ELUL, 28);
+		List<JewishLocalDate> dates = start.datesUntil(JewishLocalDate.of(5787, JewishDate.TISHREI, 3))
+				.collect(Collectors.toList());
+		assertEquals(4, dates.size()); // Elul has 29 days
+		assertEquals(start, dates.get(0));
+		assertEquals(JewishLocalDate.of(5787, JewishDate.TISHREI, 2), dates.get(3));
+		assertEquals(JewishDate.getDaysInJewishYear(5784), JewishLocalDate.of(5784, JewishDate.TISHREI, 1)
+				.datesUntil(JewishLocalDate.of(5785, JewishDate.TISHREI, 1)).count());
+		assertEquals(0, start.datesUntil(start).count());
+		assertEquals(0, start.datesUntil(start.minusDays(1)).count());
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+/**
+ * Checks that {@link JewishLocalDate} agrees with the mutable {@link JewishDate} for conversion and for adding days, months
+ * and years, and that it orders and compares by value.
+ *
+ * @author Test coverage
+ */
+public class JewishLocalDateTest {
+
+	@Test
+	public void matchesJewishDate() {
+		JewishDate jewishDate = new JewishDate(5600, JewishDate.TISHREI, 1);
+		JewishLocalDate previous = null;
+		while (jewishDate.getJewishYear() < 5900) {
+			JewishLocalDate date = jewishDate.toJewishLocalDate();
+			String message = jewishDate.toString();
+			assertEquals(message, jewishDate.getJewishYear(), date.getJewishYear());
+			assertEquals(message, jewishDate.getJewishMonth(), date.getJewishMonth());
+			assertEquals(message, jewishDate.getJewishDayOfMonth(), date.getJewishDayOfMonth());
+			assertEquals(message, jewishDate.getAbsDate(), date.getAbsDate());
+			assertEquals(message, jewishDate.getDayOfWeek(), date.getDayOfWeek());
+			assertEquals(message, jewishDate.getLocalDate(), date.toLocalDate());
+			assertEquals(message, jewishDate.getDaysSinceStartOfJewishYear(), date.getDaysSinceStartOfJewishYear());
+			assertEquals(message, date, JewishLocalDate.of(jewishDate.getLocalDate()));
+			assertEquals(message, jewishDate, date.toJewishDate());
+			if (previous != null) {
+				assertEquals(message, date, previous.plusDays(1));
+				assertEquals(message, previous, date.minusDays(1));
+				assertTrue(message, previous.isBefore(date) && date.isAfter(previous));
+			}
+			previous = date;
+			jewishDate.plusDays(1);
+		}
+	}
+
+	@Test
+	public void addsMonthsAndYearsAsJewishDate() {
+		JewishDate start = new JewishDate(5770, JewishDate.TISHREI, 1);
+		for (int day = 0; day < 3 * 385; day += 13) {
+			JewishLocalDate date = start.toJewishLocalDate();
+			for (int count = 1; count <= 60; count += 7) {
+				JewishDate expected = (JewishDate) start.clone();
+				expected.plusMonths(count);
+				assertEquals(start + " + " + count, expected.toJewishLocalDate(), date.plusMonths(count));
+				expected = (JewishDate) start.clone();
+				expected.minusMonths(count);
+				assertEquals(start + " - " + count, expected.toJewishLocalDate(), date.minusMonths(count));
+				for (boolean adarAleph : new boolean[] { true, false }) {
+					expected = (JewishDate) start.clone();
+					expected.plusYears(count, adarAleph);
+					assertEquals(start + " + " + count, expected.toJewishLocalDate(), date.plusYears(count, adarAleph));
+					expected = (JewishDate) start.clone();
+					expected.minusYears(count, adarAleph);
+					assertEquals(start + " - " + count, expected.toJewishLocalDate(), date.minusYears(count, adarAleph));
+				}
+			}
+			start.plusDays(13);
+		}
+	}
+
+	@Test
+	public void isAValue() {
+		JewishLocalDate date = JewishLocalDate.of(5787, JewishDate.NISSAN, 15);
+		assertEquals(LocalDate.of(2027, 4, 22), date.toLocalDate());
+		assertEquals(date, JewishLocalDate.of(5787, JewishDate.NISSAN, 15));
+		assertEquals(date.hashCode(), JewishLocalDate.of(5787, JewishDate.NISSAN, 15).hashCode());
+		JewishLocalDate later = date.plusDays(30);
+		assertNotEquals(date, later);
+		assertEquals(JewishDate.NISSAN, date.getJewishMonth()); // unchanged
+		assertEquals(JewishDate.IYAR, later.getJewishMonth());
+		// Nissan is month 1 but comes after Adar in the year
+		assertTrue(JewishLocalDate.of(5787, JewishDate.ADAR_II, 29).isBefore(date));
+		assertTrue(JewishLocalDate.of(5787, JewishDate.TISHREI, 1).isBefore(date));
+		assertTrue(date.toJewishCalendar(false).isYomTov());
+		assertEquals("15 Nissan, 5787", date.toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidDates() {
+		JewishLocalDate.of(5786, JewishDate.ADAR_II, 1);
+	}
+
+	private static byte[] serialize(JewishLocalDate date) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(date);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return in.readObject();
+		}
+	}
+
+	@Test
+	public void serializes() throws IOException, ClassNotFoundException {
+		JewishLocalDate date = JewishLocalDate.of(5786, JewishDate.ADAR, 1);
+		assertEquals(date, deserialize(serialize(date)));
+	}
+
+	@Test(expected = InvalidObjectException.class)
+	public void rejectsInvalidSerializedDates() throws IOException, ClassNotFoundException {
+		byte[] bytes = serialize(JewishLocalDate.of(5786, JewishDate.ADAR, 1));
+		// the packed date is the last field of the stream; change it to Adar II of a regular year
+		ByteBuffer.wrap(bytes).putInt(bytes.length - 4, 5786 << 9 | JewishDate.ADAR_II << 5 | 1);
+		deserialize(bytes);
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Checks that the Daf Yomi Bavli {@link LearningCycle} gives the same <em>daf</em> as the fixed length of its cycles on every
+ * day, that the Daf Yomi Yerushalmi cycle learns every <em>daf</em> in order and skips Yom Kippur and Tisha B'Av, that both
+ * find the date of each <em>daf</em>, that an extended cycle is the same as one built for the later date, and checks a cycle
+ * with several units a day and skipped days.
+ *
+ * @author Test coverage
+ */
+public class LearningCycleTest {
+
+	private static void assertMatches(LearningCycle cycle, LocalDate date, Daf expected) {
+		LearningCycle.Portion portion = cycle.getPortion(date);
+		if (expected == null) {
+			assertNull(date.toString(), portion);
+			return;
+		}
+		if (portion.getGroup() != expected.getMasechtaNumber() || portion.getUnit() != expected.getDaf()) {
+			assertEquals(date.toString(), expected.getMasechtaNumber() + ":" + expected.getDaf(),
+					portion.getGroup() + ":" + portion.getUnit());
+		}
+		assertEquals(date, cycle.getDate(portion.getCycle(), portion.getGroup(), portion.getUnit()));
+	}
+
+	/** The Daf Yomi Bavli from the day of its cycle, 2,702 days until Shekalim changed in 1975 and then 2,711 days. */
+	private static Daf getDafYomiBavli(LocalDate date) {
+		int[] blatt = { 64, 157, 105, 121, 22, 88, 56, 40, 35, 31, 32, 29, 27, 122, 112, 91, 66, 49, 90, 82, 119, 119, 176,
+				113, 24, 49, 76, 14, 120, 110, 142, 61, 34, 34, 28, 22, 4, 9, 5, 73 };
+		long shekalimChange = LocalDate.of(1975, 6, 24).toEpochDay();
+		int day;
+		if (date.toEpochDay() >= shekalimChange) {
+			day = (int) ((date.toEpochDay() - shekalimChange) % 2711);
+		} else {
+			day = (int) ((date.toEpochDay() - LocalDate.of(1923, 9, 11).toEpochDay()) % 2702);
+			blatt[4] = 13;
+		}
+		int masechta = 0;
+		while (day >= blatt[masechta] - 1) {
+			day -= blatt[masechta++] - 1;
+		}
+		int[] firstDaf = { 23, 26, 34 }; // the weird ones near the end
+		return new Daf(masechta, day + (masechta >= 36 && masechta <= 38 ? firstDaf[masechta - 36] : 2));
+	}
+
+	@Test
+	public void dafYomiBavliMatchesTheCycleLength() {
+		LearningCycle cycle = YomiCalculator.getDafYomiBavliCycle();
+		for (LocalDate date = LocalDate.of(1923, 9, 11); date.getYear() < 2400; date = date.plusDays(1)) {
+			Daf daf = getDafYomiBavli(date);
+			assertMatches(cycle, date, daf);
+			Daf calculated = YomiCalculator.getDafYomiBavli(date);
+			assertEquals(daf.getMasechtaNumber() + ":" + daf.getDaf(), calculated.getMasechtaNumber() + ":" + calculated.getDaf());
+		}
+		assertEquals(LocalDate.of(2020, 1, 5), cycle.getCycleStartDate(14));
+		assertEquals(LocalDate.of(1975, 6, 24), cycle.getCycleStartDate(8));
+	}
+
+	@Test
+	public void dafYomiYerushalmiLearnsEveryDafInOrder() {
+		LearningCycle cycle = YerushalmiYomiCalculator.getDafYomiYerushalmiCycle();
+		JewishCalendar jewishCalendar = new JewishCalendar(LocalDate.of(1980, 2, 2));
+		LearningCycle.Portion previous = null;
+		while (jewishCalendar.getLocalDate().getYear() < 2400) {
+			LocalDate date = jewishCalendar.getLocalDate();
+			LearningCycle.Portion portion = cycle.getPortion(date);
+			int yomTovIndex = jewishCalendar.getYomTovIndex();
+			if (yomTovIndex == JewishCalendar.YOM_KIPPUR || yomTovIndex == JewishCalendar.TISHA_BEAV) {
+				assertNull(date.toString(), portion);
+			} else {
+				if (previous == null) {
+					assertEquals(new LearningCycle.Portion(1, 0, 1, 0, 1), portion);
+				} else if (previous.getCycle() != portion.getCycle()) {
+					// the previous cycle ended with the last daf of Nidah
+					assertEquals(date.toString(), "38:13 0:1", previous.getGroup() + ":" + previous.getUnit() + " "
+							+ portion.getGroup() + ":" + portion.getUnit());
+					assertEquals(previous.getCycle() + 1, portion.getCycle());
+				} else if (previous.getGroup() == portion.getGroup()) {
+					assertEquals(date.toString(), previous.getUnit() + 1, portion.getUnit());
+				} else {
+					assertEquals(date.toString(), previous.getGroup() + 1, portion.getGroup());
+					assertEquals(date.toString(), 1, portion.getUnit());
+				}
+				assertEquals(date, cycle.getDate(portion.getCycle(), portion.getGroup(), portion.getUnit()));
+				previous = portion;
+			}
+			jewishCalendar.plusDays(1);
+		}
+	}
+
+	@Test
+	public void learnsSeveralUnitsADay() {
+		// Thursday January 1, 2026, with nothing learned on Shabbos
+		LearningCycle cycle = new LearningCycle.Builder(LocalDate.of(2026, 1, 1), 3, 2).setUnitsPerDay(2)
+				.setSkippedDays(date -> date.getDayOfWeek() == 7).setLastDate(LocalDate.of(2026, 12, 31)).build();
+		List<LearningCycle.Portion> portions = cycle.getPortions(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 6));
+		assertEquals(new LearningCycle.Portion(1, 0, 1, 0, 2), portions.get(0));
+		assertEquals(new LearningCycle.Portion(1, 0, 3, 1, 1), portions.get(1));
+		assertNull(portions.get(2));
+		assertEquals(new LearningCycle.Portion(1, 1, 2, 1, 2), portions.get(3));
+		assertEquals(new LearningCycle.Portion(2, 0, 1, 0, 2), portions.get(4));
+		assertEquals(LocalDate.of(2026, 1, 4), cycle.getDate(1, 1, 2));
+		assertEquals(LocalDate.of(2026, 1, 5), cycle.getCycleStartDate(2));
+		assertEquals(LocalDate.of(2026, 1, 5), cycle.getDate(2, 0, 2));
+	}
+
+	@Test
+	public void extendsTheIndex() {
+		LearningCycle.Builder builder = new LearningCycle.Builder(LocalDate.of(2026, 1, 1), 5, 3, 0, 4).setUnitsPerDay(2)
+				.setSkippedDays(date -> date.getDayOfWeek() == 7 || date.getJewishDayOfMonth() == 1)
+				.setLastDate(LocalDate.of(2026, 3, 1));
+		LearningCycle cycle = builder.build();
+		LearningCycle extended = cycle.withLastDate(LocalDate.of(2027, 6, 1));
+		assertSame(cycle, cycle.withLastDate(LocalDate.of(2026, 2, 1)));
+		LearningCycle built = builder.setLastDate(LocalDate.of(2027, 6, 1)).build();
+		assertEquals(built.getCycleCount(), extended.getCycleCount());
+		assertEquals(built.getPortions(LocalDate.of(2026, 1, 1), LocalDate.of(2027, 6, 2)),
+				extended.getPortions(LocalDate.of(2026, 1, 1), LocalDate.of(2027, 6, 2)));
+		int cycleNumber = built.getCycleCount() - 1;
+		assertEquals(built.getDate(cycleNumber, 3, 1), extended.getDate(cycleNumber, 3, 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsDatesBeforeTheFirstCycle() {
+		YomiCalculator.getDafYomiBavliCycle().getPortion(LocalDate.of(1923, 9, 10));
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Checks the {@link MoladCalculator} against the <em>molad</em> fields of {@link JewishDate#getMolad()} and against the
+ * <em>tekufos</em> found day by day with {@link JewishCalendar#getTekufaAsInstant(boolean)}.
+ *
+ * @author Test coverage
+ */
+public class MoladCalculatorTest {
+
+	/** The offset from the local mean time of Har Habayis. */
+	private static final Duration LOCAL_MEAN_TIME_OFFSET = Duration.ofMinutes(20).plusSeconds(56).plusMillis(496);
+
+	@Test
+	public void moladosMatchMoladFields() {
+		long[] molados = MoladCalculator.getMoladosEpochNanos(5500, 6020);
+		int i = 0;
+		for (int year = 5500; year <= 6020; year++) {
+			for (int monthOfYear = 1; monthOfYear <= JewishDate.getLastMonthOfJewishYear(year); monthOfYear++) {
+				int month = (JewishDate.TISHREI - 1 + monthOfYear - 1) % JewishDate.getLastMonthOfJewishYear(year) + 1;
+				JewishDate molad = new JewishDate(year, month, 1).getMolad();
+				long chalakimNanos = molad.getMoladChalakim() * 10_000_000_000L / 3;
+				Instant expected = ZonedDateTime.of(molad.getLocalDate(), LocalTime.of(molad.getMoladHours(),
+						molad.getMoladMinutes()), ZoneId.of("GMT+2")).toInstant().plusNanos(chalakimNanos)
+						.minus(LOCAL_MEAN_TIME_OFFSET);
+				String message = year + "/" + month;
+				assertEquals(message, expected, MoladCalculator.getMoladInstant(year, month));
+				assertEquals(message, expected, new JewishCalendar(year, month, 1).getMoladAsInstant());
+				assertEquals(message, toEpochNanos(expected), molados[i]);
+				assertEquals(message, molados[i], MoladCalculator.getMoladEpochNanos(year, month));
+				i++;
+			}
+		}
+		assertEquals(molados.length, i);
+	}
+
+	@Test
+	public void tekufosMatchDays() {
+		List<Long> found = new ArrayList<>();
+		JewishCalendar jewishCalendar = new JewishCalendar(5590, JewishDate.TISHREI, 1);
+		while (jewishCalendar.getJewishYear() < 6011) {
+			Instant tekufa = jewishCalendar.getTekufaAsInstant(false);
+			if (tekufa != null) {
+				found.add(toEpochNanos(tekufa));
+				assertEquals(tekufa.minus(LOCAL_MEAN_TIME_OFFSET), jewishCalendar.getTekufaAsInstant(true));
+			}
+			jewishCalendar.plusDays(1);
+		}
+		long[] tekufos = MoladCalculator.getTekufosEpochNanos(5591, 6010, false);
+		int first = found.indexOf(tekufos[0]);
+		for (int i = 0; i < tekufos.length; i++) {
+			assertEquals(found.get(first + i).longValue(), tekufos[i]);
+		}
+		long[] localMeanTime = MoladCalculator.getTekufosEpochNanos(5591, 6010, true);
+		for (int i = 0; i < tekufos.length; i++) {
+			assertEquals(tekufos[i] - LOCAL_MEAN_TIME_OFFSET.toNanos(), localMeanTime[i]);
+		}
+		assertEquals(tekufos[4 * 196 + 2], MoladCalculator.getTekufaEpochNanos(5787, JewishDate.NISSAN, false));
+		assertEquals(Instant.ofEpochSecond(0, tekufos[4 * 196]), MoladCalculator.getTekufaInstant(5787,
+				JewishDate.TISHREI, false));
+	}
+
+	@Test
+	public void tekufasNissan5787() {
+		// Tekufas Nissan 5787 is at 6 AM on April 8, 2027 (1 Nissan) in standard time
+		Instant expected = ZonedDateTime.of(2027, 4, 8, 6, 0, 0, 0, ZoneId.of("GMT+2")).toInstant();
+		assertEquals(expected, MoladCalculator.getTekufaInstant(5787, JewishDate.NISSAN, false));
+		assertEquals(expected, new JewishCalendar(5787, JewishDate.NISSAN, 1).getTekufaAsInstant(false));
+		assertNull(new JewishCalendar(5787, JewishDate.NISSAN, 2).getTekufaAsInstant(false));
+	}
+
+	@Test
+	public void rangesOutsideOfTheCache() {
+		assertArrayEquals(MoladCalculator.getMoladosEpochNanos(5598, 6002), concat(
+				MoladCalculator.getMoladosEpochNanos(5598, 5599), MoladCalculator.getMoladosEpochNanos(5600, 6000),
+				MoladCalculator.getMoladosEpochNanos(6001, 6002)));
+		assertArrayEquals(MoladCalculator.getTekufosEpochNanos(5598, 6002, false), concat(
+				MoladCalculator.getTekufosEpochNanos(5598, 5599, false), MoladCalculator.getTekufosEpochNanos(5600, 6000,
+				false), MoladCalculator.getTekufosEpochNanos(6001, 6002, false)));
+		assertEquals(Instant.ofEpochSecond(0, MoladCalculator.getMoladEpochNanos(5787, JewishDate.ADAR_II)),
+				MoladCalculator.getMoladInstant(5787, JewishDate.ADAR_II));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void epochNanosOverflow() {
+		MoladCalculator.getMoladEpochNanos(6100, JewishDate.TISHREI);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsAdarIIOfARegularYear() {
+		MoladCalculator.getMoladInstant(5786, JewishDate.ADAR_II);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsAMonthWithoutATekufa() {
+		MoladCalculator.getTekufaInstant(5787, JewishDate.ELUL, false);
+	}
+
+	private static long toEpochNanos(Instant instant) {
+		return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+	}
+
+	private static long[] concat(long[]... arrays) {
+		List<Long> all = new ArrayList<>();
+		for (long[] array : arrays) {
+			for (long value : array) {
+				all.add(value);
+			}
+		}
+		return all.stream().mapToLong(Long::longValue).toArray();
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+
+import org.junit.Test;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar.Parsha;
+
+/**
+ * Checks that {@link ShabbosSchedule} gives the same <em>parshiyos</em>, special <em>parshiyos</em>, <em>Shabbos
+ * Mevorchim</em> flags and upcoming <em>parshiyos</em> as {@link JewishCalendar} for every day of many years.
+ *
+ * @author Test coverage
+ */
+public class ShabbosScheduleTest {
+
+	@Test
+	public void matchesJewishCalendar() {
+		for (boolean inIsrael : new boolean[] { false, true }) {
+			for (int year = 5700; year <= 5900; year++) {
+				ShabbosSchedule schedule = new ShabbosSchedule(year, inIsrael);
+				JewishCalendar calendar = new JewishCalendar(year, JewishDate.TISHREI, 1, inIsrael);
+				int shabbos = 0;
+				while (calendar.getJewishYear() == year) {
+					String message = calendar + (inIsrael ? " in Israel" : "");
+					assertEquals(message, calendar.getParshah(), schedule.getParsha(calendar));
+					assertEquals(message, calendar.getUpcomingParshah(), schedule.getUpcomingParsha(calendar));
+					if (calendar.getDayOfWeek() == Calendar.SATURDAY) {
+						assertEquals(message, shabbos, schedule.getShabbosIndex(calendar));
+						assertEquals(message, calendar.getLocalDate(), schedule.getDate(shabbos));
+						assertEquals(message, calendar.getParshah(), schedule.getParsha(shabbos));
+						assertEquals(message, calendar.getSpecialShabbos(), schedule.getSpecialShabbos(shabbos));
+						assertEquals(message, calendar.isShabbosMevorchim(), schedule.isShabbosMevorchim(shabbos));
+						JewishCalendar friday = (JewishCalendar) calendar.clone();
+						friday.minusDays(1);
+						assertEquals(message, friday.getUpcomingParshah(), schedule.getUpcomingParsha(shabbos));
+						shabbos++;
+					}
+					calendar.plusDays(1);
+				}
+				assertEquals(shabbos, schedule.getShabbosCount());
+			}
+		}
+	}
+
+	@Test
+	public void listsAYear() {
+		ShabbosSchedule schedule = new ShabbosSchedule(5787, false);
+		assertEquals(LocalDate.of(2026, 9, 12), schedule.getDate(0)); // Rosh Hashana on Shabbos
+		assertEquals(Parsha.NONE, schedule.getParsha(0));
+		assertEquals(Parsha.HAAZINU, schedule.getUpcomingParsha(0));
+		assertEquals(Parsha.SHUVA, schedule.getSpecialShabbos(1));
+		assertTrue(schedule.getShabbosCount() >= 50 && schedule.getShabbosCount() <= 55);
+		// Wednesday 29 Elul, after the last Shabbos of the year
+		assertEquals(-1, schedule.getShabbosIndex(new JewishDate(5787, JewishDate.ELUL, 29)));
+		assertEquals(Parsha.HAAZINU, schedule.getUpcomingParsha(new JewishDate(5787, JewishDate.ELUL, 29)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsDatesOfOtherYears() {
+		new ShabbosSchedule(5787, false).getShabbosIndex(new JewishDate(5786, JewishDate.ELUL, 29));
+	}
+}
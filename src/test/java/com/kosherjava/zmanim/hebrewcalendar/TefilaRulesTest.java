@@ -14,16 +14,20 @@
  */
 package com.kosherjava.zmanim.hebrewcalendar;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Map;
 
 import org.junit.Test;
 
 /**
  * Coverage for the {@link TefilaRules} daily-tefila predicates on two representative dates: an ordinary weekday during
- * the summer, and the first day of Sukkos.
+ * the summer, and the first day of Sukkos, and for {@link TefilaRules#getRulesForYear(JewishCalendar)} matching the
+ * predicates on every day of many years.
  *
  * @author Test coverage
  */
@@ -72,4 +76,49 @@ public class TefilaRulesTest {
 		assertTrue(rules.isYaalehVeyavoRecited(date));
 		assertFalse(rules.isMizmorLesodaRecited(date));
 	}
+
+	@Test
+	public void yearRulesMatchDailyRules() {
+		TefilaRules chasidish = new TefilaRules();
+		chasidish.setTachanunRecitedWeekOfPurim(false);
+		chasidish.setTachanunRecitedWeekOfHod(false);
+		chasidish.setTachanunRecitedEndOfTishrei(false);
+		chasidish.setTachanunRecitedWeekAfterShavuos(true);
+		chasidish.setTachanunRecitedFridays(false);
+		chasidish.setTachanunRecitedMinchaErevLagBaomer(true);
+		chasidish.setMizmorLesodaRecitedErevYomKippurAndPesach(true);
+		for (TefilaRules tefilaRules : new TefilaRules[] { rules, chasidish }) {
+			for (int settings = 0; settings < 4; settings++) {
+				for (int year = 5770; year <= 5800; year++) {
+					JewishCalendar jewishCalendar = new JewishCalendar(year, JewishDate.SHEVAT, 1, (settings & 1) != 0);
+					jewishCalendar.setUseModernHolidays((settings & 2) != 0);
+					Map<TefilaRules.Rule, BitSet> yearRules = tefilaRules.getRulesForYear(jewishCalendar);
+					assertEquals(JewishDate.SHEVAT, jewishCalendar.getJewishMonth()); // not changed
+					jewishCalendar.setJewishDate(year, JewishDate.TISHREI, 1);
+					for (int day = 0; jewishCalendar.getJewishYear() == year; day++) {
+						boolean[] expected = { tefilaRules.isTachanunRecitedShacharis(jewishCalendar),
+								tefilaRules.isTachanunRecitedMincha(jewishCalendar),
+								tefilaRules.isVeseinTalUmatarStartDate(jewishCalendar),
+								tefilaRules.isVeseinTalUmatarStartingTonight(jewishCalendar),
+								tefilaRules.isVeseinTalUmatarRecited(jewishCalendar),
+								tefilaRules.isVeseinBerachaRecited(jewishCalendar),
+								tefilaRules.isMashivHaruachStartDate(jewishCalendar),
+								tefilaRules.isMashivHaruachEndDate(jewishCalendar),
+								tefilaRules.isMashivHaruachRecited(jewishCalendar),
+								tefilaRules.isMoridHatalRecited(jewishCalendar),
+								tefilaRules.isHallelRecited(jewishCalendar),
+								tefilaRules.isHallelShalemRecited(jewishCalendar),
+								tefilaRules.isAlHanissimRecited(jewishCalendar),
+								tefilaRules.isYaalehVeyavoRecited(jewishCalendar),
+								tefilaRules.isMizmorLesodaRecited(jewishCalendar) };
+						for (TefilaRules.Rule rule : TefilaRules.Rule.values()) {
+							assertEquals(jewishCalendar + " " + rule + " " + settings, expected[rule.ordinal()],
+									yearRules.get(rule).get(day));
+						}
+						jewishCalendar.plusDays(1);
+					}
+				}
+			}
+		}
+	}
 }
@@ -1,6 +1,8 @@
 package com.kosherjava.zmanim.hebrewcalendar;
 
+import java.time.LocalDate;
 import java.util.Calendar;
+import java.util.List;
 
 import org.junit.*;
 
@@ -50,4 +52,47 @@ public class UT_YerushalmiTest {
 		System.out.println(hdf.formatDafYomiYerushalmi(jewishCalendar.getDafYomiYerushalmi()));
 	}
 
+	@Test
+	public void testDafRange() {
+		LocalDate start = LocalDate.of(2020, 1, 1);
+		List<Daf> dafim = YerushalmiYomiCalculator.getDafYomiYerushalmi(start, start.plusDays(2000));
+		Assert.assertEquals(2000, dafim.size());
+		int skipped = 0;
+		for (int i = 0; i < dafim.size(); i++) {
+			Daf daf = YerushalmiYomiCalculator.getDafYomiYerushalmi(new JewishCalendar(start.plusDays(i)));
+			if (daf == null) {
+				Assert.assertNull(dafim.get(i));
+				skipped++;
+			} else {
+				Assert.assertEquals(daf.getMasechtaNumber(), dafim.get(i).getMasechtaNumber());
+				Assert.assertEquals(daf.getDaf(), dafim.get(i).getDaf());
+			}
+		}
+		Assert.assertEquals(10, skipped); // Yom Kippur 5781 - 5785 and Tisha B'Av 5780 - 5784
+	}
+
+	@Test
+	public void testSkippedDayOnCycleExtension() {
+		// without its skipped days the cycle would end on 8 Av 5932, so Tisha B'Av is the first day it is extended by
+		Daf lastDaf = new JewishCalendar(5932, JewishCalendar.AV, 17).getDafYomiYerushalmi();
+		Assert.assertEquals(38, lastDaf.getMasechtaNumber());
+		Assert.assertEquals(13, lastDaf.getDaf());
+		Daf firstDaf = new JewishCalendar(5932, JewishCalendar.AV, 18).getDafYomiYerushalmi();
+		Assert.assertEquals(0, firstDaf.getMasechtaNumber());
+		Assert.assertEquals(1, firstDaf.getDaf());
+
+		LearningCycle cycle = YerushalmiYomiCalculator.getDafYomiYerushalmiCycle();
+		LocalDate start = LocalDate.of(2170, 1, 1);
+		List<Daf> dafim = YerushalmiYomiCalculator.getDafYomiYerushalmi(start, start.plusDays(2000));
+		for (int i = 0; i < dafim.size(); i++) {
+			LearningCycle.Portion portion = cycle.getPortion(start.plusDays(i));
+			if (portion == null) {
+				Assert.assertNull(dafim.get(i));
+			} else {
+				Assert.assertEquals(portion.getGroup(), dafim.get(i).getMasechtaNumber());
+				Assert.assertEquals(portion.getUnit(), dafim.get(i).getDaf());
+			}
+		}
+	}
+
 }
@@ -0,0 +1,193 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+/**
+ * Checks the {@link YahrzeitCalculator} against <em>yahrzeits</em> and birthdays calculated one at a time with {@link
+ * JewishDate}, and its options.
+ *
+ * @author Test coverage
+ */
+public class YahrzeitCalculatorTest {
+
+	/** The years after the source date checked for each source date. */
+	private static final int[] YEARS_AFTER = { 1, 2, 3, 5, 8, 13, 19, 30 };
+
+	private static int getLastMonth(int year) {
+		return JewishDate.isJewishLeapYear(year) ? JewishDate.ADAR_II : JewishDate.ADAR;
+	}
+
+	private static LocalDate getYahrzeit(JewishDate death, int year) {
+		int month = death.getJewishMonth();
+		int day = death.getJewishDayOfMonth();
+		JewishDate firstYear = new JewishDate(death.getJewishYear() + 1, JewishDate.TISHREI, 1);
+		if (month == JewishDate.CHESHVAN && day == 30 && !firstYear.isCheshvanLong()) {
+			return new JewishDate(year, JewishDate.KISLEV, 1).getLocalDate().minusDays(1);
+		} else if (month == JewishDate.KISLEV && day == 30 && firstYear.isKislevShort()) {
+			return new JewishDate(year, JewishDate.TEVES, 1).getLocalDate().minusDays(1);
+		} else if (month == JewishDate.ADAR_II) {
+			return new JewishDate(year, getLastMonth(year), day).getLocalDate();
+		} else if (month == JewishDate.ADAR && day == 30 && !JewishDate.isJewishLeapYear(year)) {
+			return new JewishDate(year, JewishDate.SHEVAT, 30).getLocalDate();
+		}
+		return new JewishDate(year, month, 1).getLocalDate().plusDays(day - 1);
+	}
+
+	private static LocalDate getBirthday(JewishDate birth, int year) {
+		int month = birth.getJewishMonth();
+		if (month == JewishDate.ADAR && birth.getJewishDayOfMonth() == 30 && !JewishDate.isJewishLeapYear(year)) {
+			return new JewishDate(year, JewishDate.ADAR, 1).getLocalDate();
+		} else if (month == getLastMonth(birth.getJewishYear())) {
+			return new JewishDate(year, getLastMonth(year), birth.getJewishDayOfMonth()).getLocalDate();
+		}
+		return new JewishDate(year, month, 1).getLocalDate().plusDays(birth.getJewishDayOfMonth() - 1);
+	}
+
+	private static int pack(JewishDate date) {
+		return date.getJewishYear() << 9 | date.getJewishMonth() << 5 | date.getJewishDayOfMonth();
+	}
+
+	@Test
+	public void matchesDateByDate() {
+		YahrzeitCalculator yahrzeits = new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT).build();
+		YahrzeitCalculator birthdays = new YahrzeitCalculator.Builder(YahrzeitCalculator.ANNIVERSARY).build();
+		JewishDate source = new JewishDate(5740, JewishDate.TISHREI, 1);
+		int[] packed = new int[YEARS_AFTER.length];
+		int[] years = new int[YEARS_AFTER.length];
+		long[] epochDays = new long[YEARS_AFTER.length];
+		while (source.getJewishYear() < 5800) {
+			for (int i = 0; i < YEARS_AFTER.length; i++) {
+				packed[i] = pack(source);
+				years[i] = source.getJewishYear() + YEARS_AFTER[i];
+			}
+			yahrzeits.getEpochDays(packed, years, epochDays);
+			for (int i = 0; i < YEARS_AFTER.length; i++) {
+				assertEquals(source + " " + years[i], getYahrzeit(source, years[i]).toEpochDay(), epochDays[i]);
+			}
+			birthdays.getEpochDays(packed, years, epochDays);
+			for (int i = 0; i < YEARS_AFTER.length; i++) {
+				assertEquals(source + " " + years[i], getBirthday(source, years[i]).toEpochDay(), epochDays[i]);
+			}
+			source.plusDays(1);
+		}
+	}
+
+	@Test
+	public void adarOfRegularYear() {
+		JewishLocalDate death = JewishLocalDate.of(5785, JewishDate.ADAR, 15);
+		YahrzeitCalculator rema = new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT).build();
+		YahrzeitCalculator mechaber = new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT)
+				.setAdarOfRegularYear(JewishDate.ADAR_II).build();
+		assertEquals(JewishLocalDate.of(5787, JewishDate.ADAR, 15), rema.getJewishLocalDate(death, 5787));
+		assertEquals(JewishLocalDate.of(5787, JewishDate.ADAR_II, 15), mechaber.getJewishLocalDate(death, 5787));
+		assertEquals(JewishLocalDate.of(5786, JewishDate.ADAR, 15), mechaber.getJewishLocalDate(death, 5786));
+		assertEquals(JewishLocalDate.of(5785, JewishDate.ADAR, 23),
+				rema.getJewishLocalDate(JewishLocalDate.of(5784, JewishDate.ADAR_II, 23), 5785));
+	}
+
+	@Test
+	public void thirtiethOfAdarI() {
+		JewishLocalDate birth = JewishLocalDate.of(5771, JewishDate.ADAR, 30);
+		YahrzeitCalculator anniversary = new YahrzeitCalculator.Builder(YahrzeitCalculator.ANNIVERSARY).build();
+		assertEquals(JewishLocalDate.of(5785, JewishDate.ADAR, 1), anniversary.getJewishLocalDate(birth, 5785));
+		assertEquals(LocalDate.of(2025, 3, 1), anniversary.getLocalDate(birth, 5785));
+		assertEquals(JewishLocalDate.of(5784, JewishDate.ADAR, 30), anniversary.getJewishLocalDate(birth, 5784));
+		YahrzeitCalculator lastDay = new YahrzeitCalculator.Builder(YahrzeitCalculator.ANNIVERSARY)
+				.setAdarIThirtiethRule(YahrzeitCalculator.ADAR_I_THIRTIETH_ON_ADAR_29)
+				.setThirtiethRule(YahrzeitCalculator.THIRTIETH_ON_NEXT_DAY).build();
+		assertEquals(JewishLocalDate.of(5785, JewishDate.ADAR, 29), lastDay.getJewishLocalDate(birth, 5785));
+		YahrzeitCalculator yahrzeit = new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT).build();
+		assertEquals(JewishLocalDate.of(5785, JewishDate.SHEVAT, 30), yahrzeit.getJewishLocalDate(birth, 5785));
+		YahrzeitCalculator adar = new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT)
+				.setAdarIThirtiethRule(YahrzeitCalculator.ADAR_I_THIRTIETH_ON_ADAR_1).build();
+		assertEquals(JewishLocalDate.of(5785, JewishDate.ADAR, 1), adar.getJewishLocalDate(birth, 5785));
+	}
+
+	@Test
+	public void thirtiethRules() {
+		YahrzeitCalculator lastDay = new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT)
+				.setThirtiethRule(YahrzeitCalculator.THIRTIETH_ON_LAST_DAY).build();
+		YahrzeitCalculator nextDay = new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT)
+				.setThirtiethRule(YahrzeitCalculator.THIRTIETH_ON_NEXT_DAY).build();
+		int checked = 0;
+		for (int year = 5740; year < 5800; year++) {
+			for (int month = JewishDate.CHESHVAN; month <= JewishDate.KISLEV; month++) {
+				JewishLocalDate source = JewishLocalDate.of(year, month, 1).plusDays(29);
+				if (source.getJewishMonth() != month) {
+					continue;
+				}
+				for (int target = year + 1; target < year + 20; target++) {
+					JewishLocalDate first = JewishLocalDate.of(target, month, 1);
+					boolean hasThirtieth = first.getDaysInJewishMonth() == 30;
+					assertEquals(hasThirtieth ? first.plusDays(29) : first.plusDays(28),
+							lastDay.getJewishLocalDate(source, target));
+					assertEquals(first.plusDays(29), nextDay.getJewishLocalDate(source, target));
+					checked++;
+				}
+			}
+		}
+		assertTrue(checked > 500);
+	}
+
+	@Test
+	public void nextDates() {
+		YahrzeitCalculator calculator = new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT).build();
+		LocalDate today = LocalDate.of(2026, 10, 19);
+		JewishDate source = new JewishDate(5780, JewishDate.TISHREI, 1);
+		int[] packed = new int[2700];
+		for (int i = 0; i < packed.length; i++) {
+			packed[i] = pack(source);
+			source.plusDays(1);
+		}
+		long[] next = new long[packed.length];
+		calculator.getNextEpochDays(packed, today, next);
+		for (int i = 0; i < packed.length; i++) {
+			JewishLocalDate date = JewishLocalDate.of(packed[i] >>> 9, (packed[i] >>> 5) & 0xF, packed[i] & 0x1F);
+			LocalDate observed = LocalDate.ofEpochDay(next[i]);
+			int year = JewishLocalDate.of(observed).getJewishYear();
+			assertEquals(calculator.getLocalDate(date, year), observed);
+			assertTrue(date.toString(), !observed.isBefore(today) && year > date.getJewishYear());
+			assertTrue(date.toString(), year == date.getJewishYear() + 1
+					|| calculator.getLocalDate(date, year - 1).isBefore(today));
+			assertEquals(observed, calculator.getNextLocalDate(date, today));
+		}
+	}
+
+	@Test
+	public void invalidSourceDates() {
+		YahrzeitCalculator calculator = new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT).build();
+		int[] packed = { HebrewDateParser.INVALID, 5785 << 9 | JewishDate.ADAR_II << 5 | 1,
+				5784 << 9 | JewishDate.KISLEV << 5 | 30, 5785 << 9 | JewishDate.TEVES << 5 | 30, 0,
+				5784 << 9 | JewishDate.ADAR_II << 5 | 1 };
+		long[] epochDays = new long[packed.length];
+		calculator.getEpochDays(packed, 5786, epochDays);
+		for (int i = 0; i < packed.length - 1; i++) {
+			assertEquals(YahrzeitCalculator.NO_DATE, epochDays[i]);
+		}
+		assertEquals(new JewishDate(5786, JewishDate.ADAR, 1).getLocalDate().toEpochDay(), epochDays[packed.length - 1]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getEpochDayThrowsOnInvalidSourceDate() {
+		new YahrzeitCalculator.Builder(YahrzeitCalculator.YAHRZEIT).build().getEpochDay(HebrewDateParser.INVALID, 5786);
+	}
+}
@@ -1,5 +1,8 @@
 package com.kosherjava.zmanim.hebrewcalendar;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -35,4 +38,24 @@ public class YomiCalculatorTest {
 		Assert.assertEquals(47, daf.getDaf());
 		System.out.println(hdf.formatDafYomiBavli(jewishCalendar.getDafYomiBavli()));
 	}
+
+	@Test
+	public void testDafRange() {
+		// the 14th cycle started with Berachos 2 on January 5, 2020
+		List<Daf> dafim = YomiCalculator.getDafYomiBavli(LocalDate.of(2020, 1, 4), LocalDate.of(2020, 1, 6));
+		Assert.assertEquals(2, dafim.size());
+		Assert.assertEquals(39, dafim.get(0).getMasechtaNumber());
+		Assert.assertEquals(73, dafim.get(0).getDaf());
+		Assert.assertEquals(0, dafim.get(1).getMasechtaNumber());
+		Assert.assertEquals(2, dafim.get(1).getDaf());
+
+		LocalDate start = LocalDate.of(1975, 1, 1); // across the change in the length of Shekalim
+		dafim = YomiCalculator.getDafYomiBavli(start, start.plusDays(3000));
+		Assert.assertEquals(3000, dafim.size());
+		for (int i = 0; i < dafim.size(); i++) {
+			Daf daf = YomiCalculator.getDafYomiBavli(new JewishCalendar(start.plusDays(i)));
+			Assert.assertEquals(daf.getMasechtaNumber(), dafim.get(i).getMasechtaNumber());
+			Assert.assertEquals(daf.getDaf(), dafim.get(i).getDaf());
+		}
+	}
 }
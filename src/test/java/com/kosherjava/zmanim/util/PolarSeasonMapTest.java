@@ -0,0 +1,127 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+import com.kosherjava.zmanim.AstronomicalCalendar;
+import com.kosherjava.zmanim.ComprehensiveZmanimCalendar;
+import com.kosherjava.zmanim.TestLocations;
+
+/**
+ * Verifies that a {@link PolarSeasonMap} only flags days whose times really can't be calculated, that it flags nearly all of
+ * them, and that a calendar using it returns exactly the same <em>zmanim</em> as one that does not.
+ *
+ * @author Test coverage
+ */
+public class PolarSeasonMapTest {
+
+	private static final ZoneId OSLO = ZoneId.of("Europe/Oslo");
+	private static final double[] ZENITHS = { AstronomicalCalendar.GEOMETRIC_ZENITH, 96, 98.5, 106.1, 108 };
+
+	private static GeoLocation norwayMountain() {
+		return new GeoLocation("Norway (elevated)", TestLocations.NORWAY_LAT, TestLocations.NORWAY_LON, 800, OSLO);
+	}
+
+	@Test
+	public void flaggedDaysCanNotBeCalculated() {
+		AstronomicalCalculator[] calculators = { new NOAACalculator(), new MeeusCalculator(), new SPACalculator() };
+		for (AstronomicalCalculator calculator : calculators) {
+			for (GeoLocation location : new GeoLocation[] { TestLocations.norway(OSLO), norwayMountain() }) {
+				PolarSeasonMap map = new PolarSeasonMap(calculator, location, 2017, 2017);
+				for (double zenith : ZENITHS) {
+					int unreachable = 0;
+					int flagged = 0;
+					for (int i = 0; i < map.getDayCount(); i++) {
+						LocalDate date = map.getFirstDate().plusDays(i);
+						boolean noRise = Double.isNaN(calculator.getUTCSunrise(date, location, zenith, true));
+						boolean noSet = Double.isNaN(calculator.getUTCSunset(date, location, zenith, true));
+						if (map.isZenithNeverReached(date, zenith, location.getElevation())) {
+							flagged++;
+							assertTrue(calculator.getCalculatorName() + " " + date + " " + zenith, noRise && noSet);
+						}
+						if (noRise && noSet) {
+							unreachable++;
+						}
+					}
+					// only the days at the edge of each season, where the sun comes within the margin, are left to the calculator
+					assertTrue(calculator.getCalculatorName() + " " + zenith + ": " + flagged + " of " + unreachable,
+							flagged >= unreachable * 0.8);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void calendarWithMapReturnsTheSameZmanim() {
+		GeoLocation location = norwayMountain();
+		ComprehensiveZmanimCalendar plain = new ComprehensiveZmanimCalendar(location);
+		ComprehensiveZmanimCalendar mapped = new ComprehensiveZmanimCalendar(location);
+		mapped.setPolarSeasonMap(new PolarSeasonMap(mapped.getAstronomicalCalculator(), location, 2017, 2017));
+		for (LocalDate date = LocalDate.of(2016, 12, 25); date.isBefore(LocalDate.of(2018, 1, 5)); date = date.plusDays(1)) {
+			plain.setLocalDate(date);
+			mapped.setLocalDate(date);
+			assertEquals(date.toString(), plain.getSunrise(), mapped.getSunrise());
+			assertEquals(date.toString(), plain.getSunset(), mapped.getSunset());
+			assertEquals(date.toString(), plain.getSeaLevelSunrise(), mapped.getSeaLevelSunrise());
+			assertEquals(date.toString(), plain.getSeaLevelSunset(), mapped.getSeaLevelSunset());
+			assertEquals(date.toString(), plain.getAlos16Point1Degrees(), mapped.getAlos16Point1Degrees());
+			assertEquals(date.toString(), plain.getTzaisGeonim8Point5Degrees(), mapped.getTzaisGeonim8Point5Degrees());
+			assertEquals(date.toString(), plain.getPolarSunriseBenIshChai(), mapped.getPolarSunriseBenIshChai());
+			assertEquals(date.toString(), plain.getPolarSunsetBenIshChai(), mapped.getPolarSunsetBenIshChai());
+			assertEquals(date.toString(), plain.getPolarStartOfDayTeshuvosVehanhagos(),
+					mapped.getPolarStartOfDayTeshuvosVehanhagos());
+		}
+	}
+
+	@Test
+	public void mapIsIgnoredForOtherLocationsAndCalculators() {
+		GeoLocation location = TestLocations.norway(OSLO);
+		ComprehensiveZmanimCalendar calendar = new ComprehensiveZmanimCalendar(location);
+		calendar.setLocalDate(LocalDate.of(2017, 6, 21));
+		PolarSeasonMap map = new PolarSeasonMap(calendar.getAstronomicalCalculator(), location, 2017, 2017);
+		assertTrue(map.isZenithNeverReached(LocalDate.of(2017, 6, 21), AstronomicalCalendar.GEOMETRIC_ZENITH, 0));
+		assertFalse(map.isZenithNeverReached(LocalDate.of(2018, 6, 21), AstronomicalCalendar.GEOMETRIC_ZENITH, 0));
+		assertTrue(map.isAlwaysAbove(LocalDate.of(2017, 6, 21), 0));
+		assertTrue(map.isAlwaysBelow(LocalDate.of(2017, 12, 21), 0));
+
+		calendar.setPolarSeasonMap(map);
+		assertNull(calendar.getSunrise());
+		calendar.setGeoLocation(TestLocations.lakewood());
+		assertTrue(calendar.getSunrise() != null);
+		calendar.setGeoLocation(location);
+		calendar.setAstronomicalCalculator(new MeeusCalculator());
+		assertFalse(map.appliesTo(location, calendar.getAstronomicalCalculator()));
+
+		BitSet noSunrise = map.getDaysNeverReached(AstronomicalCalendar.GEOMETRIC_ZENITH, 0);
+		assertTrue(noSunrise.get(LocalDate.of(2017, 6, 21).getDayOfYear() - 1));
+		assertFalse(noSunrise.get(LocalDate.of(2017, 3, 21).getDayOfYear() - 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("deprecation")
+	public void calculatorWithoutElevationIsRejected() {
+		new PolarSeasonMap(new SunTimesCalculator(), TestLocations.norway(OSLO), 2017, 2017);
+	}
+}
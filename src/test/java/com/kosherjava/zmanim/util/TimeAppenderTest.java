@@ -0,0 +1,173 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.text.DecimalFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Compares {@link TimeAppender} (and the {@link ZmanimFormatter} methods built on it) character for character with the
+ * {@link DateTimeFormatter}, {@link Duration#toString()} and {@link DecimalFormat} based formatting it replaced, and runs a
+ * shared formatter from many threads at once.
+ *
+ * @author Test coverage
+ */
+public class TimeAppenderTest {
+
+	private static final DateTimeFormatter XSD = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
+
+	/** Zones with half and quarter hour offsets, historical offsets in seconds, and daylight saving time. */
+	private static final String[] ZONES = { "UTC", "America/New_York", "Asia/Jerusalem", "Asia/Kolkata", "Asia/Kathmandu",
+			"Australia/Lord_Howe", "America/St_Johns", "Europe/Amsterdam", "Pacific/Kiritimati", "America/Los_Angeles" };
+
+	private static final int[] FORMATS = { ZmanimFormatter.SEXAGESIMAL_XSD_FORMAT, ZmanimFormatter.SEXAGESIMAL_FORMAT,
+			ZmanimFormatter.SEXAGESIMAL_SECONDS_FORMAT, ZmanimFormatter.SEXAGESIMAL_MILLIS_FORMAT };
+
+	/** The sexagesimal formatting of ZmanimFormatter before it used TimeAppender. */
+	private static String decimalFormatReference(Duration duration, int format) {
+		boolean prependZeroHours = format == ZmanimFormatter.SEXAGESIMAL_XSD_FORMAT;
+		boolean useSeconds = format != ZmanimFormatter.SEXAGESIMAL_FORMAT;
+		boolean useMillis = format == ZmanimFormatter.SEXAGESIMAL_XSD_FORMAT || format == ZmanimFormatter.SEXAGESIMAL_MILLIS_FORMAT;
+		StringBuilder sb = new StringBuilder();
+		if (duration.isNegative()) {
+			sb.append("-");
+		}
+		Duration absDuration = duration.abs();
+		sb.append(new DecimalFormat(prependZeroHours ? "00" : "0").format(absDuration.toHours()));
+		sb.append(":").append(new DecimalFormat("00").format(absDuration.toMinutes() % 60));
+		if (useSeconds) {
+			sb.append(":").append(new DecimalFormat("00").format(absDuration.toSeconds() % 60));
+		}
+		if (useMillis) {
+			sb.append(".").append(new DecimalFormat("000").format(absDuration.toMillis() % 1000));
+		}
+		return sb.toString();
+	}
+
+	private static Duration randomDuration(Random random) {
+		switch (random.nextInt(4)) {
+			case 0:
+				return Duration.ofSeconds(random.nextInt(7200) - 3600);
+			case 1:
+				return Duration.ofMillis(random.nextLong() % 400_000_000L);
+			case 2:
+				return Duration.ofNanos(random.nextLong() % 10_000_000_000_000L);
+			default:
+				return Duration.ofSeconds(random.nextLong() % 1_000_000_000L, random.nextInt(1_000_000_000));
+		}
+	}
+
+	@Test
+	public void dateTimesMatchDateTimeFormatter() throws IOException {
+		Random random = new Random(34);
+		long min = LocalDate.of(1800, 1, 1).toEpochDay() * 86_400;
+		long max = LocalDate.of(2200, 1, 1).toEpochDay() * 86_400;
+		for (String zone : ZONES) {
+			ZoneId zoneId = ZoneId.of(zone);
+			for (int i = 0; i < 20_000; i++) {
+				Instant instant = Instant.ofEpochSecond(min + (long) (random.nextDouble() * (max - min)), random.nextInt(1_000_000_000));
+				assertEquals(XSD.withZone(zoneId).format(instant), TimeAppender.formatXSDDateTime(instant, zoneId));
+			}
+		}
+		ZoneId fixed = ZoneOffset.ofHoursMinutesSeconds(-4, -56, -2);
+		for (Instant instant : new Instant[] { Instant.parse("0001-01-01T04:56:02Z"), Instant.parse("0000-06-01T00:00:00Z"),
+				Instant.parse("9999-12-31T23:59:59Z"), Instant.parse("+10000-01-01T12:00:00Z"), Instant.EPOCH }) {
+			StringWriter writer = new StringWriter();
+			TimeAppender.appendXSDDateTime(writer, instant, fixed);
+			assertEquals(XSD.withZone(fixed).format(instant), writer.toString());
+		}
+	}
+
+	@Test
+	public void durationsMatchDurationToStringAndDecimalFormat() throws IOException {
+		Random random = new Random(340);
+		List<Duration> durations = new ArrayList<>();
+		durations.add(Duration.ZERO);
+		durations.add(Duration.ofNanos(-1));
+		durations.add(Duration.ofMillis(-500));
+		durations.add(Duration.ofSeconds(-60, 1));
+		durations.add(Duration.ofHours(123));
+		durations.add(Duration.ofSeconds(Long.MAX_VALUE, 999_999_999));
+		durations.add(Duration.ofSeconds(Long.MIN_VALUE));
+		for (int i = 0; i < 50_000; i++) {
+			durations.add(randomDuration(random));
+		}
+		for (Duration duration : durations) {
+			StringBuilder xsd = new StringBuilder();
+			TimeAppender.appendXSDDuration(xsd, duration);
+			assertEquals(duration.toString(), xsd.toString());
+			if (duration.getSeconds() == Long.MIN_VALUE || duration.getSeconds() == Long.MAX_VALUE) {
+				continue; // too long for toMillis() in either implementation
+			}
+			for (int format : FORMATS) {
+				ZmanimFormatter formatter = new ZmanimFormatter(format, XSD, ZoneId.of("UTC"));
+				assertEquals(decimalFormatReference(duration, format), formatter.format(duration));
+			}
+		}
+	}
+
+	@Test
+	public void sharedFormatterIsThreadSafe() throws Exception {
+		ZmanimFormatter formatter = new ZmanimFormatter(ZmanimFormatter.SEXAGESIMAL_MILLIS_FORMAT, XSD,
+				ZoneId.of("America/New_York"));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				int seed = thread;
+				Callable<Integer> task = () -> {
+					Random random = new Random(seed);
+					int mismatches = 0;
+					for (int i = 0; i < 20_000; i++) {
+						Duration duration = Duration.ofMillis(random.nextInt(100_000_000));
+						if (!decimalFormatReference(duration, ZmanimFormatter.SEXAGESIMAL_MILLIS_FORMAT)
+								.equals(formatter.format(duration))) {
+							mismatches++;
+						}
+						Instant instant = Instant.ofEpochSecond(1_500_000_000L + random.nextInt(100_000_000));
+						if (!XSD.withZone(formatter.getZoneId()).format(instant).equals(formatter.formatXSDateTime(instant))) {
+							mismatches++;
+						}
+					}
+					return mismatches;
+				};
+				results.add(executor.submit(task));
+			}
+			for (Future<Integer> result : results) {
+				assertEquals(Integer.valueOf(0), result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks that {@link ZmanList} orders entries exactly as sorting a list of {@link Zman} objects with {@link Zman#DATE_ORDER}
+ * and {@link Zman#DURATION_ORDER} does, including ties, missing entries and reuse after {@link ZmanList#clear()}.
+ *
+ * @author Test coverage
+ */
+public class ZmanListTest {
+
+	private static final int LABELS = 40;
+
+	private static String[] labels() {
+		String[] labels = new String[LABELS];
+		for (int i = 0; i < LABELS; i++) {
+			labels[i] = "Zman" + i;
+		}
+		return labels;
+	}
+
+	/** Fills the list and the reference list with the same random entries, with many equal values. */
+	private static List<Zman> fill(ZmanList zmanim, Random random, int count) {
+		List<Zman> reference = new ArrayList<>();
+		Instant base = Instant.parse("2026-03-20T00:00:00Z").plusSeconds(random.nextInt(1_000_000_000) - 500_000_000L);
+		for (int i = 0; i < count; i++) {
+			int labelId = random.nextInt(LABELS);
+			String label = "Zman" + labelId;
+			switch (random.nextInt(5)) {
+				case 0:
+					zmanim.add(labelId, (Instant) null);
+					reference.add(new Zman((Instant) null, label));
+					break;
+				case 1:
+					Duration duration = Duration.ofMinutes(50 + random.nextInt(5)).plusNanos(random.nextInt(3));
+					zmanim.add(labelId, duration);
+					reference.add(new Zman(duration, label));
+					break;
+				default:
+					Instant instant = base.plusSeconds(random.nextInt(86_400 / 60) * 60L).plusNanos(random.nextInt(2) * 999_999_999L);
+					zmanim.add(labelId, instant);
+					reference.add(new Zman(instant, label));
+			}
+		}
+		return reference;
+	}
+
+	private static void assertSameOrder(List<Zman> expected, ZmanList actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals("label at " + i, expected.get(i).getLabel(), actual.getLabel(i));
+			assertEquals("instant at " + i, expected.get(i).getZman(), actual.getInstant(i));
+			assertEquals("duration at " + i, expected.get(i).getDuration(), actual.getDuration(i));
+		}
+	}
+
+	private static void assertSortsLike(Comparator<Zman> comparator, boolean byDuration) {
+		Random random = new Random(37);
+		ZmanList zmanim = new ZmanList(labels());
+		for (int round = 0; round < 300; round++) {
+			zmanim.clear();
+			List<Zman> reference = fill(zmanim, random, random.nextInt(200));
+			assertSameOrder(reference, zmanim);
+			reference.sort(comparator);
+			if (byDuration) {
+				zmanim.sortByDuration();
+			} else {
+				zmanim.sort();
+			}
+			assertSameOrder(reference, zmanim);
+			// entries added after sorting go to the end
+			List<Zman> more = fill(zmanim, random, 5);
+			reference.addAll(more);
+			assertSameOrder(reference, zmanim);
+		}
+	}
+
+	@Test
+	public void sortsLikeDateOrder() {
+		assertSortsLike(Zman.DATE_ORDER, false);
+	}
+
+	@Test
+	public void sortsLikeDurationOrder() {
+		assertSortsLike(Zman.DURATION_ORDER, true);
+	}
+
+	@Test
+	public void createsZmanimOnDemand() {
+		ZmanList zmanim = new ZmanList("Sunrise", "Shaah Zmanis", "Sunset");
+		Instant sunrise = Instant.parse("2026-06-21T09:25:03.123456789Z");
+		zmanim.add(2, (Instant) null);
+		zmanim.add(1, Duration.ofMinutes(75));
+		zmanim.add(0, sunrise);
+		zmanim.sort();
+		assertEquals(0, zmanim.getLabelId(0));
+		assertEquals(sunrise, zmanim.get(0).getZman());
+		assertEquals(Duration.ofMinutes(75), zmanim.get(1).getDuration());
+		assertTrue(zmanim.isMissing(2));
+		assertNull(zmanim.get(2).getZman());
+		assertEquals("Sunset", zmanim.toList().get(2).getLabel());
+	}
+
+	@Test
+	public void storesInstantsRelativeToTheFirst() {
+		ZmanList zmanim = new ZmanList("A", "B");
+		Instant far = Instant.parse("9999-12-31T23:59:59.999999999Z");
+		zmanim.add(0, far);
+		zmanim.add(1, far.minus(Duration.ofDays(365 * 200)));
+		zmanim.sort();
+		assertEquals(far.minus(Duration.ofDays(365 * 200)), zmanim.getInstant(0));
+		assertEquals(far, zmanim.getInstant(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnknownLabelIds() {
+		new ZmanList("A").add(1, Instant.EPOCH);
+	}
+}
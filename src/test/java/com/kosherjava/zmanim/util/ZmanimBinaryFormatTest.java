@@ -0,0 +1,168 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.kosherjava.zmanim.ComprehensiveZmanimCalendar;
+import com.kosherjava.zmanim.TestLocations;
+
+/**
+ * Round trips a year of every {@link ComprehensiveZmanimCalendar} <em>zman</em> through {@link ZmanimBinaryWriter} and
+ * {@link ZmanimBinaryReader} at both precisions, and compares the size of the encoding to the JSON output of
+ * {@link ZmanimFormatter}.
+ *
+ * @author Test coverage
+ */
+public class ZmanimBinaryFormatTest {
+
+	private static final LocalDate START = LocalDate.of(2017, 1, 1);
+	private static final int DAYS = 365;
+
+	private static List<Method> zmanMethods() {
+		List<Method> methods = new ArrayList<>();
+		for (Method method : ComprehensiveZmanimCalendar.class.getMethods()) {
+			if (method.getParameterCount() == 0 && method.getName().startsWith("get")
+					&& method.getReturnType() == Instant.class) {
+				methods.add(method);
+			}
+		}
+		methods.sort((a, b) -> a.getName().compareTo(b.getName()));
+		return methods;
+	}
+
+	private static Instant[][] calculate(ComprehensiveZmanimCalendar czc, List<Method> methods) throws Exception {
+		Instant[][] days = new Instant[DAYS][methods.size()];
+		for (int day = 0; day < DAYS; day++) {
+			czc.setLocalDate(START.plusDays(day));
+			for (int i = 0; i < methods.size(); i++) {
+				days[day][i] = (Instant) methods.get(i).invoke(czc);
+			}
+		}
+		return days;
+	}
+
+	private static byte[] encode(GeoLocation location, List<Method> methods, Instant[][] days, int precision)
+			throws IOException {
+		List<String> labels = new ArrayList<>();
+		for (Method method : methods) {
+			labels.add(method.getName().substring(3));
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ZmanimBinaryWriter writer = new ZmanimBinaryWriter(out, location, new NOAACalculator().getCalculatorName(), labels,
+				START, precision);
+		for (Instant[] day : days) {
+			writer.writeDay(day);
+		}
+		writer.flush();
+		return out.toByteArray();
+	}
+
+	private static void assertRoundTrip(GeoLocation location, int precision) throws Exception {
+		List<Method> methods = zmanMethods();
+		Instant[][] days = calculate(new ComprehensiveZmanimCalendar(location), methods);
+		byte[] bytes = encode(location, methods, days, precision);
+
+		ZmanimBinaryReader reader = new ZmanimBinaryReader(ByteBuffer.wrap(bytes));
+		assertEquals(location.getLocationName(), reader.getGeoLocation().getLocationName());
+		assertEquals(location.getLatitude(), reader.getGeoLocation().getLatitude(), 0);
+		assertEquals(location.getLongitude(), reader.getGeoLocation().getLongitude(), 0);
+		assertEquals(location.getElevation(), reader.getGeoLocation().getElevation(), 0);
+		assertEquals(location.getZoneId(), reader.getGeoLocation().getZoneId());
+		assertEquals(methods.size(), reader.getLabels().size());
+		assertEquals(START, reader.getNextDate());
+		long unit = precision == ZmanimBinaryWriter.PRECISION_SECONDS ? 1000 : 1;
+		long[] decoded = new long[methods.size()];
+		for (int day = 0; day < DAYS; day++) {
+			assertTrue(reader.hasNextDay());
+			assertEquals(START.plusDays(day).toEpochDay(), reader.nextDay(decoded));
+			for (int i = 0; i < methods.size(); i++) {
+				long expected = days[day][i] == null ? ZmanimBinaryReader.MISSING
+						: Math.floorDiv(days[day][i].toEpochMilli(), unit) * unit;
+				assertEquals(START.plusDays(day) + " " + reader.getLabels().get(i), expected, decoded[i]);
+			}
+		}
+		assertFalse(reader.hasNextDay());
+	}
+
+	@Test
+	public void roundTripsExactlyAtSecondPrecision() throws Exception {
+		assertRoundTrip(TestLocations.lakewood(), ZmanimBinaryWriter.PRECISION_SECONDS);
+	}
+
+	@Test
+	public void roundTripsExactlyAtMillisecondPrecisionWithMissingZmanim() throws Exception {
+		assertRoundTrip(TestLocations.norway(ZoneId.of("Europe/Oslo")), ZmanimBinaryWriter.PRECISION_MILLISECONDS);
+	}
+
+	@Test
+	public void isFarSmallerThanJson() throws Exception {
+		GeoLocation location = TestLocations.lakewood();
+		ComprehensiveZmanimCalendar czc = new ComprehensiveZmanimCalendar(location);
+		List<Method> methods = zmanMethods();
+		byte[] bytes = encode(location, methods, calculate(czc, methods), ZmanimBinaryWriter.PRECISION_SECONDS);
+		ByteArrayOutputStream json = new ByteArrayOutputStream();
+		ZmanimFormatter.writeJSON(czc, START, START.plusDays(DAYS - 1), json);
+		// most zmanim are within a few minutes of the previous one and take one or two bytes, against about 45 in JSON
+		assertTrue(bytes.length + " bytes against " + json.size(), bytes.length * 20 < json.size());
+	}
+
+	@Test
+	public void convenienceReaderReturnsNullsForMissingZmanim() throws IOException {
+		GeoLocation location = TestLocations.lakewood();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ZmanimBinaryWriter writer = new ZmanimBinaryWriter(out, location, "test", Arrays.asList("A", "B", "C"), START,
+				ZmanimBinaryWriter.PRECISION_MILLISECONDS);
+		Instant noon = START.atTime(12, 0).atZone(location.getZoneId()).toInstant();
+		Instant[] day = { noon.plusMillis(1), null, noon.minusSeconds(3600) };
+		writer.writeDay(day);
+		assertEquals(START.plusDays(1), writer.getNextDate());
+		ZmanimBinaryReader reader = new ZmanimBinaryReader(ByteBuffer.wrap(out.toByteArray()));
+		assertEquals("test", reader.getCalculatorName());
+		assertArrayEquals(day, reader.nextDay());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsOtherData() {
+		new ZmanimBinaryReader(ByteBuffer.wrap(new byte[] { '{', '"', 'm', 'e', 't', 'a' }));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsTruncatedDays() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ZmanimBinaryWriter writer = new ZmanimBinaryWriter(out, TestLocations.lakewood(), "test", Arrays.asList("A", "B"),
+				START, ZmanimBinaryWriter.PRECISION_SECONDS);
+		writer.writeDay(Instant.now(), Instant.now());
+		byte[] bytes = out.toByteArray();
+		ZmanimBinaryReader reader = new ZmanimBinaryReader(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+		reader.nextDay(new long[2]);
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import com.kosherjava.zmanim.ComprehensiveZmanimCalendar;
+import com.kosherjava.zmanim.TestLocations;
+import com.kosherjava.zmanim.ZmanimCalendar;
+
+/**
+ * Checks that the streaming XML and JSON writers of {@link ZmanimFormatter} produce well formed documents with one entry per
+ * day, the same values as the calendar, and explicit nulls for <em>zmanim</em> that can't be calculated.
+ *
+ * @author Test coverage
+ */
+public class ZmanimFormatterTest {
+
+	private static final LocalDate START = LocalDate.of(2017, 6, 18);
+	private static final LocalDate END = LocalDate.of(2017, 6, 24);
+
+	private static ZmanimCalendar calendar(GeoLocation location) {
+		return new ZmanimCalendar(location);
+	}
+
+	@Test
+	public void xmlIsWellFormedWithOneDayElementPerDate() throws Exception {
+		GeoLocation location = new GeoLocation("Q & \"A\" <test>", 40.0721087, -74.2400243, 15, ZoneId.of("America/New_York"));
+		ZmanimCalendar zc = calendar(location);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ZmanimFormatter.writeXML(zc, START, END, bytes);
+
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setNamespaceAware(true);
+		Document document = factory.newDocumentBuilder().parse(new ByteArrayInputStream(bytes.toByteArray()));
+		Element root = document.getDocumentElement();
+		assertEquals("BasicZmanim", root.getTagName());
+		assertEquals(location.getLocationName(), root.getAttribute("location"));
+		NodeList days = root.getElementsByTagName("Day");
+		assertEquals(7, days.getLength());
+
+		DateTimeFormatter xsd = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX").withZone(location.getZoneId());
+		Element lastDay = (Element) days.item(6);
+		assertEquals("2017-06-24", lastDay.getAttribute("date"));
+		assertEquals("-4.0", lastDay.getAttribute("timeZoneOffset"));
+		zc.setLocalDate(END);
+		assertEquals(xsd.format(zc.getSunset()), lastDay.getElementsByTagName("Sunset").item(0).getTextContent());
+		assertEquals(zc.getTemporalHour().toString(), lastDay.getElementsByTagName("TemporalHour").item(0).getTextContent());
+	}
+
+	@Test
+	public void missingZmanimAreExplicitNulls() throws Exception {
+		ComprehensiveZmanimCalendar czc = new ComprehensiveZmanimCalendar(TestLocations.norway(ZoneId.of("Europe/Oslo")));
+		czc.setLocalDate(START);
+		assertEquals(null, czc.getSunrise());
+
+		StringBuilder xml = new StringBuilder();
+		ZmanimFormatter.writeXML(czc, START, START, xml);
+		assertTrue(xml.toString().contains("<Sunrise xsi:nil=\"true\"/>"));
+		assertTrue(xml.toString().contains("<PolarSunriseBenIshChai>"));
+
+		StringBuilder json = new StringBuilder();
+		ZmanimFormatter.writeJSON(czc, START, START, json);
+		assertTrue(json.toString().contains("\"Sunrise\":null"));
+		new JsonValidator(json.toString()).validate();
+	}
+
+	@Test
+	public void jsonIsValidWithOneEntryPerDate() throws IOException {
+		ZmanimCalendar zc = calendar(TestLocations.lakewood());
+		StringBuilder json = new StringBuilder();
+		ZmanimFormatter.writeJSON(zc, START, END, json);
+		String document = json.toString();
+		new JsonValidator(document).validate();
+		assertEquals(7, document.split("\"timeZoneOffset\":").length - 1);
+		zc.setLocalDate(START);
+		assertTrue(document.contains("\"Sunset\":\"" + DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX")
+				.withZone(zc.getGeoLocation().getZoneId()).format(zc.getSunset()) + "\""));
+	}
+
+	@Test
+	public void yearIsWrittenIncrementally() throws IOException {
+		ComprehensiveZmanimCalendar czc = new ComprehensiveZmanimCalendar(TestLocations.lakewood());
+		int[] writes = new int[1];
+		long[] chars = new long[1];
+		Writer counting = new Writer() {
+			@Override
+			public void write(char[] buffer, int offset, int length) {
+				writes[0]++;
+				chars[0] += length;
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		ZmanimFormatter.writeJSON(czc, LocalDate.of(2017, 1, 1), LocalDate.of(2017, 12, 31), counting);
+		assertTrue(writes[0] > 365);
+		ByteArrayOutputStream day = new ByteArrayOutputStream();
+		ZmanimFormatter.writeJSON(czc, START, START, day);
+		assertTrue(chars[0] > 300L * day.toString(StandardCharsets.UTF_8.name()).length());
+	}
+
+	/**
+	 * A minimal recursive descent JSON parser that throws if the document is not valid JSON.
+	 */
+	private static final class JsonValidator {
+		private final String text;
+		private int position;
+
+		private JsonValidator(String text) {
+			this.text = text;
+		}
+
+		private void validate() {
+			value();
+			skipWhitespace();
+			assertEquals("trailing content", text.length(), position);
+		}
+
+		private void value() {
+			skipWhitespace();
+			char c = text.charAt(position);
+			if (c == '{') {
+				members('}', true);
+			} else if (c == '[') {
+				members(']', false);
+			} else if (c == '"') {
+				string();
+			} else if (text.startsWith("null", position) || text.startsWith("true", position)) {
+				position += 4;
+			} else if (text.startsWith("false", position)) {
+				position += 5;
+			} else {
+				int start = position;
+				while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+					position++;
+				}
+				Double.parseDouble(text.substring(start, position));
+			}
+		}
+
+		private void members(char close, boolean named) {
+			position++;
+			skipWhitespace();
+			if (text.charAt(position) == close) {
+				position++;
+				return;
+			}
+			while (true) {
+				if (named) {
+					skipWhitespace();
+					string();
+					skipWhitespace();
+					expect(':');
+				}
+				value();
+				skipWhitespace();
+				if (text.charAt(position) == close) {
+					position++;
+					return;
+				}
+				expect(',');
+			}
+		}
+
+		private void string() {
+			expect('"');
+			while (text.charAt(position) != '"') {
+				assertTrue("control character in string", text.charAt(position) >= 0x20);
+				position += text.charAt(position) == '\\' ? 2 : 1;
+			}
+			position++;
+		}
+
+		private void expect(char c) {
+			assertEquals("at " + position, c, text.charAt(position));
+			position++;
+		}
+
+		private void skipWhitespace() {
+			while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+				position++;
+			}
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Zmanim Java API
+ * Copyright © 2004-2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; version 2.1 of the License.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+
+import com.kosherjava.zmanim.ComprehensiveZmanimCalendar;
+import com.kosherjava.zmanim.TestLocations;
+
+/**
+ * Compares a {@link ZmanimTable} with the calendar it was built from, including days in the far north where <em>zmanim</em>
+ * are missing, and checks the CSV output, sorting, merging and joining.
+ *
+ * @author Test coverage
+ */
+public class ZmanimTableTest {
+
+	private static final LocalDate START = LocalDate.of(2017, 1, 1);
+	private static final LocalDate END = LocalDate.of(2017, 12, 31);
+
+	private static ZmanimTable norwayTable(LocalDate start, LocalDate end) {
+		return new ZmanimTable.Builder<>(new ComprehensiveZmanimCalendar(TestLocations.norway(ZoneId.of("Europe/Oslo"))))
+				.addColumn("Sunrise", ComprehensiveZmanimCalendar::getSunrise)
+				.addColumn("Sunset", ComprehensiveZmanimCalendar::getSunset)
+				.addColumn("Tzais72Minutes", ComprehensiveZmanimCalendar::getTzais72Minutes)
+				.build(start, end);
+	}
+
+	@Test
+	public void valuesAndMissingZmanimMatchTheCalendar() {
+		ZmanimTable table = norwayTable(START, END);
+		ComprehensiveZmanimCalendar czc = new ComprehensiveZmanimCalendar(TestLocations.norway(ZoneId.of("Europe/Oslo")));
+		assertEquals(365, table.getRowCount());
+		assertEquals(3, table.getColumnCount());
+		int missing = 0;
+		for (int row = 0; row < table.getRowCount(); row++) {
+			czc.setLocalDate(table.getDate(row));
+			Instant[] expected = { czc.getSunrise(), czc.getSunset(), czc.getTzais72Minutes() };
+			for (int column = 0; column < expected.length; column++) {
+				assertEquals(table.getDate(row) + " " + column,
+						expected[column] == null ? null : expected[column].truncatedTo(ChronoUnit.MILLIS),
+						table.getInstant(row, column));
+				if (expected[column] == null) {
+					missing++;
+					assertTrue(table.isMissing(row, column));
+					assertNull(table.getZman(row, column));
+				} else {
+					assertEquals(table.getLabels().get(column), table.getZman(row, column).getLabel());
+				}
+			}
+		}
+		assertTrue(missing > 100);
+
+		LongBuffer sunsets = table.getColumn(table.getColumnIndex("Sunset"));
+		assertTrue(sunsets.isReadOnly());
+		assertEquals(table.getRowCount(), sunsets.remaining());
+		assertEquals(table.getEpochMillis(200, 1), sunsets.get(200));
+		assertEquals(START.toEpochDay() + 200, table.getDateColumn().get(200));
+		assertEquals(-1, table.getColumnIndex("Alos"));
+	}
+
+	@Test
+	public void writesCsv() throws IOException {
+		ZmanimTable table = norwayTable(LocalDate.of(2017, 5, 19), LocalDate.of(2017, 5, 20));
+		StringBuilder csv = new StringBuilder();
+		table.writeCSV(csv);
+		String[] lines = csv.toString().split("\r\n");
+		assertEquals(3, lines.length);
+		assertEquals("date,Sunrise,Sunset,Tzais72Minutes", lines[0]);
+		for (int row = 0; row < 2; row++) {
+			String[] cells = lines[row + 1].split(",", -1);
+			assertEquals(4, cells.length);
+			assertEquals(table.getDate(row).toString(), cells[0]);
+			for (int column = 0; column < 3; column++) {
+				Instant instant = table.getInstant(row, column);
+				assertEquals(instant == null ? "" : TimeAppender.formatXSDDateTime(instant, ZoneId.of("Europe/Oslo")),
+						cells[column + 1]);
+			}
+		}
+		// the sun no longer sets in the far north by May 20
+		assertTrue(table.isMissing(1, 1));
+	}
+
+	@Test
+	public void sortsByColumnWithMissingZmanimLast() {
+		ZmanimTable sorted = norwayTable(START, END).sortBy(1);
+		int row = 0;
+		for (; row < sorted.getRowCount() && !sorted.isMissing(row, 1); row++) {
+			if (row > 0) {
+				assertTrue(sorted.getEpochMillis(row - 1, 1) <= sorted.getEpochMillis(row, 1));
+			}
+		}
+		for (; row < sorted.getRowCount(); row++) {
+			assertTrue(sorted.isMissing(row, 1));
+		}
+		ZmanimTable restored = sorted.sortByDate();
+		for (row = 1; row < restored.getRowCount(); row++) {
+			assertEquals(restored.getEpochDay(row - 1) + 1, restored.getEpochDay(row));
+		}
+	}
+
+	@Test
+	public void mergesAndJoinsByDate() {
+		ZmanimTable first = norwayTable(START, LocalDate.of(2017, 6, 30));
+		ZmanimTable second = norwayTable(LocalDate.of(2017, 6, 1), END);
+		ZmanimTable merged = first.merge(second);
+		ZmanimTable year = norwayTable(START, END);
+		assertEquals(year.getRowCount(), merged.getRowCount());
+		for (int row = 0; row < year.getRowCount(); row++) {
+			assertEquals(year.getEpochDay(row), merged.getEpochDay(row));
+			for (int column = 0; column < year.getColumnCount(); column++) {
+				assertEquals(year.getInstant(row, column), merged.getInstant(row, column));
+			}
+		}
+
+		ZmanimTable alos = new ZmanimTable.Builder<>(new ComprehensiveZmanimCalendar(TestLocations.lakewood()))
+				.addColumn("Alos72Minutes", ComprehensiveZmanimCalendar::getAlos72Minutes)
+				.build(LocalDate.of(2017, 6, 15), LocalDate.of(2018, 1, 15));
+		ZmanimTable joined = first.join(alos);
+		assertEquals(16, joined.getRowCount());
+		assertEquals(4, joined.getColumnCount());
+		assertEquals(LocalDate.of(2017, 6, 15), joined.getDate(0));
+		assertEquals(alos.getInstant(0, 0), joined.getInstant(0, 3));
+		assertEquals(first.getInstant(first.getRowCount() - 1, 2), joined.getInstant(15, 2));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMergingDifferentColumns() {
+		ZmanimTable table = norwayTable(START, START.plusDays(1));
+		table.merge(table.join(new ZmanimTable.Builder<>(new ComprehensiveZmanimCalendar())
+				.addColumn("Chatzos", ComprehensiveZmanimCalendar::getChatzosHayom).build(START, START)));
+	}
+}